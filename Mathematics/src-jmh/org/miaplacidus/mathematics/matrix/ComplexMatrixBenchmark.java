@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.matrix;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JMH benchmark of the product of complex matrices, {@link ComplexMatrix#multiply(ComplexMatrix, ComplexMatrix)},
+ * against the naive triple loop over arrays of {@link Complex}; a product of size n is 8 n^3 real operations,
+ * so that its rate in GFLOP/s is 8 n^3 divided by its duration in nanoseconds.
+ * The product runs with the vector kernels whenever the target jmh compiles them,
+ * and the naive loop is only measured up to the size 512.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplexMatrixBenchmark extends Object {
+    private static final Logger LOG = Logger.getLogger(ComplexMatrixBenchmark.class.getName());
+
+    /**
+     * The square matrices of the product.
+     */
+    @State(Scope.Thread)
+    public static class Product extends Object {
+        @Param({"64", "128", "256", "512", "1024"})
+        public int size;
+
+        ComplexMatrix a;
+        ComplexMatrix b;
+        ComplexMatrix c;
+
+        @Setup
+        public void setUp() {
+            this.a = random(this.size, 1);
+            this.b = random(this.size, 2);
+            this.c = new ComplexMatrix(this.size, this.size);
+        }
+    }
+
+    /**
+     * The arrays of complex numbers of the naive product.
+     */
+    @State(Scope.Thread)
+    public static class Naive extends Object {
+        @Param({"64", "128", "256", "512"})
+        public int size;
+
+        Complex[][] a;
+        Complex[][] b;
+
+        @Setup
+        public void setUp() {
+            this.a = random(this.size, 1).toArray();
+            this.b = random(this.size, 2).toArray();
+        }
+    }
+
+    @Benchmark
+    public ComplexMatrix multiply(final Product product) {
+        return product.a.multiply(product.b, product.c);
+    }
+
+    @Benchmark
+    public Complex[][] naive(final Naive naive) {
+        final Complex[][] a = naive.a;
+        final Complex[][] b = naive.b;
+        final int n = a.length;
+        final int m = b[0].length;
+        final Complex[][] c = new Complex[n][m];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                Complex sum = Complex.ZERO;
+                for (int k = 0; k < b.length; k++) {
+                    sum = sum.add(a[i][k].multiply(b[k][j]));
+                }
+                c[i][j] = sum;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * A matrix of random complex numbers.
+     * @param size the number of rows and columns.
+     * @param seed the seed of the generator.
+     * @return the matrix.
+     */
+    static ComplexMatrix random(final int size, final long seed) {
+        final Random random = new Random(seed);
+        final ComplexMatrix matrix = new ComplexMatrix(size, size);
+        for (int k = 0; k < size * size; k++) {
+            matrix.real()[k] = random.nextGaussian();
+            matrix.imaginary()[k] = random.nextGaussian();
+        }
+        return matrix;
+    }
+}
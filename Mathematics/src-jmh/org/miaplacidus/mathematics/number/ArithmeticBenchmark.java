@@ -0,0 +1,196 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.miaplacidus.mathematics.number.complex.ComplexAccumulator;
+import org.miaplacidus.mathematics.number.complex.ComplexArithmetic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JMH benchmark of the generic algorithms of {@link ArithmeticAlgorithms} over boxed numbers of {@link Arithmetic}
+ * against the same algorithms over primitive buffers; the allocation of the boxed forms is given by
+ * the GC profiler of the target jmh.
+ * The real numbers are boxed by a minimal implementation of {@link Arithmetic}, the complex numbers are
+ * arrays of {@link Complex} against split buffers with {@link ComplexArithmetic#COMPLEX}.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticBenchmark extends Object {
+    private static final Logger LOG = Logger.getLogger(ArithmeticBenchmark.class.getName());
+
+    /**
+     * The numbers, boxed and in primitive buffers.
+     */
+    @State(Scope.Thread)
+    public static class Elements extends Object {
+        @Param({"1024", "1048576"})
+        public int length;
+
+        double[] a;
+        double[] b;
+        double[] c;
+        double[] d;
+        Real[] x;
+        Real[] y;
+        Complex[] z;
+        Complex[] w;
+        final Real point = new Real(.999);
+        final Complex complexPoint = new Complex(.6, .7);
+        final ComplexAccumulator result = new ComplexAccumulator();
+
+        @Setup
+        public void setUp() {
+            final Random random = new Random(1);
+            this.a = new double[this.length];
+            this.b = new double[this.length];
+            this.c = new double[this.length];
+            this.d = new double[this.length];
+            this.x = new Real[this.length];
+            this.y = new Real[this.length];
+            this.z = new Complex[this.length];
+            this.w = new Complex[this.length];
+            for (int k = 0; k < this.length; k++) {
+                this.a[k] = random.nextGaussian();
+                this.b[k] = random.nextGaussian();
+                this.c[k] = random.nextGaussian();
+                this.d[k] = random.nextGaussian();
+                this.x[k] = new Real(this.a[k]);
+                this.y[k] = new Real(this.b[k]);
+                this.z[k] = new Complex(this.a[k], this.b[k]);
+                this.w[k] = new Complex(this.c[k], this.d[k]);
+            }
+        }
+    }
+
+    @Benchmark
+    public double realSumBoxed(final Elements elements) {
+        return ArithmeticAlgorithms.sum(Real.ZERO, elements.x).value;
+    }
+
+    @Benchmark
+    public double realSumPrimitive(final Elements elements) {
+        return ArithmeticAlgorithms.sum(DoubleArithmetic.REAL, elements.a);
+    }
+
+    @Benchmark
+    public double realDotBoxed(final Elements elements) {
+        return ArithmeticAlgorithms.dot(Real.ZERO, elements.x, elements.y).value;
+    }
+
+    @Benchmark
+    public double realDotPrimitive(final Elements elements) {
+        return ArithmeticAlgorithms.dot(DoubleArithmetic.REAL, elements.a, elements.b);
+    }
+
+    @Benchmark
+    public double realHornerBoxed(final Elements elements) {
+        return ArithmeticAlgorithms.evaluate(Real.ZERO, elements.x, elements.point).value;
+    }
+
+    @Benchmark
+    public double realHornerPrimitive(final Elements elements) {
+        return ArithmeticAlgorithms.evaluate(DoubleArithmetic.REAL, elements.a, .999);
+    }
+
+    @Benchmark
+    public Complex complexSumBoxed(final Elements elements) {
+        return ArithmeticAlgorithms.sum(Complex.ZERO, elements.z);
+    }
+
+    @Benchmark
+    public ComplexAccumulator complexSumPrimitive(final Elements elements) {
+        return ArithmeticAlgorithms.sum(ComplexArithmetic.COMPLEX, elements.a, elements.b, elements.result);
+    }
+
+    @Benchmark
+    public Complex complexDotBoxed(final Elements elements) {
+        return ArithmeticAlgorithms.dot(Complex.ZERO, elements.z, elements.w);
+    }
+
+    @Benchmark
+    public ComplexAccumulator complexDotPrimitive(final Elements elements) {
+        return ArithmeticAlgorithms.dot(ComplexArithmetic.COMPLEX, elements.a, elements.b, elements.c, elements.d,
+                elements.result);
+    }
+
+    @Benchmark
+    public Complex complexHornerBoxed(final Elements elements) {
+        return ArithmeticAlgorithms.evaluate(Complex.ZERO, elements.z, elements.complexPoint);
+    }
+
+    @Benchmark
+    public ComplexAccumulator complexHornerPrimitive(final Elements elements) {
+        return ArithmeticAlgorithms.evaluate(ComplexArithmetic.COMPLEX, elements.a, elements.b, .6, .7, elements.result);
+    }
+
+    /**
+     * A boxed real number, the minimal implementation of {@link Arithmetic} for the comparison.
+     */
+    static final class Real extends Object implements Arithmetic<Real> {
+        static final Real ZERO = new Real(0.);
+        final double value;
+
+        Real(final double value) {
+            this.value = value;
+        }
+
+        @Override
+        public Real add(final Real addend) {
+            return new Real(this.value + addend.value);
+        }
+
+        @Override
+        public Real subtract(final Real subtrahend) {
+            return new Real(this.value - subtrahend.value);
+        }
+
+        @Override
+        public Real multiply(final Real multiplicand) {
+            return new Real(this.value * multiplicand.value);
+        }
+
+        @Override
+        public Real divide(final Real divisor) {
+            return new Real(this.value / divisor.value);
+        }
+    }
+}
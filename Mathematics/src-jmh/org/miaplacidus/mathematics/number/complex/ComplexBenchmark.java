@@ -0,0 +1,161 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JMH benchmark of the arithmetic and the transcendental functions of {@link Complex},
+ * for operands of a small and of a large absolute value.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComplexBenchmark extends Object {
+    private static final Logger LOG = Logger.getLogger(ComplexBenchmark.class.getName());
+
+    /**
+     * The absolute value of the operands.
+     */
+    @Param({"0.5", "30"})
+    public double scale;
+
+    private Complex z;
+    private Complex w;
+
+    /**
+     * Build the operands, which are read from fields so that they are not constants.
+     */
+    @Setup
+    public void setUp() {
+        this.z = Complex.polarComplex(this.scale, .6);
+        this.w = Complex.polarComplex(this.scale, 2.1);
+    }
+
+    @Benchmark
+    public Complex add() {
+        return this.z.add(this.w);
+    }
+
+    @Benchmark
+    public Complex multiply() {
+        return this.z.multiply(this.w);
+    }
+
+    @Benchmark
+    public Complex divide() {
+        return this.z.divide(this.w);
+    }
+
+    @Benchmark
+    public Complex reciprocal() {
+        return this.z.reciprocal();
+    }
+
+    @Benchmark
+    public double absolute() {
+        return this.z.absolute();
+    }
+
+    @Benchmark
+    public Complex exponentiate() {
+        return this.z.exponentiate();
+    }
+
+    @Benchmark
+    public Complex power() {
+        return this.z.exponentiate(this.w);
+    }
+
+    @Benchmark
+    public Complex logarithm() {
+        return this.z.logarithm();
+    }
+
+    @Benchmark
+    public Complex squareRoot() {
+        return this.z.squareRoot();
+    }
+
+    @Benchmark
+    public Complex sin() {
+        return this.z.sin();
+    }
+
+    @Benchmark
+    public Complex cos() {
+        return this.z.cos();
+    }
+
+    @Benchmark
+    public Complex tan() {
+        return this.z.tan();
+    }
+
+    @Benchmark
+    public Complex sinh() {
+        return this.z.sinh();
+    }
+
+    @Benchmark
+    public Complex cosh() {
+        return this.z.cosh();
+    }
+
+    @Benchmark
+    public Complex tanh() {
+        return this.z.tanh();
+    }
+
+    @Benchmark
+    public Complex arcsin() {
+        return this.z.arcsin();
+    }
+
+    @Benchmark
+    public Complex arctan() {
+        return this.z.arctan();
+    }
+
+    @Benchmark
+    public Complex arsinh() {
+        return this.z.arsinh();
+    }
+}
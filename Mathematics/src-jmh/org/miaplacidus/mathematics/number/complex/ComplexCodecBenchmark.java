@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Layout;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Precision;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JMH benchmark of the binary codec of complex numbers against the Java serialisation of a list of
+ * {@link Complex}, in memory and through a temporary file, for every layout and precision of the codec.
+ * The file is written once per trial for the reading and the mapping, and rewritten by the writing,
+ * so that the writing measures the file system as much as the codec.
+ * The allocation per operation is given by the GC profiler of the target jmh.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplexCodecBenchmark extends Object {
+    private static final Logger LOG = Logger.getLogger(ComplexCodecBenchmark.class.getName());
+
+    /**
+     * The complex numbers encoded by the codec, in memory and in a temporary file.
+     */
+    @State(Scope.Thread)
+    public static class Codec extends Object {
+        /**
+         * The number of complex numbers.
+         */
+        @Param({"4096", "1048576"})
+        public int length;
+
+        /**
+         * The layout of the data.
+         */
+        @Param({"INTERLEAVED", "SPLIT"})
+        public Layout layout;
+
+        /**
+         * The precision of the data.
+         */
+        @Param({"DOUBLE", "FLOAT"})
+        public Precision precision;
+
+        ComplexArray numbers;
+        ByteBuffer encoded;
+        Path path;
+
+        @Setup
+        public void setUp() throws IOException {
+            this.numbers = numbers(this.length);
+            this.encoded = ComplexCodec.encode(this.numbers, this.layout, this.precision);
+            this.path = Files.createTempFile("complex", ".bin");
+            ComplexCodec.write(this.path, this.numbers, this.layout, this.precision);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(this.path);
+        }
+    }
+
+    /**
+     * The complex numbers serialised as a list.
+     */
+    @State(Scope.Thread)
+    public static class Serialisation extends Object {
+        /**
+         * The number of complex numbers.
+         */
+        @Param({"4096", "1048576"})
+        public int length;
+
+        List<Complex> list;
+        byte[] serialised;
+
+        @Setup
+        public void setUp() throws IOException {
+            final ComplexArray numbers = numbers(this.length);
+            this.list = new ArrayList<>(this.length);
+            for (int k = 0; k < this.length; k++) {
+                this.list.add(numbers.get(k));
+            }
+            this.serialised = serialise(this.list);
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer encode(final Codec codec) {
+        return ComplexCodec.encode(codec.numbers, codec.layout, codec.precision);
+    }
+
+    @Benchmark
+    public ComplexArray decode(final Codec codec) {
+        return ComplexCodec.decode(codec.encoded.duplicate());
+    }
+
+    @Benchmark
+    public Path write(final Codec codec) throws IOException {
+        ComplexCodec.write(codec.path, codec.numbers, codec.layout, codec.precision);
+        return codec.path;
+    }
+
+    @Benchmark
+    public ComplexArray read(final Codec codec) throws IOException {
+        return ComplexCodec.read(codec.path);
+    }
+
+    @Benchmark
+    public ComplexArray map(final Codec codec) throws IOException {
+        return MappedComplexArray.map(codec.path).toComplexArray();
+    }
+
+    @Benchmark
+    public byte[] serialise(final Serialisation serialisation) throws IOException {
+        return serialise(serialisation.list);
+    }
+
+    @Benchmark
+    public Object deserialise(final Serialisation serialisation) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialisation.serialised))) {
+            return input.readObject();
+        }
+    }
+
+    /**
+     * Draw complex numbers of Gaussian parts.
+     * @param length the number of complex numbers.
+     * @return the complex numbers.
+     */
+    static ComplexArray numbers(final int length) {
+        final Random random = new Random(1);
+        final ComplexArray numbers = new ComplexArray(length);
+        for (int k = 0; k < length; k++) {
+            numbers.real()[k] = random.nextGaussian();
+            numbers.imaginary()[k] = random.nextGaussian();
+        }
+        return numbers;
+    }
+
+    /**
+     * Serialise a list of complex numbers.
+     * @param list the complex numbers.
+     * @return the bytes of the list.
+     * @throws IOException if the list cannot be serialised.
+     */
+    static byte[] serialise(final List<Complex> list) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(list);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.prime;
+
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JMH benchmark of the operations of {@link Prime} at several magnitudes of their arguments.
+ * The primality, the search and the factorisation are measured around 10^6, within the table of the sieve,
+ * and around 10^12 and 10^18, by the Miller–Rabin test and the rho method;
+ * the factorised numbers are products of two primes of the same magnitude, the hardest case of the rho method.
+ * The ranges are windows of {@link #WINDOW} numbers from the same magnitudes.
+ * The prime-counting function and the nth prime are measured up to 10^12, and their arguments change
+ * at every invocation so that they are not answered from the memoised counts.
+ * Saving the table is an input and output operation and is not measured.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimeBenchmark extends Object {
+    /**
+     * The number of numbers of the windows of the ranges.
+     */
+    static final long WINDOW = 100_000;
+
+    /**
+     * The number of numbers of the batches.
+     */
+    static final int BATCH = 1024;
+
+    private static final Logger LOG = Logger.getLogger(PrimeBenchmark.class.getName());
+
+    /**
+     * The arguments of the primality, the search, the factorisation and the ranges.
+     */
+    @State(Scope.Thread)
+    public static class Numbers extends Object {
+        /**
+         * The decimal exponent of the magnitude of the arguments.
+         */
+        @Param({"6", "12", "18"})
+        public int magnitude;
+
+        long start;
+        long prime;
+        long semiprime;
+        long[] batch;
+        boolean[] primality;
+        long[] factorised;
+
+        @Setup
+        public void setUp() {
+            this.start = power(this.magnitude);
+            this.prime = Prime.nextPrime(this.start);
+            final long factor = Prime.nextPrime(power(this.magnitude / 2));
+            this.semiprime = factor * Prime.nextPrime(factor + factor / 3);
+            this.batch = new long[BATCH];
+            this.primality = new boolean[BATCH];
+            for (int k = 0; k < BATCH; k++) {
+                this.batch[k] = this.start + 2 * k + 1;
+            }
+            this.factorised = new long[BATCH / 16];
+            for (int k = 0; k < this.factorised.length; k++) {
+                this.factorised[k] = this.start + k;
+            }
+        }
+    }
+
+    /**
+     * The arguments of the prime-counting function and of the nth prime.
+     */
+    @State(Scope.Thread)
+    public static class Counts extends Object {
+        /**
+         * The decimal exponent of the magnitude of the arguments.
+         */
+        @Param({"6", "9", "12"})
+        public int magnitude;
+
+        long start;
+        long offset;
+
+        @Setup
+        public void setUp() {
+            this.start = power(this.magnitude);
+        }
+
+        /**
+         * Move the arguments, so that every invocation computes a new count.
+         */
+        @Setup(Level.Invocation)
+        public void next() {
+            this.offset++;
+        }
+    }
+
+    /**
+     * Ten to a power.
+     * @param exponent the exponent.
+     * @return 10^exponent.
+     */
+    static long power(final int exponent) {
+        long power = 1;
+        for (int k = 0; k < exponent; k++) {
+            power *= 10;
+        }
+        return power;
+    }
+
+    @Benchmark
+    public boolean prime(final Numbers numbers) {
+        return Prime.prime(numbers.prime);
+    }
+
+    @Benchmark
+    public boolean[] primeBatch(final Numbers numbers) {
+        Prime.prime(numbers.batch, numbers.primality);
+        return numbers.primality;
+    }
+
+    @Benchmark
+    public long nextPrime(final Numbers numbers) {
+        return Prime.nextPrime(numbers.start);
+    }
+
+    @Benchmark
+    public List<Long> primeFactorise(final Numbers numbers) {
+        return Prime.primeFactorise(numbers.semiprime);
+    }
+
+    @Benchmark
+    public long[] primeFactorisation(final Numbers numbers) {
+        return Prime.primeFactorisation(numbers.semiprime);
+    }
+
+    @Benchmark
+    public long[][] primeFactorisationBatch(final Numbers numbers) {
+        return Prime.primeFactorisation(numbers.factorised);
+    }
+
+    @Benchmark
+    public long primesInRange(final Numbers numbers) {
+        return Prime.primesInRange(numbers.start, numbers.start + WINDOW).sum();
+    }
+
+    @Benchmark
+    public long primeIterator(final Numbers numbers) {
+        long sum = 0;
+        final PrimitiveIterator.OfLong iterator = Prime.primeIterator(numbers.start, numbers.start + WINDOW);
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long countPrimes(final Numbers numbers) {
+        return Prime.countPrimes(numbers.start, numbers.start + WINDOW);
+    }
+
+    @Benchmark
+    public long primeCount(final Counts counts) {
+        return Prime.primeCount(counts.start + counts.offset);
+    }
+
+    @Benchmark
+    public long nthPrime(final Counts counts) {
+        return Prime.nthPrime(counts.start / 32 + counts.offset);
+    }
+
+    @Benchmark
+    public boolean tableMapped() {
+        return Prime.tableMapped();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JMH benchmark of {@link Gamma#gamma(double)} and {@link Gamma#gamma(Complex)}
+ * at the arguments of the reflection, of the Lanczos approximation and of large values.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GammaBenchmark extends Object {
+    private static final Logger LOG = Logger.getLogger(GammaBenchmark.class.getName());
+
+    /**
+     * The real argument.
+     */
+    @State(Scope.Thread)
+    public static class RealArgument extends Object {
+        @Param({"-3.3", "0.5", "7.5", "150.5"})
+        public double x;
+    }
+
+    /**
+     * The complex argument.
+     */
+    @State(Scope.Thread)
+    public static class ComplexArgument extends Object {
+        @Param({"-3.3", "0.5", "7.5", "150.5"})
+        public double real;
+
+        @Param({"0.5", "20"})
+        public double imaginary;
+
+        Complex z;
+
+        @Setup
+        public void setUp() {
+            this.z = new Complex(this.real, this.imaginary);
+        }
+    }
+
+    @Benchmark
+    public double gammaReal(final RealArgument argument) {
+        return Gamma.gamma(argument.x);
+    }
+
+    @Benchmark
+    public Complex gammaComplex(final ComplexArgument argument) {
+        return Gamma.gamma(argument.z);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JMH benchmark of the regularised incomplete gamma functions {@link IncompleteGamma},
+ * of their inverses and of their forms on arrays.
+ * The parameter a is below one, where the prefactor is the logarithm of the gamma function,
+ * and above it, where it is the Lanczos approximation, up to a large value;
+ * the argument x is on the side of the series, at 0.9 a, or of the continued fraction, at 1.1 a + 1,
+ * both near the switch at a + 1 where they converge the most slowly.
+ * The arrays of arguments span [0, 3 (a + 1)) and so mix both, and the arrays of probabilities span (0, 1).
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncompleteGammaBenchmark extends Object {
+    /**
+     * The length of the arrays.
+     */
+    static final int LENGTH = 1024;
+
+    private static final Logger LOG = Logger.getLogger(IncompleteGammaBenchmark.class.getName());
+
+    /**
+     * The arguments of the functions and of their inverses.
+     */
+    @State(Scope.Thread)
+    public static class Argument extends Object {
+        @Param({"0.5", "10", "1000"})
+        public double a;
+
+        /**
+         * The side of a + 1 of the argument, SERIES or CONTINUED_FRACTION.
+         */
+        @Param({"SERIES", "CONTINUED_FRACTION"})
+        public String region;
+
+        double x;
+        double p;
+        double q;
+
+        @Setup
+        public void setUp() {
+            this.x = "SERIES".equals(this.region) ? .9 * this.a : 1.1 * this.a + 1;
+            this.p = IncompleteGamma.lower(this.a, this.x);
+            this.q = IncompleteGamma.upper(this.a, this.x);
+        }
+    }
+
+    /**
+     * The arrays of arguments of the functions and of their inverses.
+     */
+    @State(Scope.Thread)
+    public static class Batch extends Object {
+        @Param({"0.5", "10", "1000"})
+        public double a;
+
+        double[] x;
+        double[] p;
+        double[] q;
+        double[] result;
+
+        @Setup
+        public void setUp() {
+            this.x = new double[LENGTH];
+            this.p = new double[LENGTH];
+            this.q = new double[LENGTH];
+            this.result = new double[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                this.x[i] = 3 * (this.a + 1) * i / LENGTH;
+                this.p[i] = (i + .5) / LENGTH;
+                this.q[i] = 1 - this.p[i];
+            }
+        }
+    }
+
+    @Benchmark
+    public double lower(final Argument argument) {
+        return IncompleteGamma.lower(argument.a, argument.x);
+    }
+
+    @Benchmark
+    public double upper(final Argument argument) {
+        return IncompleteGamma.upper(argument.a, argument.x);
+    }
+
+    @Benchmark
+    public double inverseLower(final Argument argument) {
+        return IncompleteGamma.inverseLower(argument.a, argument.p);
+    }
+
+    @Benchmark
+    public double inverseUpper(final Argument argument) {
+        return IncompleteGamma.inverseUpper(argument.a, argument.q);
+    }
+
+    @Benchmark
+    public double[] lowerArray(final Batch batch) {
+        IncompleteGamma.lower(batch.a, batch.x, batch.result);
+        return batch.result;
+    }
+
+    @Benchmark
+    public double[] upperArray(final Batch batch) {
+        IncompleteGamma.upper(batch.a, batch.x, batch.result);
+        return batch.result;
+    }
+
+    @Benchmark
+    public double[] inverseLowerArray(final Batch batch) {
+        IncompleteGamma.inverseLower(batch.a, batch.p, batch.result);
+        return batch.result;
+    }
+
+    @Benchmark
+    public double[] inverseUpperArray(final Batch batch) {
+        IncompleteGamma.inverseUpper(batch.a, batch.q, batch.result);
+        return batch.result;
+    }
+}
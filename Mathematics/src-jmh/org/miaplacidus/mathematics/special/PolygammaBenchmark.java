@@ -0,0 +1,185 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The JMH benchmark of the digamma, trigamma and polygamma functions {@link Polygamma},
+ * of the inverses of the first two and of their forms on arrays.
+ * The arguments are reflected (-3.3), on the Taylor series at the root of the digamma function (1.5),
+ * shifted by the recurrence (3.3) and on the asymptotic series (150.5);
+ * the polygamma functions of higher order are defined on the positive numbers only and are not reflected.
+ * The inverses are measured at the images of 10^-7, where the inverse of the trigamma function is its expansion at 0
+ * and the inverse of the digamma function starts from its pole, of 0.5 and 7.5, where Newton's method runs,
+ * and of 10^9, where the inverse of the trigamma function is its expansion at infinity.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolygammaBenchmark extends Object {
+    /**
+     * The length of the arrays.
+     */
+    static final int LENGTH = 1024;
+
+    private static final Logger LOG = Logger.getLogger(PolygammaBenchmark.class.getName());
+
+    /**
+     * The argument of the functions.
+     */
+    @State(Scope.Thread)
+    public static class Argument extends Object {
+        @Param({"-3.3", "1.5", "3.3", "150.5"})
+        public double x;
+    }
+
+    /**
+     * The order and the positive argument of the polygamma function.
+     */
+    @State(Scope.Thread)
+    public static class Derivative extends Object {
+        @Param({"2", "5"})
+        public int n;
+
+        @Param({"0.5", "3.3", "150.5"})
+        public double x;
+    }
+
+    /**
+     * The images of the arguments of the inverses.
+     */
+    @State(Scope.Thread)
+    public static class Inverse extends Object {
+        @Param({"1E-7", "0.5", "7.5", "1E9"})
+        public double x;
+
+        double digamma;
+        double trigamma;
+
+        @Setup
+        public void setUp() {
+            this.digamma = Polygamma.digamma(this.x);
+            this.trigamma = Polygamma.trigamma(this.x);
+        }
+    }
+
+    /**
+     * The arrays of arguments, spanning (-10, 190) through every region, of positive arguments,
+     * spanning (10^-8, 10^10) logarithmically, and of their images.
+     */
+    @State(Scope.Thread)
+    public static class Batch extends Object {
+        double[] x;
+        double[] positive;
+        double[] digamma;
+        double[] trigamma;
+        double[] result;
+
+        @Setup
+        public void setUp() {
+            this.x = new double[LENGTH];
+            this.positive = new double[LENGTH];
+            this.digamma = new double[LENGTH];
+            this.trigamma = new double[LENGTH];
+            this.result = new double[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                this.x[i] = -10 + 200. * (i + .5) / LENGTH;
+                this.positive[i] = Math.pow(10, -8 + 18. * (i + .5) / LENGTH);
+            }
+            Polygamma.digamma(this.positive, this.digamma);
+            Polygamma.trigamma(this.positive, this.trigamma);
+        }
+    }
+
+    @Benchmark
+    public double digamma(final Argument argument) {
+        return Polygamma.digamma(argument.x);
+    }
+
+    @Benchmark
+    public double trigamma(final Argument argument) {
+        return Polygamma.trigamma(argument.x);
+    }
+
+    @Benchmark
+    public double polygamma(final Derivative derivative) {
+        return Polygamma.polygamma(derivative.n, derivative.x);
+    }
+
+    @Benchmark
+    public double inverseDigamma(final Inverse inverse) {
+        return Polygamma.inverseDigamma(inverse.digamma);
+    }
+
+    @Benchmark
+    public double inverseTrigamma(final Inverse inverse) {
+        return Polygamma.inverseTrigamma(inverse.trigamma);
+    }
+
+    @Benchmark
+    public double[] digammaArray(final Batch batch) {
+        Polygamma.digamma(batch.x, batch.result);
+        return batch.result;
+    }
+
+    @Benchmark
+    public double[] trigammaArray(final Batch batch) {
+        Polygamma.trigamma(batch.x, batch.result);
+        return batch.result;
+    }
+
+    @Benchmark
+    public double[] polygammaArray(final Batch batch) {
+        Polygamma.polygamma(3, batch.positive, batch.result);
+        return batch.result;
+    }
+
+    @Benchmark
+    public double[] inverseDigammaArray(final Batch batch) {
+        Polygamma.inverseDigamma(batch.digamma, batch.result);
+        return batch.result;
+    }
+
+    @Benchmark
+    public double[] inverseTrigammaArray(final Batch batch) {
+        Polygamma.inverseTrigamma(batch.trigamma, batch.result);
+        return batch.result;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The vector kernel of bulk complex arithmetic on the preferred species of the incubating Vector API.
+ * Split arrays are processed lane by lane with the expressions of {@link Complex}.
+ * Interleaved arrays keep their layout in the registers: the parts of the second operand are duplicated
+ * into the lanes of both parts and the parts of the first operand are swapped by shuffles, and the signs of the
+ * cross products come from a multiplication by alternating signs, which is exact, so that the results are
+ * the same as the scalar ones. The absolute values and the arguments of interleaved arrays gather the parts.
+ * The remainder of an array that does not fill a vector is computed by the loops of the scalar kernel.
+ * This class is compiled from its own source root with the module jdk.incubator.vector
+ * and loaded by {@link ComplexKernel#of()}.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+final class VectorComplexKernel extends ComplexKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    
+    private static final int LANES = SPECIES.length();
+    
+    /**
+     * The shuffles that swap the parts of every number and that duplicate its real part or its imaginary part.
+     */
+    private static final VectorShuffle<Double> SWAP = VectorShuffle.fromOp(SPECIES, i -> i ^ 1);
+    private static final VectorShuffle<Double> REAL = VectorShuffle.fromOp(SPECIES, i -> i & -2);
+    private static final VectorShuffle<Double> IMAGINARY = VectorShuffle.fromOp(SPECIES, i -> i | 1);
+    
+    /**
+     * The alternating signs of the cross products: -1, +1, ... for the multiplication
+     * and +1, -1, ... for the conjugate multiplication and the division.
+     */
+    private static final DoubleVector MINUS_PLUS = alternating(-1.);
+    private static final DoubleVector PLUS_MINUS = alternating(1.);
+    
+    /**
+     * The offsets of the real parts of the numbers of a vector in an interleaved array.
+     */
+    private static final int[] GATHER = new int[LANES];
+    
+    static {
+        for (int k = 0; k < LANES; k++) {
+            GATHER[k] = 2 * k;
+        }
+    }
+    
+    /**
+     * Build a vector of alternating signs.
+     * @param first the sign of the even lanes.
+     * @return the vector whose even lanes are the sign and whose odd lanes are its negation.
+     */
+    private static DoubleVector alternating(final double first) {
+        final double[] signs = new double[LANES];
+        for (int k = 0; k < LANES; k++) {
+            signs[k] = k % 2 == 0 ? first : -first;
+        }
+        return DoubleVector.fromArray(SPECIES, signs, 0);
+    }
+    
+    @Override
+    public int lanes() {
+        return LANES;
+    }
+    
+    @Override
+    void multiply(final int length, final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, aReal, k);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, aImaginary, k);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, bReal, k);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, bImaginary, k);
+            a.mul(c).sub(b.mul(d)).intoArray(real, k);
+            a.mul(d).add(c.mul(b)).intoArray(imaginary, k);
+        }
+        ScalarComplexKernel.multiply(bound, length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    @Override
+    void multiplyAccumulate(final int length, final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, aReal, k);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, aImaginary, k);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, bReal, k);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, bImaginary, k);
+            DoubleVector.fromArray(SPECIES, real, k).add(a.mul(c).sub(b.mul(d))).intoArray(real, k);
+            DoubleVector.fromArray(SPECIES, imaginary, k).add(a.mul(d).add(c.mul(b))).intoArray(imaginary, k);
+        }
+        ScalarComplexKernel.multiplyAccumulate(bound, length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    @Override
+    void scaleAccumulate(final int length, final double aReal, final double aImaginary, final double[] bReal,
+            final double[] bImaginary, final int from, final double[] real, final double[] imaginary, final int offset) {
+        final DoubleVector a = DoubleVector.broadcast(SPECIES, aReal);
+        final DoubleVector b = DoubleVector.broadcast(SPECIES, aImaginary);
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, bReal, from + k);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, bImaginary, from + k);
+            DoubleVector.fromArray(SPECIES, real, offset + k).add(a.mul(c).sub(b.mul(d))).intoArray(real, offset + k);
+            DoubleVector.fromArray(SPECIES, imaginary, offset + k).add(a.mul(d).add(c.mul(b)))
+                    .intoArray(imaginary, offset + k);
+        }
+        ScalarComplexKernel.scaleAccumulate(bound, length, aReal, aImaginary, bReal, bImaginary, from, real, imaginary,
+                offset);
+    }
+    
+    @Override
+    void conjugateMultiply(final int length, final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, aReal, k);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, aImaginary, k);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, bReal, k);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, bImaginary, k);
+            a.mul(c).add(b.mul(d)).intoArray(real, k);
+            c.mul(b).sub(a.mul(d)).intoArray(imaginary, k);
+        }
+        ScalarComplexKernel.conjugateMultiply(bound, length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    @Override
+    void divide(final int length, final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, aReal, k);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, aImaginary, k);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, bReal, k);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, bImaginary, k);
+            final DoubleVector denominator = c.mul(c).add(d.mul(d));
+            a.mul(c).add(b.mul(d)).div(denominator).intoArray(real, k);
+            b.mul(c).sub(a.mul(d)).div(denominator).intoArray(imaginary, k);
+        }
+        ScalarComplexKernel.divide(bound, length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    @Override
+    void absolute(final int length, final double[] real, final double[] imaginary, final double[] result) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            DoubleVector.fromArray(SPECIES, real, k)
+                    .lanewise(VectorOperators.HYPOT, DoubleVector.fromArray(SPECIES, imaginary, k)).intoArray(result, k);
+        }
+        ScalarComplexKernel.absolute(bound, length, real, imaginary, result);
+    }
+    
+    @Override
+    void argument(final int length, final double[] real, final double[] imaginary, final double[] result) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            DoubleVector.fromArray(SPECIES, imaginary, k)
+                    .lanewise(VectorOperators.ATAN2, DoubleVector.fromArray(SPECIES, real, k)).intoArray(result, k);
+        }
+        ScalarComplexKernel.argument(bound, length, real, imaginary, result);
+    }
+    
+    @Override
+    void multiplyInterleaved(final int length, final double[] a, final double[] b, final double[] result) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, a, k);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, b, k);
+            product(x, y).intoArray(result, k);
+        }
+        ScalarComplexKernel.multiplyInterleaved(bound, length, a, b, result);
+    }
+    
+    @Override
+    void multiplyAccumulateInterleaved(final int length, final double[] a, final double[] b, final double[] accumulator) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, a, k);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, b, k);
+            DoubleVector.fromArray(SPECIES, accumulator, k).add(product(x, y)).intoArray(accumulator, k);
+        }
+        ScalarComplexKernel.multiplyAccumulateInterleaved(bound, length, a, b, accumulator);
+    }
+    
+    @Override
+    void conjugateMultiplyInterleaved(final int length, final double[] a, final double[] b, final double[] result) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, a, k);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, b, k);
+            conjugateProduct(x, y).intoArray(result, k);
+        }
+        ScalarComplexKernel.conjugateMultiplyInterleaved(bound, length, a, b, result);
+    }
+    
+    @Override
+    void divideInterleaved(final int length, final double[] a, final double[] b, final double[] result) {
+        final int bound = SPECIES.loopBound(length);
+        for (int k = 0; k < bound; k += LANES) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, a, k);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, b, k);
+            final DoubleVector square = y.mul(y);
+            conjugateProduct(x, y).div(square.add(square.rearrange(SWAP))).intoArray(result, k);
+        }
+        ScalarComplexKernel.divideInterleaved(bound, length, a, b, result);
+    }
+    
+    @Override
+    void absoluteInterleaved(final int count, final double[] z, final double[] result) {
+        final int bound = SPECIES.loopBound(count);
+        for (int k = 0; k < bound; k += LANES) {
+            DoubleVector.fromArray(SPECIES, z, 2 * k, GATHER, 0)
+                    .lanewise(VectorOperators.HYPOT, DoubleVector.fromArray(SPECIES, z, 2 * k + 1, GATHER, 0))
+                    .intoArray(result, k);
+        }
+        ScalarComplexKernel.absoluteInterleaved(bound, count, z, result);
+    }
+    
+    @Override
+    void argumentInterleaved(final int count, final double[] z, final double[] result) {
+        final int bound = SPECIES.loopBound(count);
+        for (int k = 0; k < bound; k += LANES) {
+            DoubleVector.fromArray(SPECIES, z, 2 * k + 1, GATHER, 0)
+                    .lanewise(VectorOperators.ATAN2, DoubleVector.fromArray(SPECIES, z, 2 * k, GATHER, 0))
+                    .intoArray(result, k);
+        }
+        ScalarComplexKernel.argumentInterleaved(bound, count, z, result);
+    }
+    
+    /**
+     * The products of interleaved numbers, x y_re + swap(x) y_im (-1, +1),
+     * whose real lanes are x_re y_re - x_im y_im and whose imaginary lanes are x_im y_re + x_re y_im.
+     * @param x the interleaved multipliers.
+     * @param y the interleaved multiplicands.
+     * @return the interleaved products.
+     */
+    private static DoubleVector product(final DoubleVector x, final DoubleVector y) {
+        return x.mul(y.rearrange(REAL)).add(x.rearrange(SWAP).mul(y.rearrange(IMAGINARY)).mul(MINUS_PLUS));
+    }
+    
+    /**
+     * The products of interleaved numbers by the conjugates of others, x y_re + swap(x) y_im (+1, -1),
+     * whose real lanes are x_re y_re + x_im y_im and whose imaginary lanes are x_im y_re - x_re y_im.
+     * @param x the interleaved multipliers.
+     * @param y the interleaved multiplicands, which are conjugated.
+     * @return the interleaved products.
+     */
+    private static DoubleVector conjugateProduct(final DoubleVector x, final DoubleVector y) {
+        return x.mul(y.rearrange(REAL)).add(x.rearrange(SWAP).mul(y.rearrange(IMAGINARY)).mul(PLUS_MINUS));
+    }
+}
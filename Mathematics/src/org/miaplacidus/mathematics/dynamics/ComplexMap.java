@@ -0,0 +1,44 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.dynamics;
+
+/**
+ * A family of maps of the complex plane, z -> f(z, c), in primitive arithmetic for the escape-time iteration.
+ * An implementation is called from several threads at once and must not keep state between calls.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ * @see EscapeTime
+ */
+@FunctionalInterface
+public interface ComplexMap {
+    /**
+     * Apply the map to a point.
+     * @param real the real part of z.
+     * @param imaginary the imaginary part of z.
+     * @param parameterReal the real part of the parameter c.
+     * @param parameterImaginary the imaginary part of the parameter c.
+     * @param result the array that receives the real and imaginary parts of f(z, c).
+     */
+    public void apply(final double real, final double imaginary, final double parameterReal,
+            final double parameterImaginary, final double[] result);
+}
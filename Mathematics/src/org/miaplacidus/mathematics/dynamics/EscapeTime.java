@@ -0,0 +1,539 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.dynamics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.miaplacidus.mathematics.polynomial.ComplexPolynomial;
+
+/**
+ * The escape-time iteration of complex dynamics over rectangular grids of points, in primitive arithmetic.
+ * Every point of the grid is iterated by a map until it escapes the disc of radius {@link #ESCAPE_RADIUS},
+ * or for Newton's method until its step is smaller than {@link #CONVERGENCE}, or until the maximum number of iterations.
+ * The grid is the parameter plane, where the point is the parameter c and the orbit starts at a critical point,
+ * or the dynamical plane, where the point is the start of the orbit and the parameter is fixed.
+ * The iteration of the Mandelbrot set skips the main cardioid and the period-2 bulb, and orbits that are not
+ * iterated by Newton's method stop when they return to a point that was saved at an iteration which is a power of two,
+ * since they are then periodic and never escape.
+ * The grid is split into tiles of {@link #TILE} by {@link #TILE} points, which are rendered by the tasks of a fork join pool.
+ * Engines are immutable and may be shared between threads.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class EscapeTime extends Object {
+    /**
+     * The plane of the grid of points.
+     */
+    public enum Plane {
+        /**
+         * The points are the parameters c and the orbits start at a fixed point, a critical point of the map.
+         */
+        PARAMETER,
+        /**
+         * The points are the starts of the orbits and the parameter is fixed.
+         */
+        DYNAMICAL
+    }
+
+    /**
+     * The radius of the disc that an orbit escapes, large enough for the smooth values to be continuous.
+     */
+    public static final double ESCAPE_RADIUS = 256.;
+
+    /**
+     * The length of the step of Newton's method below which an orbit has converged to a root.
+     */
+    public static final double CONVERGENCE = 1E-10;
+
+    /**
+     * The number of rows and columns of the tiles of the grid.
+     */
+    public static final int TILE = 64;
+
+    /**
+     * The distance in the norm |x| + |y| below which an orbit has returned to its saved point,
+     * and the first iteration at which the point is saved.
+     */
+    private static final double PERIODICITY = 1E-14;
+    private static final int FIRST_CHECK = 8;
+
+    private static final double ESCAPE_NORM = ESCAPE_RADIUS * ESCAPE_RADIUS;
+    private static final double CONVERGENCE_NORM = CONVERGENCE * CONVERGENCE;
+    private static final double LOG_CONVERGENCE = Math.log(CONVERGENCE);
+    private static final double LOG_TWO = Math.log(2.);
+
+    private static final Logger LOG = Logger.getLogger(EscapeTime.class.getName());
+
+    /**
+     * The iteration of the engine.
+     */
+    private enum Kind {
+        QUADRATIC,
+        NEWTON,
+        MAP
+    }
+
+    /**
+     * The engine of the Mandelbrot set, the parameter plane of z -> z^2 + c from z = 0.
+     * @param maximumIterations the largest number of iterations of a point.
+     * @return the engine.
+     * @throws IllegalArgumentException if the maximum number of iterations is smaller than one.
+     */
+    public static EscapeTime mandelbrot(final int maximumIterations) throws IllegalArgumentException {
+        return new EscapeTime(Kind.QUADRATIC, Plane.PARAMETER, null, 2, Complex.ZERO, null, maximumIterations);
+    }
+
+    /**
+     * The engine of a filled Julia set, the dynamical plane of z -> z^2 + c.
+     * @param parameter the parameter c.
+     * @param maximumIterations the largest number of iterations of a point.
+     * @return the engine.
+     * @throws IllegalArgumentException if the maximum number of iterations is smaller than one.
+     */
+    public static EscapeTime julia(final Complex parameter, final int maximumIterations) throws IllegalArgumentException {
+        return new EscapeTime(Kind.QUADRATIC, Plane.DYNAMICAL, null, 2, parameter, null, maximumIterations);
+    }
+
+    /**
+     * The engine of Newton's method, z -> z - p(z) / p'(z), in the dynamical plane;
+     * the iterations of a point are the number of steps to its convergence.
+     * @param polynomial the polynomial p.
+     * @param maximumIterations the largest number of iterations of a point.
+     * @return the engine.
+     * @throws IllegalArgumentException if the polynomial is constant or the maximum number of iterations is smaller than one.
+     */
+    public static EscapeTime newton(final ComplexPolynomial polynomial, final int maximumIterations) throws IllegalArgumentException {
+        if (polynomial.degree() < 1) {
+            throw new IllegalArgumentException();
+        } else {
+            return new EscapeTime(Kind.NEWTON, Plane.DYNAMICAL, null, 2, Complex.ZERO, polynomial, maximumIterations);
+        }
+    }
+
+    /**
+     * The engine of a map in its parameter plane.
+     * @param map the map f(z, c).
+     * @param degree the degree of the map at infinity, which scales the smooth values.
+     * @param start the start of every orbit, a critical point of the map.
+     * @param maximumIterations the largest number of iterations of a point.
+     * @return the engine.
+     * @throws IllegalArgumentException if the degree is smaller than two or the maximum number of iterations is smaller than one.
+     */
+    public static EscapeTime parameter(final ComplexMap map, final int degree, final Complex start, final int maximumIterations)
+            throws IllegalArgumentException {
+        return new EscapeTime(Kind.MAP, Plane.PARAMETER, map, degree, start, null, maximumIterations);
+    }
+
+    /**
+     * The engine of a map in its dynamical plane.
+     * @param map the map f(z, c).
+     * @param degree the degree of the map at infinity, which scales the smooth values.
+     * @param parameter the parameter c.
+     * @param maximumIterations the largest number of iterations of a point.
+     * @return the engine.
+     * @throws IllegalArgumentException if the degree is smaller than two or the maximum number of iterations is smaller than one.
+     */
+    public static EscapeTime dynamical(final ComplexMap map, final int degree, final Complex parameter, final int maximumIterations)
+            throws IllegalArgumentException {
+        return new EscapeTime(Kind.MAP, Plane.DYNAMICAL, map, degree, parameter, null, maximumIterations);
+    }
+
+    private final Kind kind;
+
+    private final Plane plane;
+
+    /**
+     * The map of an engine of a provided map.
+     */
+    private final ComplexMap map;
+
+    /**
+     * The logarithm of the degree of the map.
+     */
+    private final double logDegree;
+
+    /**
+     * The parameter of the dynamical plane or the start of the orbits of the parameter plane.
+     */
+    private final double fixedReal;
+    private final double fixedImaginary;
+
+    /**
+     * The coefficients of the polynomial of Newton's method, in the order of increasing powers.
+     */
+    private final double[] coefficientReal;
+    private final double[] coefficientImaginary;
+
+    private final int maximumIterations;
+
+    private EscapeTime(final Kind kind, final Plane plane, final ComplexMap map, final int degree, final Complex fixed,
+            final ComplexPolynomial polynomial, final int maximumIterations) throws IllegalArgumentException {
+        if (degree < 2 || maximumIterations < 1) {
+            throw new IllegalArgumentException();
+        } else {
+            this.kind = kind;
+            this.plane = plane;
+            this.map = map;
+            this.logDegree = Math.log(degree);
+            this.fixedReal = fixed.real();
+            this.fixedImaginary = fixed.imaginary();
+            this.coefficientReal = polynomial == null ? null : polynomial.real();
+            this.coefficientImaginary = polynomial == null ? null : polynomial.imaginary();
+            this.maximumIterations = maximumIterations;
+        }
+    }
+
+    /**
+     * The plane of the grids of the engine.
+     * @return the plane.
+     */
+    public Plane plane() {
+        return this.plane;
+    }
+
+    /**
+     * The largest number of iterations of a point.
+     * @return the maximum number of iterations.
+     */
+    public int maximumIterations() {
+        return this.maximumIterations;
+    }
+
+    /**
+     * Render a grid of points on the common fork join pool.
+     * The point of a row r and a column c is realFrom + c realStep + i (imaginaryFrom + r imaginaryStep),
+     * its result is stored at the index r columns + c.
+     * @param realFrom the real part of the first column.
+     * @param realStep the step of the real parts between columns.
+     * @param columns the number of columns.
+     * @param imaginaryFrom the imaginary part of the first row.
+     * @param imaginaryStep the step of the imaginary parts between rows.
+     * @param rows the number of rows.
+     * @param iterations the array that receives the numbers of iterations, the maximum for the points that do not escape.
+     * @throws IllegalArgumentException if a dimension is negative or the array does not have rows columns elements.
+     */
+    public void render(final double realFrom, final double realStep, final int columns, final double imaginaryFrom,
+            final double imaginaryStep, final int rows, final int[] iterations) throws IllegalArgumentException {
+        this.render(realFrom, realStep, columns, imaginaryFrom, imaginaryStep, rows, iterations, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Render a grid of points on the common fork join pool, with the smooth numbers of iterations.
+     * The smooth value of an orbit that escapes after n iterations is n + 1 - log(log |z_n|) / log d for a map of degree d,
+     * the one of an orbit of Newton's method that converges after n steps is n - log2(log |w_n| / log {@link #CONVERGENCE})
+     * for its last step w_n; the points that do not escape receive the maximum number of iterations.
+     * @param realFrom the real part of the first column.
+     * @param realStep the step of the real parts between columns.
+     * @param columns the number of columns.
+     * @param imaginaryFrom the imaginary part of the first row.
+     * @param imaginaryStep the step of the imaginary parts between rows.
+     * @param rows the number of rows.
+     * @param iterations the array that receives the numbers of iterations, the maximum for the points that do not escape.
+     * @param smooth the array that receives the smooth numbers of iterations.
+     * @throws IllegalArgumentException if a dimension is negative or an array does not have rows columns elements.
+     * @see #render(double, double, int, double, double, int, int[])
+     */
+    public void render(final double realFrom, final double realStep, final int columns, final double imaginaryFrom,
+            final double imaginaryStep, final int rows, final int[] iterations, final double[] smooth) throws IllegalArgumentException {
+        if (smooth.length != iterations.length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.render(realFrom, realStep, columns, imaginaryFrom, imaginaryStep, rows, iterations, smooth, ForkJoinPool.commonPool());
+        }
+    }
+
+    /**
+     * Render a grid of points on a fork join pool, whose workers steal the tiles of one another.
+     * @param realFrom the real part of the first column.
+     * @param realStep the step of the real parts between columns.
+     * @param columns the number of columns.
+     * @param imaginaryFrom the imaginary part of the first row.
+     * @param imaginaryStep the step of the imaginary parts between rows.
+     * @param rows the number of rows.
+     * @param iterations the array that receives the numbers of iterations, the maximum for the points that do not escape.
+     * @param smooth the array that receives the smooth numbers of iterations, or null.
+     * @param pool the pool that renders the tiles.
+     * @throws IllegalArgumentException if a dimension is negative or an array does not have rows columns elements.
+     * @see #render(double, double, int, double, double, int, int[], double[])
+     */
+    public void render(final double realFrom, final double realStep, final int columns, final double imaginaryFrom,
+            final double imaginaryStep, final int rows, final int[] iterations, final double[] smooth, final ForkJoinPool pool)
+            throws IllegalArgumentException {
+        if (columns < 0 || rows < 0 || iterations.length != (long) rows * columns
+                || smooth != null && smooth.length != iterations.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final Grid grid = new Grid(realFrom, realStep, columns, imaginaryFrom, imaginaryStep, rows, iterations, smooth);
+            pool.invoke(new Tiles(this, grid, 0, grid.across * grid.down));
+        }
+    }
+
+    /**
+     * Render a tile of a grid.
+     * @param grid the grid.
+     * @param tile the index of the tile, in the order of the rows of tiles.
+     */
+    private void render(final Grid grid, final int tile) {
+        final int rowFrom = tile / grid.across * TILE;
+        final int columnFrom = tile % grid.across * TILE;
+        final int rowTo = Math.min(grid.rows, rowFrom + TILE);
+        final int columnTo = Math.min(grid.columns, columnFrom + TILE);
+        final double[] scratch = new double[2];
+        for (int row = rowFrom; row < rowTo; row++) {
+            final double y = grid.imaginaryFrom + row * grid.imaginaryStep;
+            for (int column = columnFrom; column < columnTo; column++) {
+                final double x = grid.realFrom + column * grid.realStep;
+                switch (this.kind) {
+                    case QUADRATIC:
+                        this.quadratic(x, y, scratch);
+                        break;
+                    case NEWTON:
+                        this.newton(x, y, scratch);
+                        break;
+                    default:
+                        this.map(x, y, scratch);
+                        break;
+                }
+                final int index = row * grid.columns + column;
+                grid.iterations[index] = (int) scratch[0];
+                if (grid.smooth != null) {
+                    grid.smooth[index] = scratch[1];
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterate z -> z^2 + c from a point.
+     * @param x the real part of the point.
+     * @param y the imaginary part of the point.
+     * @param result the array that receives the number of iterations and the smooth value.
+     */
+    private void quadratic(final double x, final double y, final double[] result) {
+        final boolean parameter = this.plane == Plane.PARAMETER;
+        final double cr = parameter ? x : this.fixedReal;
+        final double ci = parameter ? y : this.fixedImaginary;
+        double zr = parameter ? this.fixedReal : x;
+        double zi = parameter ? this.fixedImaginary : y;
+        if (parameter && zr == 0 && zi == 0 && inMainComponents(cr, ci)) {
+            this.interior(result);
+        } else {
+            double zr2 = zr * zr;
+            double zi2 = zi * zi;
+            double checkReal = zr;
+            double checkImaginary = zi;
+            int check = FIRST_CHECK;
+            for (int n = 1; n <= this.maximumIterations; n++) {
+                zi = 2. * zr * zi + ci;
+                zr = zr2 - zi2 + cr;
+                zr2 = zr * zr;
+                zi2 = zi * zi;
+                if (zr2 + zi2 > ESCAPE_NORM) {
+                    this.escaped(n, zr2 + zi2, result);
+                    return;
+                } else if (Math.abs(zr - checkReal) + Math.abs(zi - checkImaginary) < PERIODICITY) {
+                    break;
+                } else if (n == check) {
+                    checkReal = zr;
+                    checkImaginary = zi;
+                    check <<= 1;
+                }
+            }
+            this.interior(result);
+        }
+    }
+
+    /**
+     * Test whether a parameter lies in the main cardioid or in the period-2 bulb of the Mandelbrot set.
+     * @param x the real part of the parameter.
+     * @param y the imaginary part of the parameter.
+     * @return true if the parameter is in one of the components, false otherwise.
+     */
+    private static boolean inMainComponents(final double x, final double y) {
+        final double y2 = y * y;
+        final double shifted = x - .25;
+        final double q = shifted * shifted + y2;
+        return q * (q + shifted) <= .25 * y2 || (x + 1.) * (x + 1.) + y2 <= .0625;
+    }
+
+    /**
+     * Iterate Newton's method from a point.
+     * @param x the real part of the point.
+     * @param y the imaginary part of the point.
+     * @param result the array that receives the number of steps and the smooth value.
+     */
+    private void newton(final double x, final double y, final double[] result) {
+        final double[] a = this.coefficientReal;
+        final double[] b = this.coefficientImaginary;
+        double zr = x;
+        double zi = y;
+        for (int n = 1; n <= this.maximumIterations; n++) {
+            double pr = 0.;
+            double pi = 0.;
+            double dr = 0.;
+            double di = 0.;
+            for (int k = a.length - 1; k >= 0; k--) {
+                final double r = dr * zr - di * zi + pr;
+                di = dr * zi + di * zr + pi;
+                dr = r;
+                final double s = pr * zr - pi * zi + a[k];
+                pi = pr * zi + pi * zr + b[k];
+                pr = s;
+            }
+            final double norm = dr * dr + di * di;
+            if (norm == 0 || !Double.isFinite(norm)) {
+                break;
+            } else {
+                final double stepReal = (pr * dr + pi * di) / norm;
+                final double stepImaginary = (pi * dr - pr * di) / norm;
+                zr -= stepReal;
+                zi -= stepImaginary;
+                final double step = stepReal * stepReal + stepImaginary * stepImaginary;
+                if (step <= CONVERGENCE_NORM) {
+                    result[0] = n;
+                    result[1] = step == 0 ? n - 1 : n - Math.min(1., Math.log(.5 * Math.log(step) / LOG_CONVERGENCE) / LOG_TWO);
+                    return;
+                }
+            }
+        }
+        this.interior(result);
+    }
+
+    /**
+     * Iterate the map of the engine from a point.
+     * @param x the real part of the point.
+     * @param y the imaginary part of the point.
+     * @param result the array that receives the number of iterations and the smooth value.
+     */
+    private void map(final double x, final double y, final double[] result) {
+        final boolean parameter = this.plane == Plane.PARAMETER;
+        final double cr = parameter ? x : this.fixedReal;
+        final double ci = parameter ? y : this.fixedImaginary;
+        double zr = parameter ? this.fixedReal : x;
+        double zi = parameter ? this.fixedImaginary : y;
+        double checkReal = zr;
+        double checkImaginary = zi;
+        int check = FIRST_CHECK;
+        for (int n = 1; n <= this.maximumIterations; n++) {
+            this.map.apply(zr, zi, cr, ci, result);
+            zr = result[0];
+            zi = result[1];
+            final double norm = zr * zr + zi * zi;
+            if (norm > ESCAPE_NORM) {
+                this.escaped(n, norm, result);
+                return;
+            } else if (Math.abs(zr - checkReal) + Math.abs(zi - checkImaginary) < PERIODICITY) {
+                break;
+            } else if (n == check) {
+                checkReal = zr;
+                checkImaginary = zi;
+                check <<= 1;
+            }
+        }
+        this.interior(result);
+    }
+
+    /**
+     * Record an orbit that escaped.
+     * @param n the number of iterations.
+     * @param norm the squared modulus of the last point of the orbit.
+     * @param result the array that receives the number of iterations and the smooth value.
+     */
+    private void escaped(final int n, final double norm, final double[] result) {
+        result[0] = n;
+        result[1] = n + 1 - Math.log(.5 * Math.log(norm)) / this.logDegree;
+    }
+
+    /**
+     * Record an orbit that does not escape.
+     * @param result the array that receives the maximum number of iterations as both values.
+     */
+    private void interior(final double[] result) {
+        result[0] = this.maximumIterations;
+        result[1] = this.maximumIterations;
+    }
+
+    /**
+     * A grid of points and the arrays of its results.
+     */
+    private static final class Grid extends Object {
+        private final double realFrom;
+        private final double realStep;
+        private final int columns;
+        private final double imaginaryFrom;
+        private final double imaginaryStep;
+        private final int rows;
+        private final int[] iterations;
+        private final double[] smooth;
+
+        /**
+         * The numbers of tiles across and down the grid.
+         */
+        private final int across;
+        private final int down;
+
+        Grid(final double realFrom, final double realStep, final int columns, final double imaginaryFrom,
+                final double imaginaryStep, final int rows, final int[] iterations, final double[] smooth) {
+            this.realFrom = realFrom;
+            this.realStep = realStep;
+            this.columns = columns;
+            this.imaginaryFrom = imaginaryFrom;
+            this.imaginaryStep = imaginaryStep;
+            this.rows = rows;
+            this.iterations = iterations;
+            this.smooth = smooth;
+            this.across = (columns + TILE - 1) / TILE;
+            this.down = (rows + TILE - 1) / TILE;
+        }
+    }
+
+    /**
+     * A task of a range of tiles, which forks its halves until it holds a single tile.
+     */
+    private static final class Tiles extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final EscapeTime engine;
+        private final Grid grid;
+        private final int from;
+        private final int to;
+
+        Tiles(final EscapeTime engine, final Grid grid, final int from, final int to) {
+            this.engine = engine;
+            this.grid = grid;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from == 1) {
+                this.engine.render(this.grid, this.from);
+            } else if (this.to - this.from > 1) {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Tiles(this.engine, this.grid, this.from, middle), new Tiles(this.engine, this.grid, middle, this.to));
+            }
+        }
+    }
+}
@@ -0,0 +1,820 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.fourier;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.metrics.Metrics;
+import org.miaplacidus.mathematics.metrics.Operation;
+import org.miaplacidus.mathematics.metrics.OperationEvent;
+
+/**
+ * A precomputed plan of the discrete Fourier transform of a given length.
+ * The plan holds the twiddle factors and the permutation of its length
+ * and selects the algorithm once: the iterative radix-2 algorithm for powers of two,
+ * the mixed-radix algorithm for lengths without large prime factors
+ * and the algorithm of Bluestein for any other length.
+ * Plans are immutable and may be shared between threads. The plans of the powers of two, at most 31,
+ * are cached by length; those of other lengths are cached in a small direct-mapped table, where a new plan evicts
+ * the one of its slot, and are held softly, so that arbitrary lengths do not keep their tables for the life of the JVM.
+ * Transforms of at least {@link #PARALLEL_THRESHOLD} points run on the common fork join pool.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class FourierPlan extends Object {
+    /**
+     * The algorithm that a plan executes.
+     */
+    public enum Algorithm {
+        /**
+         * The iterative radix-2 algorithm of Cooley and Tukey.
+         */
+        RADIX_2,
+        /**
+         * The recursive mixed-radix algorithm of Cooley and Tukey.
+         */
+        MIXED_RADIX,
+        /**
+         * The chirp z-transform algorithm of Bluestein.
+         */
+        BLUESTEIN
+    }
+
+    /**
+     * The length from which transforms are split between the workers of the common fork join pool.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * The largest prime factor of a length that the mixed-radix algorithm accepts.
+     */
+    private static final int MAXIMUM_MIXED_RADIX_FACTOR = 31;
+
+    /**
+     * The number of butterflies or points below which a task is not split any further.
+     */
+    private static final int TASK_GRANULARITY = 1 << 13;
+
+    /**
+     * The number of entries of the cache of the plans of the lengths that are not powers of two, a power of two.
+     */
+    private static final int CACHE_SIZE = 1 << 4;
+
+    /**
+     * The plans of the powers of two, by length.
+     */
+    private static final Map<Integer, FourierPlan> PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * The recent plans of the other lengths, direct-mapped by length and softly referenced.
+     */
+    private static final AtomicReferenceArray<SoftReference<FourierPlan>> RECENT_PLANS =
+            new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private static final Logger LOG = Logger.getLogger(FourierPlan.class.getName());
+
+    /**
+     * Receive the plan of a length, which is computed on first use and cached afterwards;
+     * the plan of a length that is not a power of two stays cached until the plan of another length takes its slot
+     * or the collector reclaims it.
+     * @param length the number of points of the transform.
+     * @return the plan of the length.
+     * @throws IllegalArgumentException if the length is smaller than one.
+     */
+    public static FourierPlan of(final int length) throws IllegalArgumentException {
+        if (length < 1) {
+            throw new IllegalArgumentException();
+        } else if (Integer.bitCount(length) == 1) {
+            final FourierPlan plan = PLANS.get(length);
+            if (plan != null) {
+                return plan;
+            } else {
+                final FourierPlan computed = new FourierPlan(length);
+                final FourierPlan other = PLANS.putIfAbsent(length, computed);
+                return other == null ? computed : other;
+            }
+        } else {
+            final int slot = (length ^ length >>> 7 ^ length >>> 17) & (CACHE_SIZE - 1);
+            final SoftReference<FourierPlan> reference = RECENT_PLANS.get(slot);
+            final FourierPlan plan = reference == null ? null : reference.get();
+            if (plan != null && plan.length == length) {
+                return plan;
+            } else {
+                final FourierPlan computed = new FourierPlan(length);
+                RECENT_PLANS.set(slot, new SoftReference<>(computed));
+                return computed;
+            }
+        }
+    }
+
+    /**
+     * Discard every cached plan.
+     */
+    public static void clear() {
+        PLANS.clear();
+        for (int slot = 0; slot < CACHE_SIZE; slot++) {
+            RECENT_PLANS.set(slot, null);
+        }
+    }
+
+    /**
+     * The number of points of the transform.
+     */
+    private final int length;
+
+    /**
+     * The algorithm of the transform.
+     */
+    private final Algorithm algorithm;
+
+    /**
+     * The cosines of 2 pi k / length; for k smaller than half of the length,
+     * or smaller than the length for the mixed-radix algorithm.
+     */
+    private final double[] cosine;
+
+    /**
+     * The sines of 2 pi k / length, with the range of the cosines.
+     */
+    private final double[] sine;
+
+    /**
+     * The bit-reversal permutation of the radix-2 algorithm.
+     */
+    private final int[] reversal;
+
+    /**
+     * The factors of the length for the mixed-radix algorithm, in the order they are applied.
+     */
+    private final int[] factors;
+
+    /**
+     * The chirp exp(-i pi k^2 / length) of the algorithm of Bluestein, real parts.
+     */
+    private final double[] chirpReal;
+
+    /**
+     * The chirp of the algorithm of Bluestein, imaginary parts.
+     */
+    private final double[] chirpImaginary;
+
+    /**
+     * The transformed convolution kernel of the algorithm of Bluestein, real parts.
+     */
+    private final double[] kernelReal;
+
+    /**
+     * The transformed convolution kernel of the algorithm of Bluestein, imaginary parts.
+     */
+    private final double[] kernelImaginary;
+
+    /**
+     * The radix-2 plan that computes the convolution of the algorithm of Bluestein.
+     */
+    private final FourierPlan convolution;
+
+    private FourierPlan(final int length) {
+        this.length = length;
+        final int[] factorisation = factorise(length);
+        if (Integer.bitCount(length) == 1) {
+            this.algorithm = Algorithm.RADIX_2;
+        } else if (factorisation[factorisation.length - 1] <= MAXIMUM_MIXED_RADIX_FACTOR) {
+            this.algorithm = Algorithm.MIXED_RADIX;
+        } else {
+            this.algorithm = Algorithm.BLUESTEIN;
+        }
+        final int twiddles = this.algorithm == Algorithm.MIXED_RADIX ? length : length / 2;
+        this.cosine = new double[twiddles];
+        this.sine = new double[twiddles];
+        for (int k = 0; k < twiddles; k++) {
+            final double theta = 2. * Math.PI * k / length;
+            this.cosine[k] = Math.cos(theta);
+            this.sine[k] = Math.sin(theta);
+        }
+        if (this.algorithm == Algorithm.RADIX_2) {
+            this.reversal = new int[length];
+            final int shift = Integer.numberOfLeadingZeros(length) + 1;
+            for (int k = 0; k < length; k++) {
+                this.reversal[k] = length == 1 ? 0 : Integer.reverse(k) >>> shift;
+            }
+        } else {
+            this.reversal = null;
+        }
+        this.factors = this.algorithm == Algorithm.MIXED_RADIX ? factorisation : null;
+        if (this.algorithm == Algorithm.BLUESTEIN) {
+            final int size = Integer.highestOneBit(2 * length - 1) << 1;
+            this.convolution = FourierPlan.of(size);
+            this.chirpReal = new double[length];
+            this.chirpImaginary = new double[length];
+            this.kernelReal = new double[size];
+            this.kernelImaginary = new double[size];
+            for (int k = 0; k < length; k++) {
+                final double theta = Math.PI * ((long) k * k % (2L * length)) / length;
+                this.chirpReal[k] = Math.cos(theta);
+                this.chirpImaginary[k] = -Math.sin(theta);
+                this.kernelReal[k] = this.chirpReal[k] / size;
+                this.kernelImaginary[k] = -this.chirpImaginary[k] / size;
+                if (k > 0) {
+                    this.kernelReal[size - k] = this.kernelReal[k];
+                    this.kernelImaginary[size - k] = this.kernelImaginary[k];
+                }
+            }
+            this.convolution.transform(this.kernelReal, this.kernelImaginary, -1.);
+        } else {
+            this.convolution = null;
+            this.chirpReal = null;
+            this.chirpImaginary = null;
+            this.kernelReal = null;
+            this.kernelImaginary = null;
+        }
+    }
+
+    /**
+     * The length function.
+     * @return the number of points of the transform.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * The algorithm function.
+     * @return the algorithm that this plan executes.
+     */
+    public Algorithm algorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * The forward discrete Fourier transform, computed in place, with the kernel exp(-2 pi i j k / n).
+     * @param real the real parts of the points.
+     * @param imaginary the imaginary parts of the points.
+     * @throws IllegalArgumentException if an array does not have the length of this plan.
+     */
+    public void forward(final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        if (real.length != this.length || imaginary.length != this.length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.transform(real, imaginary, -1.);
+        }
+    }
+
+    /**
+     * The inverse discrete Fourier transform, computed in place and scaled by 1 / n.
+     * @param real the real parts of the coefficients.
+     * @param imaginary the imaginary parts of the coefficients.
+     * @throws IllegalArgumentException if an array does not have the length of this plan.
+     */
+    public void inverse(final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        if (real.length != this.length || imaginary.length != this.length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.transform(real, imaginary, 1.);
+            scale(real, imaginary, this.length, 1. / this.length);
+        }
+    }
+
+    /**
+     * The forward discrete Fourier transform of a real signal.
+     * Only the coefficients 0 to n / 2 are computed, the others are their complex conjugates.
+     * A signal of even length is transformed as a complex signal of half its length,
+     * that is held in the output arrays.
+     * A signal of odd length has no such packing: it is copied and transformed as a complex signal
+     * of its full length with a zero imaginary part, which costs as much as a complex transform
+     * and allocates two arrays of the length of the plan.
+     * @param signal the real signal.
+     * @param real the array that receives the real parts of the n / 2 + 1 coefficients.
+     * @param imaginary the array that receives the imaginary parts of the n / 2 + 1 coefficients.
+     * @throws IllegalArgumentException if an array does not have the expected length.
+     */
+    public void realForward(final double[] signal, final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        final int half = this.length / 2;
+        if (signal.length != this.length || real.length != half + 1 || imaginary.length != half + 1) {
+            throw new IllegalArgumentException();
+        } else if (this.length % 2 == 1) {
+            final double[] x = signal.clone();
+            final double[] y = new double[this.length];
+            this.transform(x, y, -1.);
+            System.arraycopy(x, 0, real, 0, half + 1);
+            System.arraycopy(y, 0, imaginary, 0, half + 1);
+        } else {
+            for (int k = 0; k < half; k++) {
+                real[k] = signal[2 * k];
+                imaginary[k] = signal[2 * k + 1];
+            }
+            FourierPlan.of(half).transform(real, imaginary, -1.);
+            final double first = real[0];
+            final double second = imaginary[0];
+            real[0] = first + second;
+            imaginary[0] = 0.;
+            real[half] = first - second;
+            imaginary[half] = 0.;
+            for (int k = 1, j = half - 1; k <= j; k++, j--) {
+                final double ar = real[k];
+                final double ai = imaginary[k];
+                final double br = real[j];
+                final double bi = imaginary[j];
+                final double evenReal = (ar + br) / 2.;
+                final double evenImaginary = (ai - bi) / 2.;
+                final double oddReal = (ai + bi) / 2.;
+                final double oddImaginary = (br - ar) / 2.;
+                final double wr = this.cosine[k];
+                final double wi = -this.sine[k];
+                final double tr = wr * oddReal - wi * oddImaginary;
+                final double ti = wr * oddImaginary + wi * oddReal;
+                real[k] = evenReal + tr;
+                imaginary[k] = evenImaginary + ti;
+                real[j] = evenReal - tr;
+                imaginary[j] = ti - evenImaginary;
+            }
+        }
+    }
+
+    /**
+     * The inverse discrete Fourier transform to a real signal, scaled by 1 / n.
+     * As for {@link #realForward(double[], double[], double[])}, only even lengths use the transform of half length;
+     * odd lengths are transformed in full from the Hermitian extension of the coefficients.
+     * @param real the real parts of the n / 2 + 1 coefficients.
+     * @param imaginary the imaginary parts of the n / 2 + 1 coefficients.
+     * @param signal the array that receives the real signal.
+     * @throws IllegalArgumentException if an array does not have the expected length.
+     */
+    public void realInverse(final double[] real, final double[] imaginary, final double[] signal) throws IllegalArgumentException {
+        final int half = this.length / 2;
+        if (signal.length != this.length || real.length != half + 1 || imaginary.length != half + 1) {
+            throw new IllegalArgumentException();
+        } else if (this.length % 2 == 1) {
+            final double[] x = new double[this.length];
+            final double[] y = new double[this.length];
+            for (int k = 0; k <= half; k++) {
+                x[k] = real[k];
+                y[k] = imaginary[k];
+                if (k > 0) {
+                    x[this.length - k] = real[k];
+                    y[this.length - k] = -imaginary[k];
+                }
+            }
+            this.transform(x, y, 1.);
+            for (int k = 0; k < this.length; k++) {
+                signal[k] = x[k] / this.length;
+            }
+        } else {
+            final double[] x = new double[half];
+            final double[] y = new double[half];
+            x[0] = (real[0] + real[half]) / 2.;
+            y[0] = (real[0] - real[half]) / 2.;
+            for (int k = 1, j = half - 1; k <= j; k++, j--) {
+                final double ar = real[k];
+                final double ai = imaginary[k];
+                final double br = real[j];
+                final double bi = imaginary[j];
+                final double evenReal = (ar + br) / 2.;
+                final double evenImaginary = (ai - bi) / 2.;
+                final double differenceReal = (ar - br) / 2.;
+                final double differenceImaginary = (ai + bi) / 2.;
+                final double wr = this.cosine[k];
+                final double wi = this.sine[k];
+                final double oddReal = differenceReal * wr - differenceImaginary * wi;
+                final double oddImaginary = differenceReal * wi + differenceImaginary * wr;
+                x[k] = evenReal - oddImaginary;
+                y[k] = evenImaginary + oddReal;
+                x[j] = evenReal + oddImaginary;
+                y[j] = oddReal - evenImaginary;
+            }
+            FourierPlan.of(half).transform(x, y, 1.);
+            for (int k = 0; k < half; k++) {
+                signal[2 * k] = x[k] / half;
+                signal[2 * k + 1] = y[k] / half;
+            }
+        }
+    }
+
+    /**
+     * The unscaled discrete Fourier transform of the first points of the arrays, computed in place.
+     * @param real the real parts of the points.
+     * @param imaginary the imaginary parts of the points.
+     * @param sign the sign of the exponent of the kernel, -1 for the forward transform.
+     */
+    void transform(final double[] real, final double[] imaginary, final double sign) {
+        final OperationEvent event = Metrics.begin(Operation.FOURIER_TRANSFORM, this.length);
+        final boolean parallel = this.length >= PARALLEL_THRESHOLD;
+        switch (this.algorithm) {
+            case RADIX_2:
+                this.radix2(real, imaginary, sign, parallel);
+                break;
+            case MIXED_RADIX:
+                this.mixedRadix(real, imaginary, sign, parallel);
+                break;
+            default:
+                this.bluestein(real, imaginary, sign);
+                break;
+        }
+        Metrics.end(event);
+    }
+
+    private void radix2(final double[] real, final double[] imaginary, final double sign, final boolean parallel) {
+        final int half = this.length / 2;
+        if (parallel) {
+            final ForkJoinPool pool = ForkJoinPool.commonPool();
+            pool.invoke(new Reversal(this, real, imaginary, 0, this.length));
+            for (int size = 2; size <= this.length; size <<= 1) {
+                pool.invoke(new Butterflies(this, real, imaginary, size, sign, 0, half));
+            }
+        } else {
+            this.reverse(real, imaginary, 0, this.length);
+            for (int size = 2; size <= this.length; size <<= 1) {
+                this.butterflies(real, imaginary, size, sign, 0, half);
+            }
+        }
+    }
+
+    /**
+     * Apply the bit-reversal permutation to the points whose index lies in a range.
+     */
+    private void reverse(final double[] real, final double[] imaginary, final int from, final int to) {
+        final int[] permutation = this.reversal;
+        for (int i = from; i < to; i++) {
+            final int j = permutation[i];
+            if (i < j) {
+                final double x = real[i];
+                real[i] = real[j];
+                real[j] = x;
+                final double y = imaginary[i];
+                imaginary[i] = imaginary[j];
+                imaginary[j] = y;
+            }
+        }
+    }
+
+    /**
+     * Apply the butterflies of a radix-2 stage whose index lies in a range.
+     * The stage combines pairs of transforms of half of the size into transforms of the size.
+     */
+    private void butterflies(final double[] real, final double[] imaginary, final int size,
+            final double sign, final int from, final int to) {
+        final int half = size >> 1;
+        final int shift = Integer.numberOfTrailingZeros(half);
+        final int step = this.length / size;
+        final double[] c = this.cosine;
+        final double[] s = this.sine;
+        for (int b = from; b < to; b++) {
+            final int j = b & (half - 1);
+            final int i = ((b >> shift) << (shift + 1)) + j;
+            final int l = i + half;
+            final double wr = c[j * step];
+            final double wi = sign * s[j * step];
+            final double xr = real[l];
+            final double xi = imaginary[l];
+            final double tr = wr * xr - wi * xi;
+            final double ti = wr * xi + wi * xr;
+            real[l] = real[i] - tr;
+            imaginary[l] = imaginary[i] - ti;
+            real[i] += tr;
+            imaginary[i] += ti;
+        }
+    }
+
+    private void mixedRadix(final double[] real, final double[] imaginary, final double sign, final boolean parallel) {
+        final double[] x = new double[this.length];
+        final double[] y = new double[this.length];
+        System.arraycopy(real, 0, x, 0, this.length);
+        System.arraycopy(imaginary, 0, y, 0, this.length);
+        if (parallel) {
+            ForkJoinPool.commonPool().invoke(new MixedRadix(this, x, y, 0, 1, real, imaginary, 0, this.length, 0, sign));
+        } else {
+            final int maximum = this.factors[this.factors.length - 1];
+            this.mixedRadix(x, y, 0, 1, real, imaginary, 0, this.length, 0, sign,
+                    new double[maximum], new double[maximum]);
+        }
+    }
+
+    /**
+     * The recursive decimation in time of the mixed-radix algorithm.
+     * The points of the input at the offset and the stride are transformed
+     * into the consecutive points of the output at the offset.
+     */
+    private void mixedRadix(final double[] inReal, final double[] inImaginary, final int inOffset, final int stride,
+            final double[] outReal, final double[] outImaginary, final int outOffset, final int size,
+            final int factor, final double sign, final double[] scratchReal, final double[] scratchImaginary) {
+        if (size == 1) {
+            outReal[outOffset] = inReal[inOffset];
+            outImaginary[outOffset] = inImaginary[inOffset];
+        } else {
+            final int radix = this.factors[factor];
+            final int m = size / radix;
+            for (int q = 0; q < radix; q++) {
+                this.mixedRadix(inReal, inImaginary, inOffset + q * stride, stride * radix,
+                        outReal, outImaginary, outOffset + q * m, m, factor + 1, sign, scratchReal, scratchImaginary);
+            }
+            this.combine(outReal, outImaginary, outOffset, size, radix, sign, 0, m, scratchReal, scratchImaginary);
+        }
+    }
+
+    /**
+     * Combine the transforms of a radix into a transform of the size,
+     * for the indices of the sub-transforms that lie in a range.
+     */
+    private void combine(final double[] real, final double[] imaginary, final int offset, final int size,
+            final int radix, final double sign, final int from, final int to,
+            final double[] scratchReal, final double[] scratchImaginary) {
+        final int m = size / radix;
+        final int step = this.length / size;
+        final int rotation = this.length / radix;
+        final double[] c = this.cosine;
+        final double[] s = this.sine;
+        for (int k = from; k < to; k++) {
+            for (int q = 0; q < radix; q++) {
+                final int index = offset + q * m + k;
+                final int w = q * k * step;
+                final double wr = c[w];
+                final double wi = sign * s[w];
+                final double xr = real[index];
+                final double xi = imaginary[index];
+                scratchReal[q] = wr * xr - wi * xi;
+                scratchImaginary[q] = wr * xi + wi * xr;
+            }
+            if (radix == 2) {
+                real[offset + k] = scratchReal[0] + scratchReal[1];
+                imaginary[offset + k] = scratchImaginary[0] + scratchImaginary[1];
+                real[offset + k + m] = scratchReal[0] - scratchReal[1];
+                imaginary[offset + k + m] = scratchImaginary[0] - scratchImaginary[1];
+            } else {
+                for (int t = 0; t < radix; t++) {
+                    double sumReal = scratchReal[0];
+                    double sumImaginary = scratchImaginary[0];
+                    int w = 0;
+                    for (int q = 1; q < radix; q++) {
+                        w += t;
+                        if (w >= radix) {
+                            w -= radix;
+                        }
+                        final double wr = c[w * rotation];
+                        final double wi = sign * s[w * rotation];
+                        sumReal += wr * scratchReal[q] - wi * scratchImaginary[q];
+                        sumImaginary += wr * scratchImaginary[q] + wi * scratchReal[q];
+                    }
+                    real[offset + k + t * m] = sumReal;
+                    imaginary[offset + k + t * m] = sumImaginary;
+                }
+            }
+        }
+    }
+
+    private void bluestein(final double[] real, final double[] imaginary, final double sign) {
+        final int size = this.convolution.length;
+        final double[] x = new double[size];
+        final double[] y = new double[size];
+        for (int k = 0; k < this.length; k++) {
+            final double ar = real[k];
+            final double ai = -sign * imaginary[k];
+            final double cr = this.chirpReal[k];
+            final double ci = this.chirpImaginary[k];
+            x[k] = ar * cr - ai * ci;
+            y[k] = ar * ci + ai * cr;
+        }
+        this.convolution.transform(x, y, -1.);
+        for (int k = 0; k < size; k++) {
+            final double ar = x[k];
+            final double ai = y[k];
+            final double br = this.kernelReal[k];
+            final double bi = this.kernelImaginary[k];
+            x[k] = ar * br - ai * bi;
+            y[k] = ar * bi + ai * br;
+        }
+        this.convolution.transform(x, y, 1.);
+        for (int k = 0; k < this.length; k++) {
+            final double ar = x[k];
+            final double ai = y[k];
+            final double cr = this.chirpReal[k];
+            final double ci = this.chirpImaginary[k];
+            real[k] = ar * cr - ai * ci;
+            imaginary[k] = -sign * (ar * ci + ai * cr);
+        }
+    }
+
+    /**
+     * Multiply the first points of the arrays by a factor.
+     */
+    static void scale(final double[] real, final double[] imaginary, final int length, final double factor) {
+        for (int k = 0; k < length; k++) {
+            real[k] *= factor;
+            imaginary[k] *= factor;
+        }
+    }
+
+    /**
+     * Factorise a length into the radices of the mixed-radix algorithm, the largest prime factor last.
+     */
+    private static int[] factorise(final int length) {
+        final List<Integer> radices = new ArrayList<>();
+        int n = length;
+        for (int p = 2; p * p <= n; p++) {
+            while (n % p == 0) {
+                radices.add(p);
+                n /= p;
+            }
+        }
+        if (n > 1 || radices.isEmpty()) {
+            radices.add(n);
+        }
+        final int[] factorisation = new int[radices.size()];
+        for (int k = 0; k < factorisation.length; k++) {
+            factorisation[k] = radices.get(k);
+        }
+        return factorisation;
+    }
+
+    /**
+     * A task of the bit-reversal permutation.
+     */
+    private static final class Reversal extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final FourierPlan plan;
+        private final double[] real;
+        private final double[] imaginary;
+        private final int from;
+        private final int to;
+
+        Reversal(final FourierPlan plan, final double[] real, final double[] imaginary, final int from, final int to) {
+            this.plan = plan;
+            this.real = real;
+            this.imaginary = imaginary;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= TASK_GRANULARITY) {
+                this.plan.reverse(this.real, this.imaginary, this.from, this.to);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Reversal(this.plan, this.real, this.imaginary, this.from, middle),
+                        new Reversal(this.plan, this.real, this.imaginary, middle, this.to));
+            }
+        }
+    }
+
+    /**
+     * A task of the butterflies of a radix-2 stage.
+     */
+    private static final class Butterflies extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final FourierPlan plan;
+        private final double[] real;
+        private final double[] imaginary;
+        private final int size;
+        private final double sign;
+        private final int from;
+        private final int to;
+
+        Butterflies(final FourierPlan plan, final double[] real, final double[] imaginary, final int size,
+                final double sign, final int from, final int to) {
+            this.plan = plan;
+            this.real = real;
+            this.imaginary = imaginary;
+            this.size = size;
+            this.sign = sign;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= TASK_GRANULARITY) {
+                this.plan.butterflies(this.real, this.imaginary, this.size, this.sign, this.from, this.to);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Butterflies(this.plan, this.real, this.imaginary, this.size, this.sign, this.from, middle),
+                        new Butterflies(this.plan, this.real, this.imaginary, this.size, this.sign, middle, this.to));
+            }
+        }
+    }
+
+    /**
+     * A task of the recursive decimation in time of the mixed-radix algorithm,
+     * which forks its sub-transforms and the combination while they are large.
+     */
+    private static final class MixedRadix extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final FourierPlan plan;
+        private final double[] inReal;
+        private final double[] inImaginary;
+        private final int inOffset;
+        private final int stride;
+        private final double[] outReal;
+        private final double[] outImaginary;
+        private final int outOffset;
+        private final int size;
+        private final int factor;
+        private final double sign;
+
+        MixedRadix(final FourierPlan plan, final double[] inReal, final double[] inImaginary, final int inOffset,
+                final int stride, final double[] outReal, final double[] outImaginary, final int outOffset,
+                final int size, final int factor, final double sign) {
+            this.plan = plan;
+            this.inReal = inReal;
+            this.inImaginary = inImaginary;
+            this.inOffset = inOffset;
+            this.stride = stride;
+            this.outReal = outReal;
+            this.outImaginary = outImaginary;
+            this.outOffset = outOffset;
+            this.size = size;
+            this.factor = factor;
+            this.sign = sign;
+        }
+
+        @Override
+        protected void compute() {
+            final int maximum = this.plan.factors[this.plan.factors.length - 1];
+            if (this.size <= TASK_GRANULARITY) {
+                this.plan.mixedRadix(this.inReal, this.inImaginary, this.inOffset, this.stride,
+                        this.outReal, this.outImaginary, this.outOffset, this.size, this.factor, this.sign,
+                        new double[maximum], new double[maximum]);
+            } else {
+                final int radix = this.plan.factors[this.factor];
+                final int m = this.size / radix;
+                final List<RecursiveAction> tasks = new ArrayList<>(radix);
+                for (int q = 0; q < radix; q++) {
+                    tasks.add(new MixedRadix(this.plan, this.inReal, this.inImaginary, this.inOffset + q * this.stride,
+                            this.stride * radix, this.outReal, this.outImaginary, this.outOffset + q * m, m,
+                            this.factor + 1, this.sign));
+                }
+                invokeAll(tasks);
+                invokeAll(new Combination(this.plan, this.outReal, this.outImaginary, this.outOffset, this.size,
+                        radix, this.sign, 0, m));
+            }
+        }
+    }
+
+    /**
+     * A task of the combination step of the mixed-radix algorithm.
+     */
+    private static final class Combination extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final FourierPlan plan;
+        private final double[] real;
+        private final double[] imaginary;
+        private final int offset;
+        private final int size;
+        private final int radix;
+        private final double sign;
+        private final int from;
+        private final int to;
+
+        Combination(final FourierPlan plan, final double[] real, final double[] imaginary, final int offset,
+                final int size, final int radix, final double sign, final int from, final int to) {
+            this.plan = plan;
+            this.real = real;
+            this.imaginary = imaginary;
+            this.offset = offset;
+            this.size = size;
+            this.radix = radix;
+            this.sign = sign;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if ((this.to - this.from) * this.radix <= TASK_GRANULARITY) {
+                this.plan.combine(this.real, this.imaginary, this.offset, this.size, this.radix, this.sign,
+                        this.from, this.to, new double[this.radix], new double[this.radix]);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Combination(this.plan, this.real, this.imaginary, this.offset, this.size, this.radix,
+                        this.sign, this.from, middle),
+                        new Combination(this.plan, this.real, this.imaginary, this.offset, this.size, this.radix,
+                        this.sign, middle, this.to));
+            }
+        }
+    }
+}
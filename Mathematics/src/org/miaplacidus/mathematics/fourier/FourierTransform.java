@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.fourier;
+
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.miaplacidus.mathematics.number.complex.ComplexArray;
+
+/**
+ * The discrete Fourier transform of complex and real sequences of any length.
+ * The transforms are computed on split real and imaginary arrays by the cached {@link FourierPlan} of their length.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class FourierTransform extends Object {
+    private static final Logger LOG = Logger.getLogger(FourierTransform.class.getName());
+
+    /**
+     * The forward discrete Fourier transform, computed in place.
+     * @param real the real parts of the points.
+     * @param imaginary the imaginary parts of the points.
+     * @throws IllegalArgumentException if the arrays are empty or do not have the same length.
+     */
+    public static void forward(final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        FourierPlan.of(real.length).forward(real, imaginary);
+    }
+
+    /**
+     * The inverse discrete Fourier transform, computed in place and scaled by 1 / n.
+     * @param real the real parts of the coefficients.
+     * @param imaginary the imaginary parts of the coefficients.
+     * @throws IllegalArgumentException if the arrays are empty or do not have the same length.
+     */
+    public static void inverse(final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        FourierPlan.of(real.length).inverse(real, imaginary);
+    }
+
+    /**
+     * The forward discrete Fourier transform, computed in place.
+     * @param numbers the complex points.
+     * @throws IllegalArgumentException if the array is empty.
+     */
+    public static void forward(final ComplexArray numbers) throws IllegalArgumentException {
+        forward(numbers.real(), numbers.imaginary());
+    }
+
+    /**
+     * The inverse discrete Fourier transform, computed in place and scaled by 1 / n.
+     * @param numbers the complex coefficients.
+     * @throws IllegalArgumentException if the array is empty.
+     */
+    public static void inverse(final ComplexArray numbers) throws IllegalArgumentException {
+        inverse(numbers.real(), numbers.imaginary());
+    }
+
+    /**
+     * The forward discrete Fourier transform.
+     * @param numbers the complex points.
+     * @return an array of the complex coefficients.
+     * @throws IllegalArgumentException if the array is empty.
+     */
+    public static Complex[] forward(final Complex[] numbers) throws IllegalArgumentException {
+        final ComplexArray coefficients = new ComplexArray(numbers);
+        forward(coefficients);
+        return coefficients.toArray();
+    }
+
+    /**
+     * The inverse discrete Fourier transform, scaled by 1 / n.
+     * @param numbers the complex coefficients.
+     * @return an array of the complex points.
+     * @throws IllegalArgumentException if the array is empty.
+     */
+    public static Complex[] inverse(final Complex[] numbers) throws IllegalArgumentException {
+        final ComplexArray points = new ComplexArray(numbers);
+        inverse(points);
+        return points.toArray();
+    }
+
+    /**
+     * The forward discrete Fourier transform of a real signal.
+     * @param signal the real signal.
+     * @return the n / 2 + 1 coefficients, the others are their complex conjugates.
+     * @throws IllegalArgumentException if the signal is empty.
+     */
+    public static ComplexArray realForward(final double[] signal) throws IllegalArgumentException {
+        final ComplexArray coefficients = new ComplexArray(signal.length / 2 + 1);
+        realForward(signal, coefficients.real(), coefficients.imaginary());
+        return coefficients;
+    }
+
+    /**
+     * The forward discrete Fourier transform of a real signal.
+     * @param signal the real signal.
+     * @param real the array that receives the real parts of the n / 2 + 1 coefficients.
+     * @param imaginary the array that receives the imaginary parts of the n / 2 + 1 coefficients.
+     * @throws IllegalArgumentException if the signal is empty or an array does not have the expected length.
+     */
+    public static void realForward(final double[] signal, final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        FourierPlan.of(signal.length).realForward(signal, real, imaginary);
+    }
+
+    /**
+     * The inverse discrete Fourier transform to a real signal, scaled by 1 / n.
+     * @param coefficients the n / 2 + 1 coefficients of the signal.
+     * @param length the length n of the signal.
+     * @return the real signal.
+     * @throws IllegalArgumentException if the length does not match the number of coefficients.
+     */
+    public static double[] realInverse(final ComplexArray coefficients, final int length) throws IllegalArgumentException {
+        final double[] signal = new double[length];
+        realInverse(coefficients.real(), coefficients.imaginary(), signal);
+        return signal;
+    }
+
+    /**
+     * The inverse discrete Fourier transform to a real signal, scaled by 1 / n.
+     * @param real the real parts of the n / 2 + 1 coefficients.
+     * @param imaginary the imaginary parts of the n / 2 + 1 coefficients.
+     * @param signal the array that receives the real signal.
+     * @throws IllegalArgumentException if the signal is empty or an array does not have the expected length.
+     */
+    public static void realInverse(final double[] real, final double[] imaginary, final double[] signal) throws IllegalArgumentException {
+        FourierPlan.of(signal.length).realInverse(real, imaginary, signal);
+    }
+
+    private FourierTransform() {
+        throw new AssertionError();
+    }
+}
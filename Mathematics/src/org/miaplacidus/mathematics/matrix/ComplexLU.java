@@ -0,0 +1,373 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.matrix;
+
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.miaplacidus.mathematics.number.complex.ComplexAccumulator;
+import org.miaplacidus.mathematics.number.complex.ComplexArray;
+
+/**
+ * The LU decomposition with partial pivoting of a square complex matrix, P A = L U,
+ * with a unit lower triangular L and an upper triangular U, packed in one matrix.
+ * At every step the row of the largest pivot is interchanged, the pivots being compared by |re| + |im| as in LAPACK,
+ * which neither overflows nor underflows where the squared modulus would; the matrix is singular only if a pivot is 0 + 0i.
+ * The trailing rows are updated in parallel over blocks of rows while they are at least {@link #PARALLEL_THRESHOLD}.
+ * A decomposition is immutable and may be shared between threads.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ComplexLU extends Object {
+    /**
+     * The number of trailing rows from which the updates of a step run in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * The number of rows of a parallel task.
+     */
+    private static final int BLOCK = 32;
+
+    private static final Logger LOG = Logger.getLogger(ComplexLU.class.getName());
+
+    /**
+     * The number of rows and columns.
+     */
+    private final int size;
+
+    /**
+     * The real parts of L below the diagonal and of U on and above it, in the order of the rows.
+     */
+    private final double[] real;
+
+    /**
+     * The imaginary parts of L below the diagonal and of U on and above it, in the order of the rows.
+     */
+    private final double[] imaginary;
+
+    /**
+     * The row that was interchanged with the row of every step.
+     */
+    private final int[] pivots;
+
+    /**
+     * Whether the number of interchanges is odd.
+     */
+    private final boolean odd;
+
+    /**
+     * Whether a pivot vanished.
+     */
+    private final boolean singular;
+
+    /**
+     * Decompose a square matrix, which is not modified.
+     * @param matrix the square matrix.
+     * @throws IllegalArgumentException if the matrix is not square.
+     */
+    ComplexLU(final ComplexMatrix matrix) throws IllegalArgumentException {
+        if (matrix.rows() != matrix.columns()) {
+            throw new IllegalArgumentException();
+        } else {
+            final int n = matrix.rows();
+            final double[] a = matrix.real().clone();
+            final double[] b = matrix.imaginary().clone();
+            final int[] pivots = new int[n];
+            boolean odd = false;
+            boolean singular = false;
+            for (int j = 0; j < n; j++) {
+                int pivot = j;
+                double largest = Math.abs(a[j * n + j]) + Math.abs(b[j * n + j]);
+                for (int i = j + 1; i < n; i++) {
+                    final double magnitude = Math.abs(a[i * n + j]) + Math.abs(b[i * n + j]);
+                    if (magnitude > largest) {
+                        largest = magnitude;
+                        pivot = i;
+                    }
+                }
+                pivots[j] = pivot;
+                if (pivot != j) {
+                    swap(a, b, n, j, pivot);
+                    odd = !odd;
+                }
+                if (largest == 0) {
+                    singular = true;
+                } else {
+                    final ComplexAccumulator inverse = new ComplexAccumulator(1., 0.).divideBy(a[j * n + j], b[j * n + j]);
+                    final double inverseReal = inverse.real();
+                    final double inverseImaginary = inverse.imaginary();
+                    final int step = j;
+                    if (n - j - 1 >= PARALLEL_THRESHOLD) {
+                        IntStream.range(0, (n - j - 1 + BLOCK - 1) / BLOCK).parallel().forEach(block -> eliminate(a, b, n, step,
+                                inverseReal, inverseImaginary, step + 1 + block * BLOCK, Math.min(n, step + 1 + block * BLOCK + BLOCK)));
+                    } else {
+                        eliminate(a, b, n, j, inverseReal, inverseImaginary, j + 1, n);
+                    }
+                }
+            }
+            this.size = n;
+            this.real = a;
+            this.imaginary = b;
+            this.pivots = pivots;
+            this.odd = odd;
+            this.singular = singular;
+        }
+    }
+
+    /**
+     * Interchange two rows.
+     * @param real the real parts of the matrix.
+     * @param imaginary the imaginary parts of the matrix.
+     * @param columns the number of columns.
+     * @param i the first row.
+     * @param j the second row.
+     */
+    private static void swap(final double[] real, final double[] imaginary, final int columns, final int i, final int j) {
+        for (int k = 0; k < columns; k++) {
+            final double r = real[i * columns + k];
+            real[i * columns + k] = real[j * columns + k];
+            real[j * columns + k] = r;
+            final double s = imaginary[i * columns + k];
+            imaginary[i * columns + k] = imaginary[j * columns + k];
+            imaginary[j * columns + k] = s;
+        }
+    }
+
+    /**
+     * Eliminate the column of a step from a range of rows below it, which receive their multipliers in that column.
+     * @param a the real parts of the matrix.
+     * @param b the imaginary parts of the matrix.
+     * @param n the number of rows and columns.
+     * @param j the step.
+     * @param inverseReal the real part of the inverse of the pivot.
+     * @param inverseImaginary the imaginary part of the inverse of the pivot.
+     * @param from the first row.
+     * @param to the row after the last row.
+     */
+    private static void eliminate(final double[] a, final double[] b, final int n, final int j, final double inverseReal,
+            final double inverseImaginary, final int from, final int to) {
+        final int pivotRow = j * n;
+        for (int i = from; i < to; i++) {
+            final int row = i * n;
+            final double x = a[row + j];
+            final double y = b[row + j];
+            final double lr = x * inverseReal - y * inverseImaginary;
+            final double li = x * inverseImaginary + inverseReal * y;
+            a[row + j] = lr;
+            b[row + j] = li;
+            if (lr != 0 || li != 0) {
+                for (int k = j + 1; k < n; k++) {
+                    final double ur = a[pivotRow + k];
+                    final double ui = b[pivotRow + k];
+                    a[row + k] -= lr * ur - li * ui;
+                    b[row + k] -= lr * ui + ur * li;
+                }
+            }
+        }
+    }
+
+    /**
+     * The number of rows and columns of the decomposed matrix.
+     * @return the size of the matrix.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Verify if the decomposed matrix is singular.
+     * @return true if a pivot vanished, false otherwise.
+     */
+    public boolean singular() {
+        return this.singular;
+    }
+
+    /**
+     * The interchanges of rows, in the order of the steps.
+     * @return an array whose element j is the row that was interchanged with the row j at the step j.
+     */
+    public int[] pivots() {
+        return this.pivots.clone();
+    }
+
+    /**
+     * The unit lower triangular factor.
+     * @return the matrix L.
+     */
+    public ComplexMatrix lower() {
+        final int n = this.size;
+        final ComplexMatrix lower = ComplexMatrix.identity(n);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.real, i * n, lower.real(), i * n, i);
+            System.arraycopy(this.imaginary, i * n, lower.imaginary(), i * n, i);
+        }
+        return lower;
+    }
+
+    /**
+     * The upper triangular factor.
+     * @return the matrix U.
+     */
+    public ComplexMatrix upper() {
+        final int n = this.size;
+        final ComplexMatrix upper = new ComplexMatrix(n, n);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.real, i * n + i, upper.real(), i * n + i, n - i);
+            System.arraycopy(this.imaginary, i * n + i, upper.imaginary(), i * n + i, n - i);
+        }
+        return upper;
+    }
+
+    /**
+     * The determinant of the decomposed matrix, the signed product of the diagonal of U.
+     * The product is rescaled by powers of two as it runs, so that it overflows or underflows only in its result:
+     * the determinant of a large matrix is often beyond the range of a double, whose logarithm
+     * {@link #logDeterminant()} then gives.
+     * @return the determinant, zero for a singular matrix,
+     * and infinite parts with the sign of the determinant beyond the range of a double.
+     */
+    public Complex determinant() {
+        final ComplexAccumulator determinant = new ComplexAccumulator(this.odd ? -1. : 1., 0.);
+        long exponent = 0;
+        for (int i = 0; i < this.size; i++) {
+            determinant.multiplyBy(this.real[i * this.size + i], this.imaginary[i * this.size + i]);
+            final double largest = Math.max(Math.abs(determinant.real()), Math.abs(determinant.imaginary()));
+            if (largest != 0. && !Double.isInfinite(largest)) {
+                final int scale = Math.getExponent(largest);
+                determinant.set(Math.scalb(determinant.real(), -scale), Math.scalb(determinant.imaginary(), -scale));
+                exponent += scale;
+            }
+        }
+        final int scale = (int) Math.max(-2 * Double.MAX_EXPONENT, Math.min(2 * Double.MAX_EXPONENT, exponent));
+        return new Complex(Math.scalb(determinant.real(), scale), Math.scalb(determinant.imaginary(), scale));
+    }
+
+    /**
+     * The principal logarithm of the determinant of the decomposed matrix, the sum of the logarithms of the diagonal of U,
+     * which neither overflows nor underflows.
+     * @return the logarithm of the modulus of the determinant plus i times its argument in (-pi, pi],
+     * with a negative infinite real part for a singular matrix.
+     */
+    public Complex logDeterminant() {
+        double logarithm = 0.;
+        double argument = this.odd ? Math.PI : 0.;
+        for (int i = 0; i < this.size; i++) {
+            final double re = this.real[i * this.size + i];
+            final double im = this.imaginary[i * this.size + i];
+            logarithm += Math.log(Math.hypot(re, im));
+            argument += Math.atan2(im, re);
+        }
+        argument = Math.IEEEremainder(argument, 2 * Math.PI);
+        return new Complex(logarithm, argument == -Math.PI ? Math.PI : argument);
+    }
+
+    /**
+     * Solve the linear systems of the decomposed matrix for the columns of a matrix,
+     * by substitutions over whole rows of the right-hand sides.
+     * @param b the matrix of the right-hand sides, which is not modified.
+     * @return the matrix x of the solutions of A x = b.
+     * @throws IllegalArgumentException if the decomposed matrix is singular
+     * or the right-hand sides do not have as many rows as the matrix.
+     */
+    public ComplexMatrix solve(final ComplexMatrix b) throws IllegalArgumentException {
+        if (this.singular || b.rows() != this.size) {
+            throw new IllegalArgumentException();
+        } else {
+            final int n = this.size;
+            final int m = b.columns();
+            final double[] xr = b.real().clone();
+            final double[] xi = b.imaginary().clone();
+            for (int j = 0; j < n; j++) {
+                if (this.pivots[j] != j) {
+                    swap(xr, xi, m, j, this.pivots[j]);
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                for (int k = 0; k < i; k++) {
+                    subtract(xr, xi, m, i, k, this.real[i * n + k], this.imaginary[i * n + k]);
+                }
+            }
+            final ComplexAccumulator inverse = new ComplexAccumulator();
+            for (int i = n - 1; i >= 0; i--) {
+                for (int k = i + 1; k < n; k++) {
+                    subtract(xr, xi, m, i, k, this.real[i * n + k], this.imaginary[i * n + k]);
+                }
+                inverse.set(1., 0.).divideBy(this.real[i * n + i], this.imaginary[i * n + i]);
+                final double c = inverse.real();
+                final double d = inverse.imaginary();
+                for (int l = i * m; l < i * m + m; l++) {
+                    final double r = xr[l] * c - xi[l] * d;
+                    xi[l] = xr[l] * d + c * xi[l];
+                    xr[l] = r;
+                }
+            }
+            return new ComplexMatrix(n, m, xr, xi);
+        }
+    }
+
+    /**
+     * Subtract a multiple of a row from another.
+     * @param real the real parts of the matrix.
+     * @param imaginary the imaginary parts of the matrix.
+     * @param columns the number of columns.
+     * @param i the row that is updated.
+     * @param k the row that is subtracted.
+     * @param factorReal the real part of the multiple.
+     * @param factorImaginary the imaginary part of the multiple.
+     */
+    private static void subtract(final double[] real, final double[] imaginary, final int columns, final int i, final int k,
+            final double factorReal, final double factorImaginary) {
+        if (factorReal != 0 || factorImaginary != 0) {
+            final int row = i * columns;
+            final int other = k * columns;
+            for (int l = 0; l < columns; l++) {
+                final double xr = real[other + l];
+                final double xi = imaginary[other + l];
+                real[row + l] -= factorReal * xr - factorImaginary * xi;
+                imaginary[row + l] -= factorReal * xi + xr * factorImaginary;
+            }
+        }
+    }
+
+    /**
+     * Solve the linear system of the decomposed matrix for a vector.
+     * @param b the right-hand side, which is not modified.
+     * @return the solution x of A x = b.
+     * @throws IllegalArgumentException if the decomposed matrix is singular
+     * or the right-hand side does not have as many elements as the matrix has rows.
+     */
+    public ComplexArray solve(final ComplexArray b) throws IllegalArgumentException {
+        final ComplexMatrix x = this.solve(new ComplexMatrix(b.length(), 1, b.real(), b.imaginary()));
+        return new ComplexArray(x.real(), x.imaginary());
+    }
+
+    /**
+     * The inverse of the decomposed matrix.
+     * @return the inverse.
+     * @throws IllegalArgumentException if the decomposed matrix is singular.
+     */
+    public ComplexMatrix inverse() throws IllegalArgumentException {
+        return this.solve(ComplexMatrix.identity(this.size));
+    }
+}
@@ -0,0 +1,607 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.matrix;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.Arithmetic;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.miaplacidus.mathematics.number.complex.ComplexArray;
+import org.miaplacidus.mathematics.number.complex.ComplexKernel;
+
+/**
+ * A dense matrix of complex numbers stored as two arrays of real parts and imaginary parts in the order of the rows.
+ * The element-wise operations mirror those of {@link ComplexArray}: they have a form that allocates the result
+ * and a form that writes into a provided destination.
+ * The product is computed by blocks of the depth, the rows and the columns, so that a block of the multiplicand
+ * is reused from the cache by every row of a block of the multiplier; the inner loops add contiguous rows
+ * of the split arrays through {@link ComplexKernel#scaleAccumulate}, which uses the vector kernel where it is
+ * available, and large products are split into blocks of rows and columns between the workers of
+ * the common fork join pool.
+ * The solutions, the determinant and the inverse are computed by the {@link ComplexLU} decomposition.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ComplexMatrix extends Object implements Serializable, Arithmetic<ComplexMatrix> {
+    /**
+     * The serial version UID of complex matrices.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of complex multiply-adds from which products run on the common fork join pool.
+     */
+    public static final long PARALLEL_THRESHOLD = 1L << 18;
+
+    /**
+     * The numbers of rows, columns and terms of the blocks of products.
+     */
+    private static final int ROW_BLOCK = 32;
+    private static final int COLUMN_BLOCK = 512;
+    private static final int DEPTH_BLOCK = 128;
+
+    /**
+     * The number of rows and columns of the blocks of transpositions.
+     */
+    private static final int TRANSPOSE_BLOCK = 32;
+
+    private static final Logger LOG = Logger.getLogger(ComplexMatrix.class.getName());
+
+    /**
+     * Construct an identity matrix.
+     * @param size the number of rows and columns.
+     * @return the identity matrix of the size.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    public static ComplexMatrix identity(final int size) throws IllegalArgumentException {
+        final ComplexMatrix identity = new ComplexMatrix(size, size);
+        for (int k = 0; k < size; k++) {
+            identity.real[k * size + k] = 1.;
+        }
+        return identity;
+    }
+
+    /**
+     * The number of rows.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns.
+     */
+    private final int columns;
+
+    /**
+     * The real parts of the elements, in the order of the rows.
+     */
+    private final double[] real;
+
+    /**
+     * The imaginary parts of the elements, in the order of the rows.
+     */
+    private final double[] imaginary;
+
+    /**
+     * Construct a matrix of complex numbers that are all zero.
+     * @param rows the number of rows.
+     * @param columns the number of columns.
+     * @throws IllegalArgumentException if a dimension is negative.
+     */
+    public ComplexMatrix(final int rows, final int columns) throws IllegalArgumentException {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException();
+        } else {
+            this.rows = rows;
+            this.columns = columns;
+            this.real = new double[Math.multiplyExact(rows, columns)];
+            this.imaginary = new double[this.real.length];
+        }
+    }
+
+    /**
+     * Construct a matrix of complex numbers backed by the provided arrays, which are not copied.
+     * @param rows the number of rows.
+     * @param columns the number of columns.
+     * @param real the real parts of the elements, in the order of the rows.
+     * @param imaginary the imaginary parts of the elements, in the order of the rows.
+     * @throws IllegalArgumentException if a dimension is negative or an array does not have rows columns elements.
+     */
+    public ComplexMatrix(final int rows, final int columns, final double[] real, final double[] imaginary)
+            throws IllegalArgumentException {
+        if (rows < 0 || columns < 0 || real.length != (long) rows * columns || imaginary.length != real.length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.rows = rows;
+            this.columns = columns;
+            this.real = real;
+            this.imaginary = imaginary;
+        }
+    }
+
+    /**
+     * Construct a matrix from the provided rows of complex numbers.
+     * @param numbers the rows of the matrix, which all have the same length.
+     * @throws IllegalArgumentException if the rows do not have the same length.
+     */
+    public ComplexMatrix(final Complex[][] numbers) throws IllegalArgumentException {
+        this(numbers.length, numbers.length == 0 ? 0 : numbers[0].length);
+        for (int i = 0; i < this.rows; i++) {
+            if (numbers[i].length != this.columns) {
+                throw new IllegalArgumentException();
+            } else {
+                for (int j = 0; j < this.columns; j++) {
+                    this.real[i * this.columns + j] = numbers[i][j].real();
+                    this.imaginary[i * this.columns + j] = numbers[i][j].imaginary();
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for equality with another object.
+     * @param object Object that is tested to.
+     * @return true if the objects are equal;
+     * false if object is null, not an instance of ComplexMatrix or not equal to this.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        } else if (object == null) {
+            return false;
+        } else if (this.getClass() != object.getClass()) {
+            return false;
+        } else {
+            final ComplexMatrix other = (ComplexMatrix) object;
+            return this.rows == other.rows && this.columns == other.columns
+                    && Arrays.equals(this.real, other.real) && Arrays.equals(this.imaginary, other.imaginary);
+        }
+    }
+
+    /**
+     * Receive the hash code for the matrix of complex numbers.
+     * @return a hash code for this.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 3;
+        hash = 53 * hash + this.rows;
+        hash = 53 * hash + this.columns;
+        hash = 53 * hash + Arrays.hashCode(this.real);
+        hash = 53 * hash + Arrays.hashCode(this.imaginary);
+        return hash;
+    }
+
+    /**
+     * Serialise this matrix of complex numbers.
+     * @return a string that represents the rows of the matrix.
+     */
+    @Override
+    public String toString() {
+        return Arrays.deepToString(this.toArray());
+    }
+
+    /**
+     * The number of rows.
+     * @return the number of rows of this matrix.
+     */
+    public int rows() {
+        return this.rows;
+    }
+
+    /**
+     * The number of columns.
+     * @return the number of columns of this matrix.
+     */
+    public int columns() {
+        return this.columns;
+    }
+
+    /**
+     * The real parts of this matrix, which are not copied.
+     * @return the array that backs the real parts of this matrix, in the order of the rows.
+     */
+    public double[] real() {
+        return this.real;
+    }
+
+    /**
+     * The imaginary parts of this matrix, which are not copied.
+     * @return the array that backs the imaginary parts of this matrix, in the order of the rows.
+     */
+    public double[] imaginary() {
+        return this.imaginary;
+    }
+
+    /**
+     * The element of a row and a column.
+     * @param row the index of the row.
+     * @param column the index of the column.
+     * @return the complex number of the element.
+     * @throws IllegalArgumentException if an index is out of the matrix.
+     */
+    public Complex get(final int row, final int column) throws IllegalArgumentException {
+        final int index = this.index(row, column);
+        return new Complex(this.real[index], this.imaginary[index]);
+    }
+
+    /**
+     * Replace the element of a row and a column.
+     * @param row the index of the row.
+     * @param column the index of the column.
+     * @param number the new complex number.
+     * @throws IllegalArgumentException if an index is out of the matrix.
+     */
+    public void set(final int row, final int column, final Complex number) throws IllegalArgumentException {
+        this.set(row, column, number.real(), number.imaginary());
+    }
+
+    /**
+     * Replace the element of a row and a column.
+     * @param row the index of the row.
+     * @param column the index of the column.
+     * @param real the real part of the new complex number.
+     * @param imaginary the imaginary part of the new complex number.
+     * @throws IllegalArgumentException if an index is out of the matrix.
+     */
+    public void set(final int row, final int column, final double real, final double imaginary) throws IllegalArgumentException {
+        final int index = this.index(row, column);
+        this.real[index] = real;
+        this.imaginary[index] = imaginary;
+    }
+
+    /**
+     * The index of an element in the arrays of this matrix.
+     * @param row the index of the row.
+     * @param column the index of the column.
+     * @return the index of the element.
+     * @throws IllegalArgumentException if an index is out of the matrix.
+     */
+    private int index(final int row, final int column) throws IllegalArgumentException {
+        if (row < 0 || row >= this.rows || column < 0 || column >= this.columns) {
+            throw new IllegalArgumentException();
+        } else {
+            return row * this.columns + column;
+        }
+    }
+
+    /**
+     * Copy this matrix.
+     * @return a matrix with copies of the arrays of this matrix.
+     */
+    public ComplexMatrix copy() {
+        return new ComplexMatrix(this.rows, this.columns, this.real.clone(), this.imaginary.clone());
+    }
+
+    /**
+     * Convert this matrix to rows of complex numbers.
+     * @return the rows of the matrix.
+     */
+    public Complex[][] toArray() {
+        final Complex[][] numbers = new Complex[this.rows][this.columns];
+        for (int i = 0; i < this.rows; i++) {
+            for (int j = 0; j < this.columns; j++) {
+                numbers[i][j] = new Complex(this.real[i * this.columns + j], this.imaginary[i * this.columns + j]);
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Verify that a matrix has the dimensions of this matrix.
+     * @param matrix the matrix.
+     * @throws IllegalArgumentException if the dimensions differ.
+     */
+    private void checkDimensions(final ComplexMatrix matrix) throws IllegalArgumentException {
+        if (matrix.rows != this.rows || matrix.columns != this.columns) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * The element-wise addition of matrices.
+     * @param addend the matrix that is added to this augend.
+     * @return the sum of the matrices.
+     * @throws IllegalArgumentException if the addend does not have the dimensions of this matrix.
+     */
+    @Override
+    public ComplexMatrix add(final ComplexMatrix addend) throws IllegalArgumentException {
+        return this.add(addend, new ComplexMatrix(this.rows, this.columns));
+    }
+
+    /**
+     * The element-wise addition of matrices.
+     * @param addend the matrix that is added to this augend.
+     * @param destination the matrix that receives the sum.
+     * @return the destination.
+     * @throws IllegalArgumentException if the matrices do not have the dimensions of this matrix.
+     */
+    public ComplexMatrix add(final ComplexMatrix addend, final ComplexMatrix destination) throws IllegalArgumentException {
+        this.checkDimensions(addend);
+        this.checkDimensions(destination);
+        for (int k = 0; k < this.real.length; k++) {
+            destination.real[k] = this.real[k] + addend.real[k];
+            destination.imaginary[k] = this.imaginary[k] + addend.imaginary[k];
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise subtraction of matrices.
+     * @param subtrahend the matrix that is subtracted from this minuend.
+     * @return the difference of the matrices.
+     * @throws IllegalArgumentException if the subtrahend does not have the dimensions of this matrix.
+     */
+    @Override
+    public ComplexMatrix subtract(final ComplexMatrix subtrahend) throws IllegalArgumentException {
+        return this.subtract(subtrahend, new ComplexMatrix(this.rows, this.columns));
+    }
+
+    /**
+     * The element-wise subtraction of matrices.
+     * @param subtrahend the matrix that is subtracted from this minuend.
+     * @param destination the matrix that receives the difference.
+     * @return the destination.
+     * @throws IllegalArgumentException if the matrices do not have the dimensions of this matrix.
+     */
+    public ComplexMatrix subtract(final ComplexMatrix subtrahend, final ComplexMatrix destination) throws IllegalArgumentException {
+        this.checkDimensions(subtrahend);
+        this.checkDimensions(destination);
+        for (int k = 0; k < this.real.length; k++) {
+            destination.real[k] = this.real[k] - subtrahend.real[k];
+            destination.imaginary[k] = this.imaginary[k] - subtrahend.imaginary[k];
+        }
+        return destination;
+    }
+
+    /**
+     * The multiplication of every element by a complex number.
+     * @param multiplicand the complex number that is multiplied to this matrix.
+     * @return the product of the matrix and the number.
+     */
+    public ComplexMatrix multiply(final Complex multiplicand) {
+        final ComplexMatrix product = new ComplexMatrix(this.rows, this.columns);
+        final double c = multiplicand.real();
+        final double d = multiplicand.imaginary();
+        for (int k = 0; k < this.real.length; k++) {
+            final double a = this.real[k];
+            final double b = this.imaginary[k];
+            product.real[k] = a * c - b * d;
+            product.imaginary[k] = a * d + c * b;
+        }
+        return product;
+    }
+
+    /**
+     * The product of matrices.
+     * @param multiplicand the matrix that is multiplied to this multiplier, whose rows are the columns of this matrix.
+     * @return the product of the matrices.
+     * @throws IllegalArgumentException if the multiplicand does not have as many rows as this matrix has columns.
+     */
+    @Override
+    public ComplexMatrix multiply(final ComplexMatrix multiplicand) throws IllegalArgumentException {
+        return this.multiply(multiplicand, new ComplexMatrix(this.rows, multiplicand.columns));
+    }
+
+    /**
+     * The product of matrices, by blocks and in parallel over blocks of rows and columns for large products.
+     * @param multiplicand the matrix that is multiplied to this multiplier, whose rows are the columns of this matrix.
+     * @param destination the matrix that receives the product, which is neither of the factors.
+     * @return the destination.
+     * @throws IllegalArgumentException if the dimensions do not match or the destination is a factor.
+     */
+    public ComplexMatrix multiply(final ComplexMatrix multiplicand, final ComplexMatrix destination) throws IllegalArgumentException {
+        if (multiplicand.rows != this.columns || destination.rows != this.rows || destination.columns != multiplicand.columns
+                || destination == this || destination == multiplicand) {
+            throw new IllegalArgumentException();
+        } else {
+            Arrays.fill(destination.real, 0.);
+            Arrays.fill(destination.imaginary, 0.);
+            if ((long) this.rows * this.columns * multiplicand.columns >= PARALLEL_THRESHOLD) {
+                ForkJoinPool.commonPool().invoke(new Product(this, multiplicand, destination, 0, this.rows, 0, multiplicand.columns));
+            } else {
+                multiply(this, multiplicand, destination, 0, this.rows, 0, multiplicand.columns);
+            }
+            return destination;
+        }
+    }
+
+    /**
+     * Accumulate a block of rows and columns of a product, by blocks of its terms; every term adds a row
+     * of the multiplicand times an element of the multiplier to a row of the product through the complex kernel.
+     * @param a the multiplier.
+     * @param b the multiplicand.
+     * @param c the product, which receives the accumulated terms.
+     * @param rowFrom the first row of the block.
+     * @param rowTo the row after the last row of the block.
+     * @param columnFrom the first column of the block.
+     * @param columnTo the column after the last column of the block.
+     */
+    private static void multiply(final ComplexMatrix a, final ComplexMatrix b, final ComplexMatrix c,
+            final int rowFrom, final int rowTo, final int columnFrom, final int columnTo) {
+        final ComplexKernel kernel = ComplexKernel.of();
+        final double[] ar = a.real;
+        final double[] ai = a.imaginary;
+        final int depth = a.columns;
+        final int width = b.columns;
+        final int length = columnTo - columnFrom;
+        for (int from = 0; from < depth; from += DEPTH_BLOCK) {
+            final int to = Math.min(depth, from + DEPTH_BLOCK);
+            for (int i = rowFrom; i < rowTo; i++) {
+                final int row = i * depth;
+                final int offset = i * width + columnFrom;
+                for (int k = from; k < to; k++) {
+                    kernel.scaleAccumulate(ar[row + k], ai[row + k], b.real, b.imaginary, k * width + columnFrom,
+                            c.real, c.imaginary, offset, length);
+                }
+            }
+        }
+    }
+
+    /**
+     * The quotient of matrices, this matrix times the inverse of the divisor, solved from the transposed systems.
+     * @param divisor the square matrix whose inverse is multiplied to this matrix.
+     * @return the quotient of the matrices.
+     * @throws IllegalArgumentException if the divisor is not square, does not have as many rows as this matrix has columns,
+     * or is singular.
+     */
+    @Override
+    public ComplexMatrix divide(final ComplexMatrix divisor) throws IllegalArgumentException {
+        if (divisor.rows != divisor.columns || divisor.rows != this.columns) {
+            throw new IllegalArgumentException();
+        } else {
+            return divisor.transpose().lu().solve(this.transpose()).transpose();
+        }
+    }
+
+    /**
+     * The transpose of this matrix.
+     * @return the matrix whose rows are the columns of this matrix.
+     */
+    public ComplexMatrix transpose() {
+        return this.transpose(false);
+    }
+
+    /**
+     * The conjugate transpose of this matrix, its Hermitian adjoint.
+     * @return the matrix whose rows are the conjugates of the columns of this matrix.
+     */
+    public ComplexMatrix conjugateTranspose() {
+        return this.transpose(true);
+    }
+
+    /**
+     * Transpose this matrix by square blocks, which are read by rows and written by columns within the cache.
+     * @param conjugate whether the elements are conjugated.
+     * @return the transposed matrix.
+     */
+    private ComplexMatrix transpose(final boolean conjugate) {
+        final ComplexMatrix transpose = new ComplexMatrix(this.columns, this.rows);
+        final double sign = conjugate ? -1. : 1.;
+        for (int rowFrom = 0; rowFrom < this.rows; rowFrom += TRANSPOSE_BLOCK) {
+            final int rowTo = Math.min(this.rows, rowFrom + TRANSPOSE_BLOCK);
+            for (int columnFrom = 0; columnFrom < this.columns; columnFrom += TRANSPOSE_BLOCK) {
+                final int columnTo = Math.min(this.columns, columnFrom + TRANSPOSE_BLOCK);
+                for (int i = rowFrom; i < rowTo; i++) {
+                    for (int j = columnFrom; j < columnTo; j++) {
+                        transpose.real[j * this.rows + i] = this.real[i * this.columns + j];
+                        transpose.imaginary[j * this.rows + i] = sign * this.imaginary[i * this.columns + j];
+                    }
+                }
+            }
+        }
+        return transpose;
+    }
+
+    /**
+     * The LU decomposition of this square matrix with partial pivoting.
+     * @return the decomposition.
+     * @throws IllegalArgumentException if this matrix is not square.
+     */
+    public ComplexLU lu() throws IllegalArgumentException {
+        return new ComplexLU(this);
+    }
+
+    /**
+     * Solve the linear systems of this square matrix for the columns of a matrix.
+     * @param b the matrix of the right-hand sides.
+     * @return the matrix x of the solutions of A x = b.
+     * @throws IllegalArgumentException if this matrix is not square or singular,
+     * or the right-hand sides do not have as many rows as this matrix.
+     */
+    public ComplexMatrix solve(final ComplexMatrix b) throws IllegalArgumentException {
+        return this.lu().solve(b);
+    }
+
+    /**
+     * Solve the linear system of this square matrix for a vector.
+     * @param b the right-hand side.
+     * @return the solution x of A x = b.
+     * @throws IllegalArgumentException if this matrix is not square or singular,
+     * or the right-hand side does not have as many elements as this matrix has rows.
+     */
+    public ComplexArray solve(final ComplexArray b) throws IllegalArgumentException {
+        return this.lu().solve(b);
+    }
+
+    /**
+     * The determinant of this square matrix.
+     * @return the determinant, zero for a singular matrix.
+     * @throws IllegalArgumentException if this matrix is not square.
+     */
+    public Complex determinant() throws IllegalArgumentException {
+        return this.lu().determinant();
+    }
+
+    /**
+     * The inverse of this square matrix.
+     * @return the inverse.
+     * @throws IllegalArgumentException if this matrix is not square or singular.
+     */
+    public ComplexMatrix inverse() throws IllegalArgumentException {
+        return this.lu().inverse();
+    }
+
+    /**
+     * A task of a block of rows and columns of a product, which forks its halves while they are larger than a block.
+     */
+    private static final class Product extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final ComplexMatrix a;
+        private final ComplexMatrix b;
+        private final ComplexMatrix c;
+        private final int rowFrom;
+        private final int rowTo;
+        private final int columnFrom;
+        private final int columnTo;
+
+        Product(final ComplexMatrix a, final ComplexMatrix b, final ComplexMatrix c, final int rowFrom, final int rowTo,
+                final int columnFrom, final int columnTo) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+            this.columnFrom = columnFrom;
+            this.columnTo = columnTo;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.rowTo - this.rowFrom > ROW_BLOCK) {
+                final int middle = (this.rowFrom + this.rowTo) >>> 1;
+                invokeAll(new Product(this.a, this.b, this.c, this.rowFrom, middle, this.columnFrom, this.columnTo),
+                        new Product(this.a, this.b, this.c, middle, this.rowTo, this.columnFrom, this.columnTo));
+            } else if (this.columnTo - this.columnFrom > COLUMN_BLOCK) {
+                final int middle = (this.columnFrom + this.columnTo) >>> 1;
+                invokeAll(new Product(this.a, this.b, this.c, this.rowFrom, this.rowTo, this.columnFrom, middle),
+                        new Product(this.a, this.b, this.c, this.rowFrom, this.rowTo, middle, this.columnTo));
+            } else {
+                multiply(this.a, this.b, this.c, this.rowFrom, this.rowTo, this.columnFrom, this.columnTo);
+            }
+        }
+    }
+}
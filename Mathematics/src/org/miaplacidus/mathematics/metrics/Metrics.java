@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The opt-in instrumentation of the expensive operations of the library.
+ * The instrumentation is enabled when the process starts with the system property {@value #PROPERTY} set to true;
+ * the flag {@link #ENABLED} is then a constant for the compiler, so that the probes of a disabled instrumentation
+ * are removed from the compiled code and cost nothing.
+ * An enabled probe measures the duration of its call, adds it to the striped counters and the histograms
+ * of its {@link Operation}, which are registered as MXBeans, and emits an {@link OperationEvent}
+ * to the JDK Flight Recorder when a recording enables it.
+ * An instrumented operation is bracketed by {@link #begin(Operation, long)} and {@link #end(OperationEvent)};
+ * a call that throws an exception is not recorded.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class Metrics extends Object {
+    /**
+     * The system property that enables the instrumentation when it is true.
+     */
+    public static final String PROPERTY = "org.miaplacidus.mathematics.metrics";
+
+    /**
+     * The domain of the names of the MXBeans of the operations.
+     */
+    public static final String DOMAIN = "org.miaplacidus.mathematics";
+
+    /**
+     * Whether the instrumentation is enabled, read once from the system property.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static final Logger LOG = Logger.getLogger(Metrics.class.getName());
+
+    static {
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    /**
+     * Begin the measurement of a call.
+     * @param operation the operation of the call.
+     * @param size the size of the input of the call.
+     * @return the event of the call if the instrumentation is enabled, null otherwise.
+     */
+    public static OperationEvent begin(final Operation operation, final long size) {
+        return ENABLED ? new OperationEvent(operation, size) : null;
+    }
+
+    /**
+     * End the measurement of a call, and record it.
+     * @param event the event that was returned by {@link #begin(Operation, long)}.
+     */
+    public static void end(final OperationEvent event) {
+        if (ENABLED) {
+            event.finish();
+        }
+    }
+
+    /**
+     * The size class of a size, the number of its significant bits: zero for zero,
+     * and k + 1 for the sizes from 2^k to 2^(k + 1) - 1.
+     * @param size a non-negative size.
+     * @return the size class.
+     */
+    public static int sizeClass(final long size) {
+        return Long.SIZE - Long.numberOfLeadingZeros(size);
+    }
+
+    /**
+     * The name of the MXBean of an operation.
+     * @param operation the operation.
+     * @return the object name of the MXBean.
+     * @throws JMException if the name is not valid.
+     */
+    public static ObjectName name(final Operation operation) throws JMException {
+        return new ObjectName(DOMAIN + ":type=Metrics,name=" + operation.name());
+    }
+
+    /**
+     * Register the MXBeans of the operations in the platform MBean server.
+     */
+    private static void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (final Operation operation : Operation.values()) {
+            try {
+                final ObjectName name = name(operation);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(operation, name);
+                }
+            } catch (final JMException exception) {
+                LOG.warning(() -> "The metrics of " + operation + " are not registered: " + exception);
+            }
+        }
+    }
+
+    private Metrics() {
+        throw new AssertionError();
+    }
+}
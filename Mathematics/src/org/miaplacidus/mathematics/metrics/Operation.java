@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The instrumented operations of the library, each with its striped counters and histograms,
+ * which threads update without contention and which are read by {@link OperationMXBean}.
+ * The histograms count the calls by size class of their durations in nanoseconds and of their sizes,
+ * in the classes of {@link Metrics#sizeClass(long)}.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public enum Operation implements OperationMXBean {
+    /**
+     * The factorisation of a long integer; its size is the number itself, so that its size class is its bit length.
+     */
+    FACTORISATION,
+    /**
+     * The factorisation of an array of long integers; its size is the length of the array.
+     */
+    FACTORISATION_BATCH,
+    /**
+     * The primality test of an array of long integers; its size is the length of the array.
+     */
+    PRIMALITY_BATCH,
+    /**
+     * The sieve of a segment of the segmented Sieve of Eratosthenes; its size is the number of integers of the segment.
+     */
+    SIEVE_SEGMENT,
+    /**
+     * The sieve of the table of small primes; its size is the limit of the table.
+     */
+    SIEVE_TABLE,
+    /**
+     * The gamma function of an array of real or complex numbers; its size is the length of the array.
+     */
+    GAMMA_BATCH,
+    /**
+     * The logarithm of the gamma function of an array of real or complex numbers; its size is the length of the array.
+     */
+    LOG_GAMMA_BATCH,
+    /**
+     * The Riemann zeta function of an array of real or complex numbers; its size is the length of the array.
+     */
+    ZETA_BATCH,
+    /**
+     * The discrete Fourier transform of a plan; its size is the length of the transform.
+     */
+    FOURIER_TRANSFORM;
+
+    /**
+     * The number of classes of the histograms, those of the non-negative longs.
+     */
+    private static final int CLASSES = Long.SIZE;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder size = new LongAdder();
+    private final LongAdder nanoseconds = new LongAdder();
+    private final LongAdder[] durations = adders();
+    private final LongAdder[] sizes = adders();
+
+    /**
+     * Create the adders of a histogram.
+     * @return an adder for every class.
+     */
+    private static LongAdder[] adders() {
+        final LongAdder[] adders = new LongAdder[CLASSES];
+        for (int k = 0; k < CLASSES; k++) {
+            adders[k] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Record a call.
+     * @param size the size of the input of the call.
+     * @param nanoseconds the duration of the call.
+     */
+    void record(final long size, final long nanoseconds) {
+        this.calls.increment();
+        this.size.add(size);
+        this.nanoseconds.add(nanoseconds);
+        this.durations[Math.min(Metrics.sizeClass(Math.max(nanoseconds, 0)), CLASSES - 1)].increment();
+        this.sizes[Math.min(Metrics.sizeClass(Math.max(size, 0)), CLASSES - 1)].increment();
+    }
+
+    @Override
+    public long getCalls() {
+        return this.calls.sum();
+    }
+
+    @Override
+    public long getTotalSize() {
+        return this.size.sum();
+    }
+
+    @Override
+    public long getTotalNanoseconds() {
+        return this.nanoseconds.sum();
+    }
+
+    @Override
+    public double getMeanNanoseconds() {
+        final long count = this.calls.sum();
+        return count == 0 ? 0. : (double) this.nanoseconds.sum() / count;
+    }
+
+    @Override
+    public long[] getDurationHistogram() {
+        return sums(this.durations);
+    }
+
+    @Override
+    public long[] getSizeHistogram() {
+        return sums(this.sizes);
+    }
+
+    @Override
+    public void reset() {
+        this.calls.reset();
+        this.size.reset();
+        this.nanoseconds.reset();
+        for (int k = 0; k < CLASSES; k++) {
+            this.durations[k].reset();
+            this.sizes[k].reset();
+        }
+    }
+
+    /**
+     * Read a histogram.
+     * @param adders the adders of the histogram.
+     * @return the counts of the classes.
+     */
+    private static long[] sums(final LongAdder[] adders) {
+        final long[] counts = new long[adders.length];
+        for (int k = 0; k < adders.length; k++) {
+            counts[k] = adders[k].sum();
+        }
+        return counts;
+    }
+}
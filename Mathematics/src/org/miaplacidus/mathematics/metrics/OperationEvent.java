@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JDK Flight Recorder event of a call of an instrumented operation, whose duration is the one of the call.
+ * The event is named {@value #NAME} and is enabled by default in a recording,
+ * for instance the one of {@code -XX:StartFlightRecording}, when the instrumentation is enabled.
+ * The event is also the probe of {@link Metrics}: it keeps the start of the call, to record it in the counters
+ * of its operation whether or not the recorder commits it.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+@Name(OperationEvent.NAME)
+@Label("Mathematics Operation")
+@Category("Mathematics")
+@Description("A call of an expensive operation of the mathematics library")
+@StackTrace(false)
+public final class OperationEvent extends Event {
+    /**
+     * The name of the event.
+     */
+    public static final String NAME = "org.miaplacidus.mathematics.Operation";
+
+    @Label("Operation")
+    @Description("The name of the operation")
+    String operation;
+
+    @Label("Size")
+    @Description("The size of the input of the call")
+    long size;
+
+    @Label("Size Class")
+    @Description("The number of significant bits of the size")
+    int sizeClass;
+
+    /**
+     * The operation of the call and the start of the call in nanoseconds, which are not recorded.
+     */
+    private final transient Operation kind;
+    private final transient long start;
+
+    /**
+     * Begin the event of a call.
+     * @param kind the operation of the call.
+     * @param size the size of the input of the call.
+     */
+    OperationEvent(final Operation kind, final long size) {
+        this.kind = kind;
+        this.operation = kind.name();
+        this.size = size;
+        this.sizeClass = Metrics.sizeClass(size);
+        this.start = System.nanoTime();
+        this.begin();
+    }
+
+    /**
+     * End the event of the call, record the call in the counters of its operation,
+     * and commit the event if the recorder enables it.
+     */
+    void finish() {
+        this.end();
+        this.kind.record(this.size, System.nanoTime() - this.start);
+        if (this.shouldCommit()) {
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.metrics;
+
+/**
+ * The management interface of the metrics of an instrumented operation.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public interface OperationMXBean {
+    /**
+     * The number of recorded calls.
+     * @return the number of calls.
+     */
+    public long getCalls();
+
+    /**
+     * The sum of the sizes of the inputs of the recorded calls.
+     * @return the total size.
+     */
+    public long getTotalSize();
+
+    /**
+     * The sum of the durations of the recorded calls.
+     * @return the total duration in nanoseconds.
+     */
+    public long getTotalNanoseconds();
+
+    /**
+     * The mean duration of the recorded calls.
+     * @return the mean duration in nanoseconds, zero without calls.
+     */
+    public double getMeanNanoseconds();
+
+    /**
+     * The histogram of the durations of the recorded calls.
+     * @return the numbers of calls whose duration in nanoseconds is of every size class, by index of the class.
+     */
+    public long[] getDurationHistogram();
+
+    /**
+     * The histogram of the sizes of the inputs of the recorded calls.
+     * @return the numbers of calls whose size is of every size class, by index of the class.
+     */
+    public long[] getSizeHistogram();
+
+    /**
+     * Reset the counters and the histograms to zero.
+     */
+    public void reset();
+}
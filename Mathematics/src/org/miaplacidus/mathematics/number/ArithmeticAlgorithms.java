@@ -0,0 +1,423 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number;
+
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.ComplexAccumulator;
+import org.miaplacidus.mathematics.number.complex.ComplexArithmetic;
+
+/**
+ * The generic algorithms of arithmetic: sums, products, dot products, powers by squaring and the evaluation
+ * of polynomials by the method of Horner. Every algorithm has the same form over objects of {@link Arithmetic},
+ * over buffers of primitive doubles or longs with a {@link DoubleArithmetic} or a {@link LongArithmetic},
+ * and over split buffers of complex numbers with a {@link ComplexArithmetic} and an accumulator;
+ * the primitive forms neither box nor allocate per element.
+ * The methods are small, so that the compiler inlines them into their callers, where an arithmetic
+ * that is a constant such as {@link DoubleArithmetic#REAL} makes the calls of the loops monomorphic and inlined.
+ * The operations are applied in the order of the indices, so that every form gives the same results as
+ * the others for the same arithmetic.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ArithmeticAlgorithms extends Object {
+    private static final Logger LOG = Logger.getLogger(ArithmeticAlgorithms.class.getName());
+
+    /**
+     * The sum of numbers.
+     * @param <N> the type of the numbers.
+     * @param zero the identity element of the addition, the sum of no number.
+     * @param values the numbers.
+     * @return the sum of the numbers.
+     */
+    public static <N extends Arithmetic<N>> N sum(final N zero, final N[] values) {
+        N sum = zero;
+        for (final N value : values) {
+            sum = sum.add(value);
+        }
+        return sum;
+    }
+
+    /**
+     * The sum of numbers.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param values the numbers.
+     * @return the sum of the numbers.
+     */
+    public static double sum(final DoubleArithmetic arithmetic, final double[] values) {
+        double sum = arithmetic.zero();
+        for (final double value : values) {
+            sum = arithmetic.add(sum, value);
+        }
+        return sum;
+    }
+
+    /**
+     * The sum of numbers.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param values the numbers.
+     * @return the sum of the numbers.
+     */
+    public static long sum(final LongArithmetic arithmetic, final long[] values) {
+        long sum = arithmetic.zero();
+        for (final long value : values) {
+            sum = arithmetic.add(sum, value);
+        }
+        return sum;
+    }
+
+    /**
+     * The sum of split complex numbers.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param real the real parts of the numbers.
+     * @param imaginary the imaginary parts of the numbers.
+     * @param result the accumulator that receives the sum.
+     * @return the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ComplexAccumulator sum(final ComplexArithmetic arithmetic, final double[] real, final double[] imaginary,
+            final ComplexAccumulator result) throws IllegalArgumentException {
+        checkLengths(real.length, imaginary.length);
+        arithmetic.zero(result);
+        for (int k = 0; k < real.length; k++) {
+            arithmetic.add(result, real[k], imaginary[k]);
+        }
+        return result;
+    }
+
+    /**
+     * The product of numbers.
+     * @param <N> the type of the numbers.
+     * @param one the identity element of the multiplication, the product of no number.
+     * @param values the numbers, which are multiplied from the left to the right.
+     * @return the product of the numbers.
+     */
+    public static <N extends Arithmetic<N>> N product(final N one, final N[] values) {
+        N product = one;
+        for (final N value : values) {
+            product = product.multiply(value);
+        }
+        return product;
+    }
+
+    /**
+     * The product of numbers.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param values the numbers.
+     * @return the product of the numbers.
+     */
+    public static double product(final DoubleArithmetic arithmetic, final double[] values) {
+        double product = arithmetic.one();
+        for (final double value : values) {
+            product = arithmetic.multiply(product, value);
+        }
+        return product;
+    }
+
+    /**
+     * The product of numbers.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param values the numbers.
+     * @return the product of the numbers.
+     */
+    public static long product(final LongArithmetic arithmetic, final long[] values) {
+        long product = arithmetic.one();
+        for (final long value : values) {
+            product = arithmetic.multiply(product, value);
+        }
+        return product;
+    }
+
+    /**
+     * The product of split complex numbers.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param real the real parts of the numbers.
+     * @param imaginary the imaginary parts of the numbers.
+     * @param result the accumulator that receives the product.
+     * @return the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ComplexAccumulator product(final ComplexArithmetic arithmetic, final double[] real,
+            final double[] imaginary, final ComplexAccumulator result) throws IllegalArgumentException {
+        checkLengths(real.length, imaginary.length);
+        arithmetic.one(result);
+        for (int k = 0; k < real.length; k++) {
+            arithmetic.multiply(result, real[k], imaginary[k]);
+        }
+        return result;
+    }
+
+    /**
+     * The dot product of vectors, the sum of the products of their elements, which are not conjugated.
+     * @param <N> the type of the numbers.
+     * @param zero the identity element of the addition.
+     * @param a the multipliers.
+     * @param b the multiplicands.
+     * @return the dot product.
+     * @throws IllegalArgumentException if the vectors do not have the same length.
+     */
+    public static <N extends Arithmetic<N>> N dot(final N zero, final N[] a, final N[] b) throws IllegalArgumentException {
+        checkLengths(a.length, b.length);
+        N sum = zero;
+        for (int k = 0; k < a.length; k++) {
+            sum = sum.add(a[k].multiply(b[k]));
+        }
+        return sum;
+    }
+
+    /**
+     * The dot product of vectors, the sum of the products of their elements.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param a the multipliers.
+     * @param b the multiplicands.
+     * @return the dot product.
+     * @throws IllegalArgumentException if the vectors do not have the same length.
+     */
+    public static double dot(final DoubleArithmetic arithmetic, final double[] a, final double[] b)
+            throws IllegalArgumentException {
+        checkLengths(a.length, b.length);
+        double sum = arithmetic.zero();
+        for (int k = 0; k < a.length; k++) {
+            sum = arithmetic.add(sum, arithmetic.multiply(a[k], b[k]));
+        }
+        return sum;
+    }
+
+    /**
+     * The dot product of vectors, the sum of the products of their elements.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param a the multipliers.
+     * @param b the multiplicands.
+     * @return the dot product.
+     * @throws IllegalArgumentException if the vectors do not have the same length.
+     */
+    public static long dot(final LongArithmetic arithmetic, final long[] a, final long[] b)
+            throws IllegalArgumentException {
+        checkLengths(a.length, b.length);
+        long sum = arithmetic.zero();
+        for (int k = 0; k < a.length; k++) {
+            sum = arithmetic.add(sum, arithmetic.multiply(a[k], b[k]));
+        }
+        return sum;
+    }
+
+    /**
+     * The dot product of split complex vectors, the sum of the products of their elements, which are not conjugated.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param aReal the real parts of the multipliers.
+     * @param aImaginary the imaginary parts of the multipliers.
+     * @param bReal the real parts of the multiplicands.
+     * @param bImaginary the imaginary parts of the multiplicands.
+     * @param result the accumulator that receives the dot product.
+     * @return the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ComplexAccumulator dot(final ComplexArithmetic arithmetic, final double[] aReal,
+            final double[] aImaginary, final double[] bReal, final double[] bImaginary, final ComplexAccumulator result)
+            throws IllegalArgumentException {
+        checkLengths(aReal.length, aImaginary.length);
+        checkLengths(aReal.length, bReal.length);
+        checkLengths(aReal.length, bImaginary.length);
+        final ComplexAccumulator term = new ComplexAccumulator();
+        arithmetic.zero(result);
+        for (int k = 0; k < aReal.length; k++) {
+            arithmetic.multiply(term.set(aReal[k], aImaginary[k]), bReal[k], bImaginary[k]);
+            arithmetic.add(result, term.real(), term.imaginary());
+        }
+        return result;
+    }
+
+    /**
+     * The power of a number by squaring; a negative exponent divides one by the power of its absolute value.
+     * @param <N> the type of the numbers.
+     * @param one the identity element of the multiplication, the power of exponent zero.
+     * @param base the base.
+     * @param exponent the exponent.
+     * @return the power.
+     */
+    public static <N extends Arithmetic<N>> N power(final N one, final N base, final long exponent) {
+        N power = one;
+        N square = base;
+        for (long e = exponent < 0 ? -exponent : exponent; e != 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                power = power.multiply(square);
+            }
+            if (e != 1) {
+                square = square.multiply(square);
+            }
+        }
+        return exponent < 0 ? one.divide(power) : power;
+    }
+
+    /**
+     * The power of a number by squaring; a negative exponent divides one by the power of its absolute value.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param base the base.
+     * @param exponent the exponent.
+     * @return the power.
+     */
+    public static double power(final DoubleArithmetic arithmetic, final double base, final long exponent) {
+        double power = arithmetic.one();
+        double square = base;
+        for (long e = exponent < 0 ? -exponent : exponent; e != 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                power = arithmetic.multiply(power, square);
+            }
+            if (e != 1) {
+                square = arithmetic.multiply(square, square);
+            }
+        }
+        return exponent < 0 ? arithmetic.divide(arithmetic.one(), power) : power;
+    }
+
+    /**
+     * The power of a number by squaring; a negative exponent divides one by the power of its absolute value.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param base the base.
+     * @param exponent the exponent.
+     * @return the power.
+     */
+    public static long power(final LongArithmetic arithmetic, final long base, final long exponent) {
+        long power = arithmetic.one();
+        long square = base;
+        for (long e = exponent < 0 ? -exponent : exponent; e != 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                power = arithmetic.multiply(power, square);
+            }
+            if (e != 1) {
+                square = arithmetic.multiply(square, square);
+            }
+        }
+        return exponent < 0 ? arithmetic.divide(arithmetic.one(), power) : power;
+    }
+
+    /**
+     * The power of a complex number by squaring; a negative exponent divides one by the power of its absolute value.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param real the real part of the base.
+     * @param imaginary the imaginary part of the base.
+     * @param exponent the exponent.
+     * @param result the accumulator that receives the power.
+     * @return the result.
+     */
+    public static ComplexAccumulator power(final ComplexArithmetic arithmetic, final double real,
+            final double imaginary, final long exponent, final ComplexAccumulator result) {
+        final ComplexAccumulator square = new ComplexAccumulator(real, imaginary);
+        arithmetic.one(result);
+        for (long e = exponent < 0 ? -exponent : exponent; e != 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                arithmetic.multiply(result, square.real(), square.imaginary());
+            }
+            if (e != 1) {
+                arithmetic.multiply(square, square.real(), square.imaginary());
+            }
+        }
+        if (exponent < 0) {
+            final double powerReal = result.real();
+            final double powerImaginary = result.imaginary();
+            arithmetic.divide(arithmetic.one(result), powerReal, powerImaginary);
+        }
+        return result;
+    }
+
+    /**
+     * The evaluation of a polynomial by the method of Horner.
+     * @param <N> the type of the numbers.
+     * @param zero the identity element of the addition, the value of the polynomial without coefficients.
+     * @param coefficients the coefficients of the polynomial, in the order of the increasing degrees.
+     * @param x the number at which the polynomial is evaluated.
+     * @return the value of the polynomial.
+     */
+    public static <N extends Arithmetic<N>> N evaluate(final N zero, final N[] coefficients, final N x) {
+        N value = zero;
+        for (int k = coefficients.length - 1; k >= 0; k--) {
+            value = value.multiply(x).add(coefficients[k]);
+        }
+        return value;
+    }
+
+    /**
+     * The evaluation of a polynomial by the method of Horner.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param coefficients the coefficients of the polynomial, in the order of the increasing degrees.
+     * @param x the number at which the polynomial is evaluated.
+     * @return the value of the polynomial.
+     */
+    public static double evaluate(final DoubleArithmetic arithmetic, final double[] coefficients, final double x) {
+        double value = arithmetic.zero();
+        for (int k = coefficients.length - 1; k >= 0; k--) {
+            value = arithmetic.add(arithmetic.multiply(value, x), coefficients[k]);
+        }
+        return value;
+    }
+
+    /**
+     * The evaluation of a polynomial by the method of Horner.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param coefficients the coefficients of the polynomial, in the order of the increasing degrees.
+     * @param x the number at which the polynomial is evaluated.
+     * @return the value of the polynomial.
+     */
+    public static long evaluate(final LongArithmetic arithmetic, final long[] coefficients, final long x) {
+        long value = arithmetic.zero();
+        for (int k = coefficients.length - 1; k >= 0; k--) {
+            value = arithmetic.add(arithmetic.multiply(value, x), coefficients[k]);
+        }
+        return value;
+    }
+
+    /**
+     * The evaluation of a polynomial of split complex coefficients by the method of Horner.
+     * @param arithmetic the arithmetic of the numbers.
+     * @param real the real parts of the coefficients, in the order of the increasing degrees.
+     * @param imaginary the imaginary parts of the coefficients.
+     * @param xReal the real part of the number at which the polynomial is evaluated.
+     * @param xImaginary the imaginary part of the number at which the polynomial is evaluated.
+     * @param result the accumulator that receives the value of the polynomial.
+     * @return the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ComplexAccumulator evaluate(final ComplexArithmetic arithmetic, final double[] real,
+            final double[] imaginary, final double xReal, final double xImaginary, final ComplexAccumulator result)
+            throws IllegalArgumentException {
+        checkLengths(real.length, imaginary.length);
+        arithmetic.zero(result);
+        for (int k = real.length - 1; k >= 0; k--) {
+            arithmetic.add(arithmetic.multiply(result, xReal, xImaginary), real[k], imaginary[k]);
+        }
+        return result;
+    }
+
+    /**
+     * Verify that two arrays have the same length.
+     * @throws IllegalArgumentException if the lengths differ.
+     */
+    private static void checkLengths(final int a, final int b) throws IllegalArgumentException {
+        if (a != b) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private ArithmeticAlgorithms() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number;
+
+/**
+ * The arithmetic of primitive doubles, the companion of {@link Arithmetic} without boxing:
+ * the operands and the results are passed as values, and the arithmetic is a stateless object
+ * that the algorithms of {@link ArithmeticAlgorithms} receive once for a whole buffer.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public interface DoubleArithmetic {
+    /**
+     * The arithmetic of the real numbers in double precision.
+     */
+    public static final DoubleArithmetic REAL = new DoubleArithmetic() {
+        @Override
+        public double zero() {
+            return 0.;
+        }
+
+        @Override
+        public double one() {
+            return 1.;
+        }
+
+        @Override
+        public double add(final double augend, final double addend) {
+            return augend + addend;
+        }
+
+        @Override
+        public double subtract(final double minuend, final double subtrahend) {
+            return minuend - subtrahend;
+        }
+
+        @Override
+        public double multiply(final double multiplier, final double multiplicand) {
+            return multiplier * multiplicand;
+        }
+
+        @Override
+        public double divide(final double dividend, final double divisor) {
+            return dividend / divisor;
+        }
+
+        @Override
+        public String toString() {
+            return "real arithmetic";
+        }
+    };
+
+    /**
+     * The identity element of the addition.
+     * @return zero.
+     */
+    public double zero();
+
+    /**
+     * The identity element of the multiplication.
+     * @return one.
+     */
+    public double one();
+
+    /**
+     * Addition.
+     * @param augend the number to which the addend is added.
+     * @param addend the number that is added.
+     * @return the sum.
+     */
+    public double add(final double augend, final double addend);
+
+    /**
+     * Subtraction.
+     * @param minuend the number from which the subtrahend is subtracted.
+     * @param subtrahend the number that is subtracted.
+     * @return the difference.
+     */
+    public double subtract(final double minuend, final double subtrahend);
+
+    /**
+     * Multiplication.
+     * @param multiplier the number that is multiplied.
+     * @param multiplicand the number by which it is multiplied.
+     * @return the product.
+     */
+    public double multiply(final double multiplier, final double multiplicand);
+
+    /**
+     * Division.
+     * @param dividend the number that is divided.
+     * @param divisor the number by which it is divided.
+     * @return the quotient.
+     */
+    public double divide(final double dividend, final double divisor);
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number;
+
+/**
+ * The arithmetic of primitive longs, the companion of {@link Arithmetic} without boxing:
+ * the operands and the results are passed as values, and the arithmetic is a stateless object
+ * that the algorithms of {@link ArithmeticAlgorithms} receive once for a whole buffer.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public interface LongArithmetic {
+    /**
+     * The arithmetic of the primitive longs, the ring of the integers modulo 2^64 in two's complement,
+     * whose division is the truncated division of Java.
+     */
+    public static final LongArithmetic INTEGER = new LongArithmetic() {
+        @Override
+        public long zero() {
+            return 0;
+        }
+
+        @Override
+        public long one() {
+            return 1;
+        }
+
+        @Override
+        public long add(final long augend, final long addend) {
+            return augend + addend;
+        }
+
+        @Override
+        public long subtract(final long minuend, final long subtrahend) {
+            return minuend - subtrahend;
+        }
+
+        @Override
+        public long multiply(final long multiplier, final long multiplicand) {
+            return multiplier * multiplicand;
+        }
+
+        @Override
+        public long divide(final long dividend, final long divisor) {
+            return dividend / divisor;
+        }
+
+        @Override
+        public String toString() {
+            return "integer arithmetic";
+        }
+    };
+
+    /**
+     * The largest modulus of {@link #modulo(long)}, for which the product of two residues fits in 64 bits.
+     */
+    public static final long MAXIMUM_MODULUS = 1L << 32;
+
+    /**
+     * The arithmetic of the integers modulo a number, over the residues from zero to the modulus excluded;
+     * the operands must be such residues. The division is the multiplication by the modular inverse.
+     * @param modulus the modulus, greater than one and at most {@link #MAXIMUM_MODULUS}.
+     * @return the modular arithmetic.
+     * @throws IllegalArgumentException if the modulus is not greater than one or greater than the maximum.
+     */
+    public static LongArithmetic modulo(final long modulus) throws IllegalArgumentException {
+        if (modulus < 2 || modulus > MAXIMUM_MODULUS) {
+            throw new IllegalArgumentException();
+        } else {
+            return new LongArithmetic() {
+                @Override
+                public long zero() {
+                    return 0;
+                }
+
+                @Override
+                public long one() {
+                    return 1;
+                }
+
+                @Override
+                public long add(final long augend, final long addend) {
+                    final long sum = augend + addend;
+                    return sum >= modulus ? sum - modulus : sum;
+                }
+
+                @Override
+                public long subtract(final long minuend, final long subtrahend) {
+                    final long difference = minuend - subtrahend;
+                    return difference < 0 ? difference + modulus : difference;
+                }
+
+                @Override
+                public long multiply(final long multiplier, final long multiplicand) {
+                    return Long.remainderUnsigned(multiplier * multiplicand, modulus);
+                }
+
+                /**
+                 * @throws IllegalArgumentException if the divisor is not coprime to the modulus.
+                 */
+                @Override
+                public long divide(final long dividend, final long divisor) throws IllegalArgumentException {
+                    long r0 = modulus;
+                    long r1 = divisor;
+                    long t0 = 0;
+                    long t1 = 1;
+                    while (r1 != 0) {
+                        final long q = r0 / r1;
+                        final long r = r0 - q * r1;
+                        r0 = r1;
+                        r1 = r;
+                        final long t = t0 - q * t1;
+                        t0 = t1;
+                        t1 = t;
+                    }
+                    if (r0 != 1) {
+                        throw new IllegalArgumentException();
+                    } else {
+                        return this.multiply(dividend, t0 < 0 ? t0 + modulus : t0);
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    return "arithmetic modulo " + modulus;
+                }
+            };
+        }
+    }
+
+    /**
+     * The identity element of the addition.
+     * @return zero.
+     */
+    public long zero();
+
+    /**
+     * The identity element of the multiplication.
+     * @return one.
+     */
+    public long one();
+
+    /**
+     * Addition.
+     * @param augend the number to which the addend is added.
+     * @param addend the number that is added.
+     * @return the sum.
+     */
+    public long add(final long augend, final long addend);
+
+    /**
+     * Subtraction.
+     * @param minuend the number from which the subtrahend is subtracted.
+     * @param subtrahend the number that is subtracted.
+     * @return the difference.
+     */
+    public long subtract(final long minuend, final long subtrahend);
+
+    /**
+     * Multiplication.
+     * @param multiplier the number that is multiplied.
+     * @param multiplicand the number by which it is multiplied.
+     * @return the product.
+     */
+    public long multiply(final long multiplier, final long multiplicand);
+
+    /**
+     * Division.
+     * @param dividend the number that is divided.
+     * @param divisor the number by which it is divided.
+     * @return the quotient.
+     */
+    public long divide(final long dividend, final long divisor);
+}
@@ -66,6 +66,21 @@ public class Complex extends Object implements Serializable, Arithmetic<Complex>
      *
      */
     public static final Complex INFINITY=new Complex(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+    /**
+     * The absolute value of a part above which its square would lose the other terms or overflow.
+     */
+    private static final double LARGE = 1E150;
+    /**
+     * The absolute value of the real part above which the hyperbolic tangent is its limit to double precision.
+     */
+    private static final double TANH_LIMIT = 22.;
+    /**
+     * The absolute value below which the hyperbolic sine is its Taylor series,
+     * and the one above which the exponential overflows.
+     */
+    private static final double SINH_SERIES = .25;
+    private static final double OVERFLOW = 709.;
+    private static final double LOG_TWO = Math.log(2.);
     /**
      *
      */
@@ -166,7 +181,7 @@ public class Complex extends Object implements Serializable, Arithmetic<Complex>
             } else if (this.imaginary >= 0) {
                 return this.real + "+" + this.imaginary + "i";
             } else {
-                return this.real + this.imaginary + "i";
+                return this.real + "" + this.imaginary + "i";
             }
         }
     }  
@@ -501,60 +516,470 @@ public class Complex extends Object implements Serializable, Arithmetic<Complex>
     
   
     
+    /**
+     * The sine function, sin(x + iy) = sin x cosh y + i cos x sinh y.
+     * @return the sine of this complex number.
+     */
     public Complex sin() {
-        return this.multiply(Complex.I).exponentiate().subtract(this.multiply(Complex.I).negate().exponentiate()).divide(2.).divide(Complex.I);
+        return new Complex(Math.sin(this.real) * cosh(this.imaginary), Math.cos(this.real) * sinh(this.imaginary));
     }
     
+    /**
+     * The cosine function, cos(x + iy) = cos x cosh y - i sin x sinh y.
+     * @return the cosine of this complex number.
+     */
     public Complex cos() {
-        return this.multiply(Complex.I).exponentiate().add(this.multiply(Complex.I).negate().exponentiate()).divide(2.);
+        return new Complex(Math.cos(this.real) * cosh(this.imaginary), -Math.sin(this.real) * sinh(this.imaginary));
+    }
+    
+    /**
+     * The sine and the cosine together, which share the circular and hyperbolic functions of the parts.
+     * @return an array of the sine and the cosine of this complex number, in this order.
+     */
+    public Complex[] sinCos() {
+        final double sin = Math.sin(this.real);
+        final double cos = Math.cos(this.real);
+        final double cosh = cosh(this.imaginary);
+        final double sinh = sinh(this.imaginary, cosh);
+        return new Complex[] {new Complex(sin * cosh, cos * sinh), new Complex(cos * cosh, -sin * sinh)};
+    }
+    
+    /**
+     * The sine and the cosine of a complex number together, without allocation.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the sine,
+     * followed by the real and imaginary parts of the cosine.
+     */
+    public static void sinCos(final double real, final double imaginary, final double[] result) {
+        final double sin = Math.sin(real);
+        final double cos = Math.cos(real);
+        final double cosh = cosh(imaginary);
+        final double sinh = sinh(imaginary, cosh);
+        result[0] = sin * cosh;
+        result[1] = cos * sinh;
+        result[2] = cos * cosh;
+        result[3] = -sin * sinh;
     }
     
+    /**
+     * The tangent function, tan z = -i tanh(iz).
+     * @return the tangent of this complex number.
+     */
     public Complex tan() {
-        return this.multiply(Complex.I).exponentiate().subtract(this.multiply(Complex.I).negate().exponentiate())
-                .divide(Complex.I).divide(this.multiply(Complex.I).exponentiate().add(this.multiply(Complex.I).negate().exponentiate()));
+        final Complex tanh = tanh(-this.imaginary, this.real);
+        return new Complex(tanh.imaginary, -tanh.real);
     }
     
+    /**
+     * The cotangent function, the reciprocal of the tangent.
+     * @return the cotangent of this complex number.
+     */
     public Complex cot() {
-        return Complex.I.multiply(this.multiply(Complex.I).exponentiate().add(this.multiply(Complex.I).negate().exponentiate()))
-                .divide(this.multiply(Complex.I).exponentiate().subtract(this.multiply(Complex.I).negate().exponentiate()));
+        final Complex tanh = tanh(-this.imaginary, this.real);
+        return reciprocal(tanh.imaginary, -tanh.real);
     }
     
+    /**
+     * The secant function, the reciprocal of the cosine.
+     * @return the secant of this complex number.
+     */
     public Complex sec() {
-        return Complex.TWO.divide(this.multiply(Complex.I).exponentiate().add(this.multiply(Complex.I).negate().exponentiate()));
+        return sec(this.real, this.imaginary);
     }
     
+    /**
+     * The cosecant function, the reciprocal of the sine.
+     * @return the cosecant of this complex number.
+     */
     public Complex csc() {
-        return Complex.TWO.multiply(Complex.I).divide(this.multiply(Complex.I).exponentiate().subtract(this.multiply(Complex.I).negate().exponentiate()));
+        return csc(this.real, this.imaginary);
     }
     
+    /**
+     * The principal value of the inverse sine, by the formula of Kahan
+     * arcsin z = arctan(x / Re(sqrt(1 - z) sqrt(1 + z))) + i arsinh(Im(conj(sqrt(1 - z)) sqrt(1 + z))),
+     * which has no cancellation; the branch cuts are (-infinity, -1] and [1, +infinity).
+     * @return the inverse sine of this complex number.
+     */
     public Complex arcsin() {
-        return Complex.I.negate().multiply(Complex.I.multiply(this).add(Complex.ONE.subtract(this.exponentiate(2)).squareRoot()).logarithm());
+        return arcsin(this.real, this.imaginary);
+    }
+    
+    /**
+     * The principal value of the inverse cosine, by the formula of Kahan
+     * arccos z = 2 arctan(Re sqrt(1 - z) / Re sqrt(1 + z)) + i arsinh(Im(conj(sqrt(1 + z)) sqrt(1 - z)));
+     * the branch cuts are (-infinity, -1] and [1, +infinity).
+     * @return the inverse cosine of this complex number.
+     */
+    public Complex arccos() {
+        return arccos(this.real, this.imaginary);
+    }
+    
+    /**
+     * The principal value of the inverse tangent, arctan z = -i artanh(iz);
+     * the branch cuts are (-infinity i, -i] and [i, +infinity i).
+     * @return the inverse tangent of this complex number.
+     */
+    public Complex arctan() {
+        final Complex artanh = artanh(-this.imaginary, this.real);
+        return new Complex(artanh.imaginary, -artanh.real);
+    }
+    
+    /**
+     * The principal value of the inverse cotangent, arccot z = arctan(1 / z).
+     * @return the inverse cotangent of this complex number.
+     */
+    public Complex arccot() {
+        return this.reciprocalComplex().arctan();
     }
     
+    /**
+     * The principal value of the inverse secant, arcsec z = arccos(1 / z).
+     * @return the inverse secant of this complex number.
+     */
+    public Complex arcsec() {
+        return this.reciprocalComplex().arccos();
+    }
     
+    /**
+     * The principal value of the inverse cosecant, arccsc z = arcsin(1 / z).
+     * @return the inverse cosecant of this complex number.
+     */
+    public Complex arccsc() {
+        return this.reciprocalComplex().arcsin();
+    }
     
+    /**
+     * The hyperbolic sine function, sinh(x + iy) = sinh x cos y + i cosh x sin y.
+     * @return the hyperbolic sine of this complex number.
+     */
     public Complex sinh() {
-        return this.exponentiate().subtract(this.negate().exponentiate()).divide(2.);
+        return new Complex(sinh(this.real) * Math.cos(this.imaginary), cosh(this.real) * Math.sin(this.imaginary));
     }
-
+    
+    /**
+     * The hyperbolic cosine function, cosh(x + iy) = cosh x cos y + i sinh x sin y.
+     * @return the hyperbolic cosine of this complex number.
+     */
     public Complex cosh() {
-        return this.exponentiate().add(this.negate().exponentiate()).divide(2.);
+        return new Complex(cosh(this.real) * Math.cos(this.imaginary), sinh(this.real) * Math.sin(this.imaginary));
     }
-
+    
+    /**
+     * The hyperbolic sine and the hyperbolic cosine together.
+     * @return an array of the hyperbolic sine and the hyperbolic cosine of this complex number, in this order.
+     */
+    public Complex[] sinhCosh() {
+        final double sin = Math.sin(this.imaginary);
+        final double cos = Math.cos(this.imaginary);
+        final double cosh = cosh(this.real);
+        final double sinh = sinh(this.real, cosh);
+        return new Complex[] {new Complex(sinh * cos, cosh * sin), new Complex(cosh * cos, sinh * sin)};
+    }
+    
+    /**
+     * The hyperbolic tangent function, by the formula of Kahan, which neither overflows nor cancels.
+     * @return the hyperbolic tangent of this complex number.
+     */
     public Complex tanh() {
-        return this.exponentiate().subtract(this.negate().exponentiate()).divide(this.exponentiate().add(this.negate().exponentiate()));
+        return tanh(this.real, this.imaginary);
     }
-
+    
+    /**
+     * The hyperbolic cotangent function, the reciprocal of the hyperbolic tangent.
+     * @return the hyperbolic cotangent of this complex number.
+     */
     public Complex coth() {
-        return this.exponentiate().add(this.negate().exponentiate()).divide(this.exponentiate().subtract(this.negate().exponentiate()));
+        final Complex tanh = tanh(this.real, this.imaginary);
+        return reciprocal(tanh.real, tanh.imaginary);
     }
-
+    
+    /**
+     * The hyperbolic secant function, the reciprocal of the hyperbolic cosine.
+     * @return the hyperbolic secant of this complex number.
+     */
     public Complex sech() {
-        return Complex.TWO.divide(this.exponentiate().add(this.negate().exponentiate()));
+        return sec(-this.imaginary, this.real);
     }
-
+    
+    /**
+     * The hyperbolic cosecant function, the reciprocal of the hyperbolic sine.
+     * @return the hyperbolic cosecant of this complex number.
+     */
     public Complex csch() {
-        return Complex.TWO.divide(this.exponentiate().subtract(this.negate().exponentiate()));
+        final Complex csc = csc(-this.imaginary, this.real);
+        return new Complex(-csc.imaginary, csc.real);
+    }
+    
+    /**
+     * The principal value of the inverse hyperbolic sine, arsinh z = -i arcsin(iz);
+     * the branch cuts are (-infinity i, -i] and [i, +infinity i).
+     * @return the inverse hyperbolic sine of this complex number.
+     */
+    public Complex arsinh() {
+        final Complex arcsin = arcsin(-this.imaginary, this.real);
+        return new Complex(arcsin.imaginary, -arcsin.real);
+    }
+    
+    /**
+     * The principal value of the inverse hyperbolic cosine, by the formula of Kahan
+     * arcosh z = arsinh(Re(conj(sqrt(z - 1)) sqrt(z + 1))) + 2i arctan(Im sqrt(z - 1) / Re sqrt(z + 1));
+     * the branch cut is (-infinity, 1].
+     * @return the inverse hyperbolic cosine of this complex number.
+     */
+    public Complex arcosh() {
+        return arcosh(this.real, this.imaginary);
+    }
+    
+    /**
+     * The principal value of the inverse hyperbolic tangent,
+     * artanh z = log1p(4x / ((1 - x)^2 + y^2)) / 4 + i atan2(2y, (1 - x)(1 + x) - y^2) / 2;
+     * the branch cuts are (-infinity, -1] and [1, +infinity).
+     * @return the inverse hyperbolic tangent of this complex number.
+     */
+    public Complex artanh() {
+        return artanh(this.real, this.imaginary);
+    }
+    
+    /**
+     * The principal value of the inverse hyperbolic cotangent, arcoth z = artanh(1 / z).
+     * @return the inverse hyperbolic cotangent of this complex number.
+     */
+    public Complex arcoth() {
+        return this.reciprocalComplex().artanh();
+    }
+    
+    /**
+     * The principal value of the inverse hyperbolic secant, arsech z = arcosh(1 / z).
+     * @return the inverse hyperbolic secant of this complex number.
+     */
+    public Complex arsech() {
+        return this.reciprocalComplex().arcosh();
+    }
+    
+    /**
+     * The principal value of the inverse hyperbolic cosecant, arcsch z = arsinh(1 / z).
+     * @return the inverse hyperbolic cosecant of this complex number.
+     */
+    public Complex arcsch() {
+        return this.reciprocalComplex().arsinh();
+    }
+    
+    /**
+     * The reciprocal of this complex number by the algorithm of Smith, which neither overflows nor underflows
+     * in the squares of the parts.
+     * @return the reciprocal of this complex number, or infinity if it is zero.
+     */
+    private Complex reciprocalComplex() {
+        return reciprocal(this.real, this.imaginary);
+    }
+    
+    /**
+     * The reciprocal of a complex number by the algorithm of Smith.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the reciprocal of the complex number, or infinity if it is zero.
+     */
+    private static Complex reciprocal(final double real, final double imaginary) {
+        if (real == 0 && imaginary == 0) {
+            return Complex.INFINITY;
+        } else if (Math.abs(real) >= Math.abs(imaginary)) {
+            final double ratio = imaginary / real;
+            final double denominator = real + imaginary * ratio;
+            return new Complex(1 / denominator, -ratio / denominator);
+        } else {
+            final double ratio = real / imaginary;
+            final double denominator = real * ratio + imaginary;
+            return new Complex(ratio / denominator, -1 / denominator);
+        }
+    }
+    
+    /**
+     * The principal square root of a complex number without cancellation, which keeps the sign of a zero
+     * imaginary part on the branch cut, so that the inverse functions take the side of their cuts from it.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the principal square root of the complex number.
+     */
+    private static Complex squareRoot(final double real, final double imaginary) {
+        if (real == 0 && imaginary == 0) {
+            return new Complex(0., imaginary);
+        } else {
+            final double t = Math.sqrt(.5 * (Math.abs(real) + Math.hypot(real, imaginary)));
+            if (real >= 0) {
+                return new Complex(t, .5 * imaginary / t);
+            } else {
+                return new Complex(.5 * Math.abs(imaginary) / t, Math.copySign(t, imaginary));
+            }
+        }
+    }
+    
+    /**
+     * The inverse sine of a complex number by the formula of Kahan.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the principal value of the inverse sine.
+     */
+    private static Complex arcsin(final double real, final double imaginary) {
+        final Complex a = squareRoot(1 - real, -imaginary);
+        final Complex b = squareRoot(1 + real, imaginary);
+        return new Complex(Math.atan2(real, a.real * b.real - a.imaginary * b.imaginary),
+                asinh(a.real * b.imaginary - a.imaginary * b.real));
+    }
+    
+    /**
+     * The inverse cosine of a complex number by the formula of Kahan.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the principal value of the inverse cosine.
+     */
+    private static Complex arccos(final double real, final double imaginary) {
+        final Complex a = squareRoot(1 - real, -imaginary);
+        final Complex b = squareRoot(1 + real, imaginary);
+        return new Complex(2 * Math.atan2(a.real, b.real), asinh(b.real * a.imaginary - b.imaginary * a.real));
+    }
+    
+    /**
+     * The inverse hyperbolic cosine of a complex number by the formula of Kahan.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the principal value of the inverse hyperbolic cosine.
+     */
+    private static Complex arcosh(final double real, final double imaginary) {
+        final Complex a = squareRoot(real - 1, imaginary);
+        final Complex b = squareRoot(real + 1, imaginary);
+        return new Complex(asinh(a.real * b.real + a.imaginary * b.imaginary), 2 * Math.atan2(a.imaginary, b.real));
+    }
+    
+    /**
+     * The secant of a complex number; beyond {@link #TANH_LIMIT} in the imaginary part, where the cosine overflows,
+     * it is 2 e^(-|y|) (cos x + i sin x) with the sign of y on the imaginary part.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the secant.
+     */
+    private static Complex sec(final double real, final double imaginary) {
+        if (Math.abs(imaginary) > TANH_LIMIT) {
+            final double scale = 2 * Math.exp(-Math.abs(imaginary));
+            return new Complex(scale * Math.cos(real), Math.copySign(scale, imaginary) * Math.sin(real));
+        } else {
+            return reciprocal(Math.cos(real) * cosh(imaginary), -Math.sin(real) * sinh(imaginary));
+        }
+    }
+    
+    /**
+     * The cosecant of a complex number; beyond {@link #TANH_LIMIT} in the imaginary part, where the sine overflows,
+     * it is 2 e^(-|y|) (sin x - i cos x) with the sign of y on the imaginary part.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the cosecant.
+     */
+    private static Complex csc(final double real, final double imaginary) {
+        if (Math.abs(imaginary) > TANH_LIMIT) {
+            final double scale = 2 * Math.exp(-Math.abs(imaginary));
+            return new Complex(scale * Math.sin(real), -Math.copySign(scale, imaginary) * Math.cos(real));
+        } else {
+            return reciprocal(Math.sin(real) * cosh(imaginary), Math.cos(real) * sinh(imaginary));
+        }
+    }
+    
+    /**
+     * The inverse hyperbolic tangent of a complex number; far from the origin, where the squares would overflow,
+     * it is 1 / z + i pi / 2 with the sign of the imaginary part, and i pi / 2 at infinity.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the principal value of the inverse hyperbolic tangent.
+     */
+    private static Complex artanh(final double real, final double imaginary) {
+        if (Math.abs(real) > LARGE || Math.abs(imaginary) > LARGE) {
+            final double absolute = Math.hypot(real, imaginary);
+            return new Complex(Double.isInfinite(absolute) ? Math.copySign(0., real) : real / absolute / absolute,
+                    Math.copySign(Math.PI / 2, imaginary));
+        } else {
+            final double a = 1 - real;
+            return new Complex(.25 * Math.log1p(4 * real / (a * a + imaginary * imaginary)),
+                    .5 * Math.atan2(2 * imaginary, a * (1 + real) - imaginary * imaginary));
+        }
+    }
+    
+    /**
+     * The hyperbolic tangent of a complex number by the formula of Kahan,
+     * tanh(x + iy) = (beta rho s + i t) / (1 + beta s^2) with t = tan y, beta = 1 + t^2, s = sinh x and rho = cosh x;
+     * beyond {@link #TANH_LIMIT} the real part is the sign of x and the imaginary part 4 sin y cos y e^(-2|x|).
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return the hyperbolic tangent.
+     */
+    private static Complex tanh(final double real, final double imaginary) {
+        if (Math.abs(real) > TANH_LIMIT) {
+            return new Complex(Math.copySign(1., real), 4 * Math.sin(imaginary) * Math.cos(imaginary) * Math.exp(-2 * Math.abs(real)));
+        } else {
+            final double t = Math.tan(imaginary);
+            final double beta = 1 + t * t;
+            final double s = sinh(real);
+            final double rho = Math.sqrt(1 + s * s);
+            final double denominator = 1 + beta * s * s;
+            return new Complex(beta * rho * s / denominator, t / denominator);
+        }
+    }
+    
+    /**
+     * The hyperbolic cosine of a real number from a single exponential, which is faster than {@link Math#cosh(double)};
+     * near the overflow the exponential is squared from its half.
+     * @param x a real number.
+     * @return the hyperbolic cosine of x.
+     */
+    private static double cosh(final double x) {
+        final double y = Math.abs(x);
+        if (y < OVERFLOW) {
+            final double e = Math.exp(y);
+            return .5 * (e + 1 / e);
+        } else {
+            final double h = Math.exp(.5 * y);
+            return .5 * h * h;
+        }
+    }
+    
+    /**
+     * The hyperbolic sine of a real number, its Taylor series near zero where the exponentials would cancel.
+     * @param x a real number.
+     * @return the hyperbolic sine of x.
+     */
+    private static double sinh(final double x) {
+        return Math.abs(x) < SINH_SERIES ? sinh(x, 1.) : sinh(x, cosh(x));
+    }
+    
+    /**
+     * The hyperbolic sine of a real number from its hyperbolic cosine, sinh x = cosh x - e^(-|x|) with the sign of x.
+     * @param x a real number.
+     * @param cosh the hyperbolic cosine of x.
+     * @return the hyperbolic sine of x.
+     */
+    private static double sinh(final double x, final double cosh) {
+        final double y = Math.abs(x);
+        if (y < SINH_SERIES) {
+            final double square = x * x;
+            return x + x * square * (1. / 6 + square * (1. / 120 + square * (1. / 5040 + square * (1. / 362880
+                    + square / 39916800))));
+        } else {
+            return Math.copySign(cosh - Math.exp(-y), x);
+        }
+    }
+    
+    /**
+     * The inverse hyperbolic sine of a real number, log(|x| + sqrt(x^2 + 1)) with the sign of x,
+     * through log1p near zero and without overflow for large x.
+     * @param x a real number.
+     * @return the inverse hyperbolic sine of x.
+     */
+    private static double asinh(final double x) {
+        final double y = Math.abs(x);
+        if (y > LARGE) {
+            return Math.copySign(Math.log(y) + LOG_TWO, x);
+        } else {
+            return Math.copySign(Math.log1p(y + y * y / (1 + Math.sqrt(1 + y * y))), x);
+        }
     }
 
 
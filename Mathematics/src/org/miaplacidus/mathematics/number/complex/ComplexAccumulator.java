@@ -0,0 +1,408 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.util.logging.Logger;
+
+/**
+ * A mutable complex number for reductions and recurrences, which are updated in place instead of allocating
+ * a {@link Complex} at every step; the immutable numbers are only created at the boundaries by {@link #toComplex()}.
+ * Every operation returns this accumulator, so that the steps of a recurrence can be chained.
+ * The additions and the multiplications are the expressions of {@link Complex}, the division is the one of Smith,
+ * which avoids the overflow of the squared modulus of the divisor.
+ * An accumulator is not safe for the use by several threads; when it does not escape the method that creates it,
+ * the compiler may keep its parts in registers.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ComplexAccumulator extends Object {
+    private static final Logger LOG = Logger.getLogger(ComplexAccumulator.class.getName());
+    
+    /**
+     * The real part of the accumulated number.
+     */
+    private double real;
+    
+    /**
+     * The imaginary part of the accumulated number.
+     */
+    private double imaginary;
+    
+    /**
+     * Construct an accumulator of zero.
+     */
+    public ComplexAccumulator() {
+        this(0., 0.);
+    }
+    
+    /**
+     * Construct an accumulator of a complex number given by its parts.
+     * @param real the real part of the initial number.
+     * @param imaginary the imaginary part of the initial number.
+     */
+    public ComplexAccumulator(final double real, final double imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+    
+    /**
+     * Construct an accumulator of a complex number.
+     * @param number the initial number.
+     */
+    public ComplexAccumulator(final Complex number) {
+        this(number.real(), number.imaginary());
+    }
+    
+    /**
+     * Serialise the accumulated number as a complex number.
+     * @return a string that represents the accumulated number.
+     */
+    @Override
+    public String toString() {
+        return this.toComplex().toString();
+    }
+    
+    /**
+     * The real part of the accumulated number.
+     * @return the real part.
+     */
+    public double real() {
+        return this.real;
+    }
+    
+    /**
+     * The imaginary part of the accumulated number.
+     * @return the imaginary part.
+     */
+    public double imaginary() {
+        return this.imaginary;
+    }
+    
+    /**
+     * The absolute value of the accumulated number.
+     * @return the modulus, computed without overflow.
+     */
+    public double absolute() {
+        return Math.hypot(this.real, this.imaginary);
+    }
+    
+    /**
+     * Create the immutable complex number of the accumulated one.
+     * @return a complex number with the parts of this accumulator.
+     */
+    public Complex toComplex() {
+        return new Complex(this.real, this.imaginary);
+    }
+    
+    /**
+     * Write the accumulated number into an array.
+     * @param result the array that receives the real part at index zero and the imaginary part at index one.
+     */
+    public void get(final double[] result) {
+        result[0] = this.real;
+        result[1] = this.imaginary;
+    }
+    
+    /**
+     * Replace the accumulated number.
+     * @param real the real part of the new number.
+     * @param imaginary the imaginary part of the new number.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator set(final double real, final double imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+        return this;
+    }
+    
+    /**
+     * Replace the accumulated number.
+     * @param number the new number.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator set(final Complex number) {
+        return this.set(number.real(), number.imaginary());
+    }
+    
+    /**
+     * Replace the accumulated number by the one of another accumulator.
+     * @param accumulator the accumulator whose number is copied.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator set(final ComplexAccumulator accumulator) {
+        return this.set(accumulator.real, accumulator.imaginary);
+    }
+    
+    /**
+     * Add a complex number given by its parts to the accumulated number.
+     * @param real the real part of the addend.
+     * @param imaginary the imaginary part of the addend.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator addTo(final double real, final double imaginary) {
+        this.real += real;
+        this.imaginary += imaginary;
+        return this;
+    }
+    
+    /**
+     * Add a complex number to the accumulated number.
+     * @param addend the complex number that is added.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator addTo(final Complex addend) {
+        return this.addTo(addend.real(), addend.imaginary());
+    }
+    
+    /**
+     * Add the number of another accumulator to the accumulated number.
+     * @param addend the accumulator whose number is added.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator addTo(final ComplexAccumulator addend) {
+        return this.addTo(addend.real, addend.imaginary);
+    }
+    
+    /**
+     * Add a real number to the accumulated number.
+     * @param addend the real number that is added.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator addTo(final double addend) {
+        this.real += addend;
+        return this;
+    }
+    
+    /**
+     * Subtract a complex number given by its parts from the accumulated number.
+     * @param real the real part of the subtrahend.
+     * @param imaginary the imaginary part of the subtrahend.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator subtractFrom(final double real, final double imaginary) {
+        this.real -= real;
+        this.imaginary -= imaginary;
+        return this;
+    }
+    
+    /**
+     * Subtract a complex number from the accumulated number.
+     * @param subtrahend the complex number that is subtracted.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator subtractFrom(final Complex subtrahend) {
+        return this.subtractFrom(subtrahend.real(), subtrahend.imaginary());
+    }
+    
+    /**
+     * Multiply the accumulated number by a complex number given by its parts.
+     * @param real the real part of the multiplicand.
+     * @param imaginary the imaginary part of the multiplicand.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator multiplyBy(final double real, final double imaginary) {
+        final double r = this.real * real - this.imaginary * imaginary;
+        this.imaginary = this.real * imaginary + real * this.imaginary;
+        this.real = r;
+        return this;
+    }
+    
+    /**
+     * Multiply the accumulated number by a complex number.
+     * @param multiplicand the complex number that multiplies.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator multiplyBy(final Complex multiplicand) {
+        return this.multiplyBy(multiplicand.real(), multiplicand.imaginary());
+    }
+    
+    /**
+     * Multiply the accumulated number by the number of another accumulator.
+     * @param multiplicand the accumulator whose number multiplies.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator multiplyBy(final ComplexAccumulator multiplicand) {
+        return this.multiplyBy(multiplicand.real, multiplicand.imaginary);
+    }
+    
+    /**
+     * Multiply the accumulated number by a real number.
+     * @param multiplicand the real number that multiplies.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator multiplyBy(final double multiplicand) {
+        this.real *= multiplicand;
+        this.imaginary *= multiplicand;
+        return this;
+    }
+    
+    /**
+     * Divide the accumulated number by a complex number given by its parts.
+     * @param real the real part of the divisor.
+     * @param imaginary the imaginary part of the divisor.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator divideBy(final double real, final double imaginary) {
+        if (Math.abs(real) >= Math.abs(imaginary)) {
+            final double ratio = imaginary / real;
+            final double denominator = real + imaginary * ratio;
+            final double r = (this.real + this.imaginary * ratio) / denominator;
+            this.imaginary = (this.imaginary - this.real * ratio) / denominator;
+            this.real = r;
+        } else {
+            final double ratio = real / imaginary;
+            final double denominator = real * ratio + imaginary;
+            final double r = (this.real * ratio + this.imaginary) / denominator;
+            this.imaginary = (this.imaginary * ratio - this.real) / denominator;
+            this.real = r;
+        }
+        return this;
+    }
+    
+    /**
+     * Divide the accumulated number by a complex number.
+     * @param divisor the complex number that divides.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator divideBy(final Complex divisor) {
+        return this.divideBy(divisor.real(), divisor.imaginary());
+    }
+    
+    /**
+     * Divide the accumulated number by the number of another accumulator.
+     * @param divisor the accumulator whose number divides.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator divideBy(final ComplexAccumulator divisor) {
+        return this.divideBy(divisor.real, divisor.imaginary);
+    }
+    
+    /**
+     * Divide the accumulated number by a real number.
+     * @param divisor the real number that divides.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator divideBy(final double divisor) {
+        this.real /= divisor;
+        this.imaginary /= divisor;
+        return this;
+    }
+    
+    /**
+     * The step of Horner's method: multiply the accumulated number and add another, both given by their parts.
+     * The parts are rounded after each multiplication and addition, as in {@link Complex}.
+     * @param multiplierReal the real part of the number that multiplies.
+     * @param multiplierImaginary the imaginary part of the number that multiplies.
+     * @param addendReal the real part of the number that is added to the product.
+     * @param addendImaginary the imaginary part of the number that is added to the product.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator fma(final double multiplierReal, final double multiplierImaginary,
+            final double addendReal, final double addendImaginary) {
+        final double r = this.real * multiplierReal - this.imaginary * multiplierImaginary + addendReal;
+        this.imaginary = this.real * multiplierImaginary + this.imaginary * multiplierReal + addendImaginary;
+        this.real = r;
+        return this;
+    }
+    
+    /**
+     * The step of Horner's method with a real addend.
+     * @param multiplierReal the real part of the number that multiplies.
+     * @param multiplierImaginary the imaginary part of the number that multiplies.
+     * @param addend the real number that is added to the product.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator fma(final double multiplierReal, final double multiplierImaginary, final double addend) {
+        final double r = this.real * multiplierReal - this.imaginary * multiplierImaginary + addend;
+        this.imaginary = this.real * multiplierImaginary + this.imaginary * multiplierReal;
+        this.real = r;
+        return this;
+    }
+    
+    /**
+     * The step of Horner's method: multiply the accumulated number and add another.
+     * @param multiplier the complex number that multiplies.
+     * @param addend the complex number that is added to the product.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator fma(final Complex multiplier, final Complex addend) {
+        return this.fma(multiplier.real(), multiplier.imaginary(), addend.real(), addend.imaginary());
+    }
+    
+    /**
+     * Add the product of two complex numbers given by their parts to the accumulated number,
+     * the step of a sum of products.
+     * @param aReal the real part of the multiplier.
+     * @param aImaginary the imaginary part of the multiplier.
+     * @param bReal the real part of the multiplicand.
+     * @param bImaginary the imaginary part of the multiplicand.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator addProduct(final double aReal, final double aImaginary, final double bReal,
+            final double bImaginary) {
+        this.real += aReal * bReal - aImaginary * bImaginary;
+        this.imaginary += aReal * bImaginary + bReal * aImaginary;
+        return this;
+    }
+    
+    /**
+     * Add the product of two complex numbers to the accumulated number.
+     * @param multiplier the complex number that multiplies.
+     * @param multiplicand the complex number that is multiplied.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator addProduct(final Complex multiplier, final Complex multiplicand) {
+        return this.addProduct(multiplier.real(), multiplier.imaginary(), multiplicand.real(), multiplicand.imaginary());
+    }
+    
+    /**
+     * Square the accumulated number; the real part is the product (a - b)(a + b),
+     * which does not cancel as a^2 - b^2 does.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator square() {
+        final double r = (this.real - this.imaginary) * (this.real + this.imaginary);
+        this.imaginary = 2. * this.real * this.imaginary;
+        this.real = r;
+        return this;
+    }
+    
+    /**
+     * Negate the accumulated number.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator negate() {
+        this.real = -this.real;
+        this.imaginary = -this.imaginary;
+        return this;
+    }
+    
+    /**
+     * Conjugate the accumulated number.
+     * @return this accumulator.
+     */
+    public ComplexAccumulator conjugate() {
+        this.imaginary = -this.imaginary;
+        return this;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+/**
+ * The arithmetic of complex numbers split into primitive real parts and imaginary parts,
+ * the companion of {@link org.miaplacidus.mathematics.number.Arithmetic} without boxing:
+ * a complex number cannot be returned as a primitive value, so every operation updates
+ * a {@link ComplexAccumulator} in place with an operand given by its parts, which are read from split buffers
+ * such as those of {@link ComplexArray} by the algorithms of
+ * {@link org.miaplacidus.mathematics.number.ArithmeticAlgorithms}.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public interface ComplexArithmetic {
+    /**
+     * The arithmetic of the complex numbers, with the expressions of {@link ComplexAccumulator}, except the division,
+     * which evaluates the expression of {@link Complex#divide(Complex)} instead of the method of Smith
+     * of {@link ComplexAccumulator#divideBy(double, double)}, so that its results are those of {@link Complex}.
+     */
+    public static final ComplexArithmetic COMPLEX = new ComplexArithmetic() {
+        @Override
+        public ComplexAccumulator zero(final ComplexAccumulator target) {
+            return target.set(0., 0.);
+        }
+
+        @Override
+        public ComplexAccumulator one(final ComplexAccumulator target) {
+            return target.set(1., 0.);
+        }
+
+        @Override
+        public ComplexAccumulator add(final ComplexAccumulator augend, final double real, final double imaginary) {
+            return augend.addTo(real, imaginary);
+        }
+
+        @Override
+        public ComplexAccumulator subtract(final ComplexAccumulator minuend, final double real, final double imaginary) {
+            return minuend.subtractFrom(real, imaginary);
+        }
+
+        @Override
+        public ComplexAccumulator multiply(final ComplexAccumulator multiplier, final double real, final double imaginary) {
+            return multiplier.multiplyBy(real, imaginary);
+        }
+
+        @Override
+        public ComplexAccumulator divide(final ComplexAccumulator dividend, final double real, final double imaginary) {
+            final double denominator = Math.pow(real, 2) + Math.pow(imaginary, 2);
+            return dividend.set((dividend.real() * real + dividend.imaginary() * imaginary) / denominator,
+                    (dividend.imaginary() * real - dividend.real() * imaginary) / denominator);
+        }
+
+        @Override
+        public String toString() {
+            return "complex arithmetic";
+        }
+    };
+
+    /**
+     * Set an accumulator to the identity element of the addition.
+     * @param target the accumulator.
+     * @return the accumulator, which is zero.
+     */
+    public ComplexAccumulator zero(final ComplexAccumulator target);
+
+    /**
+     * Set an accumulator to the identity element of the multiplication.
+     * @param target the accumulator.
+     * @return the accumulator, which is one.
+     */
+    public ComplexAccumulator one(final ComplexAccumulator target);
+
+    /**
+     * Addition in place.
+     * @param augend the accumulator to which the addend is added.
+     * @param real the real part of the addend.
+     * @param imaginary the imaginary part of the addend.
+     * @return the accumulator, which holds the sum.
+     */
+    public ComplexAccumulator add(final ComplexAccumulator augend, final double real, final double imaginary);
+
+    /**
+     * Subtraction in place.
+     * @param minuend the accumulator from which the subtrahend is subtracted.
+     * @param real the real part of the subtrahend.
+     * @param imaginary the imaginary part of the subtrahend.
+     * @return the accumulator, which holds the difference.
+     */
+    public ComplexAccumulator subtract(final ComplexAccumulator minuend, final double real, final double imaginary);
+
+    /**
+     * Multiplication in place.
+     * @param multiplier the accumulator that is multiplied.
+     * @param real the real part of the multiplicand.
+     * @param imaginary the imaginary part of the multiplicand.
+     * @return the accumulator, which holds the product.
+     */
+    public ComplexAccumulator multiply(final ComplexAccumulator multiplier, final double real, final double imaginary);
+
+    /**
+     * Division in place.
+     * @param dividend the accumulator that is divided.
+     * @param real the real part of the divisor.
+     * @param imaginary the imaginary part of the divisor.
+     * @return the accumulator, which holds the quotient.
+     */
+    public ComplexAccumulator divide(final ComplexAccumulator dividend, final double real, final double imaginary);
+}
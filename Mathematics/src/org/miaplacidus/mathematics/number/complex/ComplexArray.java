@@ -0,0 +1,779 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.Arithmetic;
+
+/**
+ * An array of complex numbers stored as two parallel arrays of real parts and imaginary parts.
+ * The element-wise operations mirror those of {@link Complex} and give the same results,
+ * but they write into primitive arrays and allocate nothing per element.
+ * Every operation has a form that allocates a new array for the result
+ * and a form that writes into a provided destination;
+ * passing this array as the destination performs the operation in place.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ComplexArray extends Object implements Serializable, Arithmetic<ComplexArray> {
+    /**
+     * The serial version UID of complex arrays.
+     */
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = Logger.getLogger(ComplexArray.class.getName());
+
+    /**
+     * The real parts of the complex numbers.
+     */
+    private final double[] real;
+
+    /**
+     * The imaginary parts of the complex numbers.
+     */
+    private final double[] imaginary;
+
+    /**
+     * Construct an array of complex numbers that are all zero.
+     * @param length the number of complex numbers.
+     * @throws IllegalArgumentException if the length is smaller than zero.
+     */
+    public ComplexArray(final int length) throws IllegalArgumentException {
+        if (length < 0) {
+            throw new IllegalArgumentException();
+        } else {
+            this.real = new double[length];
+            this.imaginary = new double[length];
+        }
+    }
+
+    /**
+     * Construct an array of complex numbers backed by the provided arrays, which are not copied.
+     * @param real the real parts of the complex numbers.
+     * @param imaginary the imaginary parts of the complex numbers.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public ComplexArray(final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        if (real.length != imaginary.length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.real = real;
+            this.imaginary = imaginary;
+        }
+    }
+
+    /**
+     * Construct an array of complex numbers from the provided complex numbers.
+     * @param numbers the complex numbers.
+     */
+    public ComplexArray(final Complex[] numbers) {
+        this(numbers.length);
+        for (int k = 0; k < numbers.length; k++) {
+            this.real[k] = numbers[k].real();
+            this.imaginary[k] = numbers[k].imaginary();
+        }
+    }
+
+    /**
+     * Construct an array of complex numbers from the provided list of complex numbers.
+     * @param numbers the list of complex numbers.
+     */
+    public ComplexArray(final List<Complex> numbers) {
+        this(numbers.size());
+        int k = 0;
+        for (final Complex number : numbers) {
+            this.real[k] = number.real();
+            this.imaginary[k] = number.imaginary();
+            k++;
+        }
+    }
+
+    /**
+     * Test for equality with another object.
+     * @param object Object that is tested to.
+     * @return true if the objects are equal;
+     * false if object is null, not an instance of ComplexArray or not equal to this.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        } else if (object == null) {
+            return false;
+        } else if (this.getClass() != object.getClass()) {
+            return false;
+        } else {
+            final ComplexArray other = (ComplexArray) object;
+
+            return Arrays.equals(this.real, other.real) && Arrays.equals(this.imaginary, other.imaginary);
+        }
+    }
+
+    /**
+     * Receive the hash code for the array of complex numbers.
+     * @return a hash code for this.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 97 * hash + Arrays.hashCode(this.real);
+        hash = 97 * hash + Arrays.hashCode(this.imaginary);
+        return hash;
+    }
+
+    /**
+     * Serialise this array of complex numbers.
+     * @return a string that represents the array of complex numbers.
+     */
+    @Override
+    public String toString() {
+        return this.toList().toString();
+    }
+
+    /**
+     * The length function.
+     * @return the number of complex numbers in this array.
+     */
+    public int length() {
+        return this.real.length;
+    }
+
+    /**
+     * The real parts of this array, which are not copied.
+     * @return the array that backs the real parts of this array.
+     */
+    public double[] real() {
+        return this.real;
+    }
+
+    /**
+     * The imaginary parts of this array, which are not copied.
+     * @return the array that backs the imaginary parts of this array.
+     */
+    public double[] imaginary() {
+        return this.imaginary;
+    }
+
+    /**
+     * The real part of a complex number of this array.
+     * @param index the index of the complex number.
+     * @return the real part of the complex number at the index.
+     */
+    public double real(final int index) {
+        return this.real[index];
+    }
+
+    /**
+     * The imaginary part of a complex number of this array.
+     * @param index the index of the complex number.
+     * @return the imaginary part of the complex number at the index.
+     */
+    public double imaginary(final int index) {
+        return this.imaginary[index];
+    }
+
+    /**
+     * Receive a complex number of this array.
+     * @param index the index of the complex number.
+     * @return the complex number at the index.
+     */
+    public Complex get(final int index) {
+        return new Complex(this.real[index], this.imaginary[index]);
+    }
+
+    /**
+     * Replace a complex number of this array.
+     * @param index the index of the complex number.
+     * @param number the complex number that is stored at the index.
+     */
+    public void set(final int index, final Complex number) {
+        this.real[index] = number.real();
+        this.imaginary[index] = number.imaginary();
+    }
+
+    /**
+     * Replace a complex number of this array by its real part and imaginary part.
+     * @param index the index of the complex number.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     */
+    public void set(final int index, final double real, final double imaginary) {
+        this.real[index] = real;
+        this.imaginary[index] = imaginary;
+    }
+
+    /**
+     * Copy this array of complex numbers.
+     * @return an array of complex numbers that does not share storage with this.
+     */
+    public ComplexArray copy() {
+        return new ComplexArray(this.real.clone(), this.imaginary.clone());
+    }
+
+    /**
+     * Convert this array to an array of complex numbers.
+     * @return an array of complex numbers with the values of this array.
+     */
+    public Complex[] toArray() {
+        final Complex[] numbers = new Complex[this.real.length];
+        for (int k = 0; k < numbers.length; k++) {
+            numbers[k] = new Complex(this.real[k], this.imaginary[k]);
+        }
+        return numbers;
+    }
+
+    /**
+     * Convert this array to a list of complex numbers.
+     * @return an array list of complex numbers with the values of this array.
+     */
+    public List<Complex> toList() {
+        final List<Complex> numbers = new ArrayList<>(this.real.length);
+        for (int k = 0; k < this.real.length; k++) {
+            numbers.add(new Complex(this.real[k], this.imaginary[k]));
+        }
+        return numbers;
+    }
+
+    /**
+     * The element-wise absolute value function.
+     * @return an array of the absolute values of the complex numbers.
+     */
+    public double[] absolute() {
+        return this.absolute(new double[this.real.length]);
+    }
+
+    /**
+     * The element-wise absolute value function.
+     * @param destination the array that receives the absolute values.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public double[] absolute(final double[] destination) throws IllegalArgumentException {
+        this.checkLength(destination.length);
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            destination[k] = Math.hypot(a[k], b[k]);
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise principle value argument function.
+     * @return an array of the arguments of the complex numbers,
+     * that must lie within the interval (-pi, +pi].
+     */
+    public double[] argument() {
+        return this.argument(new double[this.real.length]);
+    }
+
+    /**
+     * The element-wise principle value argument function.
+     * @param destination the array that receives the arguments.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public double[] argument(final double[] destination) throws IllegalArgumentException {
+        this.checkLength(destination.length);
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            destination[k] = Math.atan2(b[k], a[k]);
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise conjugate function.
+     * @return an array of the complex conjugates.
+     */
+    public ComplexArray conjugate() {
+        return this.conjugate(new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The element-wise conjugate function.
+     * @param destination the array that receives the complex conjugates.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray conjugate(final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            x[k] = a[k];
+            y[k] = -b[k];
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise additive inverse function.
+     * @return an array of the negations.
+     */
+    public ComplexArray negate() {
+        return this.negate(new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The element-wise additive inverse function.
+     * @param destination the array that receives the negations.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray negate(final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            x[k] = -a[k];
+            y[k] = -b[k];
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise complex addition.
+     * @param addend the complex numbers that are added to these augends.
+     * @return an array of the sums.
+     * @throws IllegalArgumentException if the addend does not have the length of this array.
+     */
+    @Override
+    public ComplexArray add(final ComplexArray addend) throws IllegalArgumentException {
+        return this.add(addend, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The element-wise complex addition.
+     * @param addend the complex numbers that are added to these augends.
+     * @param destination the array that receives the sums.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public ComplexArray add(final ComplexArray addend, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(addend.length());
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] c = addend.real;
+        final double[] d = addend.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            x[k] = a[k] + c[k];
+            y[k] = b[k] + d[k];
+        }
+        return destination;
+    }
+
+    /**
+     * The addition of a complex number to every element.
+     * @param addend the complex number that is added to these augends.
+     * @return an array of the sums.
+     */
+    public ComplexArray add(final Complex addend) {
+        return this.add(addend, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The addition of a complex number to every element.
+     * @param addend the complex number that is added to these augends.
+     * @param destination the array that receives the sums.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray add(final Complex addend, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double c = addend.real();
+        final double d = addend.imaginary();
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            x[k] = a[k] + c;
+            y[k] = b[k] + d;
+        }
+        return destination;
+    }
+
+    /**
+     * The addition of a real number to every element.
+     * @param addend the real number that is added to these augends.
+     * @return an array of the sums.
+     */
+    public ComplexArray add(final double addend) {
+        return this.add(addend, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The addition of a real number to every element.
+     * @param addend the real number that is added to these augends.
+     * @param destination the array that receives the sums.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray add(final double addend, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            x[k] = a[k] + addend;
+            y[k] = b[k];
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise subtraction of complex numbers.
+     * @param subtrahend the complex numbers that are subtracted from these minuends.
+     * @return an array of the differences.
+     * @throws IllegalArgumentException if the subtrahend does not have the length of this array.
+     */
+    @Override
+    public ComplexArray subtract(final ComplexArray subtrahend) throws IllegalArgumentException {
+        return this.subtract(subtrahend, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The element-wise subtraction of complex numbers.
+     * @param subtrahend the complex numbers that are subtracted from these minuends.
+     * @param destination the array that receives the differences.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public ComplexArray subtract(final ComplexArray subtrahend, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(subtrahend.length());
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] c = subtrahend.real;
+        final double[] d = subtrahend.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            x[k] = a[k] - c[k];
+            y[k] = b[k] - d[k];
+        }
+        return destination;
+    }
+
+    /**
+     * The subtraction of a complex number from every element.
+     * @param subtrahend the complex number that is subtracted from these minuends.
+     * @return an array of the differences.
+     */
+    public ComplexArray subtract(final Complex subtrahend) {
+        return this.add(subtrahend.negate(), new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The subtraction of a complex number from every element.
+     * @param subtrahend the complex number that is subtracted from these minuends.
+     * @param destination the array that receives the differences.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray subtract(final Complex subtrahend, final ComplexArray destination) throws IllegalArgumentException {
+        return this.add(subtrahend.negate(), destination);
+    }
+
+    /**
+     * The subtraction of a real number from every element.
+     * @param subtrahend the real number that is subtracted from these minuends.
+     * @return an array of the differences.
+     */
+    public ComplexArray subtract(final double subtrahend) {
+        return this.add(-subtrahend, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The subtraction of a real number from every element.
+     * @param subtrahend the real number that is subtracted from these minuends.
+     * @param destination the array that receives the differences.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray subtract(final double subtrahend, final ComplexArray destination) throws IllegalArgumentException {
+        return this.add(-subtrahend, destination);
+    }
+
+    /**
+     * The element-wise multiplication of complex numbers.
+     * @param multiplicand the complex numbers that are multiplied to these multipliers.
+     * @return an array of the products.
+     * @throws IllegalArgumentException if the multiplicand does not have the length of this array.
+     */
+    @Override
+    public ComplexArray multiply(final ComplexArray multiplicand) throws IllegalArgumentException {
+        return this.multiply(multiplicand, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The element-wise multiplication of complex numbers.
+     * @param multiplicand the complex numbers that are multiplied to these multipliers.
+     * @param destination the array that receives the products.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public ComplexArray multiply(final ComplexArray multiplicand, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(multiplicand.length());
+        this.checkLength(destination.length());
+        ComplexKernel.of().multiply(this.real.length, this.real, this.imaginary, multiplicand.real, multiplicand.imaginary,
+                destination.real, destination.imaginary);
+        return destination;
+    }
+
+    /**
+     * The multiplication of every element by a complex number.
+     * @param multiplicand the complex number that is multiplied to these multipliers.
+     * @return an array of the products.
+     */
+    public ComplexArray multiply(final Complex multiplicand) {
+        return this.multiply(multiplicand, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The multiplication of every element by a complex number.
+     * @param multiplicand the complex number that is multiplied to these multipliers.
+     * @param destination the array that receives the products.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray multiply(final Complex multiplicand, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double c = multiplicand.real();
+        final double d = multiplicand.imaginary();
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            final double ak = a[k];
+            final double bk = b[k];
+            x[k] = ak * c - bk * d;
+            y[k] = ak * d + c * bk;
+        }
+        return destination;
+    }
+
+    /**
+     * The multiplication of every element by a real number.
+     * @param multiplicand the real number that is multiplied to these multipliers.
+     * @return an array of the products.
+     */
+    public ComplexArray multiply(final double multiplicand) {
+        return this.multiply(multiplicand, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The multiplication of every element by a real number.
+     * @param multiplicand the real number that is multiplied to these multipliers.
+     * @param destination the array that receives the products.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray multiply(final double multiplicand, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            x[k] = a[k] * multiplicand;
+            y[k] = b[k] * multiplicand;
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise division of complex numbers.
+     * @param divisor the complex numbers that are divided from these dividends.
+     * @return an array of the quotients.
+     * @throws IllegalArgumentException if the divisor does not have the length of this array.
+     */
+    @Override
+    public ComplexArray divide(final ComplexArray divisor) throws IllegalArgumentException {
+        return this.divide(divisor, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The element-wise division of complex numbers.
+     * @param divisor the complex numbers that are divided from these dividends.
+     * @param destination the array that receives the quotients.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public ComplexArray divide(final ComplexArray divisor, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(divisor.length());
+        this.checkLength(destination.length());
+        ComplexKernel.of().divide(this.real.length, this.real, this.imaginary, divisor.real, divisor.imaginary,
+                destination.real, destination.imaginary);
+        return destination;
+    }
+
+    /**
+     * The division of every element by a complex number.
+     * @param divisor the complex number that is divided from these dividends.
+     * @return an array of the quotients.
+     */
+    public ComplexArray divide(final Complex divisor) {
+        return this.divide(divisor, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The division of every element by a complex number.
+     * @param divisor the complex number that is divided from these dividends.
+     * @param destination the array that receives the quotients.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray divide(final Complex divisor, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double c = divisor.real();
+        final double d = divisor.imaginary();
+        final double denominator = c * c + d * d;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            final double ak = a[k];
+            final double bk = b[k];
+            x[k] = (ak * c + bk * d) / denominator;
+            y[k] = (bk * c - ak * d) / denominator;
+        }
+        return destination;
+    }
+
+    /**
+     * The division of every element by a real number.
+     * @param divisor the real number that is divided from these dividends.
+     * @return an array of the quotients.
+     */
+    public ComplexArray divide(final double divisor) {
+        return this.divide(divisor, new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The division of every element by a real number.
+     * @param divisor the real number that is divided from these dividends.
+     * @param destination the array that receives the quotients.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray divide(final double divisor, final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            x[k] = a[k] / divisor;
+            y[k] = b[k] / divisor;
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise exponential function.
+     * @return an array of the exponentials.
+     */
+    public ComplexArray exponentiate() {
+        return this.exponentiate(new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The element-wise exponential function.
+     * @param destination the array that receives the exponentials.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray exponentiate(final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            final double rho = Math.exp(a[k]);
+            final double theta = b[k];
+            x[k] = rho * Math.cos(theta);
+            y[k] = rho * Math.sin(theta);
+        }
+        return destination;
+    }
+
+    /**
+     * The element-wise principle value natural logarithm,
+     * with the branch cut placed at (-infinity, 0].
+     * @return an array of the natural logarithms.
+     */
+    public ComplexArray logarithm() {
+        return this.logarithm(new ComplexArray(this.real.length));
+    }
+
+    /**
+     * The element-wise principle value natural logarithm,
+     * with the branch cut placed at (-infinity, 0].
+     * @param destination the array that receives the natural logarithms.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public ComplexArray logarithm(final ComplexArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        final double[] x = destination.real;
+        final double[] y = destination.imaginary;
+        for (int k = 0; k < a.length; k++) {
+            final double ak = a[k];
+            final double bk = b[k];
+            x[k] = Math.log(Math.hypot(ak, bk));
+            y[k] = Math.atan2(bk, ak);
+        }
+        return destination;
+    }
+
+    /**
+     * Verify that another array has the length of this array.
+     * @param length the length of the other array.
+     * @throws IllegalArgumentException if the lengths differ.
+     */
+    private void checkLength(final int length) throws IllegalArgumentException {
+        if (length != this.real.length) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
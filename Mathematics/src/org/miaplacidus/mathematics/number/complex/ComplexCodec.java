@@ -0,0 +1,407 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+/**
+ * The compact binary codec of sequences of complex numbers, as raw little-endian floating-point numbers
+ * after a header of {@link #HEADER_BYTES} bytes: the magic number "MIACMPLX" in ASCII, the version of the format,
+ * the {@link Layout}, the {@link Precision} and the number of complex numbers.
+ * Files are written and read one chunk of {@link #CHUNK} complex numbers at a time through {@link ByteBuffer},
+ * so that the streams of {@link ComplexWriter} and {@link ComplexReader} can be larger than memory,
+ * and {@link MappedComplexArray} maps a saved array into split real and imaginary buffers without copying it.
+ * A complex number costs 16 bytes, or 8 bytes in {@link Precision#FLOAT}.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ComplexCodec extends Object {
+    /**
+     * The order of the numbers in the data.
+     */
+    public enum Layout {
+        /**
+         * The real and imaginary parts of every complex number follow each other.
+         */
+        INTERLEAVED,
+        /**
+         * The real parts of all the complex numbers are followed by their imaginary parts.
+         */
+        SPLIT
+    }
+
+    /**
+     * The precision of the stored parts.
+     */
+    public enum Precision {
+        /**
+         * The parts are stored as doubles, without loss.
+         */
+        DOUBLE(Double.BYTES),
+        /**
+         * The parts are stored as floats, rounded to nearest.
+         */
+        FLOAT(Float.BYTES);
+
+        private final int bytes;
+
+        Precision(final int bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * The number of bytes of a stored part.
+         * @return the size of a part in bytes.
+         */
+        public int bytes() {
+            return this.bytes;
+        }
+    }
+
+    /**
+     * The length of the header: magic, version, layout, precision, two reserved bytes and length.
+     * It is a multiple of eight, so that the mapped parts are aligned.
+     */
+    public static final int HEADER_BYTES = 24;
+
+    /**
+     * The number of complex numbers of a chunk of the streams.
+     */
+    public static final int CHUNK = 1 << 13;
+
+    /**
+     * The first eight bytes of a file, "MIACMPLX" in ASCII, read as a little-endian long.
+     */
+    static final long MAGIC = 0x584c504d4341494dL;
+
+    /**
+     * The version of the format, changed whenever the layout of the header changes.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The length of a stream whose writer was not closed.
+     */
+    static final long UNKNOWN = -1L;
+
+    private static final Logger LOG = Logger.getLogger(ComplexCodec.class.getName());
+
+    /**
+     * The header of encoded complex numbers.
+     */
+    static final class Header extends Object {
+        final Layout layout;
+        final Precision precision;
+        final long length;
+
+        Header(final Layout layout, final Precision precision, final long length) {
+            this.layout = layout;
+            this.precision = precision;
+            this.length = length;
+        }
+
+        /**
+         * The number of bytes of the data that follow the header.
+         * @return the size of the data.
+         */
+        long dataBytes() {
+            return 2 * this.length * this.precision.bytes;
+        }
+
+        /**
+         * Write the header.
+         * @param buffer a little-endian buffer with at least {@link #HEADER_BYTES} bytes remaining.
+         * @return the buffer.
+         */
+        ByteBuffer put(final ByteBuffer buffer) {
+            return buffer.putLong(MAGIC).putInt(VERSION).put((byte) this.layout.ordinal())
+                    .put((byte) this.precision.ordinal()).putShort((short) 0).putLong(this.length);
+        }
+
+        /**
+         * Read a header.
+         * @param buffer a little-endian buffer with at least {@link #HEADER_BYTES} bytes remaining.
+         * @return the header, whose length is {@link #UNKNOWN} if its writer was not closed,
+         * or null if the bytes are not a valid header.
+         */
+        static Header get(final ByteBuffer buffer) {
+            final long magic = buffer.getLong();
+            final int version = buffer.getInt();
+            final int layout = buffer.get();
+            final int precision = buffer.get();
+            buffer.getShort();
+            final long length = buffer.getLong();
+            if (magic != MAGIC || version != VERSION || layout < 0 || layout >= Layout.values().length
+                    || precision < 0 || precision >= Precision.values().length
+                    || length < UNKNOWN || length > Long.MAX_VALUE / 2 / Double.BYTES) {
+                return null;
+            } else {
+                return new Header(Layout.values()[layout], Precision.values()[precision], length);
+            }
+        }
+
+        /**
+         * Read and check the header of a file.
+         * @param channel the channel of the file.
+         * @param path the path of the file.
+         * @return the header.
+         * @throws IOException if the file is not a complete file of complex numbers.
+         */
+        static Header read(final FileChannel channel, final Path path) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    throw new IOException("Truncated complex file " + path);
+                }
+            }
+            final Header header = get(buffer.flip());
+            if (header == null) {
+                throw new IOException("Invalid complex file " + path);
+            } else if (header.length == UNKNOWN || channel.size() != HEADER_BYTES + header.dataBytes()) {
+                throw new IOException("Incomplete complex file " + path);
+            } else {
+                return header;
+            }
+        }
+    }
+
+    /**
+     * Encode complex numbers into a new little-endian buffer, header included.
+     * @param numbers the complex numbers.
+     * @param layout the layout of the data.
+     * @param precision the precision of the data.
+     * @return the buffer, from the header to the end of the data.
+     * @throws IllegalArgumentException if the encoding is larger than a buffer.
+     */
+    public static ByteBuffer encode(final ComplexArray numbers, final Layout layout, final Precision precision)
+            throws IllegalArgumentException {
+        final int length = numbers.length();
+        final Header header = new Header(layout, precision, length);
+        if (header.dataBytes() > Integer.MAX_VALUE - HEADER_BYTES) {
+            throw new IllegalArgumentException();
+        } else {
+            final ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + (int) header.dataBytes())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            header.put(buffer);
+            if (layout == Layout.SPLIT) {
+                putParts(buffer, precision, numbers.real(), 0, length);
+                putParts(buffer, precision, numbers.imaginary(), 0, length);
+            } else {
+                putInterleaved(buffer, precision, numbers.real(), numbers.imaginary(), 0, length);
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Decode complex numbers from a buffer, whose position is moved past them.
+     * @param buffer a buffer positioned at a header written by {@link #encode(ComplexArray, Layout, Precision)}.
+     * @return the complex numbers.
+     * @throws IllegalArgumentException if the buffer does not hold a valid header followed by its data.
+     */
+    public static ComplexArray decode(final ByteBuffer buffer) throws IllegalArgumentException {
+        final ByteBuffer data = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        final Header header = data.remaining() < HEADER_BYTES ? null : Header.get(data);
+        if (header == null || header.length == UNKNOWN || header.dataBytes() > data.remaining()) {
+            throw new IllegalArgumentException();
+        } else {
+            final int length = (int) header.length;
+            final ComplexArray numbers = new ComplexArray(length);
+            if (header.layout == Layout.SPLIT) {
+                getParts(data, header.precision, numbers.real(), 0, length);
+                getParts(data, header.precision, numbers.imaginary(), 0, length);
+            } else {
+                getInterleaved(data, header.precision, numbers.real(), numbers.imaginary(), 0, length);
+            }
+            buffer.position(buffer.position() + data.position());
+            return numbers;
+        }
+    }
+
+    /**
+     * Write complex numbers to a file in the split layout and in double precision.
+     * @param path the path of the file.
+     * @param numbers the complex numbers.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(final Path path, final ComplexArray numbers) throws IOException {
+        ComplexCodec.write(path, numbers, Layout.SPLIT, Precision.DOUBLE);
+    }
+
+    /**
+     * Write complex numbers to a file, one chunk at a time.
+     * @param path the path of the file.
+     * @param numbers the complex numbers.
+     * @param layout the layout of the data.
+     * @param precision the precision of the data.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(final Path path, final ComplexArray numbers, final Layout layout,
+            final Precision precision) throws IOException {
+        final int length = numbers.length();
+        final ByteBuffer buffer = chunk(precision);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            drain(channel, new Header(layout, precision, length).put(buffer).flip());
+            if (layout == Layout.SPLIT) {
+                final int parts = 2 * CHUNK;
+                for (final double[] array : new double[][] {numbers.real(), numbers.imaginary()}) {
+                    for (int from = 0; from < length; from += parts) {
+                        putParts(buffer.clear(), precision, array, from, Math.min(parts, length - from));
+                        drain(channel, buffer.flip());
+                    }
+                }
+            } else {
+                for (int from = 0; from < length; from += CHUNK) {
+                    putInterleaved(buffer.clear(), precision, numbers.real(), numbers.imaginary(), from,
+                            Math.min(CHUNK, length - from));
+                    drain(channel, buffer.flip());
+                }
+            }
+        }
+    }
+
+    /**
+     * Read complex numbers from a file of any layout and precision, one chunk at a time.
+     * @param path the path of the file.
+     * @return the complex numbers.
+     * @throws IOException if the file cannot be read or is not a valid file of complex numbers.
+     * @throws IllegalArgumentException if the file holds more complex numbers than an array.
+     */
+    public static ComplexArray read(final Path path) throws IOException, IllegalArgumentException {
+        try (ComplexReader reader = new ComplexReader(path)) {
+            if (reader.length() > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException();
+            } else {
+                final ComplexArray numbers = new ComplexArray((int) reader.length());
+                reader.read(numbers.real(), numbers.imaginary(), 0, numbers.length());
+                return numbers;
+            }
+        }
+    }
+
+    /**
+     * A new little-endian direct buffer of a chunk of complex numbers.
+     * @param precision the precision of the parts.
+     * @return the buffer.
+     */
+    static ByteBuffer chunk(final Precision precision) {
+        return ByteBuffer.allocateDirect(2 * CHUNK * precision.bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Write the remaining bytes of a buffer to a channel.
+     * @param channel the channel.
+     * @param buffer the buffer.
+     * @throws IOException if the bytes cannot be written.
+     */
+    static void drain(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Put parts of complex numbers into a little-endian buffer at its position, which is moved past them.
+     */
+    static void putParts(final ByteBuffer buffer, final Precision precision, final double[] parts, final int from,
+            final int count) {
+        if (precision == Precision.DOUBLE) {
+            buffer.asDoubleBuffer().put(parts, from, count);
+        } else {
+            final FloatBuffer view = buffer.asFloatBuffer();
+            for (int k = from; k < from + count; k++) {
+                view.put((float) parts[k]);
+            }
+        }
+        buffer.position(buffer.position() + count * precision.bytes);
+    }
+
+    /**
+     * Put interleaved complex numbers into a little-endian buffer at its position, which is moved past them.
+     */
+    static void putInterleaved(final ByteBuffer buffer, final Precision precision, final double[] real,
+            final double[] imaginary, final int from, final int count) {
+        if (precision == Precision.DOUBLE) {
+            final DoubleBuffer view = buffer.asDoubleBuffer();
+            for (int k = from; k < from + count; k++) {
+                view.put(real[k]).put(imaginary[k]);
+            }
+        } else {
+            final FloatBuffer view = buffer.asFloatBuffer();
+            for (int k = from; k < from + count; k++) {
+                view.put((float) real[k]).put((float) imaginary[k]);
+            }
+        }
+        buffer.position(buffer.position() + 2 * count * precision.bytes);
+    }
+
+    /**
+     * Get parts of complex numbers from a little-endian buffer at its position, which is moved past them.
+     */
+    static void getParts(final ByteBuffer buffer, final Precision precision, final double[] parts, final int offset,
+            final int count) {
+        if (precision == Precision.DOUBLE) {
+            buffer.asDoubleBuffer().get(parts, offset, count);
+        } else {
+            final FloatBuffer view = buffer.asFloatBuffer();
+            for (int k = offset; k < offset + count; k++) {
+                parts[k] = view.get();
+            }
+        }
+        buffer.position(buffer.position() + count * precision.bytes);
+    }
+
+    /**
+     * Get interleaved complex numbers from a little-endian buffer at its position, which is moved past them.
+     */
+    static void getInterleaved(final ByteBuffer buffer, final Precision precision, final double[] real,
+            final double[] imaginary, final int offset, final int count) {
+        if (precision == Precision.DOUBLE) {
+            final DoubleBuffer view = buffer.asDoubleBuffer();
+            for (int k = offset; k < offset + count; k++) {
+                real[k] = view.get();
+                imaginary[k] = view.get();
+            }
+        } else {
+            final FloatBuffer view = buffer.asFloatBuffer();
+            for (int k = offset; k < offset + count; k++) {
+                real[k] = view.get();
+                imaginary[k] = view.get();
+            }
+        }
+        buffer.position(buffer.position() + 2 * count * precision.bytes);
+    }
+
+    private ComplexCodec() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.util.logging.Logger;
+
+/**
+ * Bulk complex arithmetic on buffers of primitive doubles, either split into arrays of real parts and
+ * imaginary parts, or interleaved as real and imaginary parts of consecutive numbers in one array.
+ * The kernel of {@link #of()} uses the incubating Vector API where it is available: its classes are compiled
+ * from a separate source root for a later release, loaded by reflection, and replaced by the scalar kernel
+ * when the runtime does not provide the module jdk.incubator.vector or when the system property
+ * {@value #VECTOR_PROPERTY} is false.
+ * The products, the quotients and the accumulations are the same, bit for bit, as those of {@link Complex};
+ * the absolute values and the arguments of the vector kernel are within one unit in the last place
+ * of {@link Math#hypot(double, double)} and {@link Math#atan2(double, double)}.
+ * Every operation may write into one of its operands.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public abstract class ComplexKernel extends Object {
+    /**
+     * The system property that disables the vector kernel when it is false.
+     */
+    public static final String VECTOR_PROPERTY = "org.miaplacidus.mathematics.vector";
+    
+    /**
+     * The name of the class of the vector kernel.
+     */
+    private static final String VECTOR_KERNEL = "org.miaplacidus.mathematics.number.complex.VectorComplexKernel";
+    
+    private static final Logger LOG = Logger.getLogger(ComplexKernel.class.getName());
+    
+    private static final ComplexKernel SCALAR = new ScalarComplexKernel();
+    
+    private static final ComplexKernel KERNEL = load();
+    
+    /**
+     * Receive the fastest kernel of the runtime, which is chosen once.
+     * @return the vector kernel if it is available and enabled, the scalar kernel otherwise.
+     */
+    public static ComplexKernel of() {
+        return KERNEL;
+    }
+    
+    /**
+     * Receive the scalar kernel, which is always available.
+     * @return the scalar kernel.
+     */
+    public static ComplexKernel scalar() {
+        return SCALAR;
+    }
+    
+    /**
+     * Load the vector kernel by reflection, or fall back to the scalar kernel.
+     * @return the kernel of the runtime.
+     */
+    private static ComplexKernel load() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+            return SCALAR;
+        } else {
+            try {
+                return (ComplexKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+            } catch (final ReflectiveOperationException | LinkageError | RuntimeException exception) {
+                LOG.fine(() -> "The vector kernel is not available: " + exception);
+                return SCALAR;
+            }
+        }
+    }
+    
+    /**
+     * The number of doubles that the kernel processes at once.
+     * @return the number of lanes of the vectors of the kernel, one for the scalar kernel.
+     */
+    public abstract int lanes();
+    
+    /**
+     * The element-wise multiplication of split complex numbers, (a + bi)(c + di).
+     * @param aReal the real parts of the multipliers.
+     * @param aImaginary the imaginary parts of the multipliers.
+     * @param bReal the real parts of the multiplicands.
+     * @param bImaginary the imaginary parts of the multiplicands.
+     * @param real the array that receives the real parts of the products.
+     * @param imaginary the array that receives the imaginary parts of the products.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public final void multiply(final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        checkLengths(aReal, aImaginary, bReal, bImaginary, real, imaginary);
+        this.multiply(aReal.length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    /**
+     * The element-wise multiply-accumulate of split complex numbers, which adds the products to the accumulators.
+     * @param aReal the real parts of the multipliers.
+     * @param aImaginary the imaginary parts of the multipliers.
+     * @param bReal the real parts of the multiplicands.
+     * @param bImaginary the imaginary parts of the multiplicands.
+     * @param real the real parts of the accumulators.
+     * @param imaginary the imaginary parts of the accumulators.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public final void multiplyAccumulate(final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        checkLengths(aReal, aImaginary, bReal, bImaginary, real, imaginary);
+        this.multiplyAccumulate(aReal.length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    /**
+     * The multiply-accumulate of a range of split complex numbers by one complex number,
+     * which adds the products to a range of accumulators; the ranges may begin at different offsets,
+     * but they must not overlap unless they are the same range.
+     * @param aReal the real part of the multiplier.
+     * @param aImaginary the imaginary part of the multiplier.
+     * @param bReal the real parts of the multiplicands.
+     * @param bImaginary the imaginary parts of the multiplicands.
+     * @param from the index of the first multiplicand.
+     * @param real the real parts of the accumulators.
+     * @param imaginary the imaginary parts of the accumulators.
+     * @param offset the index of the first accumulator.
+     * @param length the number of multiplicands and accumulators.
+     * @throws IllegalArgumentException if a range does not lie within its arrays.
+     */
+    public final void scaleAccumulate(final double aReal, final double aImaginary, final double[] bReal,
+            final double[] bImaginary, final int from, final double[] real, final double[] imaginary, final int offset,
+            final int length) throws IllegalArgumentException {
+        if (length < 0 || from < 0 || offset < 0 || from > Math.min(bReal.length, bImaginary.length) - length
+                || offset > Math.min(real.length, imaginary.length) - length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.scaleAccumulate(length, aReal, aImaginary, bReal, bImaginary, from, real, imaginary, offset);
+        }
+    }
+    
+    /**
+     * The element-wise multiplication of split complex numbers by the conjugates of others, (a + bi)(c - di).
+     * @param aReal the real parts of the multipliers.
+     * @param aImaginary the imaginary parts of the multipliers.
+     * @param bReal the real parts of the multiplicands, which are conjugated.
+     * @param bImaginary the imaginary parts of the multiplicands, which are conjugated.
+     * @param real the array that receives the real parts of the products.
+     * @param imaginary the array that receives the imaginary parts of the products.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public final void conjugateMultiply(final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        checkLengths(aReal, aImaginary, bReal, bImaginary, real, imaginary);
+        this.conjugateMultiply(aReal.length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    /**
+     * The element-wise division of split complex numbers.
+     * @param aReal the real parts of the dividends.
+     * @param aImaginary the imaginary parts of the dividends.
+     * @param bReal the real parts of the divisors.
+     * @param bImaginary the imaginary parts of the divisors.
+     * @param real the array that receives the real parts of the quotients.
+     * @param imaginary the array that receives the imaginary parts of the quotients.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public final void divide(final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        checkLengths(aReal, aImaginary, bReal, bImaginary, real, imaginary);
+        this.divide(aReal.length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    /**
+     * The element-wise absolute value of split complex numbers.
+     * @param real the real parts of the complex numbers.
+     * @param imaginary the imaginary parts of the complex numbers.
+     * @param result the array that receives the absolute values.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public final void absolute(final double[] real, final double[] imaginary, final double[] result)
+            throws IllegalArgumentException {
+        checkLengths(real, imaginary, result, result, result, result);
+        this.absolute(real.length, real, imaginary, result);
+    }
+    
+    /**
+     * The element-wise principal value argument of split complex numbers.
+     * @param real the real parts of the complex numbers.
+     * @param imaginary the imaginary parts of the complex numbers.
+     * @param result the array that receives the arguments, which lie within the interval (-pi, +pi].
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public final void argument(final double[] real, final double[] imaginary, final double[] result)
+            throws IllegalArgumentException {
+        checkLengths(real, imaginary, result, result, result, result);
+        this.argument(real.length, real, imaginary, result);
+    }
+    
+    /**
+     * The element-wise multiplication of interleaved complex numbers.
+     * @param a the interleaved multipliers.
+     * @param b the interleaved multiplicands.
+     * @param result the array that receives the interleaved products.
+     * @throws IllegalArgumentException if the arrays do not have the same even length.
+     */
+    public final void multiplyInterleaved(final double[] a, final double[] b, final double[] result)
+            throws IllegalArgumentException {
+        checkInterleaved(a, b, result);
+        this.multiplyInterleaved(a.length, a, b, result);
+    }
+    
+    /**
+     * The element-wise multiply-accumulate of interleaved complex numbers.
+     * @param a the interleaved multipliers.
+     * @param b the interleaved multiplicands.
+     * @param accumulator the interleaved accumulators, to which the products are added.
+     * @throws IllegalArgumentException if the arrays do not have the same even length.
+     */
+    public final void multiplyAccumulateInterleaved(final double[] a, final double[] b, final double[] accumulator)
+            throws IllegalArgumentException {
+        checkInterleaved(a, b, accumulator);
+        this.multiplyAccumulateInterleaved(a.length, a, b, accumulator);
+    }
+    
+    /**
+     * The element-wise multiplication of interleaved complex numbers by the conjugates of others.
+     * @param a the interleaved multipliers.
+     * @param b the interleaved multiplicands, which are conjugated.
+     * @param result the array that receives the interleaved products.
+     * @throws IllegalArgumentException if the arrays do not have the same even length.
+     */
+    public final void conjugateMultiplyInterleaved(final double[] a, final double[] b, final double[] result)
+            throws IllegalArgumentException {
+        checkInterleaved(a, b, result);
+        this.conjugateMultiplyInterleaved(a.length, a, b, result);
+    }
+    
+    /**
+     * The element-wise division of interleaved complex numbers.
+     * @param a the interleaved dividends.
+     * @param b the interleaved divisors.
+     * @param result the array that receives the interleaved quotients.
+     * @throws IllegalArgumentException if the arrays do not have the same even length.
+     */
+    public final void divideInterleaved(final double[] a, final double[] b, final double[] result)
+            throws IllegalArgumentException {
+        checkInterleaved(a, b, result);
+        this.divideInterleaved(a.length, a, b, result);
+    }
+    
+    /**
+     * The element-wise absolute value of interleaved complex numbers.
+     * @param z the interleaved complex numbers.
+     * @param result the array that receives the absolute values, half as long as the complex numbers.
+     * @throws IllegalArgumentException if the complex numbers are not twice as long as the result.
+     */
+    public final void absoluteInterleaved(final double[] z, final double[] result) throws IllegalArgumentException {
+        if (z.length != 2 * result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.absoluteInterleaved(result.length, z, result);
+        }
+    }
+    
+    /**
+     * The element-wise principal value argument of interleaved complex numbers.
+     * @param z the interleaved complex numbers.
+     * @param result the array that receives the arguments, half as long as the complex numbers.
+     * @throws IllegalArgumentException if the complex numbers are not twice as long as the result.
+     */
+    public final void argumentInterleaved(final double[] z, final double[] result) throws IllegalArgumentException {
+        if (z.length != 2 * result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.argumentInterleaved(result.length, z, result);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " of " + this.lanes() + " lanes";
+    }
+    
+    /**
+     * The multiplication of split arrays whose lengths are verified.
+     */
+    abstract void multiply(int length, double[] aReal, double[] aImaginary, double[] bReal, double[] bImaginary,
+            double[] real, double[] imaginary);
+    
+    /**
+     * The multiply-accumulate of split arrays whose lengths are verified.
+     */
+    abstract void multiplyAccumulate(int length, double[] aReal, double[] aImaginary, double[] bReal,
+            double[] bImaginary, double[] real, double[] imaginary);
+    
+    /**
+     * The multiply-accumulate by one complex number of split ranges that are verified.
+     */
+    abstract void scaleAccumulate(int length, double aReal, double aImaginary, double[] bReal, double[] bImaginary,
+            int from, double[] real, double[] imaginary, int offset);
+    
+    /**
+     * The conjugate multiplication of split arrays whose lengths are verified.
+     */
+    abstract void conjugateMultiply(int length, double[] aReal, double[] aImaginary, double[] bReal,
+            double[] bImaginary, double[] real, double[] imaginary);
+    
+    /**
+     * The division of split arrays whose lengths are verified.
+     */
+    abstract void divide(int length, double[] aReal, double[] aImaginary, double[] bReal, double[] bImaginary,
+            double[] real, double[] imaginary);
+    
+    /**
+     * The absolute values of split arrays whose lengths are verified.
+     */
+    abstract void absolute(int length, double[] real, double[] imaginary, double[] result);
+    
+    /**
+     * The arguments of split arrays whose lengths are verified.
+     */
+    abstract void argument(int length, double[] real, double[] imaginary, double[] result);
+    
+    /**
+     * The multiplication of interleaved arrays of a verified even length.
+     */
+    abstract void multiplyInterleaved(int length, double[] a, double[] b, double[] result);
+    
+    /**
+     * The multiply-accumulate of interleaved arrays of a verified even length.
+     */
+    abstract void multiplyAccumulateInterleaved(int length, double[] a, double[] b, double[] accumulator);
+    
+    /**
+     * The conjugate multiplication of interleaved arrays of a verified even length.
+     */
+    abstract void conjugateMultiplyInterleaved(int length, double[] a, double[] b, double[] result);
+    
+    /**
+     * The division of interleaved arrays of a verified even length.
+     */
+    abstract void divideInterleaved(int length, double[] a, double[] b, double[] result);
+    
+    /**
+     * The absolute values of a verified number of interleaved complex numbers.
+     */
+    abstract void absoluteInterleaved(int count, double[] z, double[] result);
+    
+    /**
+     * The arguments of a verified number of interleaved complex numbers.
+     */
+    abstract void argumentInterleaved(int count, double[] z, double[] result);
+    
+    /**
+     * Verify that split arrays have the same length.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    private static void checkLengths(final double[] a, final double[] b, final double[] c, final double[] d,
+            final double[] e, final double[] f) throws IllegalArgumentException {
+        final int length = a.length;
+        if (b.length != length || c.length != length || d.length != length || e.length != length || f.length != length) {
+            throw new IllegalArgumentException();
+        }
+    }
+    
+    /**
+     * Verify that interleaved arrays have the same even length.
+     * @throws IllegalArgumentException if the arrays do not have the same even length.
+     */
+    private static void checkInterleaved(final double[] a, final double[] b, final double[] c)
+            throws IllegalArgumentException {
+        if (a.length % 2 != 0 || b.length != a.length || c.length != a.length) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Header;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Layout;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Precision;
+
+/**
+ * A stream that reads the complex numbers of a file of {@link ComplexCodec} in order,
+ * one chunk of at most {@link ComplexCodec#CHUNK} complex numbers at a time, so that the file may be larger than memory.
+ * Both layouts are read by positional reads: the split layout reads the real and imaginary parts
+ * of a chunk from their own halves of the file.
+ * A reader is not thread-safe.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ComplexReader extends Object implements Closeable {
+    private static final Logger LOG = Logger.getLogger(ComplexReader.class.getName());
+
+    private final FileChannel channel;
+
+    private final Header header;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * The number of complex numbers read.
+     */
+    private long position;
+
+    /**
+     * Open a stream over the complex numbers of a file.
+     * @param path the path of the file.
+     * @throws IOException if the file cannot be read or is not a valid file of complex numbers.
+     */
+    public ComplexReader(final Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.header = Header.read(this.channel, path);
+        } catch (final IOException exception) {
+            this.channel.close();
+            throw exception;
+        }
+        this.buffer = ComplexCodec.chunk(this.header.precision);
+        this.position = 0;
+    }
+
+    /**
+     * The layout of the file.
+     * @return the layout.
+     */
+    public Layout layout() {
+        return this.header.layout;
+    }
+
+    /**
+     * The precision of the file.
+     * @return the precision.
+     */
+    public Precision precision() {
+        return this.header.precision;
+    }
+
+    /**
+     * The number of complex numbers of the file.
+     * @return the length of the stream.
+     */
+    public long length() {
+        return this.header.length;
+    }
+
+    /**
+     * The number of complex numbers that are not read yet.
+     * @return the remaining length of the stream.
+     */
+    public long remaining() {
+        return this.header.length - this.position;
+    }
+
+    /**
+     * Read the next complex numbers into split arrays.
+     * @param real the array that receives the real parts.
+     * @param imaginary the array that receives the imaginary parts.
+     * @param offset the index of the first complex number in the arrays.
+     * @param count the largest number of complex numbers to read.
+     * @return the number of complex numbers read, the smaller of the count and the remaining length,
+     * or -1 if the stream is at its end.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the range is not within the arrays.
+     */
+    public int read(final double[] real, final double[] imaginary, final int offset, final int count)
+            throws IOException, IllegalArgumentException {
+        if (count < 0 || offset < 0 || offset > Math.min(real.length, imaginary.length) - count) {
+            throw new IllegalArgumentException();
+        } else if (this.position == this.header.length && count > 0) {
+            return -1;
+        } else {
+            final int total = (int) Math.min(count, this.remaining());
+            final Precision precision = this.header.precision;
+            final long data = ComplexCodec.HEADER_BYTES;
+            for (int k = 0; k < total; ) {
+                final int n = Math.min(total - k, ComplexCodec.CHUNK);
+                if (this.header.layout == Layout.SPLIT) {
+                    final ByteBuffer realBytes = this.fill(data + this.position * precision.bytes(),
+                            0, n * precision.bytes());
+                    final ByteBuffer imaginaryBytes = this.fill(data + (this.header.length + this.position)
+                            * precision.bytes(), n * precision.bytes(), n * precision.bytes());
+                    ComplexCodec.getParts(realBytes, precision, real, offset + k, n);
+                    ComplexCodec.getParts(imaginaryBytes, precision, imaginary, offset + k, n);
+                } else {
+                    final ByteBuffer bytes = this.fill(data + 2 * this.position * precision.bytes(), 0,
+                            2 * n * precision.bytes());
+                    ComplexCodec.getInterleaved(bytes, precision, real, imaginary, offset + k, n);
+                }
+                this.position += n;
+                k += n;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Read the next complex numbers into a new array.
+     * @param count the largest number of complex numbers to read.
+     * @return the complex numbers read, fewer than the count at the end of the stream.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the count is smaller than zero.
+     */
+    public ComplexArray read(final int count) throws IOException, IllegalArgumentException {
+        final ComplexArray numbers = new ComplexArray((int) Math.min(count, this.remaining()));
+        this.read(numbers.real(), numbers.imaginary(), 0, numbers.length());
+        return numbers;
+    }
+
+    /**
+     * Fill a region of the buffer with bytes of the file.
+     * @param from the position of the bytes in the file.
+     * @param offset the position of the region in the buffer.
+     * @param bytes the number of bytes.
+     * @return a little-endian buffer over the region.
+     * @throws IOException if the file cannot be read.
+     */
+    private ByteBuffer fill(final long from, final int offset, final int bytes) throws IOException {
+        final ByteBuffer region = this.buffer.duplicate().order(this.buffer.order());
+        region.limit(offset + bytes).position(offset);
+        while (region.hasRemaining()) {
+            if (this.channel.read(region, from + region.position() - offset) < 0) {
+                throw new EOFException();
+            }
+        }
+        return region.position(offset);
+    }
+
+    /**
+     * Close the file.
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Header;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Layout;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Precision;
+
+/**
+ * A stream that writes complex numbers to a file of {@link ComplexCodec} in the interleaved layout,
+ * buffering one chunk of {@link ComplexCodec#CHUNK} complex numbers, so that the file may be larger than memory.
+ * The length of the stream is written into the header when the stream is closed;
+ * until then, readers reject the file as incomplete.
+ * A writer is not thread-safe.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ComplexWriter extends Object implements Closeable {
+    private static final Logger LOG = Logger.getLogger(ComplexWriter.class.getName());
+
+    private final FileChannel channel;
+
+    private final Precision precision;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * The number of complex numbers written.
+     */
+    private long length;
+
+    /**
+     * Open a stream that writes complex numbers in double precision, replacing the file.
+     * @param path the path of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public ComplexWriter(final Path path) throws IOException {
+        this(path, Precision.DOUBLE);
+    }
+
+    /**
+     * Open a stream that writes complex numbers, replacing the file.
+     * @param path the path of the file.
+     * @param precision the precision of the data.
+     * @throws IOException if the file cannot be written.
+     */
+    public ComplexWriter(final Path path, final Precision precision) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.precision = precision;
+        this.buffer = ComplexCodec.chunk(precision);
+        new Header(Layout.INTERLEAVED, precision, ComplexCodec.UNKNOWN).put(this.buffer);
+        this.length = 0;
+    }
+
+    /**
+     * Write a complex number.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(final double real, final double imaginary) throws IOException {
+        if (this.buffer.remaining() < 2 * this.precision.bytes()) {
+            this.flush();
+        }
+        if (this.precision == Precision.DOUBLE) {
+            this.buffer.putDouble(real).putDouble(imaginary);
+        } else {
+            this.buffer.putFloat((float) real).putFloat((float) imaginary);
+        }
+        this.length++;
+    }
+
+    /**
+     * Write a complex number.
+     * @param number the complex number.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(final Complex number) throws IOException {
+        this.write(number.real(), number.imaginary());
+    }
+
+    /**
+     * Write complex numbers.
+     * @param numbers the complex numbers.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(final ComplexArray numbers) throws IOException {
+        this.write(numbers.real(), numbers.imaginary(), 0, numbers.length());
+    }
+
+    /**
+     * Write a range of split complex numbers.
+     * @param real the real parts of the complex numbers.
+     * @param imaginary the imaginary parts of the complex numbers.
+     * @param from the index of the first complex number.
+     * @param count the number of complex numbers.
+     * @throws IOException if the file cannot be written.
+     * @throws IllegalArgumentException if the range is not within the arrays.
+     */
+    public void write(final double[] real, final double[] imaginary, final int from, final int count)
+            throws IOException, IllegalArgumentException {
+        if (count < 0 || from < 0 || from > Math.min(real.length, imaginary.length) - count) {
+            throw new IllegalArgumentException();
+        } else {
+            final int bytes = 2 * this.precision.bytes();
+            int k = from;
+            while (k < from + count) {
+                if (this.buffer.remaining() < bytes) {
+                    this.flush();
+                }
+                final int n = Math.min(from + count - k, this.buffer.remaining() / bytes);
+                ComplexCodec.putInterleaved(this.buffer, this.precision, real, imaginary, k, n);
+                k += n;
+            }
+            this.length += count;
+        }
+    }
+
+    /**
+     * The number of complex numbers written so far.
+     * @return the length of the stream.
+     */
+    public long length() {
+        return this.length;
+    }
+
+    /**
+     * Write the buffered complex numbers to the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void flush() throws IOException {
+        ComplexCodec.drain(this.channel, this.buffer.flip());
+        this.buffer.clear();
+    }
+
+    /**
+     * Write the buffered complex numbers and the length of the stream to the file, and close it.
+     * @throws IOException if the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.channel.isOpen()) {
+            try (FileChannel file = this.channel) {
+                this.flush();
+                final ByteBuffer header = ByteBuffer.allocate(ComplexCodec.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                new Header(Layout.INTERLEAVED, this.precision, this.length).put(header).flip();
+                while (header.hasRemaining()) {
+                    file.write(header, header.position());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Header;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Layout;
+import org.miaplacidus.mathematics.number.complex.ComplexCodec.Precision;
+
+/**
+ * A read-only array of complex numbers mapped from a file of {@link ComplexCodec}, without copying it.
+ * The real and imaginary parts are read from two little-endian buffers over the mapped file:
+ * the halves of the file in the split layout, or two strided views of the same bytes in the interleaved layout.
+ * The pages of the file are loaded by the operating system when they are read, and the mapping remains valid
+ * after the file is closed. Every part of a mapped file is limited to 2 GiB.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class MappedComplexArray extends Object {
+    private static final Logger LOG = Logger.getLogger(MappedComplexArray.class.getName());
+
+    private final Layout layout;
+
+    private final Precision precision;
+
+    private final int length;
+
+    /**
+     * The number of bytes between consecutive parts of a buffer.
+     */
+    private final int stride;
+
+    /**
+     * The buffer of the real parts.
+     */
+    private final ByteBuffer real;
+
+    /**
+     * The buffer of the imaginary parts.
+     */
+    private final ByteBuffer imaginary;
+
+    private MappedComplexArray(final Header header, final int stride, final ByteBuffer real,
+            final ByteBuffer imaginary) {
+        this.layout = header.layout;
+        this.precision = header.precision;
+        this.length = (int) header.length;
+        this.stride = stride;
+        this.real = real.order(ByteOrder.LITTLE_ENDIAN);
+        this.imaginary = imaginary.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Map the complex numbers of a file.
+     * @param path the path of the file.
+     * @return the mapped array.
+     * @throws IOException if the file cannot be read or is not a valid file of complex numbers.
+     * @throws IllegalArgumentException if a part of the file is larger than 2 GiB.
+     */
+    public static MappedComplexArray map(final Path path) throws IOException, IllegalArgumentException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final Header header = Header.read(channel, path);
+            final long bytes = header.precision.bytes();
+            if (header.layout == Layout.SPLIT) {
+                final long half = header.length * bytes;
+                if (half > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException();
+                } else {
+                    return new MappedComplexArray(header, (int) bytes,
+                            channel.map(FileChannel.MapMode.READ_ONLY, ComplexCodec.HEADER_BYTES, half),
+                            channel.map(FileChannel.MapMode.READ_ONLY, ComplexCodec.HEADER_BYTES + half, half));
+                }
+            } else if (header.dataBytes() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException();
+            } else {
+                final ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, ComplexCodec.HEADER_BYTES,
+                        header.dataBytes());
+                return new MappedComplexArray(header, 2 * (int) bytes, data, data.duplicate());
+            }
+        }
+    }
+
+    /**
+     * The layout of the file.
+     * @return the layout.
+     */
+    public Layout layout() {
+        return this.layout;
+    }
+
+    /**
+     * The precision of the file.
+     * @return the precision.
+     */
+    public Precision precision() {
+        return this.precision;
+    }
+
+    /**
+     * The number of complex numbers.
+     * @return the length of the array.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * The real part of a complex number.
+     * @param index the index of the complex number.
+     * @return the real part.
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public double real(final int index) throws IndexOutOfBoundsException {
+        return this.part(this.real, 0, index);
+    }
+
+    /**
+     * The imaginary part of a complex number.
+     * @param index the index of the complex number.
+     * @return the imaginary part.
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public double imaginary(final int index) throws IndexOutOfBoundsException {
+        return this.part(this.imaginary, this.layout == Layout.SPLIT ? 0 : this.precision.bytes(), index);
+    }
+
+    /**
+     * A complex number.
+     * @param index the index of the complex number.
+     * @return the complex number.
+     * @throws IndexOutOfBoundsException if the index is not within the array.
+     */
+    public Complex get(final int index) throws IndexOutOfBoundsException {
+        return new Complex(this.real(index), this.imaginary(index));
+    }
+
+    /**
+     * Copy a range of the complex numbers into split arrays.
+     * Split files in double precision are copied in bulk.
+     * @param from the index of the first complex number of the range.
+     * @param real the array that receives the real parts.
+     * @param imaginary the array that receives the imaginary parts.
+     * @param offset the index of the first complex number in the arrays.
+     * @param count the number of complex numbers.
+     * @throws IllegalArgumentException if the range is not within this array or the arrays.
+     */
+    public void copyTo(final int from, final double[] real, final double[] imaginary, final int offset,
+            final int count) throws IllegalArgumentException {
+        if (count < 0 || from < 0 || offset < 0 || from > this.length - count
+                || offset > Math.min(real.length, imaginary.length) - count) {
+            throw new IllegalArgumentException();
+        } else if (this.layout == Layout.SPLIT) {
+            final int position = from * this.stride;
+            ComplexCodec.getParts(this.real.duplicate().position(position).order(ByteOrder.LITTLE_ENDIAN),
+                    this.precision, real, offset, count);
+            ComplexCodec.getParts(this.imaginary.duplicate().position(position).order(ByteOrder.LITTLE_ENDIAN),
+                    this.precision, imaginary, offset, count);
+        } else {
+            ComplexCodec.getInterleaved(this.real.duplicate().position(from * this.stride)
+                    .order(ByteOrder.LITTLE_ENDIAN), this.precision, real, imaginary, offset, count);
+        }
+    }
+
+    /**
+     * Copy the complex numbers into a new array.
+     * @return the complex numbers.
+     */
+    public ComplexArray toComplexArray() {
+        final ComplexArray numbers = new ComplexArray(this.length);
+        this.copyTo(0, numbers.real(), numbers.imaginary(), 0, this.length);
+        return numbers;
+    }
+
+    /**
+     * Read a part from a buffer.
+     * @param buffer the buffer of the part.
+     * @param offset the position of the part of the first complex number.
+     * @param index the index of the complex number.
+     * @return the part.
+     */
+    private double part(final ByteBuffer buffer, final int offset, final int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(index);
+        } else {
+            final int position = offset + index * this.stride;
+            return this.precision == Precision.DOUBLE ? buffer.getDouble(position) : buffer.getFloat(position);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.complex;
+
+/**
+ * The scalar kernel of bulk complex arithmetic, the fallback of the vector kernel,
+ * whose loops compute every element with the expressions of {@link Complex}.
+ * The loops over a range of indices also compute the remainders of the vector kernel.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+final class ScalarComplexKernel extends ComplexKernel {
+    @Override
+    public int lanes() {
+        return 1;
+    }
+    
+    @Override
+    void multiply(final int length, final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) {
+        multiply(0, length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    @Override
+    void multiplyAccumulate(final int length, final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) {
+        multiplyAccumulate(0, length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    @Override
+    void scaleAccumulate(final int length, final double aReal, final double aImaginary, final double[] bReal,
+            final double[] bImaginary, final int from, final double[] real, final double[] imaginary, final int offset) {
+        scaleAccumulate(0, length, aReal, aImaginary, bReal, bImaginary, from, real, imaginary, offset);
+    }
+    
+    @Override
+    void conjugateMultiply(final int length, final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) {
+        conjugateMultiply(0, length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    @Override
+    void divide(final int length, final double[] aReal, final double[] aImaginary, final double[] bReal,
+            final double[] bImaginary, final double[] real, final double[] imaginary) {
+        divide(0, length, aReal, aImaginary, bReal, bImaginary, real, imaginary);
+    }
+    
+    @Override
+    void absolute(final int length, final double[] real, final double[] imaginary, final double[] result) {
+        absolute(0, length, real, imaginary, result);
+    }
+    
+    @Override
+    void argument(final int length, final double[] real, final double[] imaginary, final double[] result) {
+        argument(0, length, real, imaginary, result);
+    }
+    
+    @Override
+    void multiplyInterleaved(final int length, final double[] a, final double[] b, final double[] result) {
+        multiplyInterleaved(0, length, a, b, result);
+    }
+    
+    @Override
+    void multiplyAccumulateInterleaved(final int length, final double[] a, final double[] b, final double[] accumulator) {
+        multiplyAccumulateInterleaved(0, length, a, b, accumulator);
+    }
+    
+    @Override
+    void conjugateMultiplyInterleaved(final int length, final double[] a, final double[] b, final double[] result) {
+        conjugateMultiplyInterleaved(0, length, a, b, result);
+    }
+    
+    @Override
+    void divideInterleaved(final int length, final double[] a, final double[] b, final double[] result) {
+        divideInterleaved(0, length, a, b, result);
+    }
+    
+    @Override
+    void absoluteInterleaved(final int count, final double[] z, final double[] result) {
+        absoluteInterleaved(0, count, z, result);
+    }
+    
+    @Override
+    void argumentInterleaved(final int count, final double[] z, final double[] result) {
+        argumentInterleaved(0, count, z, result);
+    }
+    
+    /**
+     * The multiplication of split arrays over a range of indices.
+     */
+    static void multiply(final int from, final int to, final double[] aReal, final double[] aImaginary,
+            final double[] bReal, final double[] bImaginary, final double[] real, final double[] imaginary) {
+        for (int k = from; k < to; k++) {
+            final double a = aReal[k];
+            final double b = aImaginary[k];
+            final double c = bReal[k];
+            final double d = bImaginary[k];
+            real[k] = a * c - b * d;
+            imaginary[k] = a * d + c * b;
+        }
+    }
+    
+    /**
+     * The multiply-accumulate of split arrays over a range of indices.
+     */
+    static void multiplyAccumulate(final int from, final int to, final double[] aReal, final double[] aImaginary,
+            final double[] bReal, final double[] bImaginary, final double[] real, final double[] imaginary) {
+        for (int k = from; k < to; k++) {
+            final double a = aReal[k];
+            final double b = aImaginary[k];
+            final double c = bReal[k];
+            final double d = bImaginary[k];
+            real[k] += a * c - b * d;
+            imaginary[k] += a * d + c * b;
+        }
+    }
+    
+    /**
+     * The multiply-accumulate by one complex number of split ranges, over a range of their relative indices.
+     */
+    static void scaleAccumulate(final int start, final int end, final double a, final double b, final double[] bReal,
+            final double[] bImaginary, final int from, final double[] real, final double[] imaginary, final int offset) {
+        for (int k = start; k < end; k++) {
+            final double c = bReal[from + k];
+            final double d = bImaginary[from + k];
+            real[offset + k] += a * c - b * d;
+            imaginary[offset + k] += a * d + c * b;
+        }
+    }
+    
+    /**
+     * The conjugate multiplication of split arrays over a range of indices.
+     */
+    static void conjugateMultiply(final int from, final int to, final double[] aReal, final double[] aImaginary,
+            final double[] bReal, final double[] bImaginary, final double[] real, final double[] imaginary) {
+        for (int k = from; k < to; k++) {
+            final double a = aReal[k];
+            final double b = aImaginary[k];
+            final double c = bReal[k];
+            final double d = bImaginary[k];
+            real[k] = a * c + b * d;
+            imaginary[k] = c * b - a * d;
+        }
+    }
+    
+    /**
+     * The division of split arrays over a range of indices.
+     */
+    static void divide(final int from, final int to, final double[] aReal, final double[] aImaginary,
+            final double[] bReal, final double[] bImaginary, final double[] real, final double[] imaginary) {
+        for (int k = from; k < to; k++) {
+            final double a = aReal[k];
+            final double b = aImaginary[k];
+            final double c = bReal[k];
+            final double d = bImaginary[k];
+            final double denominator = c * c + d * d;
+            real[k] = (a * c + b * d) / denominator;
+            imaginary[k] = (b * c - a * d) / denominator;
+        }
+    }
+    
+    /**
+     * The absolute values of split arrays over a range of indices.
+     */
+    static void absolute(final int from, final int to, final double[] real, final double[] imaginary, final double[] result) {
+        for (int k = from; k < to; k++) {
+            result[k] = Math.hypot(real[k], imaginary[k]);
+        }
+    }
+    
+    /**
+     * The arguments of split arrays over a range of indices.
+     */
+    static void argument(final int from, final int to, final double[] real, final double[] imaginary, final double[] result) {
+        for (int k = from; k < to; k++) {
+            result[k] = Math.atan2(imaginary[k], real[k]);
+        }
+    }
+    
+    /**
+     * The multiplication of interleaved arrays over a range of indices of doubles, both even.
+     */
+    static void multiplyInterleaved(final int from, final int to, final double[] a, final double[] b, final double[] result) {
+        for (int k = from; k < to; k += 2) {
+            final double ar = a[k];
+            final double ai = a[k + 1];
+            final double br = b[k];
+            final double bi = b[k + 1];
+            result[k] = ar * br - ai * bi;
+            result[k + 1] = ar * bi + br * ai;
+        }
+    }
+    
+    /**
+     * The multiply-accumulate of interleaved arrays over a range of indices of doubles, both even.
+     */
+    static void multiplyAccumulateInterleaved(final int from, final int to, final double[] a, final double[] b, final double[] accumulator) {
+        for (int k = from; k < to; k += 2) {
+            final double ar = a[k];
+            final double ai = a[k + 1];
+            final double br = b[k];
+            final double bi = b[k + 1];
+            accumulator[k] += ar * br - ai * bi;
+            accumulator[k + 1] += ar * bi + br * ai;
+        }
+    }
+    
+    /**
+     * The conjugate multiplication of interleaved arrays over a range of indices of doubles, both even.
+     */
+    static void conjugateMultiplyInterleaved(final int from, final int to, final double[] a, final double[] b, final double[] result) {
+        for (int k = from; k < to; k += 2) {
+            final double ar = a[k];
+            final double ai = a[k + 1];
+            final double br = b[k];
+            final double bi = b[k + 1];
+            result[k] = ar * br + ai * bi;
+            result[k + 1] = br * ai - ar * bi;
+        }
+    }
+    
+    /**
+     * The division of interleaved arrays over a range of indices of doubles, both even.
+     */
+    static void divideInterleaved(final int from, final int to, final double[] a, final double[] b, final double[] result) {
+        for (int k = from; k < to; k += 2) {
+            final double ar = a[k];
+            final double ai = a[k + 1];
+            final double br = b[k];
+            final double bi = b[k + 1];
+            final double denominator = br * br + bi * bi;
+            result[k] = (ar * br + ai * bi) / denominator;
+            result[k + 1] = (ai * br - ar * bi) / denominator;
+        }
+    }
+    
+    /**
+     * The absolute values of interleaved arrays over a range of indices of complex numbers.
+     */
+    static void absoluteInterleaved(final int from, final int to, final double[] z, final double[] result) {
+        for (int k = from; k < to; k++) {
+            result[k] = Math.hypot(z[2 * k], z[2 * k + 1]);
+        }
+    }
+    
+    /**
+     * The arguments of interleaved arrays over a range of indices of complex numbers.
+     */
+    static void argumentInterleaved(final int from, final int to, final double[] z, final double[] result) {
+        for (int k = from; k < to; k++) {
+            result[k] = Math.atan2(z[2 * k + 1], z[2 * k]);
+        }
+    }
+}
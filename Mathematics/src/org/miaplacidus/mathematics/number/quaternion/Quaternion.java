@@ -0,0 +1,462 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.quaternion;
+
+import java.io.Serializable;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.Arithmetic;
+
+/**
+ * Representation of a quaternion, a real part w and three imaginary parts x, y and z of the units i, j and k,
+ * whose multiplication is the Hamilton product, with i^2 = j^2 = k^2 = ijk = -1.
+ * The multiplication is not commutative: the division is the product by the reciprocal of the divisor on the right.
+ * The unit quaternions represent the rotations of the space, q v q*, and are converted to and from
+ * rotation matrices of three rows and three columns, stored in the order of the rows.
+ * {@link QuaternionArray} applies the same operations to arrays of quaternions.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class Quaternion extends Object implements Serializable, Arithmetic<Quaternion> {
+    /**
+     * The serial version UID of quaternions.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Zero, the identity element of the addition.
+     */
+    public static final Quaternion ZERO = new Quaternion(0., 0., 0., 0.);
+
+    /**
+     * One, the identity element of the multiplication and the identity rotation.
+     */
+    public static final Quaternion ONE = new Quaternion(1., 0., 0., 0.);
+
+    /**
+     * The imaginary units i, j and k.
+     */
+    public static final Quaternion I = new Quaternion(0., 1., 0., 0.);
+    public static final Quaternion J = new Quaternion(0., 0., 1., 0.);
+    public static final Quaternion K = new Quaternion(0., 0., 0., 1.);
+
+    /**
+     * The cosine of the angle between unit quaternions above which the spherical interpolation
+     * is replaced by the normalised linear interpolation, since the sine of the angle loses its precision.
+     */
+    static final double SLERP_LIMIT = .9995;
+
+    private static final Logger LOG = Logger.getLogger(Quaternion.class.getName());
+
+    /**
+     * Construct the unit quaternion of a rotation around an axis.
+     * @param x the first coordinate of the axis.
+     * @param y the second coordinate of the axis.
+     * @param z the third coordinate of the axis.
+     * @param angle the angle of the rotation in radians, counterclockwise when the axis points to the observer.
+     * @return the unit quaternion of the rotation.
+     * @throws IllegalArgumentException if the axis is zero or not finite.
+     */
+    public static Quaternion rotation(final double x, final double y, final double z, final double angle)
+            throws IllegalArgumentException {
+        final double length = Math.sqrt(x * x + y * y + z * z);
+        if (!(length > 0.) || Double.isInfinite(length)) {
+            throw new IllegalArgumentException();
+        } else {
+            final double sine = Math.sin(.5 * angle) / length;
+            return new Quaternion(Math.cos(.5 * angle), x * sine, y * sine, z * sine);
+        }
+    }
+
+    /**
+     * Construct the unit quaternion of a rotation matrix by the method of Shepperd,
+     * which takes the square root of the trace when it is positive, or else of the combination of the largest diagonal element.
+     * @param matrix the nine elements of the rotation matrix in the order of the rows.
+     * @return the unit quaternion of the rotation, whose real part is not negative.
+     * @throws IllegalArgumentException if the matrix does not have nine elements.
+     */
+    public static Quaternion rotation(final double[] matrix) throws IllegalArgumentException {
+        if (matrix.length != 9) {
+            throw new IllegalArgumentException();
+        } else {
+            final double trace = matrix[0] + matrix[4] + matrix[8];
+            if (trace > 0.) {
+                final double s = 2. * Math.sqrt(1. + trace);
+                return new Quaternion(.25 * s, (matrix[7] - matrix[5]) / s, (matrix[2] - matrix[6]) / s,
+                        (matrix[3] - matrix[1]) / s);
+            } else if (matrix[0] > matrix[4] && matrix[0] > matrix[8]) {
+                final double s = 2. * Math.sqrt(1. + matrix[0] - matrix[4] - matrix[8]);
+                return canonical((matrix[7] - matrix[5]) / s, .25 * s, (matrix[1] + matrix[3]) / s,
+                        (matrix[2] + matrix[6]) / s);
+            } else if (matrix[4] > matrix[8]) {
+                final double s = 2. * Math.sqrt(1. + matrix[4] - matrix[0] - matrix[8]);
+                return canonical((matrix[2] - matrix[6]) / s, (matrix[1] + matrix[3]) / s, .25 * s,
+                        (matrix[5] + matrix[7]) / s);
+            } else {
+                final double s = 2. * Math.sqrt(1. + matrix[8] - matrix[0] - matrix[4]);
+                return canonical((matrix[3] - matrix[1]) / s, (matrix[2] + matrix[6]) / s, (matrix[5] + matrix[7]) / s,
+                        .25 * s);
+            }
+        }
+    }
+
+    /**
+     * Choose the quaternion of a rotation whose real part is not negative, since q and -q are the same rotation.
+     * @return the quaternion of the parts, or its negation if its real part is negative.
+     */
+    private static Quaternion canonical(final double w, final double x, final double y, final double z) {
+        return w < 0 ? new Quaternion(-w, -x, -y, -z) : new Quaternion(w, x, y, z);
+    }
+
+    /**
+     * The real part of this quaternion.
+     */
+    private final double w;
+
+    /**
+     * The imaginary parts of this quaternion, of the units i, j and k.
+     */
+    private final double x;
+    private final double y;
+    private final double z;
+
+    /**
+     * Construct a quaternion only with its provided real part.
+     * @param real the real part of the quaternion.
+     */
+    public Quaternion(final double real) {
+        this(real, 0., 0., 0.);
+    }
+
+    /**
+     * Construct a quaternion with its provided real part and imaginary parts.
+     * @param w the real part of the quaternion.
+     * @param x the imaginary part of the unit i.
+     * @param y the imaginary part of the unit j.
+     * @param z the imaginary part of the unit k.
+     */
+    public Quaternion(final double w, final double x, final double y, final double z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Test for equality with another object.
+     * @param object Object that is tested to.
+     * @return true if the objects are equal;
+     * false if object is null, not an instance of Quaternion or not equal to this.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        } else if (object == null) {
+            return false;
+        } else if (this.getClass() != object.getClass()) {
+            return false;
+        } else {
+            final Quaternion other = (Quaternion) object;
+
+            return Double.doubleToLongBits(this.w) == Double.doubleToLongBits(other.w)
+                    && Double.doubleToLongBits(this.x) == Double.doubleToLongBits(other.x)
+                    && Double.doubleToLongBits(this.y) == Double.doubleToLongBits(other.y)
+                    && Double.doubleToLongBits(this.z) == Double.doubleToLongBits(other.z);
+        }
+    }
+
+    /**
+     * Receive the hash code for the quaternion.
+     * @return a hash code for this.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 97 * hash + Double.hashCode(this.w);
+        hash = 97 * hash + Double.hashCode(this.x);
+        hash = 97 * hash + Double.hashCode(this.y);
+        hash = 97 * hash + Double.hashCode(this.z);
+        return hash;
+    }
+
+    /**
+     * Serialise this quaternion.
+     * @return a string that represents the quaternion, such as 1.0+2.0i-3.0j+4.0k.
+     */
+    @Override
+    public String toString() {
+        return this.w + part(this.x) + "i" + part(this.y) + "j" + part(this.z) + "k";
+    }
+
+    /**
+     * Serialise an imaginary part with its sign.
+     * @param part the imaginary part.
+     * @return the part preceded by a plus sign if it is not negative.
+     */
+    private static String part(final double part) {
+        return part >= 0 ? "+" + part : "" + part;
+    }
+
+    /**
+     * The real part of this quaternion.
+     * @return the real part w.
+     */
+    public double w() {
+        return this.w;
+    }
+
+    /**
+     * The imaginary part of the unit i.
+     * @return the imaginary part x.
+     */
+    public double x() {
+        return this.x;
+    }
+
+    /**
+     * The imaginary part of the unit j.
+     * @return the imaginary part y.
+     */
+    public double y() {
+        return this.y;
+    }
+
+    /**
+     * The imaginary part of the unit k.
+     * @return the imaginary part z.
+     */
+    public double z() {
+        return this.z;
+    }
+
+    /**
+     * Verify if the quaternion is zero.
+     * @return true if every part of this quaternion is zero, false otherwise.
+     */
+    public boolean zero() {
+        return this.w == 0 && this.x == 0 && this.y == 0 && this.z == 0;
+    }
+
+    /**
+     * The norm of the quaternion, the sum of the squares of its parts.
+     * @return the square of the absolute value of this quaternion.
+     */
+    public double norm() {
+        return this.w * this.w + this.x * this.x + this.y * this.y + this.z * this.z;
+    }
+
+    /**
+     * The absolute value function.
+     * @return the absolute value of this quaternion.
+     */
+    public double absolute() {
+        return Math.sqrt(this.norm());
+    }
+
+    /**
+     * The dot product of quaternions as vectors of four parts, the cosine of the angle between unit quaternions.
+     * @param other the other quaternion.
+     * @return the sum of the products of the parts.
+     */
+    public double dot(final Quaternion other) {
+        return this.w * other.w + this.x * other.x + this.y * other.y + this.z * other.z;
+    }
+
+    /**
+     * The conjugate function.
+     * @return the conjugate of this quaternion, whose imaginary parts are negated.
+     */
+    public Quaternion conjugate() {
+        return new Quaternion(this.w, -this.x, -this.y, -this.z);
+    }
+
+    /**
+     * The additive inverse function.
+     * @return the negation of this quaternion.
+     */
+    public Quaternion negate() {
+        return new Quaternion(-this.w, -this.x, -this.y, -this.z);
+    }
+
+    /**
+     * The reciprocal function.
+     * @return the reciprocal of this quaternion, its conjugate divided by its norm.
+     */
+    public Quaternion reciprocal() {
+        final double norm = this.norm();
+        return new Quaternion(this.w / norm, -this.x / norm, -this.y / norm, -this.z / norm);
+    }
+
+    /**
+     * The normalisation of the quaternion.
+     * @return the unit quaternion of the direction of this quaternion.
+     * @throws IllegalArgumentException if this quaternion is zero.
+     */
+    public Quaternion normalise() throws IllegalArgumentException {
+        if (this.zero()) {
+            throw new IllegalArgumentException();
+        } else {
+            final double inverse = 1. / this.absolute();
+            return new Quaternion(this.w * inverse, this.x * inverse, this.y * inverse, this.z * inverse);
+        }
+    }
+
+    /**
+     * The addition of quaternions.
+     * @param addend the quaternion that is added to this augend.
+     * @return the sum of the augend and the addend.
+     */
+    @Override
+    public Quaternion add(final Quaternion addend) {
+        return new Quaternion(this.w + addend.w, this.x + addend.x, this.y + addend.y, this.z + addend.z);
+    }
+
+    /**
+     * The subtraction of quaternions.
+     * @param subtrahend the quaternion that is subtracted from this minuend.
+     * @return the difference of the minuend and the subtrahend.
+     */
+    @Override
+    public Quaternion subtract(final Quaternion subtrahend) {
+        return new Quaternion(this.w - subtrahend.w, this.x - subtrahend.x, this.y - subtrahend.y, this.z - subtrahend.z);
+    }
+
+    /**
+     * The Hamilton product of quaternions.
+     * @param multiplicand the quaternion that is multiplied to the right of this multiplier.
+     * @return the product of the multiplier and the multiplicand.
+     */
+    @Override
+    public Quaternion multiply(final Quaternion multiplicand) {
+        final double a = multiplicand.w;
+        final double b = multiplicand.x;
+        final double c = multiplicand.y;
+        final double d = multiplicand.z;
+        return new Quaternion(this.w * a - this.x * b - this.y * c - this.z * d,
+                this.w * b + this.x * a + this.y * d - this.z * c,
+                this.w * c - this.x * d + this.y * a + this.z * b,
+                this.w * d + this.x * c - this.y * b + this.z * a);
+    }
+
+    /**
+     * The multiplication of a quaternion and a real number.
+     * @param multiplicand the real number that is multiplied to this multiplier.
+     * @return the product of the multiplier and the multiplicand.
+     */
+    public Quaternion multiply(final double multiplicand) {
+        return new Quaternion(this.w * multiplicand, this.x * multiplicand, this.y * multiplicand, this.z * multiplicand);
+    }
+
+    /**
+     * The division of quaternions, the product of this dividend and the reciprocal of the divisor on the right.
+     * @param divisor the quaternion that divides this dividend.
+     * @return the quotient q such that q times the divisor is the dividend.
+     */
+    @Override
+    public Quaternion divide(final Quaternion divisor) {
+        return this.multiply(divisor.reciprocal());
+    }
+
+    /**
+     * The rotation of a vector by this unit quaternion, q v q*, in the form v + w t + u × t with t = 2 u × v,
+     * where u is the imaginary part of the quaternion; the quaternion is not normalised.
+     * @param vector the three coordinates of the vector.
+     * @return the three coordinates of the rotated vector.
+     * @throws IllegalArgumentException if the vector does not have three coordinates.
+     */
+    public double[] rotate(final double[] vector) throws IllegalArgumentException {
+        if (vector.length != 3) {
+            throw new IllegalArgumentException();
+        } else {
+            final double vx = vector[0];
+            final double vy = vector[1];
+            final double vz = vector[2];
+            final double tx = 2. * (this.y * vz - this.z * vy);
+            final double ty = 2. * (this.z * vx - this.x * vz);
+            final double tz = 2. * (this.x * vy - this.y * vx);
+            return new double[]{vx + this.w * tx + (this.y * tz - this.z * ty),
+                vy + this.w * ty + (this.z * tx - this.x * tz),
+                vz + this.w * tz + (this.x * ty - this.y * tx)};
+        }
+    }
+
+    /**
+     * The rotation matrix of this unit quaternion; the quaternion is not normalised.
+     * @return the nine elements of the rotation matrix in the order of the rows.
+     */
+    public double[] toRotationMatrix() {
+        final double xx = this.x * this.x;
+        final double yy = this.y * this.y;
+        final double zz = this.z * this.z;
+        final double xy = this.x * this.y;
+        final double xz = this.x * this.z;
+        final double yz = this.y * this.z;
+        final double wx = this.w * this.x;
+        final double wy = this.w * this.y;
+        final double wz = this.w * this.z;
+        return new double[]{1. - 2. * (yy + zz), 2. * (xy - wz), 2. * (xz + wy),
+            2. * (xy + wz), 1. - 2. * (xx + zz), 2. * (yz - wx),
+            2. * (xz - wy), 2. * (yz + wx), 1. - 2. * (xx + yy)};
+    }
+
+    /**
+     * The spherical linear interpolation between unit quaternions along the shortest arc,
+     * which is the normalised linear interpolation when they are nearly parallel.
+     * @param end the unit quaternion at the end of the interpolation.
+     * @param t the parameter of the interpolation, zero at this quaternion and one at the end.
+     * @return the unit quaternion of the interpolated rotation.
+     */
+    public Quaternion slerp(final Quaternion end, final double t) {
+        final double cosine = this.dot(end);
+        final double sign = cosine < 0 ? -1. : 1.;
+        final double c = sign * cosine;
+        if (c > SLERP_LIMIT) {
+            return this.nlerp(end, t);
+        } else {
+            final double angle = Math.acos(c);
+            final double sine = Math.sqrt(1. - c * c);
+            final double a = Math.sin((1. - t) * angle) / sine;
+            final double b = sign * Math.sin(t * angle) / sine;
+            return new Quaternion(a * this.w + b * end.w, a * this.x + b * end.x, a * this.y + b * end.y,
+                    a * this.z + b * end.z);
+        }
+    }
+
+    /**
+     * The normalised linear interpolation between unit quaternions along the shortest arc,
+     * which is cheaper than the spherical interpolation but does not have a constant angular velocity.
+     * @param end the unit quaternion at the end of the interpolation.
+     * @param t the parameter of the interpolation, zero at this quaternion and one at the end.
+     * @return the unit quaternion of the interpolated rotation.
+     */
+    public Quaternion nlerp(final Quaternion end, final double t) {
+        final double a = 1. - t;
+        final double b = this.dot(end) < 0 ? -t : t;
+        final double w = a * this.w + b * end.w;
+        final double x = a * this.x + b * end.x;
+        final double y = a * this.y + b * end.y;
+        final double z = a * this.z + b * end.z;
+        final double inverse = 1. / Math.sqrt(w * w + x * x + y * y + z * z);
+        return new Quaternion(w * inverse, x * inverse, y * inverse, z * inverse);
+    }
+}
@@ -0,0 +1,910 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.number.quaternion;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+import org.miaplacidus.mathematics.number.Arithmetic;
+
+/**
+ * An array of quaternions stored as four parallel arrays of their real parts and of their imaginary parts
+ * of the units i, j and k.
+ * The element-wise operations mirror those of {@link Quaternion} and give the same results,
+ * but they write into primitive arrays and allocate nothing per element.
+ * Every operation has a form that allocates a new array for the result
+ * and a form that writes into a provided destination;
+ * passing this array as the destination performs the operation in place.
+ * Vectors are stored the same way, as three arrays of their coordinates,
+ * and rotation matrices as consecutive groups of nine elements in the order of the rows.
+ * Arrays of at least {@link #PARALLEL_THRESHOLD} quaternions are processed by blocks of {@link #BLOCK}
+ * on the common fork join pool.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class QuaternionArray extends Object implements Serializable, Arithmetic<QuaternionArray> {
+    /**
+     * The serial version UID of quaternion arrays.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of quaternions from which the operations run on the common fork join pool.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    /**
+     * The number of quaternions of the blocks of the parallel operations.
+     */
+    public static final int BLOCK = 1 << 12;
+
+    private static final Logger LOG = Logger.getLogger(QuaternionArray.class.getName());
+
+    /**
+     * Construct the unit quaternions of rotation matrices by the method of Shepperd.
+     * @param matrices the rotation matrices, nine elements each in the order of the rows.
+     * @return the array of the unit quaternions of the rotations, whose real parts are not negative.
+     * @throws IllegalArgumentException if the number of elements is not a multiple of nine.
+     */
+    public static QuaternionArray rotations(final double[] matrices) throws IllegalArgumentException {
+        if (matrices.length % 9 != 0) {
+            throw new IllegalArgumentException();
+        } else {
+            final QuaternionArray result = new QuaternionArray(matrices.length / 9);
+            run(result.length(), (from, to) -> fromMatrices(from, to, matrices, result.w, result.x, result.y, result.z));
+            return result;
+        }
+    }
+
+    /**
+     * Rotate vectors by one unit quaternion, through its rotation matrix,
+     * which is cheaper than the rotation by the quaternion for more than a few vectors.
+     * @param rotation the unit quaternion of the rotation.
+     * @param x the first coordinates of the vectors.
+     * @param y the second coordinates of the vectors.
+     * @param z the third coordinates of the vectors.
+     * @param rx the array that receives the first coordinates of the rotated vectors.
+     * @param ry the array that receives the second coordinates of the rotated vectors.
+     * @param rz the array that receives the third coordinates of the rotated vectors.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void rotate(final Quaternion rotation, final double[] x, final double[] y, final double[] z,
+            final double[] rx, final double[] ry, final double[] rz) throws IllegalArgumentException {
+        final int length = x.length;
+        if (y.length != length || z.length != length || rx.length != length || ry.length != length || rz.length != length) {
+            throw new IllegalArgumentException();
+        } else {
+            final double[] m = rotation.toRotationMatrix();
+            run(length, (from, to) -> {
+                for (int k = from; k < to; k++) {
+                    final double vx = x[k];
+                    final double vy = y[k];
+                    final double vz = z[k];
+                    rx[k] = m[0] * vx + m[1] * vy + m[2] * vz;
+                    ry[k] = m[3] * vx + m[4] * vy + m[5] * vz;
+                    rz[k] = m[6] * vx + m[7] * vy + m[8] * vz;
+                }
+            });
+        }
+    }
+
+    /**
+     * The real parts of the quaternions.
+     */
+    private final double[] w;
+
+    /**
+     * The imaginary parts of the quaternions, of the units i, j and k.
+     */
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+
+    /**
+     * Construct an array of quaternions that are all zero.
+     * @param length the number of quaternions.
+     * @throws IllegalArgumentException if the length is smaller than zero.
+     */
+    public QuaternionArray(final int length) throws IllegalArgumentException {
+        if (length < 0) {
+            throw new IllegalArgumentException();
+        } else {
+            this.w = new double[length];
+            this.x = new double[length];
+            this.y = new double[length];
+            this.z = new double[length];
+        }
+    }
+
+    /**
+     * Construct an array of quaternions backed by the provided arrays, which are not copied.
+     * @param w the real parts of the quaternions.
+     * @param x the imaginary parts of the unit i.
+     * @param y the imaginary parts of the unit j.
+     * @param z the imaginary parts of the unit k.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public QuaternionArray(final double[] w, final double[] x, final double[] y, final double[] z)
+            throws IllegalArgumentException {
+        if (x.length != w.length || y.length != w.length || z.length != w.length) {
+            throw new IllegalArgumentException();
+        } else {
+            this.w = w;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+
+    /**
+     * Construct an array of quaternions from the provided quaternions.
+     * @param quaternions the quaternions.
+     */
+    public QuaternionArray(final Quaternion[] quaternions) {
+        this(quaternions.length);
+        for (int k = 0; k < quaternions.length; k++) {
+            this.set(k, quaternions[k]);
+        }
+    }
+
+    /**
+     * Test for equality with another object.
+     * @param object Object that is tested to.
+     * @return true if the objects are equal;
+     * false if object is null, not an instance of QuaternionArray or not equal to this.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        } else if (object == null) {
+            return false;
+        } else if (this.getClass() != object.getClass()) {
+            return false;
+        } else {
+            final QuaternionArray other = (QuaternionArray) object;
+
+            return Arrays.equals(this.w, other.w) && Arrays.equals(this.x, other.x)
+                    && Arrays.equals(this.y, other.y) && Arrays.equals(this.z, other.z);
+        }
+    }
+
+    /**
+     * Receive the hash code for the array of quaternions.
+     * @return a hash code for this.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 97 * hash + Arrays.hashCode(this.w);
+        hash = 97 * hash + Arrays.hashCode(this.x);
+        hash = 97 * hash + Arrays.hashCode(this.y);
+        hash = 97 * hash + Arrays.hashCode(this.z);
+        return hash;
+    }
+
+    /**
+     * Serialise this array of quaternions.
+     * @return a string that represents the array of quaternions.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+
+    /**
+     * The length function.
+     * @return the number of quaternions in this array.
+     */
+    public int length() {
+        return this.w.length;
+    }
+
+    /**
+     * The real parts of the quaternions, which back this array.
+     * @return the array of the real parts.
+     */
+    public double[] w() {
+        return this.w;
+    }
+
+    /**
+     * The imaginary parts of the unit i, which back this array.
+     * @return the array of the imaginary parts of the unit i.
+     */
+    public double[] x() {
+        return this.x;
+    }
+
+    /**
+     * The imaginary parts of the unit j, which back this array.
+     * @return the array of the imaginary parts of the unit j.
+     */
+    public double[] y() {
+        return this.y;
+    }
+
+    /**
+     * The imaginary parts of the unit k, which back this array.
+     * @return the array of the imaginary parts of the unit k.
+     */
+    public double[] z() {
+        return this.z;
+    }
+
+    /**
+     * Receive a quaternion of the array.
+     * @param index the index of the quaternion.
+     * @return the quaternion at the index.
+     */
+    public Quaternion get(final int index) {
+        return new Quaternion(this.w[index], this.x[index], this.y[index], this.z[index]);
+    }
+
+    /**
+     * Replace a quaternion of the array.
+     * @param index the index of the quaternion.
+     * @param quaternion the quaternion that is stored at the index.
+     */
+    public void set(final int index, final Quaternion quaternion) {
+        this.set(index, quaternion.w(), quaternion.x(), quaternion.y(), quaternion.z());
+    }
+
+    /**
+     * Replace a quaternion of the array by its parts.
+     * @param index the index of the quaternion.
+     * @param w the real part of the quaternion.
+     * @param x the imaginary part of the unit i.
+     * @param y the imaginary part of the unit j.
+     * @param z the imaginary part of the unit k.
+     */
+    public void set(final int index, final double w, final double x, final double y, final double z) {
+        this.w[index] = w;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+    }
+
+    /**
+     * Copy this array of quaternions.
+     * @return a new array of the same quaternions.
+     */
+    public QuaternionArray copy() {
+        return new QuaternionArray(this.w.clone(), this.x.clone(), this.y.clone(), this.z.clone());
+    }
+
+    /**
+     * Convert this array to an array of quaternions.
+     * @return an array of the quaternions.
+     */
+    public Quaternion[] toArray() {
+        final Quaternion[] quaternions = new Quaternion[this.w.length];
+        for (int k = 0; k < quaternions.length; k++) {
+            quaternions[k] = this.get(k);
+        }
+        return quaternions;
+    }
+
+    /**
+     * The element-wise norm of the quaternions.
+     * @param destination the array that receives the norms.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public double[] norm(final double[] destination) throws IllegalArgumentException {
+        this.checkLength(destination.length);
+        final double[] a = this.w;
+        final double[] b = this.x;
+        final double[] c = this.y;
+        final double[] d = this.z;
+        run(a.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                destination[k] = a[k] * a[k] + b[k] * b[k] + c[k] * c[k] + d[k] * d[k];
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * The element-wise conjugate of the quaternions.
+     * @return an array of the conjugates.
+     */
+    public QuaternionArray conjugate() {
+        return this.conjugate(new QuaternionArray(this.w.length));
+    }
+
+    /**
+     * The element-wise conjugate of the quaternions.
+     * @param destination the array that receives the conjugates.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public QuaternionArray conjugate(final QuaternionArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        System.arraycopy(this.w, 0, destination.w, 0, this.w.length);
+        final double[] b = this.x;
+        final double[] c = this.y;
+        final double[] d = this.z;
+        run(b.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                destination.x[k] = -b[k];
+                destination.y[k] = -c[k];
+                destination.z[k] = -d[k];
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * The element-wise normalisation of the quaternions; a zero quaternion is not a number.
+     * @return an array of the unit quaternions.
+     */
+    public QuaternionArray normalise() {
+        return this.normalise(new QuaternionArray(this.w.length));
+    }
+
+    /**
+     * The element-wise normalisation of the quaternions; a zero quaternion is not a number.
+     * @param destination the array that receives the unit quaternions.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public QuaternionArray normalise(final QuaternionArray destination) throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double[] a = this.w;
+        final double[] b = this.x;
+        final double[] c = this.y;
+        final double[] d = this.z;
+        run(a.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                final double ak = a[k];
+                final double bk = b[k];
+                final double ck = c[k];
+                final double dk = d[k];
+                final double inverse = 1. / Math.sqrt(ak * ak + bk * bk + ck * ck + dk * dk);
+                destination.w[k] = ak * inverse;
+                destination.x[k] = bk * inverse;
+                destination.y[k] = ck * inverse;
+                destination.z[k] = dk * inverse;
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * The element-wise addition of quaternions.
+     * @param addend the quaternions that are added to these augends.
+     * @return an array of the sums.
+     * @throws IllegalArgumentException if the addend does not have the length of this array.
+     */
+    @Override
+    public QuaternionArray add(final QuaternionArray addend) throws IllegalArgumentException {
+        return this.add(addend, new QuaternionArray(this.w.length));
+    }
+
+    /**
+     * The element-wise addition of quaternions.
+     * @param addend the quaternions that are added to these augends.
+     * @param destination the array that receives the sums.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public QuaternionArray add(final QuaternionArray addend, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(addend.length());
+        this.checkLength(destination.length());
+        run(this.w.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                destination.w[k] = this.w[k] + addend.w[k];
+                destination.x[k] = this.x[k] + addend.x[k];
+                destination.y[k] = this.y[k] + addend.y[k];
+                destination.z[k] = this.z[k] + addend.z[k];
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * The element-wise subtraction of quaternions.
+     * @param subtrahend the quaternions that are subtracted from these minuends.
+     * @return an array of the differences.
+     * @throws IllegalArgumentException if the subtrahend does not have the length of this array.
+     */
+    @Override
+    public QuaternionArray subtract(final QuaternionArray subtrahend) throws IllegalArgumentException {
+        return this.subtract(subtrahend, new QuaternionArray(this.w.length));
+    }
+
+    /**
+     * The element-wise subtraction of quaternions.
+     * @param subtrahend the quaternions that are subtracted from these minuends.
+     * @param destination the array that receives the differences.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public QuaternionArray subtract(final QuaternionArray subtrahend, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(subtrahend.length());
+        this.checkLength(destination.length());
+        run(this.w.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                destination.w[k] = this.w[k] - subtrahend.w[k];
+                destination.x[k] = this.x[k] - subtrahend.x[k];
+                destination.y[k] = this.y[k] - subtrahend.y[k];
+                destination.z[k] = this.z[k] - subtrahend.z[k];
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * The element-wise Hamilton product of quaternions.
+     * @param multiplicand the quaternions that are multiplied to the right of these multipliers.
+     * @return an array of the products.
+     * @throws IllegalArgumentException if the multiplicand does not have the length of this array.
+     */
+    @Override
+    public QuaternionArray multiply(final QuaternionArray multiplicand) throws IllegalArgumentException {
+        return this.multiply(multiplicand, new QuaternionArray(this.w.length));
+    }
+
+    /**
+     * The element-wise Hamilton product of quaternions.
+     * @param multiplicand the quaternions that are multiplied to the right of these multipliers.
+     * @param destination the array that receives the products.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public QuaternionArray multiply(final QuaternionArray multiplicand, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(multiplicand.length());
+        this.checkLength(destination.length());
+        run(this.w.length, (from, to) -> multiply(from, to, this.w, this.x, this.y, this.z,
+                multiplicand.w, multiplicand.x, multiplicand.y, multiplicand.z, destination));
+        return destination;
+    }
+
+    /**
+     * The Hamilton product of every element by a quaternion on the right, which composes a rotation
+     * that is applied before those of the array.
+     * @param multiplicand the quaternion that is multiplied to the right of these multipliers.
+     * @return an array of the products.
+     */
+    public QuaternionArray multiply(final Quaternion multiplicand) {
+        return this.multiply(multiplicand, new QuaternionArray(this.w.length));
+    }
+
+    /**
+     * The Hamilton product of every element by a quaternion on the right.
+     * @param multiplicand the quaternion that is multiplied to the right of these multipliers.
+     * @param destination the array that receives the products.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have the length of this array.
+     */
+    public QuaternionArray multiply(final Quaternion multiplicand, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(destination.length());
+        final double a = multiplicand.w();
+        final double b = multiplicand.x();
+        final double c = multiplicand.y();
+        final double d = multiplicand.z();
+        run(this.w.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                final double wk = this.w[k];
+                final double xk = this.x[k];
+                final double yk = this.y[k];
+                final double zk = this.z[k];
+                destination.w[k] = wk * a - xk * b - yk * c - zk * d;
+                destination.x[k] = wk * b + xk * a + yk * d - zk * c;
+                destination.y[k] = wk * c - xk * d + yk * a + zk * b;
+                destination.z[k] = wk * d + xk * c - yk * b + zk * a;
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * The element-wise division of quaternions, the products by the reciprocals of the divisors on the right.
+     * @param divisor the quaternions that divide these dividends.
+     * @return an array of the quotients.
+     * @throws IllegalArgumentException if the divisor does not have the length of this array.
+     */
+    @Override
+    public QuaternionArray divide(final QuaternionArray divisor) throws IllegalArgumentException {
+        return this.divide(divisor, new QuaternionArray(this.w.length));
+    }
+
+    /**
+     * The element-wise division of quaternions, the products by the reciprocals of the divisors on the right.
+     * @param divisor the quaternions that divide these dividends.
+     * @param destination the array that receives the quotients.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public QuaternionArray divide(final QuaternionArray divisor, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(divisor.length());
+        this.checkLength(destination.length());
+        run(this.w.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                final double wk = this.w[k];
+                final double xk = this.x[k];
+                final double yk = this.y[k];
+                final double zk = this.z[k];
+                final double ak = divisor.w[k];
+                final double bk = divisor.x[k];
+                final double ck = divisor.y[k];
+                final double dk = divisor.z[k];
+                final double norm = ak * ak + bk * bk + ck * ck + dk * dk;
+                final double a = ak / norm;
+                final double b = -bk / norm;
+                final double c = -ck / norm;
+                final double d = -dk / norm;
+                destination.w[k] = wk * a - xk * b - yk * c - zk * d;
+                destination.x[k] = wk * b + xk * a + yk * d - zk * c;
+                destination.y[k] = wk * c - xk * d + yk * a + zk * b;
+                destination.z[k] = wk * d + xk * c - yk * b + zk * a;
+            }
+        });
+        return destination;
+    }
+
+    /**
+     * Rotate vectors by the unit quaternions of this array, the vector of every index by the quaternion of the index,
+     * in the form v + w t + u × t with t = 2 u × v, where u is the imaginary part of the quaternion;
+     * the quaternions are not normalised.
+     * @param x the first coordinates of the vectors.
+     * @param y the second coordinates of the vectors.
+     * @param z the third coordinates of the vectors.
+     * @param rx the array that receives the first coordinates of the rotated vectors.
+     * @param ry the array that receives the second coordinates of the rotated vectors.
+     * @param rz the array that receives the third coordinates of the rotated vectors.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public void rotate(final double[] x, final double[] y, final double[] z, final double[] rx, final double[] ry,
+            final double[] rz) throws IllegalArgumentException {
+        this.checkLength(x.length);
+        this.checkLength(y.length);
+        this.checkLength(z.length);
+        this.checkLength(rx.length);
+        this.checkLength(ry.length);
+        this.checkLength(rz.length);
+        run(this.w.length, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                final double qw = this.w[k];
+                final double qx = this.x[k];
+                final double qy = this.y[k];
+                final double qz = this.z[k];
+                final double vx = x[k];
+                final double vy = y[k];
+                final double vz = z[k];
+                final double tx = 2. * (qy * vz - qz * vy);
+                final double ty = 2. * (qz * vx - qx * vz);
+                final double tz = 2. * (qx * vy - qy * vx);
+                rx[k] = vx + qw * tx + (qy * tz - qz * ty);
+                ry[k] = vy + qw * ty + (qz * tx - qx * tz);
+                rz[k] = vz + qw * tz + (qx * ty - qy * tx);
+            }
+        });
+    }
+
+    /**
+     * The rotation matrices of the unit quaternions of this array; the quaternions are not normalised.
+     * @param destination the array that receives the matrices, nine elements each in the order of the rows.
+     * @return the destination.
+     * @throws IllegalArgumentException if the destination does not have nine elements for every quaternion.
+     */
+    public double[] toRotationMatrices(final double[] destination) throws IllegalArgumentException {
+        if (destination.length != 9L * this.w.length) {
+            throw new IllegalArgumentException();
+        } else {
+            run(this.w.length, (from, to) -> {
+                for (int k = from; k < to; k++) {
+                    final double qw = this.w[k];
+                    final double qx = this.x[k];
+                    final double qy = this.y[k];
+                    final double qz = this.z[k];
+                    final double xx = qx * qx;
+                    final double yy = qy * qy;
+                    final double zz = qz * qz;
+                    final double xy = qx * qy;
+                    final double xz = qx * qz;
+                    final double yz = qy * qz;
+                    final double wx = qw * qx;
+                    final double wy = qw * qy;
+                    final double wz = qw * qz;
+                    final int m = 9 * k;
+                    destination[m] = 1. - 2. * (yy + zz);
+                    destination[m + 1] = 2. * (xy - wz);
+                    destination[m + 2] = 2. * (xz + wy);
+                    destination[m + 3] = 2. * (xy + wz);
+                    destination[m + 4] = 1. - 2. * (xx + zz);
+                    destination[m + 5] = 2. * (yz - wx);
+                    destination[m + 6] = 2. * (xz - wy);
+                    destination[m + 7] = 2. * (yz + wx);
+                    destination[m + 8] = 1. - 2. * (xx + yy);
+                }
+            });
+            return destination;
+        }
+    }
+
+    /**
+     * The element-wise spherical linear interpolation between the unit quaternions of this array and others
+     * along the shortest arcs, with one parameter for every interpolation.
+     * @param end the unit quaternions at the ends of the interpolations.
+     * @param t the parameters of the interpolations, zero at this array and one at the end.
+     * @param destination the array that receives the interpolated unit quaternions.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public QuaternionArray slerp(final QuaternionArray end, final double[] t, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(end.length());
+        this.checkLength(t.length);
+        this.checkLength(destination.length());
+        run(this.w.length, (from, to) -> interpolate(from, to, this, end, t, 0., true, destination));
+        return destination;
+    }
+
+    /**
+     * The element-wise spherical linear interpolation between the unit quaternions of this array and others
+     * along the shortest arcs, with the same parameter for every interpolation.
+     * @param end the unit quaternions at the ends of the interpolations.
+     * @param t the parameter of the interpolations, zero at this array and one at the end.
+     * @param destination the array that receives the interpolated unit quaternions.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public QuaternionArray slerp(final QuaternionArray end, final double t, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(end.length());
+        this.checkLength(destination.length());
+        run(this.w.length, (from, to) -> interpolate(from, to, this, end, null, t, true, destination));
+        return destination;
+    }
+
+    /**
+     * The element-wise normalised linear interpolation between the unit quaternions of this array and others
+     * along the shortest arcs, with one parameter for every interpolation.
+     * @param end the unit quaternions at the ends of the interpolations.
+     * @param t the parameters of the interpolations, zero at this array and one at the end.
+     * @param destination the array that receives the interpolated unit quaternions.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public QuaternionArray nlerp(final QuaternionArray end, final double[] t, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(end.length());
+        this.checkLength(t.length);
+        this.checkLength(destination.length());
+        run(this.w.length, (from, to) -> interpolate(from, to, this, end, t, 0., false, destination));
+        return destination;
+    }
+
+    /**
+     * The element-wise normalised linear interpolation between the unit quaternions of this array and others
+     * along the shortest arcs, with the same parameter for every interpolation.
+     * @param end the unit quaternions at the ends of the interpolations.
+     * @param t the parameter of the interpolations, zero at this array and one at the end.
+     * @param destination the array that receives the interpolated unit quaternions.
+     * @return the destination.
+     * @throws IllegalArgumentException if the arrays do not have the length of this array.
+     */
+    public QuaternionArray nlerp(final QuaternionArray end, final double t, final QuaternionArray destination)
+            throws IllegalArgumentException {
+        this.checkLength(end.length());
+        this.checkLength(destination.length());
+        run(this.w.length, (from, to) -> interpolate(from, to, this, end, null, t, false, destination));
+        return destination;
+    }
+
+    /**
+     * The Hamilton products of split arrays over a range of indices.
+     */
+    private static void multiply(final int from, final int to, final double[] w, final double[] x, final double[] y,
+            final double[] z, final double[] a, final double[] b, final double[] c, final double[] d,
+            final QuaternionArray destination) {
+        for (int k = from; k < to; k++) {
+            final double wk = w[k];
+            final double xk = x[k];
+            final double yk = y[k];
+            final double zk = z[k];
+            final double ak = a[k];
+            final double bk = b[k];
+            final double ck = c[k];
+            final double dk = d[k];
+            destination.w[k] = wk * ak - xk * bk - yk * ck - zk * dk;
+            destination.x[k] = wk * bk + xk * ak + yk * dk - zk * ck;
+            destination.y[k] = wk * ck - xk * dk + yk * ak + zk * bk;
+            destination.z[k] = wk * dk + xk * ck - yk * bk + zk * ak;
+        }
+    }
+
+    /**
+     * The spherical or normalised linear interpolations over a range of indices, with the expressions of
+     * {@link Quaternion#slerp(Quaternion, double)} and {@link Quaternion#nlerp(Quaternion, double)}.
+     * @param parameters the parameters of the interpolations, or null for the same parameter.
+     * @param parameter the same parameter of the interpolations.
+     * @param spherical true for the spherical interpolation, false for the normalised linear interpolation.
+     */
+    private static void interpolate(final int from, final int to, final QuaternionArray start, final QuaternionArray end,
+            final double[] parameters, final double parameter, final boolean spherical, final QuaternionArray destination) {
+        for (int k = from; k < to; k++) {
+            final double t = parameters == null ? parameter : parameters[k];
+            final double w0 = start.w[k];
+            final double x0 = start.x[k];
+            final double y0 = start.y[k];
+            final double z0 = start.z[k];
+            final double w1 = end.w[k];
+            final double x1 = end.x[k];
+            final double y1 = end.y[k];
+            final double z1 = end.z[k];
+            final double cosine = w0 * w1 + x0 * x1 + y0 * y1 + z0 * z1;
+            final double sign = cosine < 0 ? -1. : 1.;
+            final double c = sign * cosine;
+            if (spherical && c <= Quaternion.SLERP_LIMIT) {
+                final double angle = Math.acos(c);
+                final double sine = Math.sqrt(1. - c * c);
+                final double a = Math.sin((1. - t) * angle) / sine;
+                final double b = sign * Math.sin(t * angle) / sine;
+                destination.w[k] = a * w0 + b * w1;
+                destination.x[k] = a * x0 + b * x1;
+                destination.y[k] = a * y0 + b * y1;
+                destination.z[k] = a * z0 + b * z1;
+            } else {
+                final double a = 1. - t;
+                final double b = cosine < 0 ? -t : t;
+                final double w = a * w0 + b * w1;
+                final double x = a * x0 + b * x1;
+                final double y = a * y0 + b * y1;
+                final double z = a * z0 + b * z1;
+                final double inverse = 1. / Math.sqrt(w * w + x * x + y * y + z * z);
+                destination.w[k] = w * inverse;
+                destination.x[k] = x * inverse;
+                destination.y[k] = y * inverse;
+                destination.z[k] = z * inverse;
+            }
+        }
+    }
+
+    /**
+     * The unit quaternions of rotation matrices over a range of indices, with the expressions of
+     * {@link Quaternion#rotation(double[])}.
+     */
+    private static void fromMatrices(final int from, final int to, final double[] matrices, final double[] w,
+            final double[] x, final double[] y, final double[] z) {
+        for (int k = from; k < to; k++) {
+            final int m = 9 * k;
+            final double m00 = matrices[m];
+            final double m01 = matrices[m + 1];
+            final double m02 = matrices[m + 2];
+            final double m10 = matrices[m + 3];
+            final double m11 = matrices[m + 4];
+            final double m12 = matrices[m + 5];
+            final double m20 = matrices[m + 6];
+            final double m21 = matrices[m + 7];
+            final double m22 = matrices[m + 8];
+            final double trace = m00 + m11 + m22;
+            final double qw;
+            final double qx;
+            final double qy;
+            final double qz;
+            if (trace > 0.) {
+                final double s = 2. * Math.sqrt(1. + trace);
+                qw = .25 * s;
+                qx = (m21 - m12) / s;
+                qy = (m02 - m20) / s;
+                qz = (m10 - m01) / s;
+            } else if (m00 > m11 && m00 > m22) {
+                final double s = 2. * Math.sqrt(1. + m00 - m11 - m22);
+                qw = (m21 - m12) / s;
+                qx = .25 * s;
+                qy = (m01 + m10) / s;
+                qz = (m02 + m20) / s;
+            } else if (m11 > m22) {
+                final double s = 2. * Math.sqrt(1. + m11 - m00 - m22);
+                qw = (m02 - m20) / s;
+                qx = (m01 + m10) / s;
+                qy = .25 * s;
+                qz = (m12 + m21) / s;
+            } else {
+                final double s = 2. * Math.sqrt(1. + m22 - m00 - m11);
+                qw = (m10 - m01) / s;
+                qx = (m02 + m20) / s;
+                qy = (m12 + m21) / s;
+                qz = .25 * s;
+            }
+            final double sign = qw < 0 ? -1. : 1.;
+            w[k] = sign * qw;
+            x[k] = sign * qx;
+            y[k] = sign * qy;
+            z[k] = sign * qz;
+        }
+    }
+
+    /**
+     * Run an operation over all the indices of arrays, by blocks on the common fork join pool for long arrays.
+     * @param length the number of indices.
+     * @param range the operation over a range of indices.
+     */
+    private static void run(final int length, final Range range) {
+        if (length >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new Blocks(range, 0, length));
+        } else {
+            range.apply(0, length);
+        }
+    }
+
+    /**
+     * Verify that another array has the length of this array.
+     * @param length the length of the other array.
+     * @throws IllegalArgumentException if the lengths differ.
+     */
+    private void checkLength(final int length) throws IllegalArgumentException {
+        if (length != this.w.length) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * An operation over a range of indices of arrays.
+     */
+    @FunctionalInterface
+    private interface Range {
+        /**
+         * Apply the operation from an index to another.
+         * @param from the first index.
+         * @param to the index after the last index.
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * The task that splits a range of indices in halves down to a block.
+     */
+    private static final class Blocks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient Range range;
+        private final int from;
+        private final int to;
+
+        Blocks(final Range range, final int from, final int to) {
+            this.range = range;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > BLOCK) {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Blocks(this.range, this.from, middle), new Blocks(this.range, middle, this.to));
+            } else {
+                this.range.apply(this.from, this.to);
+            }
+        }
+    }
+}
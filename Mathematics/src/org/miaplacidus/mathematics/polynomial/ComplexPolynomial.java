@@ -0,0 +1,862 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.polynomial;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import org.miaplacidus.mathematics.fourier.FourierTransform;
+import org.miaplacidus.mathematics.number.Arithmetic;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.miaplacidus.mathematics.number.complex.ComplexAccumulator;
+import org.miaplacidus.mathematics.number.complex.ComplexArray;
+import org.miaplacidus.mathematics.number.complex.ComplexKernel;
+
+/**
+ * A polynomial with complex coefficients, stored as two arrays of real parts and imaginary parts
+ * in the order of increasing powers, without vanishing leading coefficients.
+ * Polynomials are immutable and may be shared between threads.
+ * The evaluations are the method of Horner in primitive arithmetic: the derivatives are computed in the same pass,
+ * and batches of points are evaluated four at a time, so that their independent recurrences overlap in the pipeline
+ * of the processor, and in parallel over blocks of points for large batches.
+ * Products of polynomials of high degrees are convolutions by the fast Fourier transform.
+ * The roots are found together by the method of Aberth and Ehrlich.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class ComplexPolynomial extends Object implements Serializable, Arithmetic<ComplexPolynomial> {
+    /**
+     * The serial version UID of complex polynomials.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The zero polynomial, of degree -1.
+     */
+    public static final ComplexPolynomial ZERO = new ComplexPolynomial(new double[0], new double[0], 0);
+
+    /**
+     * The constant polynomial one.
+     */
+    public static final ComplexPolynomial ONE = new ComplexPolynomial(new double[] {1.}, new double[] {0.}, 1);
+
+    /**
+     * The number of coefficients of both factors from which products are convolutions by the fast Fourier transform.
+     * Their coefficients then have an absolute error relative to the largest coefficient of the product,
+     * instead of an error relative to every coefficient.
+     */
+    public static final int FOURIER_THRESHOLD = 128;
+
+    /**
+     * The degree from which the roots are updated in parallel over blocks, and the number of coefficients
+     * times points from which batches of points are evaluated in parallel over blocks.
+     */
+    public static final int PARALLEL_THRESHOLD = 256;
+    private static final int PARALLEL_WORK = 1 << 16;
+
+    /**
+     * The number of roots or points of a parallel task.
+     */
+    private static final int BLOCK = 64;
+
+    /**
+     * The number of points that are evaluated together.
+     */
+    private static final int LANES = 4;
+
+    /**
+     * The largest number of iterations of the method of Aberth and Ehrlich.
+     */
+    private static final int MAXIMUM_ITERATIONS = 500;
+
+    /**
+     * The unit roundoff, and the multiple of the running error bound of Horner's method below which a value is
+     * indistinguishable from zero and the approximation of a root has converged.
+     */
+    private static final double EPSILON = Math.ulp(1.) / 2.;
+    private static final double CONVERGENCE = 4. * EPSILON;
+
+    /**
+     * The rotation of the initial approximations on their circles,
+     * which keeps them away from the symmetries of real polynomials.
+     */
+    private static final double ROTATION = .7;
+
+    private static final Logger LOG = Logger.getLogger(ComplexPolynomial.class.getName());
+
+    /**
+     * Construct the monic polynomial of the provided roots, the product of the factors z - r.
+     * @param roots the roots, with their multiplicities.
+     * @return the polynomial of degree the number of roots.
+     */
+    public static ComplexPolynomial fromRoots(final ComplexArray roots) {
+        final int degree = roots.length();
+        final double[] real = new double[degree + 1];
+        final double[] imaginary = new double[degree + 1];
+        real[0] = 1.;
+        for (int n = 0; n < degree; n++) {
+            final double rootReal = roots.real(n);
+            final double rootImaginary = roots.imaginary(n);
+            real[n + 1] = real[n];
+            imaginary[n + 1] = imaginary[n];
+            for (int k = n; k > 0; k--) {
+                final double a = real[k];
+                final double b = imaginary[k];
+                real[k] = real[k - 1] - (a * rootReal - b * rootImaginary);
+                imaginary[k] = imaginary[k - 1] - (a * rootImaginary + rootReal * b);
+            }
+            final double a = real[0];
+            final double b = imaginary[0];
+            real[0] = -(a * rootReal - b * rootImaginary);
+            imaginary[0] = -(a * rootImaginary + rootReal * b);
+        }
+        return new ComplexPolynomial(real, imaginary, degree + 1);
+    }
+
+    /**
+     * Construct the monic polynomial of the provided roots, the product of the factors z - r.
+     * @param roots the roots, with their multiplicities.
+     * @return the polynomial of degree the number of roots.
+     */
+    public static ComplexPolynomial fromRoots(final Complex... roots) {
+        return fromRoots(new ComplexArray(roots));
+    }
+
+    /**
+     * The real parts of the coefficients, in the order of increasing powers.
+     */
+    private final double[] real;
+
+    /**
+     * The imaginary parts of the coefficients, in the order of increasing powers.
+     */
+    private final double[] imaginary;
+
+    /**
+     * Construct a polynomial from the parts of its coefficients, which are copied without the vanishing leading ones.
+     * @param real the real parts of the coefficients, in the order of increasing powers.
+     * @param imaginary the imaginary parts of the coefficients, in the order of increasing powers.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public ComplexPolynomial(final double[] real, final double[] imaginary) throws IllegalArgumentException {
+        if (real.length != imaginary.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final int length = significant(real, imaginary, real.length);
+            this.real = Arrays.copyOf(real, length);
+            this.imaginary = Arrays.copyOf(imaginary, length);
+        }
+    }
+
+    /**
+     * Construct a polynomial from its coefficients, which are copied without the vanishing leading ones.
+     * @param coefficients the coefficients, in the order of increasing powers.
+     */
+    public ComplexPolynomial(final ComplexArray coefficients) {
+        this(coefficients.real(), coefficients.imaginary());
+    }
+
+    /**
+     * Construct a polynomial from its coefficients.
+     * @param coefficients the coefficients, in the order of increasing powers.
+     */
+    public ComplexPolynomial(final Complex... coefficients) {
+        this(new ComplexArray(coefficients));
+    }
+
+    /**
+     * Construct a polynomial on arrays that it owns, which are only copied if they have vanishing leading coefficients.
+     * @param real the real parts of the coefficients.
+     * @param imaginary the imaginary parts of the coefficients.
+     * @param length the number of the coefficients that are used.
+     */
+    private ComplexPolynomial(final double[] real, final double[] imaginary, final int length) {
+        final int significant = significant(real, imaginary, length);
+        this.real = significant == real.length ? real : Arrays.copyOf(real, significant);
+        this.imaginary = significant == imaginary.length ? imaginary : Arrays.copyOf(imaginary, significant);
+    }
+
+    /**
+     * The number of coefficients up to the last one that does not vanish.
+     * @param real the real parts of the coefficients.
+     * @param imaginary the imaginary parts of the coefficients.
+     * @param length the number of coefficients.
+     * @return the number of significant coefficients.
+     */
+    private static int significant(final double[] real, final double[] imaginary, final int length) {
+        int significant = length;
+        while (significant > 0 && real[significant - 1] == 0 && imaginary[significant - 1] == 0) {
+            significant--;
+        }
+        return significant;
+    }
+
+    /**
+     * Test for equality with another object.
+     * @param object Object that is tested to.
+     * @return true if the objects are equal;
+     * false if object is null, not an instance of ComplexPolynomial or not equal to this.
+     */
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        } else if (object == null) {
+            return false;
+        } else if (this.getClass() != object.getClass()) {
+            return false;
+        } else {
+            final ComplexPolynomial other = (ComplexPolynomial) object;
+            return Arrays.equals(this.real, other.real) && Arrays.equals(this.imaginary, other.imaginary);
+        }
+    }
+
+    /**
+     * Receive the hash code for the polynomial.
+     * @return a hash code for this.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 89 * hash + Arrays.hashCode(this.real);
+        hash = 89 * hash + Arrays.hashCode(this.imaginary);
+        return hash;
+    }
+
+    /**
+     * Serialise this polynomial as a sum of monomials in z, in the order of increasing powers.
+     * @return a string that represents the polynomial.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (int k = 0; k < this.real.length; k++) {
+            if (this.real[k] != 0 || this.imaginary[k] != 0) {
+                if (builder.length() > 0) {
+                    builder.append(" + ");
+                }
+                builder.append('(').append(this.coefficient(k)).append(')');
+                if (k == 1) {
+                    builder.append(" z");
+                } else if (k > 1) {
+                    builder.append(" z^").append(k);
+                }
+            }
+        }
+        return builder.length() == 0 ? "0" : builder.toString();
+    }
+
+    /**
+     * The degree of the polynomial.
+     * @return the largest power with a coefficient that does not vanish, -1 for the zero polynomial.
+     */
+    public int degree() {
+        return this.real.length - 1;
+    }
+
+    /**
+     * The real parts of the coefficients, which are copied.
+     * @return the real parts of the coefficients, in the order of increasing powers.
+     */
+    public double[] real() {
+        return this.real.clone();
+    }
+
+    /**
+     * The imaginary parts of the coefficients, which are copied.
+     * @return the imaginary parts of the coefficients, in the order of increasing powers.
+     */
+    public double[] imaginary() {
+        return this.imaginary.clone();
+    }
+
+    /**
+     * The coefficients of the polynomial, which are copied.
+     * @return the coefficients, in the order of increasing powers.
+     */
+    public ComplexArray coefficients() {
+        return new ComplexArray(this.real(), this.imaginary());
+    }
+
+    /**
+     * The coefficient of a power.
+     * @param power the power of z.
+     * @return the coefficient of the power, zero above the degree.
+     * @throws IllegalArgumentException if the power is negative.
+     */
+    public Complex coefficient(final int power) throws IllegalArgumentException {
+        if (power < 0) {
+            throw new IllegalArgumentException();
+        } else if (power >= this.real.length) {
+            return Complex.ZERO;
+        } else {
+            return new Complex(this.real[power], this.imaginary[power]);
+        }
+    }
+
+    /**
+     * The value of the polynomial at a complex number.
+     * @param z the complex number.
+     * @return the value p(z).
+     */
+    public Complex evaluate(final Complex z) {
+        final double[] result = new double[2];
+        this.evaluate(z.real(), z.imaginary(), result);
+        return new Complex(result[0], result[1]);
+    }
+
+    /**
+     * The value of the polynomial at a complex number, in primitive arithmetic.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the value.
+     */
+    public void evaluate(final double real, final double imaginary, final double[] result) {
+        final ComplexAccumulator value = new ComplexAccumulator();
+        for (int k = this.real.length - 1; k >= 0; k--) {
+            value.fma(real, imaginary, this.real[k], this.imaginary[k]);
+        }
+        value.get(result);
+    }
+
+    /**
+     * The value of the polynomial and its derivatives at a complex number, in a single pass of Horner's method.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @param order the highest order of the derivatives.
+     * @param result the array that receives the real and imaginary parts of p(z), p'(z), ... in turn,
+     * the parts of the derivative of order j at the indices 2 j and 2 j + 1.
+     * @throws IllegalArgumentException if the order is negative or the array has fewer than 2 (order + 1) elements.
+     */
+    public void evaluate(final double real, final double imaginary, final int order, final double[] result)
+            throws IllegalArgumentException {
+        if (order < 0 || result.length < 2 * (order + 1)) {
+            throw new IllegalArgumentException();
+        } else {
+            Arrays.fill(result, 0, 2 * (order + 1), 0.);
+            for (int k = this.real.length - 1; k >= 0; k--) {
+                for (int j = Math.min(order, this.real.length - 1 - k); j > 0; j--) {
+                    final double r = result[2 * j] * real - result[2 * j + 1] * imaginary + result[2 * j - 2];
+                    result[2 * j + 1] = result[2 * j] * imaginary + result[2 * j + 1] * real + result[2 * j - 1];
+                    result[2 * j] = r;
+                }
+                final double r = result[0] * real - result[1] * imaginary + this.real[k];
+                result[1] = result[0] * imaginary + result[1] * real + this.imaginary[k];
+                result[0] = r;
+            }
+            double factorial = 1.;
+            for (int j = 2; j <= order; j++) {
+                factorial *= j;
+                result[2 * j] *= factorial;
+                result[2 * j + 1] *= factorial;
+            }
+        }
+    }
+
+    /**
+     * The values of the polynomial at many complex numbers.
+     * @param points the complex numbers.
+     * @return an array of the values.
+     */
+    public ComplexArray evaluate(final ComplexArray points) {
+        final ComplexArray values = new ComplexArray(points.length());
+        this.evaluate(points.real(), points.imaginary(), values.real(), values.imaginary());
+        return values;
+    }
+
+    /**
+     * The values of the polynomial at many complex numbers, in primitive arithmetic.
+     * The points are evaluated four at a time, and in parallel over blocks of points when the batch is large;
+     * every value is the same as the one of {@link #evaluate(double, double, double[])}.
+     * @param real the real parts of the complex numbers.
+     * @param imaginary the imaginary parts of the complex numbers.
+     * @param resultReal the array that receives the real parts of the values, which may be the array of the real parts.
+     * @param resultImaginary the array that receives the imaginary parts of the values, which may be the array of the imaginary parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public void evaluate(final double[] real, final double[] imaginary, final double[] resultReal, final double[] resultImaginary)
+            throws IllegalArgumentException {
+        final int count = real.length;
+        if (imaginary.length != count || resultReal.length != count || resultImaginary.length != count) {
+            throw new IllegalArgumentException();
+        } else if ((long) count * this.real.length >= PARALLEL_WORK && count > BLOCK) {
+            IntStream.range(0, (count + BLOCK - 1) / BLOCK).parallel().forEach(block -> this.evaluate(block * BLOCK,
+                    Math.min(count, block * BLOCK + BLOCK), real, imaginary, resultReal, resultImaginary));
+        } else {
+            this.evaluate(0, count, real, imaginary, resultReal, resultImaginary);
+        }
+    }
+
+    /**
+     * Evaluate the polynomial over a range of points, four at a time.
+     * @param from the index of the first point.
+     * @param to the index after the last point.
+     * @param real the real parts of the points.
+     * @param imaginary the imaginary parts of the points.
+     * @param resultReal the array that receives the real parts of the values.
+     * @param resultImaginary the array that receives the imaginary parts of the values.
+     */
+    private void evaluate(final int from, final int to, final double[] real, final double[] imaginary,
+            final double[] resultReal, final double[] resultImaginary) {
+        final double[] a = this.real;
+        final double[] b = this.imaginary;
+        int i = from;
+        for (; i + LANES <= to; i += LANES) {
+            final double x0 = real[i];
+            final double x1 = real[i + 1];
+            final double x2 = real[i + 2];
+            final double x3 = real[i + 3];
+            final double y0 = imaginary[i];
+            final double y1 = imaginary[i + 1];
+            final double y2 = imaginary[i + 2];
+            final double y3 = imaginary[i + 3];
+            double u0 = 0.;
+            double u1 = 0.;
+            double u2 = 0.;
+            double u3 = 0.;
+            double v0 = 0.;
+            double v1 = 0.;
+            double v2 = 0.;
+            double v3 = 0.;
+            for (int k = a.length - 1; k >= 0; k--) {
+                final double c = a[k];
+                final double d = b[k];
+                final double w0 = u0 * x0 - v0 * y0 + c;
+                final double w1 = u1 * x1 - v1 * y1 + c;
+                final double w2 = u2 * x2 - v2 * y2 + c;
+                final double w3 = u3 * x3 - v3 * y3 + c;
+                v0 = u0 * y0 + v0 * x0 + d;
+                v1 = u1 * y1 + v1 * x1 + d;
+                v2 = u2 * y2 + v2 * x2 + d;
+                v3 = u3 * y3 + v3 * x3 + d;
+                u0 = w0;
+                u1 = w1;
+                u2 = w2;
+                u3 = w3;
+            }
+            resultReal[i] = u0;
+            resultReal[i + 1] = u1;
+            resultReal[i + 2] = u2;
+            resultReal[i + 3] = u3;
+            resultImaginary[i] = v0;
+            resultImaginary[i + 1] = v1;
+            resultImaginary[i + 2] = v2;
+            resultImaginary[i + 3] = v3;
+        }
+        final double[] value = new double[2];
+        for (; i < to; i++) {
+            this.evaluate(real[i], imaginary[i], value);
+            resultReal[i] = value[0];
+            resultImaginary[i] = value[1];
+        }
+    }
+
+    /**
+     * The derivative of the polynomial.
+     * @return the polynomial p'.
+     */
+    public ComplexPolynomial derivative() {
+        final int length = Math.max(0, this.real.length - 1);
+        final double[] real = new double[length];
+        final double[] imaginary = new double[length];
+        for (int k = 0; k < length; k++) {
+            real[k] = (k + 1) * this.real[k + 1];
+            imaginary[k] = (k + 1) * this.imaginary[k + 1];
+        }
+        return new ComplexPolynomial(real, imaginary, length);
+    }
+
+    /**
+     * The addition of polynomials.
+     * @param addend the polynomial that is added to this augend.
+     * @return the sum of the polynomials.
+     */
+    @Override
+    public ComplexPolynomial add(final ComplexPolynomial addend) {
+        final int length = Math.max(this.real.length, addend.real.length);
+        final double[] real = Arrays.copyOf(this.real, length);
+        final double[] imaginary = Arrays.copyOf(this.imaginary, length);
+        for (int k = 0; k < addend.real.length; k++) {
+            real[k] += addend.real[k];
+            imaginary[k] += addend.imaginary[k];
+        }
+        return new ComplexPolynomial(real, imaginary, length);
+    }
+
+    /**
+     * The subtraction of polynomials.
+     * @param subtrahend the polynomial that is subtracted from this minuend.
+     * @return the difference of the polynomials.
+     */
+    @Override
+    public ComplexPolynomial subtract(final ComplexPolynomial subtrahend) {
+        final int length = Math.max(this.real.length, subtrahend.real.length);
+        final double[] real = Arrays.copyOf(this.real, length);
+        final double[] imaginary = Arrays.copyOf(this.imaginary, length);
+        for (int k = 0; k < subtrahend.real.length; k++) {
+            real[k] -= subtrahend.real[k];
+            imaginary[k] -= subtrahend.imaginary[k];
+        }
+        return new ComplexPolynomial(real, imaginary, length);
+    }
+
+    /**
+     * The multiplication of a polynomial by a complex number.
+     * @param multiplicand the complex number that is multiplied to this polynomial.
+     * @return the product of the polynomial and the number.
+     */
+    public ComplexPolynomial multiply(final Complex multiplicand) {
+        final int length = this.real.length;
+        final double[] real = new double[length];
+        final double[] imaginary = new double[length];
+        final double c = multiplicand.real();
+        final double d = multiplicand.imaginary();
+        for (int k = 0; k < length; k++) {
+            real[k] = this.real[k] * c - this.imaginary[k] * d;
+            imaginary[k] = this.real[k] * d + c * this.imaginary[k];
+        }
+        return new ComplexPolynomial(real, imaginary, length);
+    }
+
+    /**
+     * The multiplication of polynomials, a convolution of their coefficients that is computed
+     * by the fast Fourier transform when both have at least {@link #FOURIER_THRESHOLD} coefficients.
+     * @param multiplicand the polynomial that is multiplied to this multiplier.
+     * @return the product of the polynomials.
+     */
+    @Override
+    public ComplexPolynomial multiply(final ComplexPolynomial multiplicand) {
+        if (this.real.length == 0 || multiplicand.real.length == 0) {
+            return ZERO;
+        } else if (Math.min(this.real.length, multiplicand.real.length) >= FOURIER_THRESHOLD) {
+            return this.convolve(multiplicand);
+        } else {
+            final int length = this.real.length + multiplicand.real.length - 1;
+            final double[] real = new double[length];
+            final double[] imaginary = new double[length];
+            for (int j = 0; j < this.real.length; j++) {
+                final double a = this.real[j];
+                final double b = this.imaginary[j];
+                for (int k = 0; k < multiplicand.real.length; k++) {
+                    final double c = multiplicand.real[k];
+                    final double d = multiplicand.imaginary[k];
+                    real[j + k] += a * c - b * d;
+                    imaginary[j + k] += a * d + c * b;
+                }
+            }
+            return new ComplexPolynomial(real, imaginary, length);
+        }
+    }
+
+    /**
+     * The multiplication of polynomials by the fast Fourier transform of their coefficients,
+     * padded to a power of two not smaller than the length of the product.
+     * @param multiplicand the polynomial that is multiplied to this multiplier.
+     * @return the product of the polynomials.
+     */
+    private ComplexPolynomial convolve(final ComplexPolynomial multiplicand) {
+        final int length = this.real.length + multiplicand.real.length - 1;
+        final int size = Integer.highestOneBit(length - 1) << 1;
+        final double[] aReal = Arrays.copyOf(this.real, size);
+        final double[] aImaginary = Arrays.copyOf(this.imaginary, size);
+        final double[] bReal = Arrays.copyOf(multiplicand.real, size);
+        final double[] bImaginary = Arrays.copyOf(multiplicand.imaginary, size);
+        FourierTransform.forward(aReal, aImaginary);
+        FourierTransform.forward(bReal, bImaginary);
+        ComplexKernel.of().multiply(aReal, aImaginary, bReal, bImaginary, aReal, aImaginary);
+        FourierTransform.inverse(aReal, aImaginary);
+        return new ComplexPolynomial(aReal, aImaginary, length);
+    }
+
+    /**
+     * The quotient of the Euclidean division of polynomials.
+     * @param divisor the polynomial that is divided from this dividend.
+     * @return the quotient of the division.
+     * @throws IllegalArgumentException if the divisor is the zero polynomial.
+     */
+    @Override
+    public ComplexPolynomial divide(final ComplexPolynomial divisor) throws IllegalArgumentException {
+        return this.divideAndRemainder(divisor)[0];
+    }
+
+    /**
+     * The remainder of the Euclidean division of polynomials.
+     * @param divisor the polynomial that is divided from this dividend.
+     * @return the remainder of the division, of a degree smaller than the one of the divisor.
+     * @throws IllegalArgumentException if the divisor is the zero polynomial.
+     */
+    public ComplexPolynomial remainder(final ComplexPolynomial divisor) throws IllegalArgumentException {
+        return this.divideAndRemainder(divisor)[1];
+    }
+
+    /**
+     * The Euclidean division of polynomials, from the leading coefficients down.
+     * The errors of the quotient grow like the powers of the moduli of the roots of the divisor that lie outside
+     * of the unit circle, as in every long division.
+     * @param divisor the polynomial that is divided from this dividend.
+     * @return an array of the quotient and the remainder of the division.
+     * @throws IllegalArgumentException if the divisor is the zero polynomial.
+     */
+    public ComplexPolynomial[] divideAndRemainder(final ComplexPolynomial divisor) throws IllegalArgumentException {
+        final int degree = divisor.real.length - 1;
+        if (degree < 0) {
+            throw new IllegalArgumentException();
+        } else if (this.real.length <= degree) {
+            return new ComplexPolynomial[] {ZERO, this};
+        } else {
+            final double[] real = this.real.clone();
+            final double[] imaginary = this.imaginary.clone();
+            final int length = this.real.length - degree;
+            final double[] quotientReal = new double[length];
+            final double[] quotientImaginary = new double[length];
+            final ComplexAccumulator coefficient = new ComplexAccumulator();
+            for (int q = length - 1; q >= 0; q--) {
+                coefficient.set(real[q + degree], imaginary[q + degree]).divideBy(divisor.real[degree], divisor.imaginary[degree]);
+                final double c = coefficient.real();
+                final double d = coefficient.imaginary();
+                quotientReal[q] = c;
+                quotientImaginary[q] = d;
+                real[q + degree] = 0.;
+                imaginary[q + degree] = 0.;
+                for (int k = 0; k < degree; k++) {
+                    real[q + k] -= divisor.real[k] * c - divisor.imaginary[k] * d;
+                    imaginary[q + k] -= divisor.real[k] * d + c * divisor.imaginary[k];
+                }
+            }
+            return new ComplexPolynomial[] {new ComplexPolynomial(quotientReal, quotientImaginary, length),
+                new ComplexPolynomial(real, imaginary, degree)};
+        }
+    }
+
+    /**
+     * The roots of the polynomial by the method of Aberth and Ehrlich.
+     * The approximations start on the circles of the Newton polygon of the moduli of the coefficients, after Bini,
+     * and are all updated from the previous ones at every iteration, in parallel over blocks of roots
+     * from the degree {@link #PARALLEL_THRESHOLD}, so that the results do not depend on the number of workers.
+     * An approximation stops when the value of the polynomial is below the running error bound of its evaluation,
+     * which is computed in the reversed polynomial of 1 / z outside of the unit circle to avoid overflow.
+     * The roots zero of the vanishing lowest coefficients are exact.
+     * @return an array of the roots, with their multiplicities.
+     * @throws IllegalArgumentException if this is the zero polynomial.
+     */
+    public ComplexArray roots() throws IllegalArgumentException {
+        final int degree = this.real.length - 1;
+        if (degree < 0) {
+            throw new IllegalArgumentException();
+        } else {
+            int zeros = 0;
+            while (this.real[zeros] == 0 && this.imaginary[zeros] == 0) {
+                zeros++;
+            }
+            final ComplexArray roots = new ComplexArray(degree);
+            if (zeros < degree) {
+                final Roots iteration = new Roots(Arrays.copyOfRange(this.real, zeros, degree + 1),
+                        Arrays.copyOfRange(this.imaginary, zeros, degree + 1));
+                iteration.solve();
+                System.arraycopy(iteration.real, 0, roots.real(), zeros, degree - zeros);
+                System.arraycopy(iteration.imaginary, 0, roots.imaginary(), zeros, degree - zeros);
+            }
+            return roots;
+        }
+    }
+
+    /**
+     * The iteration of Aberth and Ehrlich on a polynomial whose lowest and highest coefficients do not vanish.
+     */
+    private static final class Roots extends Object {
+        private final double[] coefficientReal;
+        private final double[] coefficientImaginary;
+        private final int degree;
+
+        /**
+         * The current approximations of the roots.
+         */
+        private double[] real;
+        private double[] imaginary;
+
+        /**
+         * The next approximations of the roots.
+         */
+        private double[] nextReal;
+        private double[] nextImaginary;
+
+        /**
+         * The approximations that have converged and are not updated any more.
+         */
+        private final boolean[] converged;
+
+        Roots(final double[] coefficientReal, final double[] coefficientImaginary) {
+            this.coefficientReal = coefficientReal;
+            this.coefficientImaginary = coefficientImaginary;
+            this.degree = coefficientReal.length - 1;
+            this.real = new double[this.degree];
+            this.imaginary = new double[this.degree];
+            this.nextReal = new double[this.degree];
+            this.nextImaginary = new double[this.degree];
+            this.converged = new boolean[this.degree];
+        }
+
+        /**
+         * Iterate from the initial approximations until every approximation has converged
+         * or the number of iterations is exhausted, then the approximations are the last ones.
+         */
+        void solve() {
+            this.initialise();
+            final int blocks = (this.degree + BLOCK - 1) / BLOCK;
+            final boolean parallel = this.degree >= PARALLEL_THRESHOLD;
+            for (int iteration = 0; iteration < MAXIMUM_ITERATIONS && !this.finished(); iteration++) {
+                if (parallel) {
+                    IntStream.range(0, blocks).parallel().forEach(block -> this.update(block * BLOCK,
+                            Math.min(this.degree, block * BLOCK + BLOCK)));
+                } else {
+                    this.update(0, this.degree);
+                }
+                final double[] real = this.real;
+                final double[] imaginary = this.imaginary;
+                this.real = this.nextReal;
+                this.imaginary = this.nextImaginary;
+                this.nextReal = real;
+                this.nextImaginary = imaginary;
+            }
+        }
+
+        /**
+         * Test whether every approximation has converged.
+         * @return true if no approximation is updated any more, false otherwise.
+         */
+        private boolean finished() {
+            for (final boolean root : this.converged) {
+                if (!root) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Place the initial approximations on the circles of the upper convex hull of the points (k, log |a_k|):
+         * an edge from i to j holds j - i approximations of modulus (|a_i| / |a_j|)^(1 / (j - i)).
+         */
+        private void initialise() {
+            final double[] logarithm = new double[this.degree + 1];
+            for (int k = 0; k <= this.degree; k++) {
+                final double modulus = Math.hypot(this.coefficientReal[k], this.coefficientImaginary[k]);
+                logarithm[k] = modulus == 0 ? Double.NEGATIVE_INFINITY : Math.log(modulus);
+            }
+            final int[] hull = new int[this.degree + 1];
+            int size = 0;
+            for (int k = 0; k <= this.degree; k++) {
+                if (logarithm[k] != Double.NEGATIVE_INFINITY) {
+                    while (size >= 2 && (logarithm[hull[size - 1]] - logarithm[hull[size - 2]]) * (k - hull[size - 2])
+                            <= (logarithm[k] - logarithm[hull[size - 2]]) * (hull[size - 1] - hull[size - 2])) {
+                        size--;
+                    }
+                    hull[size++] = k;
+                }
+            }
+            for (int h = 0; h + 1 < size; h++) {
+                final int from = hull[h];
+                final int count = hull[h + 1] - from;
+                final double radius = Math.exp((logarithm[from] - logarithm[hull[h + 1]]) / count);
+                for (int j = 0; j < count; j++) {
+                    final double angle = 2. * Math.PI * j / count + 2. * Math.PI * from / this.degree + ROTATION;
+                    this.real[from + j] = radius * Math.cos(angle);
+                    this.imaginary[from + j] = radius * Math.sin(angle);
+                }
+            }
+        }
+
+        /**
+         * Update a range of approximations by the correction of Aberth and Ehrlich,
+         * w = 1 / (p'(z) / p(z) - sum 1 / (z - z_j)).
+         * @param from the index of the first approximation.
+         * @param to the index after the last approximation.
+         */
+        private void update(final int from, final int to) {
+            final double[] a = this.coefficientReal;
+            final double[] b = this.coefficientImaginary;
+            final int n = this.degree;
+            for (int i = from; i < to; i++) {
+                final double x = this.real[i];
+                final double y = this.imaginary[i];
+                this.nextReal[i] = x;
+                this.nextImaginary[i] = y;
+                if (!this.converged[i]) {
+                    final double modulus = Math.hypot(x, y);
+                    final boolean reversed = modulus > 1.;
+                    final double u;
+                    final double v;
+                    final double scale;
+                    if (reversed) {
+                        final double norm = x * x + y * y;
+                        u = x / norm;
+                        v = -y / norm;
+                        scale = 1. / modulus;
+                    } else {
+                        u = x;
+                        v = y;
+                        scale = modulus;
+                    }
+                    double valueReal = 0.;
+                    double valueImaginary = 0.;
+                    double derivativeReal = 0.;
+                    double derivativeImaginary = 0.;
+                    double bound = 0.;
+                    for (int j = 0; j <= n; j++) {
+                        final int k = reversed ? j : n - j;
+                        final double r = derivativeReal * u - derivativeImaginary * v + valueReal;
+                        derivativeImaginary = derivativeReal * v + derivativeImaginary * u + valueImaginary;
+                        derivativeReal = r;
+                        final double s = valueReal * u - valueImaginary * v + a[k];
+                        valueImaginary = valueReal * v + valueImaginary * u + b[k];
+                        valueReal = s;
+                        bound = bound * scale + Math.hypot(valueReal, valueImaginary);
+                    }
+                    if (Math.hypot(valueReal, valueImaginary) <= CONVERGENCE * bound) {
+                        this.converged[i] = true;
+                    } else {
+                        final ComplexAccumulator ratio = new ComplexAccumulator(derivativeReal, derivativeImaginary)
+                                .divideBy(valueReal, valueImaginary);
+                        if (reversed) {
+                            ratio.multiplyBy(-u, -v).addTo(n, 0.).multiplyBy(u, v);
+                        }
+                        for (int j = 0; j < n; j++) {
+                            if (j != i) {
+                                final double dx = x - this.real[j];
+                                final double dy = y - this.imaginary[j];
+                                final double norm = dx * dx + dy * dy;
+                                ratio.subtractFrom(dx / norm, -dy / norm);
+                            }
+                        }
+                        final double norm = ratio.real() * ratio.real() + ratio.imaginary() * ratio.imaginary();
+                        if (norm > 0 && Double.isFinite(norm)) {
+                            this.nextReal[i] = x - ratio.real() / norm;
+                            this.nextImaginary[i] = y + ratio.imaginary() / norm;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
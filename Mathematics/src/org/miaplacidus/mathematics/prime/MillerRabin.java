@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.prime;
+
+/**
+ * The deterministic Miller–Rabin test of long integers in Montgomery arithmetic.
+ * The bases 2, 7 and 61 decide every number below 2^32, the bases of Sinclair
+ * 2, 325, 9375, 28178, 450775, 9780504 and 1795265022 decide every number below 2^64.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+final class MillerRabin extends Object {
+    private static final long[] SMALL_BASES = {2, 7, 61};
+    private static final long[] BASES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
+    /**
+     * The number of candidates that are tested together.
+     */
+    static final int LANES = 4;
+
+    /**
+     * Test the primality of an odd number.
+     * @param number an odd number greater than 61.
+     * @return true if the number is prime, false otherwise.
+     */
+    static boolean test(final long number) {
+        return test(number, 0);
+    }
+
+    /**
+     * Continue the test of an odd number from one of its bases; both sets of bases begin with 2.
+     * @param number an odd number greater than 61.
+     * @param first the index of the first base that is tested.
+     * @return true if the number is a strong probable prime to the remaining bases, false otherwise.
+     */
+    private static boolean test(final long number, final int first) {
+        final long[] bases = number >>> 32 == 0 ? SMALL_BASES : BASES;
+        final long inverse = Montgomery.inverse(number);
+        final long one = Montgomery.one(number);
+        final long square = Montgomery.square(one, number);
+        final long minusOne = number - one;
+        final int shift = Long.numberOfTrailingZeros(number - 1);
+        final long odd = (number - 1) >>> shift;
+        for (int k = first; k < bases.length; k++) {
+            final long a = bases[k] % number;
+            if (a != 0) {
+                final long x = Montgomery.power(Montgomery.form(a, square, number, inverse), odd, one, number, inverse);
+                if (!witnessed(x, shift, one, minusOne, number, inverse)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Test the primality of four odd numbers together.
+     * The modular exponentiations of the base 2 are interleaved and free of branches,
+     * so that their independent multiplications overlap in the pipeline of the processor;
+     * most composite numbers fail this first base, the others continue with the remaining bases one by one.
+     * @param numbers the array of the numbers, all odd and greater than 61.
+     * @param indices the indices of the four numbers in the array.
+     * @param primality the array that receives the results at the indices of the numbers.
+     */
+    static void test(final long[] numbers, final int[] indices, final boolean[] primality) {
+        final long n0 = numbers[indices[0]];
+        final long n1 = numbers[indices[1]];
+        final long n2 = numbers[indices[2]];
+        final long n3 = numbers[indices[3]];
+        final long i0 = Montgomery.inverse(n0);
+        final long i1 = Montgomery.inverse(n1);
+        final long i2 = Montgomery.inverse(n2);
+        final long i3 = Montgomery.inverse(n3);
+        final long o0 = Montgomery.one(n0);
+        final long o1 = Montgomery.one(n1);
+        final long o2 = Montgomery.one(n2);
+        final long o3 = Montgomery.one(n3);
+        final int s0 = Long.numberOfTrailingZeros(n0 - 1);
+        final int s1 = Long.numberOfTrailingZeros(n1 - 1);
+        final int s2 = Long.numberOfTrailingZeros(n2 - 1);
+        final int s3 = Long.numberOfTrailingZeros(n3 - 1);
+        final long d0 = (n0 - 1) >>> s0;
+        final long d1 = (n1 - 1) >>> s1;
+        final long d2 = (n2 - 1) >>> s2;
+        final long d3 = (n3 - 1) >>> s3;
+        final long a0 = Montgomery.add(o0, o0, n0);
+        final long a1 = Montgomery.add(o1, o1, n1);
+        final long a2 = Montgomery.add(o2, o2, n2);
+        final long a3 = Montgomery.add(o3, o3, n3);
+        long x0 = o0;
+        long x1 = o1;
+        long x2 = o2;
+        long x3 = o3;
+        for (int bit = 63 - Long.numberOfLeadingZeros(d0 | d1 | d2 | d3); bit >= 0; bit--) {
+            x0 = Montgomery.multiply(x0, x0, n0, i0);
+            x1 = Montgomery.multiply(x1, x1, n1, i1);
+            x2 = Montgomery.multiply(x2, x2, n2, i2);
+            x3 = Montgomery.multiply(x3, x3, n3, i3);
+            final long y0 = Montgomery.multiply(x0, a0, n0, i0);
+            final long y1 = Montgomery.multiply(x1, a1, n1, i1);
+            final long y2 = Montgomery.multiply(x2, a2, n2, i2);
+            final long y3 = Montgomery.multiply(x3, a3, n3, i3);
+            x0 = ((d0 >>> bit) & 1) != 0 ? y0 : x0;
+            x1 = ((d1 >>> bit) & 1) != 0 ? y1 : x1;
+            x2 = ((d2 >>> bit) & 1) != 0 ? y2 : x2;
+            x3 = ((d3 >>> bit) & 1) != 0 ? y3 : x3;
+        }
+        primality[indices[0]] = witnessed(x0, s0, o0, n0 - o0, n0, i0) && test(n0, 1);
+        primality[indices[1]] = witnessed(x1, s1, o1, n1 - o1, n1, i1) && test(n1, 1);
+        primality[indices[2]] = witnessed(x2, s2, o2, n2 - o2, n2, i2) && test(n2, 1);
+        primality[indices[3]] = witnessed(x3, s3, o3, n3 - o3, n3, i3) && test(n3, 1);
+    }
+
+    /**
+     * Finish the strong probable prime test of a base from the power a^d.
+     * @param power the Montgomery form of a^d, with n - 1 = d 2^s and d odd.
+     * @param shift the exponent s.
+     * @param one the Montgomery form of one.
+     * @param minusOne the Montgomery form of minus one.
+     * @param modulus the tested number.
+     * @param inverse the inverse of the tested number modulo 2^64.
+     * @return true if the number is a strong probable prime to the base, false otherwise.
+     */
+    private static boolean witnessed(final long power, final int shift, final long one, final long minusOne,
+            final long modulus, final long inverse) {
+        long x = power;
+        if (x == one || x == minusOne) {
+            return true;
+        } else {
+            for (int r = 1; r < shift; r++) {
+                x = Montgomery.multiply(x, x, modulus, inverse);
+                if (x == minusOne) {
+                    return true;
+                } else if (x == one) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+
+    private MillerRabin() {
+        throw new AssertionError();
+    }
+}
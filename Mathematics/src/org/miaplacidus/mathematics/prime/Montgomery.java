@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.prime;
+
+/**
+ * The modular arithmetic of Montgomery for odd moduli below 2^63, with the radix R = 2^64.
+ * A residue a is held in Montgomery form as a R mod n, so that a product is reduced
+ * by two multiplications and a subtraction instead of a division.
+ * The high halves of the products are computed by {@link Math#multiplyHigh(long, long)},
+ * thus no product overflows.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+final class Montgomery extends Object {
+    /**
+     * Compute the inverse of an odd modulus modulo 2^64 by the iteration of Newton.
+     * @param modulus an odd modulus.
+     * @return the inverse of the modulus modulo 2^64.
+     */
+    static long inverse(final long modulus) {
+        long inverse = modulus;
+        for (int k = 0; k < 5; k++) {
+            inverse *= 2 - modulus * inverse;
+        }
+        return inverse;
+    }
+
+    /**
+     * Compute R mod n, the Montgomery form of one.
+     * @param modulus an odd modulus greater than one.
+     * @return 2^64 modulo the modulus.
+     */
+    static long one(final long modulus) {
+        final long one = Long.remainderUnsigned(-1L, modulus) + 1;
+        return one == modulus ? 0 : one;
+    }
+
+    /**
+     * Compute R^2 mod n, which converts a residue to its Montgomery form.
+     * @param one the Montgomery form of one.
+     * @param modulus an odd modulus greater than one.
+     * @return 2^128 modulo the modulus.
+     */
+    static long square(final long one, final long modulus) {
+        long square = one;
+        for (int k = 0; k < 64; k++) {
+            square = add(square, square, modulus);
+        }
+        return square;
+    }
+
+    /**
+     * Convert a residue to its Montgomery form.
+     * @param residue a non-negative residue.
+     * @param square R^2 mod n.
+     * @param modulus the modulus.
+     * @param inverse the inverse of the modulus modulo 2^64.
+     * @return the Montgomery form of the residue.
+     */
+    static long form(final long residue, final long square, final long modulus, final long inverse) {
+        return multiply(residue % modulus, square, modulus, inverse);
+    }
+
+    /**
+     * Convert a Montgomery form back to its residue.
+     * @param form a Montgomery form.
+     * @param modulus the modulus.
+     * @param inverse the inverse of the modulus modulo 2^64.
+     * @return the residue of the Montgomery form.
+     */
+    static long residue(final long form, final long modulus, final long inverse) {
+        return reduce(0, form, modulus, inverse);
+    }
+
+    /**
+     * Multiply two Montgomery forms.
+     * @param multiplier a Montgomery form smaller than the modulus.
+     * @param multiplicand a Montgomery form smaller than the modulus.
+     * @param modulus the modulus.
+     * @param inverse the inverse of the modulus modulo 2^64.
+     * @return the Montgomery form of the product.
+     */
+    static long multiply(final long multiplier, final long multiplicand, final long modulus, final long inverse) {
+        return reduce(Math.multiplyHigh(multiplier, multiplicand), multiplier * multiplicand, modulus, inverse);
+    }
+
+    /**
+     * The reduction of Montgomery, (high 2^64 + low) / R mod n.
+     * @param high the high half of a product, smaller than the modulus.
+     * @param low the low half of a product.
+     * @param modulus the modulus.
+     * @param inverse the inverse of the modulus modulo 2^64.
+     * @return the reduced product.
+     */
+    static long reduce(final long high, final long low, final long modulus, final long inverse) {
+        final long m = low * inverse;
+        final long reduced = high - (Math.multiplyHigh(m, modulus) + ((m >> 63) & modulus));
+        return reduced < 0 ? reduced + modulus : reduced;
+    }
+
+    /**
+     * The modular addition.
+     * @param augend a residue smaller than the modulus.
+     * @param addend a residue smaller than the modulus.
+     * @param modulus the modulus.
+     * @return the sum modulo the modulus.
+     */
+    static long add(final long augend, final long addend, final long modulus) {
+        final long sum = augend + addend;
+        return Long.compareUnsigned(sum, modulus) >= 0 ? sum - modulus : sum;
+    }
+
+    /**
+     * The modular subtraction.
+     * @param minuend a residue smaller than the modulus.
+     * @param subtrahend a residue smaller than the modulus.
+     * @param modulus the modulus.
+     * @return the difference modulo the modulus.
+     */
+    static long subtract(final long minuend, final long subtrahend, final long modulus) {
+        final long difference = minuend - subtrahend;
+        return difference < 0 ? difference + modulus : difference;
+    }
+
+    /**
+     * The modular exponentiation by squaring.
+     * @param base a Montgomery form.
+     * @param exponent a non-negative exponent.
+     * @param one the Montgomery form of one.
+     * @param modulus the modulus.
+     * @param inverse the inverse of the modulus modulo 2^64.
+     * @return the Montgomery form of the power.
+     */
+    static long power(final long base, final long exponent, final long one, final long modulus, final long inverse) {
+        long power = one;
+        long square = base;
+        for (long e = exponent; e != 0; e >>>= 1) {
+            if ((e & 1) != 0) {
+                power = multiply(power, square, modulus, inverse);
+            }
+            square = multiply(square, square, modulus, inverse);
+        }
+        return power;
+    }
+
+    private Montgomery() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.prime;
+
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Sieves of the arithmetic functions over consecutive integers:
+ * the totient of Euler, the function of Möbius, the number and the sum of the divisors
+ * and the smallest prime factor.
+ * A range is processed one segment at a time with the base primes of the segmented {@link Sieve};
+ * every number of a segment is divided by the base primes that divide it,
+ * the function is accumulated prime power by prime power,
+ * and the cofactor that remains is the only prime factor above the square root.
+ * The segments are independent, so that they may be computed in parallel.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public final class MultiplicativeSieve extends Object {
+    /**
+     * The number of integers of a segment.
+     */
+    private static final int SEGMENT = 1 << 15;
+
+    private static final Logger LOG = Logger.getLogger(MultiplicativeSieve.class.getName());
+
+    /**
+     * The functions that the sieve computes.
+     */
+    private enum Function {
+        TOTIENT,
+        MOBIUS,
+        DIVISOR_COUNT,
+        DIVISOR_SUM,
+        SMALLEST_PRIME_FACTOR
+    }
+
+    /**
+     * A destination of the values of a segment.
+     */
+    @FunctionalInterface
+    private interface Store {
+        void store(long[] values, int offset, int length);
+    }
+
+    /**
+     * The linear sieve of the smallest prime factors, which visits every composite number once.
+     * @param limit the number of integers.
+     * @return an array of the smallest prime factor of each integer below the limit, zero for zero and one.
+     * @throws IllegalArgumentException if the limit is smaller than zero.
+     */
+    public static int[] smallestPrimeFactor(final int limit) throws IllegalArgumentException {
+        if (limit < 0) {
+            throw new IllegalArgumentException();
+        } else {
+            final int[] factors = new int[limit];
+            final int[] primes = new int[Math.max(16, (int) (1.26 * limit / Math.log(Math.max(limit, 2))))];
+            int count = 0;
+            for (int n = 2; n < limit; n++) {
+                if (factors[n] == 0) {
+                    factors[n] = n;
+                    primes[count++] = n;
+                }
+                final int factor = factors[n];
+                for (int k = 0; k < count && primes[k] <= factor && (long) primes[k] * n < limit; k++) {
+                    factors[primes[k] * n] = primes[k];
+                }
+            }
+            return factors;
+        }
+    }
+
+    /**
+     * The smallest prime factors of consecutive integers.
+     * @param from the first integer.
+     * @param values the array that receives the smallest prime factor of from + k at the index k, zero for zero and one.
+     * @param parallel true to compute the segments in parallel.
+     * @throws IllegalArgumentException if the integers are not all in the range of the sieve.
+     */
+    public static void smallestPrimeFactor(final long from, final long[] values, final boolean parallel) throws IllegalArgumentException {
+        compute(Function.SMALLEST_PRIME_FACTOR, from, values.length,
+                (segment, offset, length) -> System.arraycopy(segment, 0, values, offset, length), parallel);
+    }
+
+    /**
+     * The totient of Euler of consecutive integers.
+     * @param from the first integer.
+     * @param values the array that receives the totient of from + k at the index k, zero for zero.
+     * @param parallel true to compute the segments in parallel.
+     * @throws IllegalArgumentException if the integers are not all in the range of the sieve.
+     */
+    public static void totient(final long from, final long[] values, final boolean parallel) throws IllegalArgumentException {
+        compute(Function.TOTIENT, from, values.length,
+                (segment, offset, length) -> System.arraycopy(segment, 0, values, offset, length), parallel);
+    }
+
+    /**
+     * The function of Möbius of consecutive integers.
+     * @param from the first integer.
+     * @param values the array that receives the function of Möbius of from + k at the index k, zero for zero.
+     * @param parallel true to compute the segments in parallel.
+     * @throws IllegalArgumentException if the integers are not all in the range of the sieve.
+     */
+    public static void mobius(final long from, final byte[] values, final boolean parallel) throws IllegalArgumentException {
+        compute(Function.MOBIUS, from, values.length, (segment, offset, length) -> {
+            for (int k = 0; k < length; k++) {
+                values[offset + k] = (byte) segment[k];
+            }
+        }, parallel);
+    }
+
+    /**
+     * The number of divisors of consecutive integers.
+     * @param from the first integer.
+     * @param values the array that receives the number of divisors of from + k at the index k, zero for zero.
+     * @param parallel true to compute the segments in parallel.
+     * @throws IllegalArgumentException if the integers are not all in the range of the sieve.
+     */
+    public static void divisorCount(final long from, final long[] values, final boolean parallel) throws IllegalArgumentException {
+        compute(Function.DIVISOR_COUNT, from, values.length,
+                (segment, offset, length) -> System.arraycopy(segment, 0, values, offset, length), parallel);
+    }
+
+    /**
+     * The sum of the divisors of consecutive integers.
+     * @param from the first integer.
+     * @param values the array that receives the sum of the divisors of from + k at the index k, zero for zero.
+     * @param parallel true to compute the segments in parallel.
+     * @throws IllegalArgumentException if the integers are not all in the range of the sieve.
+     */
+    public static void divisorSum(final long from, final long[] values, final boolean parallel) throws IllegalArgumentException {
+        compute(Function.DIVISOR_SUM, from, values.length,
+                (segment, offset, length) -> System.arraycopy(segment, 0, values, offset, length), parallel);
+    }
+
+    /**
+     * Compute a function over consecutive integers, segment by segment.
+     */
+    private static void compute(final Function function, final long from, final int length, final Store store,
+            final boolean parallel) throws IllegalArgumentException {
+        if (from < 0 || from > Sieve.MAXIMUM - length) {
+            throw new IllegalArgumentException();
+        } else {
+            final IntStream segments = IntStream.range(0, (length + SEGMENT - 1) / SEGMENT);
+            (parallel ? segments.parallel() : segments).forEach(s -> {
+                final int offset = s * SEGMENT;
+                final int count = Math.min(SEGMENT, length - offset);
+                final long[] values = new long[count];
+                segment(function, from + offset, count, values, new long[count]);
+                store.store(values, offset, count);
+            });
+        }
+    }
+
+    /**
+     * Compute a function over a segment.
+     * @param function the function.
+     * @param low the first integer of the segment.
+     * @param length the number of integers of the segment.
+     * @param values the array that receives the values.
+     * @param remaining the array of the cofactors that are not divided yet.
+     */
+    private static void segment(final Function function, final long low, final int length,
+            final long[] values, final long[] remaining) {
+        final long initial = function == Function.SMALLEST_PRIME_FACTOR ? 0 : 1;
+        for (int k = 0; k < length; k++) {
+            remaining[k] = low + k;
+            values[k] = initial;
+        }
+        final long high = low + length;
+        final Sieve.BasePrimes base = new Sieve.BasePrimes();
+        base.reset(high);
+        boolean more = true;
+        while (more && base.next()) {
+            final int[] primes = base.primes();
+            for (int i = 0; i < base.count(); i++) {
+                final long p = Integer.toUnsignedLong(primes[i]);
+                if (p > (high - 1) / p) {
+                    more = false;
+                    break;
+                }
+                final long first = Math.max(p, (low + p - 1) / p * p);
+                for (long m = first; m < high; m += p) {
+                    final int k = (int) (m - low);
+                    long cofactor = remaining[k] / p;
+                    long power = p;
+                    int exponent = 1;
+                    while (cofactor % p == 0) {
+                        cofactor /= p;
+                        power *= p;
+                        exponent++;
+                    }
+                    remaining[k] = cofactor;
+                    values[k] = combine(function, values[k], p, exponent, power);
+                }
+            }
+        }
+        for (int k = 0; k < length; k++) {
+            if (remaining[k] > 1) {
+                values[k] = combine(function, values[k], remaining[k], 1, remaining[k]);
+            }
+        }
+        if (low == 0 && length > 0) {
+            values[0] = 0;
+        }
+    }
+
+    /**
+     * Multiply the value of a multiplicative function by its value at a prime power.
+     * @param function the function.
+     * @param value the value of the function at the part of the integer that is already factorised.
+     * @param p the prime.
+     * @param exponent the exponent of the prime.
+     * @param power the prime power.
+     * @return the value of the function at the product of the part and the prime power.
+     */
+    private static long combine(final Function function, final long value, final long p, final int exponent, final long power) {
+        switch (function) {
+            case TOTIENT:
+                return value * (power - power / p);
+            case MOBIUS:
+                return exponent > 1 ? 0 : -value;
+            case DIVISOR_COUNT:
+                return value * (exponent + 1);
+            case DIVISOR_SUM:
+                return value * (1 + p * ((power - 1) / (p - 1)));
+            default:
+                return value == 0 ? p : value;
+        }
+    }
+
+    private MultiplicativeSieve() {
+        throw new AssertionError();
+    }
+}
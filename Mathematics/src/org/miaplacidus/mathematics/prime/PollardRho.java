@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.prime;
+
+/**
+ * The rho method of Pollard with the cycle detection of Brent, in Montgomery arithmetic.
+ * The differences of the sequence are multiplied together
+ * so that a single greatest common divisor is computed for each batch of steps.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+final class PollardRho extends Object {
+    /**
+     * The number of steps whose differences share a greatest common divisor.
+     */
+    private static final int BATCH = 128;
+
+    /**
+     * Find a non-trivial divisor of a composite number.
+     * @param number an odd composite number.
+     * @return a divisor of the number that is neither one nor the number.
+     */
+    static long divisor(final long number) {
+        final long inverse = Montgomery.inverse(number);
+        final long one = Montgomery.one(number);
+        for (long c = one, start = Montgomery.add(one, one, number); ; c = Montgomery.add(c, one, number)) {
+            long y = start;
+            long x = start;
+            long saved = start;
+            long product = one;
+            long divisor = 1;
+            for (int r = 1; divisor == 1; r <<= 1) {
+                x = y;
+                for (int k = 0; k < r; k++) {
+                    y = Montgomery.add(Montgomery.multiply(y, y, number, inverse), c, number);
+                }
+                for (int k = 0; k < r && divisor == 1; k += BATCH) {
+                    saved = y;
+                    final int steps = Math.min(BATCH, r - k);
+                    for (int step = 0; step < steps; step++) {
+                        y = Montgomery.add(Montgomery.multiply(y, y, number, inverse), c, number);
+                        product = Montgomery.multiply(product, Montgomery.subtract(x, y, number), number, inverse);
+                    }
+                    divisor = gcd(product, number);
+                }
+            }
+            if (divisor == number) {
+                do {
+                    saved = Montgomery.add(Montgomery.multiply(saved, saved, number, inverse), c, number);
+                    divisor = gcd(Montgomery.subtract(x, saved, number), number);
+                } while (divisor == 1);
+            }
+            if (divisor != number) {
+                return divisor;
+            }
+        }
+    }
+
+    /**
+     * The binary greatest common divisor.
+     * @param a a non-negative long integer.
+     * @param b a positive long integer.
+     * @return the greatest common divisor of the integers.
+     */
+    static long gcd(final long a, final long b) {
+        if (a == 0) {
+            return b;
+        } else {
+            long u = a;
+            long v = b;
+            final int shift = Long.numberOfTrailingZeros(u | v);
+            u >>= Long.numberOfTrailingZeros(u);
+            do {
+                v >>= Long.numberOfTrailingZeros(v);
+                if (u > v) {
+                    final long t = u;
+                    u = v;
+                    v = t;
+                }
+                v -= u;
+            } while (v != 0);
+            return u << shift;
+        }
+    }
+
+    private PollardRho() {
+        throw new AssertionError();
+    }
+}
@@ -23,33 +23,351 @@
  */
 package org.miaplacidus.mathematics.prime;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+import org.miaplacidus.mathematics.metrics.Metrics;
+import org.miaplacidus.mathematics.metrics.Operation;
+import org.miaplacidus.mathematics.metrics.OperationEvent;
 
 /**
- *
+ * Primality, prime search and prime factorisation of long integers.
+ * The numbers below {@link #TABLE_LIMIT} are looked up in a precomputed table of the
+ * segmented Sieve of Eratosthenes, which also provides the primes of trial division
+ * and the segments of the iteration over ranges.
+ * The table can be saved with {@link #saveTable(Path)}, and a process started with the system property
+ * {@link #TABLE_PROPERTY} set to the path of the file maps it read-only instead of sieving it again.
+ * Larger numbers are tested by trial division by a few small primes
+ * followed by the deterministic Miller–Rabin test in Montgomery arithmetic,
+ * and factorised by the rho method of Pollard and Brent.
  * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
  */
 public class Prime extends Object {
+    /**
+     * The numbers below this limit are looked up in the table of the sieve.
+     */
+    public static final long TABLE_LIMIT = Sieve.TABLE_LIMIT;
+
+    /**
+     * The system property that names the file of the table;
+     * the file is mapped when it is valid, and written after the table is built otherwise.
+     */
+    public static final String TABLE_PROPERTY = Sieve.TABLE_PROPERTY;
+
+    /**
+     * The largest prime that is a long integer.
+     */
+    public static final long LARGEST = 9223372036854775783L;
+
+    /**
+     * The factors below this limit are found by trial division.
+     */
+    public static final int TRIAL_LIMIT = 1 << 10;
+    
+    /**
+     * The largest argument of the prime-counting function, 10^14,
+     * whose count takes O(sqrt x) memory, about 120 MB, and O(x^(3/4) / log x) time.
+     */
+    public static final long COUNT_LIMIT = PrimeCount.LIMIT;
+    
+    /**
+     * The largest index of {@link #nthPrime(long)}, the number of primes below {@link #COUNT_LIMIT}.
+     */
+    public static final long NTH_LIMIT = PrimeCount.NTH_LIMIT;
+
+    /**
+     * The number of small primes by which candidates are divided before the Miller–Rabin test.
+     */
+    private static final int FILTER = 16;
+
     private static final Logger LOG = Logger.getLogger(Prime.class.getName());
     
-    public static boolean prime(long number) {
+    /**
+     * Test the primality of a number.
+     * @param number a long integer.
+     * @return true if the number is prime, false otherwise.
+     */
+    public static boolean prime(final long number) {
         if (number < 2) {
             return false;
+        } else if (number < Sieve.TABLE_LIMIT) {
+            return Sieve.tablePrime(number);
+        } else {
+            return !Prime.filtered(number) && MillerRabin.test(number);
+        }
+    }
+    
+    /**
+     * Test the primality of many numbers.
+     * The numbers that pass the trial division are tested by groups,
+     * whose modular exponentiations are interleaved.
+     * @param numbers an array of long integers.
+     * @param primality the array that receives the primality of each number at its index.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void prime(final long[] numbers, final boolean[] primality) throws IllegalArgumentException {
+        if (numbers.length != primality.length) {
+            throw new IllegalArgumentException();
         } else {
-            throw new UnsupportedOperationException();
+            final OperationEvent event = Metrics.begin(Operation.PRIMALITY_BATCH, numbers.length);
+            final int[] pending = new int[MillerRabin.LANES];
+            int count = 0;
+            for (int k = 0; k < numbers.length; k++) {
+                final long number = numbers[k];
+                if (number < 2) {
+                    primality[k] = false;
+                } else if (number < Sieve.TABLE_LIMIT) {
+                    primality[k] = Sieve.tablePrime(number);
+                } else if (Prime.filtered(number)) {
+                    primality[k] = false;
+                } else {
+                    pending[count++] = k;
+                    if (count == MillerRabin.LANES) {
+                        MillerRabin.test(numbers, pending, primality);
+                        count = 0;
+                    }
+                }
+            }
+            for (int k = 0; k < count; k++) {
+                primality[pending[k]] = MillerRabin.test(numbers[pending[k]]);
+            }
+            Metrics.end(event);
         }
     }
     
-    public static long nextPrime(long number) {
-        throw new UnsupportedOperationException();
+    /**
+     * Find the smallest prime that is greater than a number.
+     * @param number a long integer.
+     * @return the smallest prime that is greater than the number.
+     * @throws IllegalArgumentException if no prime greater than the number is a long integer.
+     */
+    public static long nextPrime(final long number) throws IllegalArgumentException {
+        if (number >= LARGEST) {
+            throw new IllegalArgumentException();
+        } else {
+            final long next = Sieve.tableNext(number);
+            if (next >= 0) {
+                return next;
+            } else {
+                long candidate = (number + 1) | 1;
+                while (!Prime.prime(candidate)) {
+                    candidate += 2;
+                }
+                return candidate;
+            }
+        }
     }
     
-    public static List<Long> primeFactorise(long number) throws IllegalArgumentException {
+    /**
+     * Factorise a number into primes.
+     * @param number a long integer greater than one.
+     * @return the list of the prime factors of the number in increasing order,
+     * each repeated as often as it divides the number.
+     * @throws IllegalArgumentException if the number is smaller than two.
+     */
+    public static List<Long> primeFactorise(final long number) throws IllegalArgumentException {
+        final long[] factorisation = Prime.primeFactorisation(number);
+        final List<Long> factors = new ArrayList<>();
+        for (int k = 0; k < factorisation.length; k += 2) {
+            for (long e = 0; e < factorisation[k + 1]; e++) {
+                factors.add(factorisation[k]);
+            }
+        }
+        return factors;
+    }
+    
+    /**
+     * Factorise a number into powers of primes.
+     * The factors below {@link #TRIAL_LIMIT} are removed by trial division,
+     * the cofactor is split by the rho method of Pollard and Brent until the Miller–Rabin test proves its parts prime.
+     * @param number a long integer greater than one.
+     * @return an array of the distinct prime factors in increasing order, each followed by its exponent:
+     * {p1, e1, p2, e2, ...}.
+     * @throws IllegalArgumentException if the number is smaller than two.
+     */
+    public static long[] primeFactorisation(final long number) throws IllegalArgumentException {
         if (number < 2) {
             throw new IllegalArgumentException();
         } else {
-            throw new UnsupportedOperationException();
+            final OperationEvent event = Metrics.begin(Operation.FACTORISATION, number);
+            final long[] factors = new long[Long.SIZE];
+            int count = 0;
+            long n = number;
+            for (final int p : Sieve.smallPrimes()) {
+                if (p >= TRIAL_LIMIT || p > n / p) {
+                    break;
+                }
+                while (n % p == 0) {
+                    factors[count++] = p;
+                    n /= p;
+                }
+            }
+            if (n > 1) {
+                count = Prime.split(n, factors, count);
+            }
+            Arrays.sort(factors, 0, count);
+            final long[] powers = new long[2 * count];
+            int distinct = 0;
+            for (int k = 0; k < count; k++) {
+                if (distinct > 0 && powers[distinct - 2] == factors[k]) {
+                    powers[distinct - 1]++;
+                } else {
+                    powers[distinct++] = factors[k];
+                    powers[distinct++] = 1;
+                }
+            }
+            final long[] factorisation = Arrays.copyOf(powers, distinct);
+            Metrics.end(event);
+            return factorisation;
+        }
+    }
+    
+    /**
+     * Factorise many numbers into powers of primes in parallel.
+     * @param numbers an array of long integers greater than one.
+     * @return an array of the factorisations of the numbers, in the form of {@link #primeFactorisation(long)}.
+     * @throws IllegalArgumentException if a number is smaller than two.
+     */
+    public static long[][] primeFactorisation(final long[] numbers) throws IllegalArgumentException {
+        final OperationEvent event = Metrics.begin(Operation.FACTORISATION_BATCH, numbers.length);
+        final long[][] factorisations = new long[numbers.length][];
+        IntStream.range(0, numbers.length).parallel()
+                .forEach(k -> factorisations[k] = Prime.primeFactorisation(numbers[k]));
+        Metrics.end(event);
+        return factorisations;
+    }
+    
+    /**
+     * Stream the primes of a range in increasing order, sieving one segment at a time.
+     * @param from the first number of the range.
+     * @param to the number after the last number of the range.
+     * @return a sequential stream of the primes p such that from &lt;= p &lt; to.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public static LongStream primesInRange(final long from, final long to) throws IllegalArgumentException {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(Prime.primeIterator(from, to),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+    
+    /**
+     * Iterate over the primes of a range in increasing order, sieving one segment at a time.
+     * @param from the first number of the range.
+     * @param to the number after the last number of the range.
+     * @return an iterator over the primes p such that from &lt;= p &lt; to.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public static PrimitiveIterator.OfLong primeIterator(final long from, final long to) throws IllegalArgumentException {
+        Prime.checkRange(from, to);
+        return Sieve.iterator(from, to);
+    }
+    
+    /**
+     * Count the primes of a range without storing them.
+     * @param from the first number of the range.
+     * @param to the number after the last number of the range.
+     * @return the number of primes p such that from &lt;= p &lt; to.
+     * @throws IllegalArgumentException if the range is not valid.
+     */
+    public static long countPrimes(final long from, final long to) throws IllegalArgumentException {
+        Prime.checkRange(from, to);
+        return Sieve.count(from, to);
+    }
+    
+    /**
+     * The prime-counting function, computed by the method of Lucy_Hedgehog in O(x^(3/4) / log x) operations.
+     * The recent counts are memoised.
+     * @param x a long integer not greater than {@link #COUNT_LIMIT}.
+     * @return the number of primes smaller than or equal to x.
+     * @throws IllegalArgumentException if x is greater than {@link #COUNT_LIMIT}.
+     */
+    public static long primeCount(final long x) throws IllegalArgumentException {
+        if (x > COUNT_LIMIT) {
+            throw new IllegalArgumentException();
+        } else {
+            return PrimeCount.count(x);
+        }
+    }
+    
+    /**
+     * Find the nth prime, by bracketing with the prime-counting function and sieving the last interval.
+     * @param n a positive long integer not greater than {@link #NTH_LIMIT}.
+     * @return the nth prime, counted from 2 as the first.
+     * @throws IllegalArgumentException if n is smaller than one or greater than {@link #NTH_LIMIT}.
+     */
+    public static long nthPrime(final long n) throws IllegalArgumentException {
+        if (n < 1 || n > NTH_LIMIT) {
+            throw new IllegalArgumentException();
+        } else {
+            return PrimeCount.nth(n);
+        }
+    }
+    
+    /**
+     * Save the table of the sieve to a versioned and checksummed file.
+     * The file is replaced atomically, so that processes that map it never see a partial table.
+     * @param path the path of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void saveTable(final Path path) throws IOException {
+        Sieve.save(path);
+    }
+    
+    /**
+     * Tell whether the table of the sieve was mapped from its file.
+     * @return true if the table is mapped, false if it was built in this process.
+     */
+    public static boolean tableMapped() {
+        return Sieve.mapped();
+    }
+    
+    /**
+     * Split a number without factors below the trial limit into its prime factors.
+     * @param number an odd long integer greater than one.
+     * @param factors the array that receives the prime factors.
+     * @param count the number of prime factors that are already in the array.
+     * @return the number of prime factors in the array.
+     */
+    private static int split(final long number, final long[] factors, final int count) {
+        if (number < (long) TRIAL_LIMIT * TRIAL_LIMIT || Prime.prime(number)) {
+            factors[count] = number;
+            return count + 1;
+        } else {
+            final long divisor = PollardRho.divisor(number);
+            return Prime.split(number / divisor, factors, Prime.split(divisor, factors, count));
+        }
+    }
+    
+    /**
+     * Divide a number by the first small primes.
+     * @param number a long integer not smaller than the table limit.
+     * @return true if a small prime divides the number, false otherwise.
+     */
+    private static boolean filtered(final long number) {
+        final int[] primes = Sieve.smallPrimes();
+        for (int k = 0; k < FILTER; k++) {
+            if (number % primes[k] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Verify that a range of the sieve is valid.
+     * @throws IllegalArgumentException if the range is negative, reversed or too large.
+     */
+    private static void checkRange(final long from, final long to) throws IllegalArgumentException {
+        if (from < 0 || to < from || to > Sieve.MAXIMUM) {
+            throw new IllegalArgumentException();
         }
     }
     
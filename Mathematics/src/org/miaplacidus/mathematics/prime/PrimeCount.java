@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.prime;
+
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The prime-counting function by the method of Lucy_Hedgehog, and the nth prime.
+ * The method follows the counts S(v) of the integers in [2, v] that survive the sieve
+ * by the primes up to p, for the O(sqrt x) distinct values v = x / k only;
+ * it takes O(x^(3/4) / log x) operations and O(sqrt x) memory.
+ * The sieving primes come from the small-prime table of the segmented {@link Sieve},
+ * small counts are read from the table directly, and the recent counts are memoised in a bounded table.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+final class PrimeCount extends Object {
+    /**
+     * The number of primes that the nth prime search sieves at most after its last count.
+     */
+    private static final long BRACKET = 1 << 16;
+
+    /**
+     * The largest argument of the prime-counting function, whose count takes about 120 MB and a minute.
+     */
+    static final long LIMIT = 100_000_000_000_000L;
+
+    /**
+     * The number of primes below {@link #LIMIT}.
+     */
+    static final long NTH_LIMIT = 3_204_941_750_802L;
+
+    /**
+     * The number of entries of the memo, a power of two.
+     */
+    private static final int MEMO_SIZE = 1 << 8;
+
+    /**
+     * A memoised count.
+     */
+    private static final class Memo extends Object {
+        private final long x;
+        private final long count;
+
+        Memo(final long x, final long count) {
+            this.x = x;
+            this.count = count;
+        }
+    }
+
+    /**
+     * The memo of the recent counts, direct-mapped by argument, so that a new count evicts the one of its slot.
+     */
+    private static final AtomicReferenceArray<Memo> COUNTS = new AtomicReferenceArray<>(MEMO_SIZE);
+
+    /**
+     * The prime-counting function.
+     * @param x a non-negative long integer.
+     * @return the number of primes smaller than or equal to x.
+     */
+    static long count(final long x) {
+        if (x < 2) {
+            return 0;
+        } else if (x < Sieve.TABLE_LIMIT) {
+            return Sieve.count(0, x + 1);
+        } else {
+            final int slot = (int) (x ^ x >>> 17 ^ x >>> 31) & (MEMO_SIZE - 1);
+            final Memo memo = COUNTS.get(slot);
+            if (memo != null && memo.x == x) {
+                return memo.count;
+            } else {
+                final long computed = lucy(x);
+                COUNTS.set(slot, new Memo(x, computed));
+                return computed;
+            }
+        }
+    }
+
+    /**
+     * The nth prime.
+     * An estimate of the nth prime is corrected by the counts of the primes below it
+     * until fewer than n primes, but not many fewer, lie below,
+     * and the remaining primes are enumerated by the segmented sieve.
+     * @param n a positive long integer.
+     * @return the nth prime, counted from 2 as the first.
+     */
+    static long nth(final long n) {
+        final int[] primes = Sieve.smallPrimes();
+        if (n <= primes.length) {
+            return primes[(int) n - 1];
+        } else {
+            final double logarithm = Math.log(n);
+            final double logLogarithm = Math.log(logarithm);
+            long x = (long) (n * (logarithm + logLogarithm - 1 + (logLogarithm - 2) / logarithm));
+            long count = count(x);
+            for (int k = 0; k < 8 && (count >= n || n - count > BRACKET); k++) {
+                x += (long) ((n - count - BRACKET / 2) * Math.log(x));
+                count = count(x);
+            }
+            while (count >= n) {
+                x -= (long) (BRACKET * Math.log(x));
+                count = count(x);
+            }
+            final PrimitiveIterator.OfLong iterator = Sieve.iterator(x + 1, Sieve.MAXIMUM);
+            long prime = iterator.nextLong();
+            for (long k = count + 1; k < n; k++) {
+                prime = iterator.nextLong();
+            }
+            return prime;
+        }
+    }
+
+    /**
+     * The method of Lucy_Hedgehog.
+     * @param x a long integer not smaller than the table limit.
+     * @return the number of primes smaller than or equal to x.
+     */
+    private static long lucy(final long x) {
+        int root = (int) Math.sqrt((double) x);
+        while ((long) root * root > x) {
+            root--;
+        }
+        while ((long) (root + 1) * (root + 1) <= x) {
+            root++;
+        }
+        final int r = root;
+        final int[] small = new int[r + 1];
+        final long[] large = new long[r + 1];
+        for (int v = 1; v <= r; v++) {
+            small[v] = v - 1;
+            large[v] = x / v - 1;
+        }
+        final PrimitiveIterator.OfLong primes = Sieve.iterator(2, r + 1);
+        while (primes.hasNext()) {
+            final long p = primes.nextLong();
+            final int survivors = small[(int) p - 1];
+            final long square = p * p;
+            final int bound = (int) Math.min(r, x / square);
+            for (int k = 1; k <= bound; k++) {
+                final long d = k * p;
+                large[k] -= (d <= r ? large[(int) d] : small[(int) (x / d)]) - survivors;
+            }
+            for (int v = r; v >= square; v--) {
+                small[v] -= small[(int) (v / p)] - survivors;
+            }
+        }
+        return large[1];
+    }
+
+    private PrimeCount() {
+        throw new AssertionError();
+    }
+}
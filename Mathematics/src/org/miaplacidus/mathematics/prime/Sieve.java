@@ -0,0 +1,658 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.prime;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import org.miaplacidus.mathematics.metrics.Metrics;
+import org.miaplacidus.mathematics.metrics.Operation;
+import org.miaplacidus.mathematics.metrics.OperationEvent;
+
+/**
+ * The segmented Sieve of Eratosthenes on the wheel of 30.
+ * Each byte of a segment holds the 8 numbers of a block of 30 that are coprime to 30,
+ * the bit of a number is set if the number is prime.
+ * Segments are small enough to stay in the cache, so that the memory of a sieve is fixed
+ * whatever the size of its range.
+ * The sieve of the numbers below {@link #TABLE_LIMIT} is computed once and kept as a table,
+ * together with the list of its primes.
+ * Beyond the square of the table limit, the sieving primes above the table are themselves sieved
+ * one segment at a time by a {@link BasePrimes} cursor, instead of being kept, so that the memory stays fixed.
+ * The table can be saved to a file and mapped from it read-only by later processes,
+ * which then share its pages instead of sieving again; the file is named by the system property
+ * {@link #TABLE_PROPERTY}, and is written when it is missing or stale.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+final class Sieve extends Object {
+    /**
+     * The residues modulo 30 that are coprime to 30, in the order of their bits.
+     */
+    static final int[] RESIDUES = {1, 7, 11, 13, 17, 19, 23, 29};
+
+    /**
+     * The number of bytes of a segment, which fits in the first level data cache.
+     */
+    static final int SEGMENT_BYTES = 1 << 15;
+
+    /**
+     * The number of bytes of the table.
+     */
+    static final int TABLE_BYTES = 1 << 17;
+
+    /**
+     * The numbers below this limit are covered by the table.
+     */
+    static final long TABLE_LIMIT = 30L * TABLE_BYTES;
+
+    /**
+     * The largest bound of a range of the sieve.
+     */
+    static final long MAXIMUM = Long.MAX_VALUE - 30L * SEGMENT_BYTES;
+
+    /**
+     * The system property that names the file of the table.
+     */
+    static final String TABLE_PROPERTY = "org.miaplacidus.mathematics.prime.table";
+
+    /**
+     * The first eight bytes of a file of the table, "MIAPRIME" in ASCII.
+     */
+    private static final long MAGIC = 0x4d49415052494d45L;
+
+    /**
+     * The version of the format of the file, changed whenever its layout or the table changes.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The length of the header of the file: magic, version, number of bytes and checksum of the table.
+     */
+    private static final int HEADER_BYTES = 24;
+
+    /**
+     * The bit of each residue modulo 30, or -1 if the residue is not coprime to 30.
+     */
+    private static final int[] BITS = new int[30];
+
+    /**
+     * The masks of the bits of the residues that are not smaller than an offset in a block.
+     */
+    private static final int[] FROM = new int[31];
+
+    static {
+        Arrays.fill(BITS, -1);
+        for (int k = 0; k < RESIDUES.length; k++) {
+            BITS[RESIDUES[k]] = k;
+        }
+        for (int offset = 0; offset <= 30; offset++) {
+            int mask = 0;
+            for (int k = 0; k < RESIDUES.length; k++) {
+                if (RESIDUES[k] >= offset) {
+                    mask |= 1 << k;
+                }
+            }
+            FROM[offset] = mask;
+        }
+    }
+
+    private static final Logger LOG = Logger.getLogger(Sieve.class.getName());
+
+    /**
+     * The table of the numbers below the table limit, mapped from its file or built on first use.
+     */
+    private static final class Table {
+        private static final ByteBuffer BYTES;
+        private static final boolean MAPPED;
+        private static final int[] PRIMES;
+
+        static {
+            final String name = System.getProperty(TABLE_PROPERTY);
+            final Path path = name == null ? null : Paths.get(name);
+            ByteBuffer bytes = null;
+            if (path != null) {
+                try {
+                    bytes = map(path);
+                } catch (final IOException exception) {
+                    LOG.warning(exception.toString());
+                }
+            }
+            MAPPED = bytes != null;
+            if (bytes == null) {
+                bytes = build();
+                if (path != null) {
+                    try {
+                        write(path, bytes);
+                    } catch (final IOException exception) {
+                        LOG.warning(exception.toString());
+                    }
+                }
+            }
+            BYTES = bytes;
+            int primes = 3;
+            for (int index = 0; index < TABLE_BYTES; index++) {
+                primes += Integer.bitCount(BYTES.get(index) & 0xFF);
+            }
+            PRIMES = new int[primes];
+            PRIMES[0] = 2;
+            PRIMES[1] = 3;
+            PRIMES[2] = 5;
+            int k = 3;
+            for (int index = 0; index < TABLE_BYTES; index++) {
+                for (int bits = BYTES.get(index) & 0xFF; bits != 0; bits &= bits - 1) {
+                    PRIMES[k++] = 30 * index + RESIDUES[Integer.numberOfTrailingZeros(bits)];
+                }
+            }
+        }
+
+        /**
+         * Sieve the table.
+         * @return a buffer over the bytes of the table.
+         */
+        private static ByteBuffer build() {
+            final OperationEvent event = Metrics.begin(Operation.SIEVE_TABLE, TABLE_LIMIT);
+            final int root = (int) Math.sqrt((double) TABLE_LIMIT) + 1;
+            final boolean[] composite = new boolean[root + 1];
+            int count = 0;
+            for (int n = 2; n <= root; n++) {
+                if (!composite[n]) {
+                    count++;
+                    for (int m = n * n; m <= root; m += n) {
+                        composite[m] = true;
+                    }
+                }
+            }
+            final int[] base = new int[count];
+            for (int n = 2, k = 0; n <= root; n++) {
+                if (!composite[n]) {
+                    base[k++] = n;
+                }
+            }
+            final byte[] bytes = new byte[TABLE_BYTES];
+            sieve(0L, bytes, TABLE_BYTES, base);
+            Metrics.end(event);
+            return ByteBuffer.wrap(bytes);
+        }
+    }
+
+    /**
+     * Map the table from a file.
+     * @param path the path of the file.
+     * @return a read-only buffer over the mapped table, or null if the file is missing or stale.
+     * @throws IOException if the file cannot be read.
+     */
+    private static ByteBuffer map(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_BYTES + TABLE_BYTES) {
+                LOG.info("Stale table file " + path);
+                return null;
+            } else {
+                final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                while (header.hasRemaining()) {
+                    if (channel.read(header, header.position()) < 0) {
+                        return null;
+                    }
+                }
+                header.flip();
+                final long magic = header.getLong();
+                final int version = header.getInt();
+                final int bytes = header.getInt();
+                final long checksum = header.getLong();
+                if (magic != MAGIC || version != VERSION || bytes != TABLE_BYTES) {
+                    LOG.info("Stale table file " + path);
+                    return null;
+                } else {
+                    final ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, TABLE_BYTES);
+                    if (checksum(table) != checksum) {
+                        LOG.info("Corrupt table file " + path);
+                        return null;
+                    } else {
+                        return table;
+                    }
+                }
+            }
+        } catch (final NoSuchFileException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Write the table to a file, through a temporary file that replaces it atomically,
+     * so that concurrent readers never map a partial table.
+     * @param path the path of the file.
+     * @param table a buffer over the bytes of the table.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void write(final Path path, final ByteBuffer table) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putLong(MAGIC).putInt(VERSION).putInt(TABLE_BYTES).putLong(checksum(table)).flip();
+        final Path temporary = path.resolveSibling(path.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                final ByteBuffer data = table.duplicate().clear();
+                while (header.hasRemaining() || data.hasRemaining()) {
+                    channel.write(new ByteBuffer[] {header, data});
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final IOException exception) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * The checksum of the table.
+     * @param table a buffer over the bytes of the table.
+     * @return the CRC-32 of the bytes.
+     */
+    private static long checksum(final ByteBuffer table) {
+        final CRC32 crc = new CRC32();
+        crc.update(table.duplicate().clear());
+        return crc.getValue();
+    }
+
+    /**
+     * Save the table to a file that processes can map by the system property {@link #TABLE_PROPERTY}.
+     * @param path the path of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    static void save(final Path path) throws IOException {
+        write(path, Table.BYTES);
+    }
+
+    /**
+     * Tell whether the table was mapped from its file.
+     * @return true if the table is mapped, false if it was built.
+     */
+    static boolean mapped() {
+        return Table.MAPPED;
+    }
+
+    /**
+     * The primes of the table in increasing order.
+     * @return the array of the primes below the table limit, which must not be modified.
+     */
+    static int[] smallPrimes() {
+        return Table.PRIMES;
+    }
+
+    /**
+     * Look a number up in the table.
+     * @param number a non-negative number below the table limit.
+     * @return true if the number is prime, false otherwise.
+     */
+    static boolean tablePrime(final long number) {
+        if (number < 7) {
+            return number == 2 || number == 3 || number == 5;
+        } else {
+            final int bit = BITS[(int) (number % 30)];
+            return bit >= 0 && (Table.BYTES.get((int) (number / 30)) & (1 << bit)) != 0;
+        }
+    }
+
+    /**
+     * Find the smallest prime that is greater than a number in the table.
+     * @param number a non-negative number.
+     * @return the smallest prime greater than the number, or -1 if it is not below the table limit.
+     */
+    static long tableNext(final long number) {
+        if (number < 2) {
+            return 2;
+        } else if (number < 3) {
+            return 3;
+        } else if (number < 5) {
+            return 5;
+        } else if (number + 1 >= TABLE_LIMIT) {
+            return -1;
+        } else {
+            final long start = number + 1;
+            int index = (int) (start / 30);
+            int bits = Table.BYTES.get(index) & FROM[(int) (start % 30)] & 0xFF;
+            while (bits == 0) {
+                index++;
+                if (index == TABLE_BYTES) {
+                    return -1;
+                }
+                bits = Table.BYTES.get(index) & 0xFF;
+            }
+            return 30L * index + RESIDUES[Integer.numberOfTrailingZeros(bits)];
+        }
+    }
+
+    /**
+     * A cursor over the primes whose square is smaller than the bound of a segment, in blocks:
+     * the primes of the table first, then the primes beyond the table one segment at a time,
+     * so that sieving far beyond the table takes fixed memory.
+     * A cursor is reset for every segment of a range and reuses its buffers; it is not thread-safe.
+     */
+    static final class BasePrimes extends Object {
+        private byte[] segment;
+        private int[] buffer;
+        private int[] primes;
+        private int count;
+        private long root;
+        private long low;
+
+        /**
+         * Start over the primes of a bound.
+         * @param high the bound of a range to sieve.
+         */
+        void reset(final long high) {
+            this.root = (long) Math.sqrt((double) high) + 1;
+            this.low = -1;
+        }
+
+        /**
+         * Move to the next block of primes.
+         * @return true if the cursor moved to a block, false after the last block.
+         */
+        boolean next() {
+            if (this.low < 0) {
+                this.primes = Table.PRIMES;
+                this.count = Table.PRIMES.length;
+                this.low = TABLE_LIMIT;
+                return true;
+            } else if (this.low >= this.root) {
+                return false;
+            } else {
+                if (this.buffer == null) {
+                    this.segment = new byte[SEGMENT_BYTES];
+                    this.buffer = new int[8 * SEGMENT_BYTES];
+                }
+                final int bytes = (int) Math.min(SEGMENT_BYTES, (this.root - this.low - 1) / 30 + 1);
+                sieve(this.low, this.segment, bytes, Table.PRIMES);
+                int k = 0;
+                for (int index = 0; index < bytes; index++) {
+                    for (int bits = this.segment[index] & 0xFF; bits != 0; bits &= bits - 1) {
+                        this.buffer[k++] = (int) (this.low + 30L * index + RESIDUES[Integer.numberOfTrailingZeros(bits)]);
+                    }
+                }
+                this.primes = this.buffer;
+                this.count = k;
+                this.low += 30L * bytes;
+                return true;
+            }
+        }
+
+        /**
+         * The primes of the block, in increasing order and stored as unsigned integers.
+         * @return an array whose first {@link #count()} elements are the primes, which must not be modified.
+         */
+        int[] primes() {
+            return this.primes;
+        }
+
+        /**
+         * The number of primes of the block.
+         * @return the number of primes.
+         */
+        int count() {
+            return this.count;
+        }
+    }
+
+    /**
+     * Fill a segment with the primes of its numbers.
+     * @param low the first number of the segment, a multiple of 30.
+     * @param segment the segment.
+     * @param bytes the number of bytes of the segment that are filled.
+     * @param base the cursor over the base primes of the segment, which is reset.
+     */
+    static void fill(final long low, final byte[] segment, final int bytes, final BasePrimes base) {
+        final long high = low + 30L * bytes;
+        if (high <= TABLE_LIMIT) {
+            Table.BYTES.get((int) (low / 30), segment, 0, bytes);
+        } else {
+            final OperationEvent event = Metrics.begin(Operation.SIEVE_SEGMENT, 30L * bytes);
+            clear(low, segment, bytes);
+            base.reset(high);
+            boolean more = base.next() && cross(low, segment, bytes, base.primes(), 3, base.count());
+            while (more && base.next()) {
+                more = cross(low, segment, bytes, base.primes(), 0, base.count());
+            }
+            Metrics.end(event);
+        }
+    }
+
+    /**
+     * Sieve a segment by primes.
+     * @param low the first number of the segment, a multiple of 30.
+     * @param segment the segment.
+     * @param bytes the number of bytes of the segment that are sieved.
+     * @param primes primes in increasing order, stored as unsigned integers,
+     * that include every prime whose square is smaller than the end of the segment.
+     */
+    static void sieve(final long low, final byte[] segment, final int bytes, final int[] primes) {
+        final OperationEvent event = Metrics.begin(Operation.SIEVE_SEGMENT, 30L * bytes);
+        clear(low, segment, bytes);
+        cross(low, segment, bytes, primes, 3, primes.length);
+        Metrics.end(event);
+    }
+
+    /**
+     * Set the bits of every number of a segment but one.
+     * @param low the first number of the segment, a multiple of 30.
+     * @param segment the segment.
+     * @param bytes the number of bytes of the segment.
+     */
+    private static void clear(final long low, final byte[] segment, final int bytes) {
+        Arrays.fill(segment, 0, bytes, (byte) -1);
+        if (low == 0) {
+            segment[0] &= ~1;
+        }
+    }
+
+    /**
+     * Cross the multiples of a block of primes off a segment.
+     * @param low the first number of the segment, a multiple of 30.
+     * @param segment the segment.
+     * @param bytes the number of bytes of the segment.
+     * @param primes primes in increasing order greater than 5, from the index from, stored as unsigned integers.
+     * @param from the index of the first prime.
+     * @param to the index after the last prime.
+     * @return true if every prime of the block was smaller than the square root of the end of the segment,
+     * so that later primes may still have multiples to cross off.
+     */
+    private static boolean cross(final long low, final byte[] segment, final int bytes, final int[] primes,
+            final int from, final int to) {
+        final long high = low + 30L * bytes;
+        for (int i = from; i < to; i++) {
+            final long p = Integer.toUnsignedLong(primes[i]);
+            if (p > (high - 1) / p) {
+                return false;
+            }
+            final long start = Math.max(p, (low + p - 1) / p);
+            final long last = (high - 1) / p;
+            for (final int residue : RESIDUES) {
+                final long q = start + Math.floorMod(residue - start, 30);
+                if (q <= last) {
+                    final long multiple = p * q;
+                    final int mask = ~(1 << BITS[(int) (multiple % 30)]);
+                    final int index = (int) ((multiple - low) / 30);
+                    if (p >= bytes) {
+                        segment[index] &= mask;
+                    } else {
+                        final int step = (int) p;
+                        for (int k = index; k < bytes; k += step) {
+                            segment[k] &= mask;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Count the primes of a range without storing them.
+     * @param from the first number of the range.
+     * @param to the number after the last number of the range.
+     * @return the number of primes p such that from &lt;= p &lt; to.
+     */
+    static long count(final long from, final long to) {
+        long count = 0;
+        for (final long p : new long[] {2, 3, 5}) {
+            if (from <= p && p < to) {
+                count++;
+            }
+        }
+        if (to <= 7 || from >= to) {
+            return count;
+        } else {
+            final byte[] segment = new byte[SEGMENT_BYTES];
+            final BasePrimes base = new BasePrimes();
+            final long first = from / 30 * 30;
+            for (long low = first; low < to; low += 30L * SEGMENT_BYTES) {
+                final int bytes = (int) Math.min(SEGMENT_BYTES, (to - low - 1) / 30 + 1);
+                fill(low, segment, bytes, base);
+                if (low == first) {
+                    segment[0] &= FROM[(int) (from - low)];
+                }
+                final long end = low + 30L * bytes;
+                if (end > to) {
+                    segment[bytes - 1] &= ~FROM[(int) (to - (end - 30))];
+                }
+                for (int k = 0; k < bytes; k++) {
+                    count += Integer.bitCount(segment[k] & 0xFF);
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Iterate over the primes of a range in increasing order.
+     * @param from the first number of the range.
+     * @param to the number after the last number of the range.
+     * @return an iterator over the primes p such that from &lt;= p &lt; to.
+     */
+    static PrimitiveIterator.OfLong iterator(final long from, final long to) {
+        return new Primes(from, to);
+    }
+
+    /**
+     * An iterator over the primes of a range that sieves one segment at a time.
+     */
+    private static final class Primes implements PrimitiveIterator.OfLong {
+        private final long from;
+        private final long to;
+        private final byte[] segment = new byte[SEGMENT_BYTES];
+        private final BasePrimes base = new BasePrimes();
+        private int small;
+        private long low;
+        private int bytes;
+        private int index;
+        private int bits;
+        private long next;
+
+        Primes(final long from, final long to) {
+            this.from = from;
+            this.to = to;
+            this.small = 0;
+            this.low = from / 30 * 30;
+            this.bytes = 0;
+            this.index = 0;
+            this.bits = 0;
+            this.next = this.advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next >= 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (this.next < 0) {
+                throw new NoSuchElementException();
+            } else {
+                final long prime = this.next;
+                this.next = this.advance();
+                return prime;
+            }
+        }
+
+        /**
+         * Find the next prime of the range.
+         * @return the next prime, or -1 if the range is exhausted.
+         */
+        private long advance() {
+            while (this.small < 3) {
+                final long p = this.small == 0 ? 2 : this.small == 1 ? 3 : 5;
+                this.small++;
+                if (p >= this.to) {
+                    return -1;
+                } else if (p >= this.from) {
+                    return p;
+                }
+            }
+            while (true) {
+                if (this.bits != 0) {
+                    final int bit = Integer.numberOfTrailingZeros(this.bits);
+                    this.bits &= this.bits - 1;
+                    final long n = this.low + 30L * this.index + RESIDUES[bit];
+                    if (n >= this.to) {
+                        return -1;
+                    } else if (n >= this.from) {
+                        return n;
+                    }
+                } else if (this.index + 1 < this.bytes) {
+                    this.index++;
+                    this.bits = this.segment[this.index] & 0xFF;
+                } else {
+                    final long start = this.bytes == 0 ? this.low : this.low + 30L * this.bytes;
+                    if (start >= this.to) {
+                        return -1;
+                    }
+                    this.low = start;
+                    this.bytes = (int) Math.min(SEGMENT_BYTES, (this.to - start - 1) / 30 + 1);
+                    fill(this.low, this.segment, this.bytes, this.base);
+                    this.index = 0;
+                    this.bits = this.segment[0] & 0xFF;
+                }
+            }
+        }
+    }
+
+    private Sieve() {
+        throw new AssertionError();
+    }
+}
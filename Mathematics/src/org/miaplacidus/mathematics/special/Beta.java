@@ -23,10 +23,481 @@
  */
 package org.miaplacidus.mathematics.special;
 
+import java.util.Arrays;
+import java.util.logging.Logger;
+
 /**
- *
+ * The beta function, its logarithm and the regularised incomplete beta function with its inverse.
+ * The logarithm of the beta function of large parameters is computed from the Stirling series of {@link Gamma},
+ * so that the logarithms of the gamma functions do not cancel.
+ * The incomplete beta function is the continued fraction of Lentz, whose prefactor depends on the parameters only;
+ * each thread keeps the logarithms of the beta functions of its recent parameters.
+ * For large parameters the prefactor is factorised around its peak instead, so that its exponent does not cancel.
  * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
  */
-public class Beta {
+public class Beta extends Object {
+    /**
+     * The relative accuracy at which the continued fraction and Halley's method stop.
+     */
+    private static final double EPSILON = 1E-15;
+    
+    /**
+     * The smallest number that stands for zero in the continued fraction.
+     */
+    private static final double TINY = 1E-300;
+    
+    /**
+     * The largest number of terms of the continued fraction.
+     */
+    private static final int MAXIMUM_TERMS = 1 << 16;
+    
+    /**
+     * The largest number of steps of Halley's method.
+     */
+    private static final int MAXIMUM_STEPS = 128;
+    
+    /**
+     * The sum of the parameters below which the beta function is a quotient of gamma functions.
+     */
+    private static final double GAMMA_LIMIT = 171.;
+    
+    /**
+     * The smaller parameter from which the beta function is its Stirling series
+     * and the prefactor of the incomplete beta function is factorised around its peak.
+     */
+    private static final double STIRLING_LIMIT = 10.;
+    
+    private static final Logger LOG = Logger.getLogger(Beta.class.getName());
+    
+    /**
+     * The logarithms of the beta functions of the recent parameters of a thread, in a direct-mapped table.
+     */
+    private static final class Cache {
+        private static final int SIZE = 64;
+        private final double[] a = new double[SIZE];
+        private final double[] b = new double[SIZE];
+        private final double[] logarithms = new double[SIZE];
+        
+        Cache() {
+            Arrays.fill(this.a, Double.NaN);
+        }
+        
+        /**
+         * Look up or compute the logarithm of the beta function.
+         * @param a a positive real number.
+         * @param b a positive real number.
+         * @return log B(a, b).
+         */
+        double logBeta(final double a, final double b) {
+            final long bits = Double.doubleToLongBits(a) * 31 + Double.doubleToLongBits(b);
+            final int index = (int) (bits ^ bits >>> 29 ^ bits >>> 47) & (SIZE - 1);
+            if (this.a[index] == a && this.b[index] == b) {
+                return this.logarithms[index];
+            } else {
+                final double logarithm = Beta.logBeta(a, b);
+                this.a[index] = a;
+                this.b[index] = b;
+                this.logarithms[index] = logarithm;
+                return logarithm;
+            }
+        }
+    }
+    
+    private static final ThreadLocal<Cache> CACHE = ThreadLocal.withInitial(Cache::new);
+    
+    /**
+     * The method computes the beta function B(a, b) = gamma(a) gamma(b) / gamma(a + b).
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @return the result of the beta function with parameters a and b.
+     * @throws IllegalArgumentException if a parameter is not positive.
+     */
+    public static double beta(final double a, final double b) throws IllegalArgumentException {
+        checkParameters(a, b);
+        final double p = Math.min(a, b);
+        final double q = Math.max(a, b);
+        if (p + q < GAMMA_LIMIT) {
+            return Gamma.gamma(p) * (Gamma.gamma(q) / Gamma.gamma(p + q));
+        } else {
+            return Math.exp(logBeta(a, b));
+        }
+    }
+    
+    /**
+     * The method computes the beta function of arrays of parameters.
+     * @param a the array of the first parameters, all positive.
+     * @param b the array of the second parameters, all positive.
+     * @param result the array that receives the results of the beta function.
+     * @throws IllegalArgumentException if the arrays do not have the same length or a parameter is not positive.
+     */
+    public static void beta(final double[] a, final double[] b, final double[] result) throws IllegalArgumentException {
+        checkLengths(a.length, b.length, result.length);
+        for (int i = 0; i < a.length; i++) {
+            result[i] = beta(a[i], b[i]);
+        }
+    }
+    
+    /**
+     * The method computes the natural logarithm of the beta function, which does not overflow.
+     * Above 10, the logarithms of the gamma functions are replaced by their Stirling series,
+     * whose leading terms are combined before they are added.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @return the logarithm of the beta function with parameters a and b.
+     * @throws IllegalArgumentException if a parameter is not positive.
+     */
+    public static double logBeta(final double a, final double b) throws IllegalArgumentException {
+        checkParameters(a, b);
+        final double p = Math.min(a, b);
+        final double q = Math.max(a, b);
+        final double sum = p + q;
+        if (p >= STIRLING_LIMIT) {
+            final double correction = Gamma.stirlingCorrection(p) + Gamma.stirlingCorrection(q) - Gamma.stirlingCorrection(sum);
+            return -.5 * Math.log(q) + Gamma.LOG_SQRT_TWO_PI + correction + (p - .5) * Math.log(p / sum)
+                    + q * Math.log1p(-p / sum);
+        } else if (q >= STIRLING_LIMIT) {
+            final double correction = Gamma.stirlingCorrection(q) - Gamma.stirlingCorrection(sum);
+            return Gamma.logGamma(p) + correction + p - p * Math.log(sum) + (q - .5) * Math.log1p(-p / sum);
+        } else {
+            return Math.log(Gamma.gamma(p) * (Gamma.gamma(q) / Gamma.gamma(sum)));
+        }
+    }
+    
+    /**
+     * The method computes the natural logarithm of the beta function of arrays of parameters.
+     * @param a the array of the first parameters, all positive.
+     * @param b the array of the second parameters, all positive.
+     * @param result the array that receives the logarithms of the beta function.
+     * @throws IllegalArgumentException if the arrays do not have the same length or a parameter is not positive.
+     */
+    public static void logBeta(final double[] a, final double[] b, final double[] result) throws IllegalArgumentException {
+        checkLengths(a.length, b.length, result.length);
+        for (int i = 0; i < a.length; i++) {
+            result[i] = logBeta(a[i], b[i]);
+        }
+    }
+    
+    /**
+     * The method computes the regularised incomplete beta function I_x(a, b) by the continued fraction of Lentz.
+     * The fraction converges quickly below (a + 1) / (a + b + 2); above, the symmetry I_x(a, b) = 1 - I_(1 - x)(b, a)
+     * is applied, so the upper tail 1 - I_x(a, b) is computed accurately as I_(1 - x)(b, a).
+     * @param x a real number between 0 and 1.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @return the result of the regularised incomplete beta function with parameters x, a and b.
+     * @throws IllegalArgumentException if x is not between 0 and 1 or a parameter is not positive.
+     */
+    public static double incompleteBeta(final double x, final double a, final double b) throws IllegalArgumentException {
+        checkParameters(a, b);
+        return incompleteBeta(x, a, b, CACHE.get().logBeta(a, b));
+    }
+    
+    /**
+     * The method computes the regularised incomplete beta function of an array of real numbers with the same parameters,
+     * whose prefactor is computed once.
+     * @param x the array of real numbers between 0 and 1.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @param result the array that receives the results, which may be the array of the real numbers.
+     * @throws IllegalArgumentException if the arrays do not have the same length, a real number is not between 0 and 1
+     * or a parameter is not positive.
+     */
+    public static void incompleteBeta(final double[] x, final double a, final double b, final double[] result)
+            throws IllegalArgumentException {
+        checkLengths(x.length, x.length, result.length);
+        final double logBeta = logBeta(a, b);
+        for (int i = 0; i < x.length; i++) {
+            result[i] = incompleteBeta(x[i], a, b, logBeta);
+        }
+    }
+    
+    /**
+     * The method computes the regularised incomplete beta function of arrays of real numbers and parameters,
+     * whose prefactors are looked up in the cache of the thread.
+     * @param x the array of real numbers between 0 and 1.
+     * @param a the array of the first parameters, all positive.
+     * @param b the array of the second parameters, all positive.
+     * @param result the array that receives the results, which may be the array of the real numbers.
+     * @throws IllegalArgumentException if the arrays do not have the same length, a real number is not between 0 and 1
+     * or a parameter is not positive.
+     */
+    public static void incompleteBeta(final double[] x, final double[] a, final double[] b, final double[] result)
+            throws IllegalArgumentException {
+        checkLengths(x.length, a.length, b.length);
+        checkLengths(x.length, x.length, result.length);
+        final Cache cache = CACHE.get();
+        for (int i = 0; i < x.length; i++) {
+            checkParameters(a[i], b[i]);
+            result[i] = incompleteBeta(x[i], a[i], b[i], cache.logBeta(a[i], b[i]));
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the regularised incomplete beta function in x,
+     * by the initial approximation of Abramowitz and Stegun refined by Halley's method.
+     * The root is refined in the smaller of x and 1 - x, where it has the most significant digits.
+     * @param p a real number between 0 and 1.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @return the real number x between 0 and 1 such that I_x(a, b) = p.
+     * @throws IllegalArgumentException if p is not between 0 and 1 or a parameter is not positive.
+     */
+    public static double inverseIncompleteBeta(final double p, final double a, final double b) throws IllegalArgumentException {
+        checkParameters(a, b);
+        return inverseIncompleteBeta(p, a, b, CACHE.get().logBeta(a, b));
+    }
+    
+    /**
+     * The method computes the inverse of the regularised incomplete beta function of an array of real numbers
+     * with the same parameters.
+     * @param p the array of real numbers between 0 and 1.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @param result the array that receives the results, which may be the array of the real numbers.
+     * @throws IllegalArgumentException if the arrays do not have the same length, a real number is not between 0 and 1
+     * or a parameter is not positive.
+     */
+    public static void inverseIncompleteBeta(final double[] p, final double a, final double b, final double[] result)
+            throws IllegalArgumentException {
+        checkLengths(p.length, p.length, result.length);
+        final double logBeta = logBeta(a, b);
+        for (int i = 0; i < p.length; i++) {
+            result[i] = inverseIncompleteBeta(p[i], a, b, logBeta);
+        }
+    }
+    
+    /**
+     * The regularised incomplete beta function with its prefactor.
+     * @param x a real number between 0 and 1.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @param logBeta the logarithm of the beta function of a and b.
+     * @return I_x(a, b).
+     * @throws IllegalArgumentException if x is not between 0 and 1.
+     */
+    private static double incompleteBeta(final double x, final double a, final double b, final double logBeta)
+            throws IllegalArgumentException {
+        if (!(x >= 0 && x <= 1)) {
+            throw new IllegalArgumentException();
+        } else if (x == 0 || x == 1) {
+            return x;
+        } else {
+            final double front = Math.min(a, b) >= STIRLING_LIMIT ? front(x, a, b)
+                    : Math.exp(a * Math.log(x) + b * Math.log1p(-x) - logBeta);
+            if (x < (a + 1) / (a + b + 2)) {
+                return front * continuedFraction(x, a, b) / a;
+            } else {
+                return 1 - front * continuedFraction(1 - x, b, a) / b;
+            }
+        }
+    }
+    
+    /**
+     * The prefactor x^a (1 - x)^b / B(a, b) of large parameters, factorised around its peak at a / (a + b)
+     * as by DiDonato and Morris. With x (a + b) = a + D, it is sqrt(a b / (2 pi (a + b)))
+     * exp(a (log(1 + D / a) - D / a) + b (log(1 - D / b) + D / b)) divided by the exponential of the remainders
+     * of the Stirling series: the terms of the exponent are small near the peak, where the logarithms
+     * of the direct form are large and cancel. D is computed with the exact products and sum of Dekker and Knuth,
+     * so that it keeps its relative accuracy however close x is to the peak.
+     * @param x a real number between 0 and 1.
+     * @param a a real number not smaller than 10.
+     * @param b a real number not smaller than 10.
+     * @return x^a (1 - x)^b / B(a, b).
+     */
+    private static double front(final double x, final double a, final double b) {
+        final double sum = a + b;
+        final double p = x * a;
+        final double q = x * b;
+        final double s = p + q;
+        final double z = s - p;
+        final double error = (p - (s - z)) + (q - z) + Math.fma(x, a, -p) + Math.fma(x, b, -q);
+        final double deviation = (s - a) + error;
+        final double d = deviation / a;
+        final double e = -deviation / b;
+        final double exponent = a * (Math.abs(d) > .25 ? Math.log(x) + Math.log1p(b / a) - d : IncompleteGamma.log1pMinus(d))
+                + b * (Math.abs(e) > .25 ? Math.log1p(-x) + Math.log1p(a / b) - e : IncompleteGamma.log1pMinus(e));
+        final double correction = Gamma.stirlingCorrection(a) + Gamma.stirlingCorrection(b) - Gamma.stirlingCorrection(sum);
+        return Math.sqrt(a / sum * b) / Gamma.SQRT_TWO_PI * Math.exp(exponent - correction);
+    }
+    
+    /**
+     * The continued fraction of the incomplete beta function, evaluated by the modified method of Lentz.
+     * @param x a real number between 0 and 1, below (a + 1) / (a + b + 2).
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @return the value of the continued fraction.
+     */
+    private static double continuedFraction(final double x, final double a, final double b) {
+        final double sum = a + b;
+        final double plus = a + 1;
+        final double minus = a - 1;
+        double c = 1.;
+        double d = 1 - sum * x / plus;
+        if (Math.abs(d) < TINY) {
+            d = TINY;
+        }
+        d = 1 / d;
+        double fraction = d;
+        for (int m = 1; m <= MAXIMUM_TERMS; m++) {
+            final int m2 = 2 * m;
+            double coefficient = m * (b - m) * x / ((minus + m2) * (a + m2));
+            d = 1 + coefficient * d;
+            if (Math.abs(d) < TINY) {
+                d = TINY;
+            }
+            c = 1 + coefficient / c;
+            if (Math.abs(c) < TINY) {
+                c = TINY;
+            }
+            d = 1 / d;
+            fraction *= d * c;
+            coefficient = -(a + m) * (sum + m) * x / ((a + m2) * (plus + m2));
+            d = 1 + coefficient * d;
+            if (Math.abs(d) < TINY) {
+                d = TINY;
+            }
+            c = 1 + coefficient / c;
+            if (Math.abs(c) < TINY) {
+                c = TINY;
+            }
+            d = 1 / d;
+            final double delta = d * c;
+            fraction *= delta;
+            if (Math.abs(delta - 1) < EPSILON) {
+                return fraction;
+            }
+        }
+        LOG.warning("The continued fraction of the incomplete beta function did not converge.");
+        return fraction;
+    }
+    
+    /**
+     * The inverse of the regularised incomplete beta function with its prefactor.
+     * @param p a real number between 0 and 1.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @param logBeta the logarithm of the beta function of a and b.
+     * @return the real number x such that I_x(a, b) = p.
+     * @throws IllegalArgumentException if p is not between 0 and 1.
+     */
+    private static double inverseIncompleteBeta(final double p, final double a, final double b, final double logBeta)
+            throws IllegalArgumentException {
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException();
+        } else if (p == 0 || p == 1) {
+            return p;
+        } else {
+            double x;
+            double y;
+            if (a >= 1 && b >= 1) {
+                final double tail = p < .5 ? p : 1 - p;
+                final double t = Math.sqrt(-2 * Math.log(tail));
+                double normal = (2.30753 + t * .27061) / (1 + t * (.99229 + t * .04481)) - t;
+                if (p < .5) {
+                    normal = -normal;
+                }
+                final double lambda = (normal * normal - 3) / 6;
+                final double harmonic = 2 / (1 / (2 * a - 1) + 1 / (2 * b - 1));
+                final double w = normal * Math.sqrt(lambda + harmonic) / harmonic
+                        - (1 / (2 * b - 1) - 1 / (2 * a - 1)) * (lambda + 5. / 6 - 2 / (3 * harmonic));
+                final double e = b * Math.exp(2 * w);
+                x = a / (a + e);
+                y = e / (a + e);
+            } else {
+                final double t = Math.exp(a * Math.log(a / (a + b))) / a;
+                final double u = Math.exp(b * Math.log(b / (a + b))) / b;
+                final double w = t + u;
+                if (p < t / w) {
+                    x = Math.pow(a * w * p, 1 / a);
+                    y = 1 - x;
+                } else {
+                    y = Math.pow(b * w * (1 - p), 1 / b);
+                    x = 1 - y;
+                }
+            }
+            if (x <= .5) {
+                return refine(x, p, a, b, logBeta);
+            } else {
+                return 1 - refine(y, 1 - p, b, a, logBeta);
+            }
+        }
+    }
+    
+    /**
+     * Refine a root of the regularised incomplete beta function by Halley's method,
+     * whose steps fall back to bisection when they leave the bracket of the root or do not halve the error;
+     * the bisection is geometric while the bracket spans orders of magnitude, as it does for small parameters.
+     * @param guess the initial approximation of the root.
+     * @param p a real number between 0 and 1.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     * @param logBeta the logarithm of the beta function of a and b.
+     * @return the real number x such that I_x(a, b) = p.
+     */
+    private static double refine(final double guess, final double p, final double a, final double b, final double logBeta) {
+        double x = guess > 0 && guess < 1 ? guess : .5;
+        double low = 0.;
+        double high = 1.;
+        double last = Double.POSITIVE_INFINITY;
+        for (int step = 0; step < MAXIMUM_STEPS; step++) {
+            final double error = incompleteBeta(x, a, b, logBeta) - p;
+            if (error == 0) {
+                break;
+            } else if (error > 0) {
+                high = x;
+            } else {
+                low = x;
+            }
+            final double previous = x;
+            if (Math.abs(error) <= .5 * last) {
+                final double density = Math.exp((a - 1) * Math.log(x) + (b - 1) * Math.log1p(-x) - logBeta);
+                final double newton = error / density;
+                x -= newton / (1 - .5 * Math.min(1., newton * ((a - 1) / x - (b - 1) / (1 - x))));
+            } else {
+                x = Double.NaN;
+            }
+            last = Math.abs(error);
+            if (!(x >= low && x <= high)) {
+                if (low == 0) {
+                    x = high * high > 0 ? high * Math.min(high, .5) : Double.MIN_VALUE;
+                } else if (high > 4 * low) {
+                    x = Math.sqrt(low * high);
+                } else {
+                    x = .5 * (low + high);
+                }
+            } else if (Math.abs(x - previous) <= EPSILON * previous) {
+                break;
+            }
+        }
+        return x;
+    }
+    
+    /**
+     * Check that the parameters are positive.
+     * @param a the first parameter.
+     * @param b the second parameter.
+     * @throws IllegalArgumentException if a parameter is not positive.
+     */
+    private static void checkParameters(final double a, final double b) throws IllegalArgumentException {
+        if (!(a > 0 && b > 0)) {
+            throw new IllegalArgumentException();
+        }
+    }
+    
+    /**
+     * Check that three arrays have the same length.
+     * @param first the length of the first array.
+     * @param second the length of the second array.
+     * @param third the length of the third array.
+     * @throws IllegalArgumentException if the lengths differ.
+     */
+    private static void checkLengths(final int first, final int second, final int third) throws IllegalArgumentException {
+        if (first != second || first != third) {
+            throw new IllegalArgumentException();
+        }
+    }
     
+    private Beta() {
+        throw new AssertionError();
+    }
 }
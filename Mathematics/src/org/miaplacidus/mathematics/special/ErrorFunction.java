@@ -0,0 +1,261 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.logging.Logger;
+
+/**
+ * The error function and the complementary error function of real numbers.
+ * Below {@link #SERIES_LIMIT} the error function is a series of positive terms.
+ * Between one half and {@link #ANCHOR_LIMIT} the complementary function is the Taylor series of the nearest
+ * of a table of exact values, in the Hermite polynomials; above it the continued fraction of Laplace,
+ * which converges quickly there and keeps its relative accuracy far into the tail.
+ * Either way the error function is the complement of the complementary function above the series.
+ * The Gaussian factor e^(-x^2) is computed from the exact square of the leading half of x,
+ * so that it does not lose the relative accuracy of x when x is large.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public class ErrorFunction extends Object {
+    /**
+     * The absolute value below which the error function is its series.
+     */
+    static final double SERIES_LIMIT = 1.;
+    
+    /**
+     * The first anchor of the Taylor series of the complementary error function, the distance between anchors
+     * and the argument from which the continued fraction takes over.
+     */
+    private static final double ANCHOR_FROM = .5;
+    private static final double ANCHOR_STEP = .125;
+    static final double ANCHOR_LIMIT = 4.;
+    
+    /**
+     * The complementary error function and the Gaussian at the anchors, rounded from exact values.
+     */
+    private static final double[] ANCHORS = new double[(int) ((ANCHOR_LIMIT - ANCHOR_FROM) / ANCHOR_STEP) + 1];
+    private static final double[] ANCHOR_GAUSSIANS = new double[ANCHORS.length];
+    
+    /**
+     * The digits of pi for the exact values at the anchors.
+     */
+    private static final String PI = "3.14159265358979323846264338327950288419716939937510582097494459";
+    
+    /**
+     * The argument above which the complementary error function underflows to zero.
+     */
+    private static final double UNDERFLOW = 27.3;
+    
+    /**
+     * The relative accuracy at which the series and the continued fraction stop.
+     */
+    private static final double EPSILON = 1E-17;
+    
+    /**
+     * The largest number of terms of the series and the continued fraction.
+     */
+    private static final int MAXIMUM_TERMS = 1 << 10;
+    
+    /**
+     * The smallest number that stands for zero in the continued fraction.
+     */
+    private static final double TINY = 1E-300;
+    
+    /**
+     * The mask that keeps the leading 26 bits of the significand of a double, whose square is exact.
+     */
+    private static final long HALF_MASK = 0xFFFFFFFFF8000000L;
+    
+    private static final double TWO_OVER_SQRT_PI = 2. / Math.sqrt(Math.PI);
+    private static final double ONE_OVER_SQRT_PI = 1. / Math.sqrt(Math.PI);
+    private static final Logger LOG = Logger.getLogger(ErrorFunction.class.getName());
+    
+    static {
+        final MathContext context = new MathContext(64);
+        final BigDecimal factor = BigDecimal.valueOf(2).divide(new BigDecimal(PI).sqrt(context), context);
+        final BigDecimal epsilon = BigDecimal.ONE.movePointLeft(context.getPrecision());
+        for (int k = 0; k < ANCHORS.length; k++) {
+            final BigDecimal x = BigDecimal.valueOf(ANCHOR_FROM + k * ANCHOR_STEP);
+            final BigDecimal square = x.multiply(x).negate();
+            BigDecimal power = x;
+            BigDecimal sum = x;
+            for (int n = 1; power.abs().compareTo(epsilon) > 0; n++) {
+                power = power.multiply(square).divide(BigDecimal.valueOf(n), context);
+                sum = sum.add(power.divide(BigDecimal.valueOf(2 * n + 1), context));
+            }
+            ANCHORS[k] = BigDecimal.ONE.subtract(factor.multiply(sum, context)).doubleValue();
+            ANCHOR_GAUSSIANS[k] = gaussian(x.doubleValue());
+        }
+    }
+    
+    /**
+     * The method computes the error function, 2 / sqrt(pi) times the integral of e^(-t^2) from 0 to x.
+     * @param x a real number.
+     * @return the result of the error function with parameter x, or NaN if x is NaN.
+     */
+    public static double erf(final double x) {
+        final double y = Math.abs(x);
+        if (Double.isNaN(x)) {
+            return x;
+        } else if (y < SERIES_LIMIT) {
+            return series(x);
+        } else if (y < UNDERFLOW) {
+            return Math.copySign(1 - erfc(y), x);
+        } else {
+            return Math.copySign(1., x);
+        }
+    }
+    
+    /**
+     * The method computes the complementary error function 1 - erf(x) without cancellation for positive x.
+     * @param x a real number.
+     * @return the result of the complementary error function with parameter x, or NaN if x is NaN.
+     */
+    public static double erfc(final double x) {
+        if (Double.isNaN(x)) {
+            return x;
+        } else if (x < ANCHOR_FROM) {
+            return 1 - erf(x);
+        } else if (x < ANCHOR_LIMIT) {
+            return taylor(x);
+        } else if (x < UNDERFLOW) {
+            return continuedFraction(x);
+        } else {
+            return 0.;
+        }
+    }
+    
+    /**
+     * The method computes the error function of an array of real numbers.
+     * @param x the array of real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void erf(final double[] x, final double[] result) throws IllegalArgumentException {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            for (int i = 0; i < x.length; i++) {
+                result[i] = erf(x[i]);
+            }
+        }
+    }
+    
+    /**
+     * The method computes the complementary error function of an array of real numbers.
+     * @param x the array of real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void erfc(final double[] x, final double[] result) throws IllegalArgumentException {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            for (int i = 0; i < x.length; i++) {
+                result[i] = erfc(x[i]);
+            }
+        }
+    }
+    
+    /**
+     * The series erf(x) = 2 x e^(-x^2) / sqrt(pi) times the sum of (2 x^2)^n / (1 3 5 ... (2n + 1)),
+     * whose terms are all positive.
+     * @param x a real number whose absolute value is smaller than {@link #SERIES_LIMIT}.
+     * @return the error function of x.
+     */
+    private static double series(final double x) {
+        final double square = 2 * x * x;
+        double term = 1.;
+        double sum = 1.;
+        for (int n = 1; n < MAXIMUM_TERMS && term > EPSILON * sum; n++) {
+            term *= square / (2 * n + 1);
+            sum += term;
+        }
+        return TWO_OVER_SQRT_PI * x * gaussian(x) * sum;
+    }
+    
+    /**
+     * The Taylor series of the complementary error function at the nearest anchor x0, in the distance h = x - x0:
+     * erfc(x) = erfc(x0) - 2 / sqrt(pi) e^(-x0^2) h times the sum of q_n / (n + 1),
+     * where q_n = (-1)^n H_n(x0) h^n / n! follows the recurrence of the Hermite polynomials.
+     * @param x a real number between one half and {@link #ANCHOR_LIMIT}.
+     * @return the complementary error function of x.
+     */
+    private static double taylor(final double x) {
+        final int k = (int) Math.rint((x - ANCHOR_FROM) / ANCHOR_STEP);
+        final double h = x - (ANCHOR_FROM + k * ANCHOR_STEP);
+        final double a = -2 * (ANCHOR_FROM + k * ANCHOR_STEP) * h;
+        final double b = -2 * h * h;
+        double previous = 0.;
+        double q = 1.;
+        double sum = 1.;
+        for (int n = 1; n < MAXIMUM_TERMS && (n < 3 || Math.abs(q) > EPSILON * Math.abs(sum)); n++) {
+            final double next = (a * q + b * previous) / n;
+            previous = q;
+            q = next;
+            sum += q / (n + 1);
+        }
+        return ANCHORS[k] - TWO_OVER_SQRT_PI * ANCHOR_GAUSSIANS[k] * h * sum;
+    }
+    
+    /**
+     * The continued fraction of Laplace, erfc(x) = e^(-x^2) / sqrt(pi) / (x + (1/2) / (x + 1 / (x + (3/2) / (x + ...)))),
+     * evaluated by the modified method of Lentz.
+     * @param x a real number not smaller than {@link #ANCHOR_LIMIT}.
+     * @return the complementary error function of x.
+     */
+    private static double continuedFraction(final double x) {
+        double f = x;
+        double c = x;
+        double d = 0.;
+        for (int k = 1; k < MAXIMUM_TERMS; k++) {
+            final double a = .5 * k;
+            d = x + a * d;
+            d = 1 / (Math.abs(d) < TINY ? TINY : d);
+            c = x + a / c;
+            c = Math.abs(c) < TINY ? TINY : c;
+            final double delta = c * d;
+            f *= delta;
+            if (Math.abs(delta - 1) < EPSILON) {
+                break;
+            }
+        }
+        return ONE_OVER_SQRT_PI * gaussian(x) / f;
+    }
+    
+    /**
+     * The Gaussian e^(-x^2), computed as e^(-h^2) e^(-(x - h)(x + h)) with h the leading half of x.
+     * @param x a real number.
+     * @return e^(-x^2).
+     */
+    static double gaussian(final double x) {
+        final double h = Double.longBitsToDouble(Double.doubleToRawLongBits(x) & HALF_MASK);
+        return Math.exp(-h * h) * Math.exp(-(x - h) * (x + h));
+    }
+    
+    private ErrorFunction() {
+        throw new AssertionError();
+    }
+}
@@ -24,16 +24,31 @@
 package org.miaplacidus.mathematics.special;
 
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import org.miaplacidus.mathematics.metrics.Metrics;
+import org.miaplacidus.mathematics.metrics.Operation;
+import org.miaplacidus.mathematics.metrics.OperationEvent;
 import org.miaplacidus.mathematics.number.complex.Complex;
+import org.miaplacidus.mathematics.number.complex.ComplexArray;
 
 /**
- *
+ * The gamma function by the Lanczos approximation.
+ * The Lanczos sum of the real functions is evaluated as one rational function, a single division
+ * instead of one by term, and the power of the approximation is split in two halves,
+ * so that its intermediate results do not overflow before the gamma function itself.
+ * The factorials are looked up in an exact table.
+ * Between 1/2 and 5/2 the logarithm of the gamma function is its Taylor series at 2, so that it keeps its
+ * relative accuracy at its roots 1 and 2.
+ * The complex functions are computed in primitive real and imaginary arithmetic,
+ * so that their bulk and grid forms allocate nothing per point.
  * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
  */
 public class Gamma extends Object{
     
-    private static final double LANCZOS_APPROXIMATION_G=4.7421875;
+    static final double LANCZOS_APPROXIMATION_G=4.7421875;
     private static final double LANCZOS_APPROXIMATION_N=15;
     private static final double[] LANCZOS_APPROXIMATION_P={
         .99999999999999709182,
@@ -52,31 +67,317 @@ public class Gamma extends Object{
         -.26190838401581408670E-4,
         .36899182659531622704E-5
     };
+    
+    /**
+     * The coefficients of the numerator of the Lanczos sum written as a rational function, in increasing degree.
+     */
+    static final double[] LANCZOS_NUMERATOR = new double[15];
+    
+    /**
+     * The coefficients of the denominator x (x + 1) ... (x + 13) of the Lanczos sum, in increasing degree.
+     */
+    static final double[] LANCZOS_DENOMINATOR = new double[15];
+    
+    static final double SQRT_TWO_PI = Math.sqrt(Math.PI * 2.);
+    static final double LOG_SQRT_TWO_PI = Math.log(SQRT_TWO_PI);
+    static final double LOG_PI = Math.log(Math.PI);
+    private static final double LOG_TWO = Math.log(2.);
+    
+    /**
+     * The Taylor coefficients of the logarithm of the gamma function at 2, 1 - gamma and (-1)^k (zeta(k) - 1) / k
+     * for k from 2, which decrease as 2^-k.
+     */
+    private static final double[] LOG_GAMMA_SERIES = {
+        4.22784335098467134451E-01,
+        3.22467033424113203033E-01,
+        -6.73523010531981020099E-02,
+        2.05808084277845464161E-02,
+        -7.38555102867398567679E-03,
+        2.89051033074152335933E-03,
+        -1.19275391170326101886E-03,
+        5.09669524743042450139E-04,
+        -2.23154758453579385793E-04,
+        9.94575127818085309803E-05,
+        -4.49262367381331420460E-05,
+        2.05072127756706910667E-05,
+        -9.43948827526839671519E-06,
+        4.37486678990748817440E-06,
+        -2.03921575380136618969E-06,
+        9.55141213040741935301E-07,
+        -4.49246919876456618549E-07,
+        2.12071848055546646449E-07,
+        -1.00432248239680990840E-07,
+        4.76981016936398039829E-08,
+        -2.27110946089431635043E-08,
+        1.08386592148969545929E-08,
+        -5.18347504197004664423E-09,
+        2.48367454380247847524E-09,
+        -1.19214014058609115474E-09,
+        5.73136724167886225144E-10,
+        -2.75952288512423335590E-10,
+        1.33047643742444888200E-10,
+        -6.42296456383809959886E-11,
+        3.10442477473222756339E-11
+    };
+    
+    /**
+     * The complex numbers of the left half-plane whose imaginary part is larger than this limit in absolute value
+     * are reflected through logarithms, because sin(pi z) overflows.
+     */
+    private static final double REFLECTION_LIMIT = 200.;
+    
+    /**
+     * The largest integer whose factorial is finite in double precision.
+     */
+    public static final int FACTORIAL_LIMIT = 170;
+    
+    /**
+     * The real numbers above this limit have an infinite gamma function in double precision.
+     */
+    private static final double OVERFLOW = 171.62437695630272;
+    
+    /**
+     * The factorials of the integers up to the limit, each correctly rounded.
+     */
+    private static final double[] FACTORIALS = new double[FACTORIAL_LIMIT + 1];
+    
+    static {
+        BigDecimal[] denominator = {BigDecimal.ONE};
+        for (int k = 0; k < LANCZOS_APPROXIMATION_N - 1; k++) {
+            denominator = multiply(denominator, k, -1);
+        }
+        final BigDecimal[] numerator = new BigDecimal[denominator.length];
+        for (int i = 0; i < numerator.length; i++) {
+            numerator[i] = denominator[i].multiply(new BigDecimal(LANCZOS_APPROXIMATION_P[0]));
+        }
+        for (int j = 1; j < LANCZOS_APPROXIMATION_N; j++) {
+            BigDecimal[] term = {BigDecimal.ONE};
+            for (int k = 0; k < LANCZOS_APPROXIMATION_N - 1; k++) {
+                term = multiply(term, k, j - 1);
+            }
+            for (int i = 0; i < term.length; i++) {
+                numerator[i] = numerator[i].add(term[i].multiply(new BigDecimal(LANCZOS_APPROXIMATION_P[j])));
+            }
+        }
+        for (int i = 0; i < numerator.length; i++) {
+            LANCZOS_NUMERATOR[i] = numerator[i].doubleValue();
+            LANCZOS_DENOMINATOR[i] = denominator[i].doubleValue();
+        }
+        BigInteger factorial = BigInteger.ONE;
+        FACTORIALS[0] = 1.;
+        for (int n = 1; n <= FACTORIAL_LIMIT; n++) {
+            factorial = factorial.multiply(BigInteger.valueOf(n));
+            FACTORIALS[n] = factorial.doubleValue();
+        }
+    }
+    
     /**
      * The Euler–Mascheroni constant.
      */
     public static final double GAMMA = 0.577215664901532860606512090082;
     private static final Logger LOG = Logger.getLogger(Gamma.class.getName());
+    
+    /**
+     * Multiply a polynomial by x + k, unless k is excluded.
+     * @param polynomial the exact coefficients of the polynomial, in increasing degree.
+     * @param k a non-negative integer.
+     * @param excluded the integer that is skipped.
+     * @return the coefficients of the product.
+     */
+    private static BigDecimal[] multiply(final BigDecimal[] polynomial, final int k, final int excluded) {
+        if (k == excluded) {
+            return polynomial;
+        } else {
+            final BigDecimal[] product = new BigDecimal[polynomial.length + 1];
+            product[polynomial.length] = BigDecimal.ZERO;
+            for (int i = 0; i < polynomial.length; i++) {
+                product[i] = polynomial[i].multiply(BigDecimal.valueOf(k));
+            }
+            for (int i = 0; i < polynomial.length; i++) {
+                product[i + 1] = product[i + 1].add(polynomial[i]);
+            }
+            return product;
+        }
+    }
    
     /**
      * The method utilises the Lanczos Approximation to compute the gamma function of a real number.
+     * The arguments below one half are reflected, the positive integers are looked up in the table of factorials.
      * @param x a real number.
-     * @return the result of the gamma function with parameter x.
+     * @return the result of the gamma function with parameter x, or NaN if x is a pole.
      */
     public static double gamma(final double x) {
-	if (x < .5) {
-            return Math.PI / Math.sin(Math.PI * x) / Gamma.gamma(1 - x);
+        if (x == Math.rint(x) && x <= FACTORIAL_LIMIT + 1) {
+            return x >= 1 ? FACTORIALS[(int) x - 1] : Double.NaN;
+        } else if (x < .5) {
+            return Math.PI / (sinPi(x) * lanczos(1 - x));
+        } else {
+            return lanczos(x);
+        }
+    }
+    
+    /**
+     * The method computes the gamma function of an array of real numbers.
+     * The loop evaluates the Lanczos approximation of every argument, reflected or not, in the same straight line
+     * of arithmetic and selects the result, so that it runs without unpredictable branches.
+     * @param x the array of real numbers.
+     * @param result the array that receives the results of the gamma function, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void gamma(final double[] x, final double[] result) throws IllegalArgumentException {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final OperationEvent event = Metrics.begin(Operation.GAMMA_BATCH, x.length);
+            for (int i = 0; i < x.length; i++) {
+                final double argument = x[i];
+                final boolean reflected = argument < .5;
+                final double y = Math.min(reflected ? 1 - argument : argument, OVERFLOW);
+                final double t = y + LANCZOS_APPROXIMATION_G - .5;
+                final double power = Math.pow(t, .5 * (y - .5));
+                final double inverse = 1 / y;
+                double numerator = 0.;
+                double denominator = 0.;
+                for (int k = 0; k < LANCZOS_DENOMINATOR.length; k++) {
+                    numerator = numerator * inverse + LANCZOS_NUMERATOR[k];
+                    denominator = denominator * inverse + LANCZOS_DENOMINATOR[k];
+                }
+                final double value = power * (power * Math.exp(-t)) * SQRT_TWO_PI * (numerator / denominator);
+                result[i] = reflected ? Math.PI / (sinPi(argument) * value) : value;
+                if (argument == Math.rint(argument) && argument <= FACTORIAL_LIMIT + 1) {
+                    result[i] = argument >= 1 ? FACTORIALS[(int) argument - 1] : Double.NaN;
+                } else if (argument > OVERFLOW || argument < 1 - OVERFLOW) {
+                    result[i] = reflected ? Math.copySign(0., sinPi(argument)) : Double.POSITIVE_INFINITY;
+                }
+            }
+            Metrics.end(event);
+        }
+    }
+    
+    /**
+     * The method computes the natural logarithm of the absolute value of the gamma function of a real number,
+     * without computing the gamma function itself, so that it does not overflow.
+     * @param x a real number.
+     * @return the logarithm of the absolute value of the gamma function with parameter x, or infinity if x is a pole.
+     */
+    public static double logGamma(final double x) {
+        if (x < .5) {
+            if (x == Math.rint(x)) {
+                return Double.POSITIVE_INFINITY;
+            } else {
+                return LOG_PI - Math.log(Math.abs(sinPi(x))) - logGamma(1 - x);
+            }
+        } else if (x == Math.rint(x) && x <= FACTORIAL_LIMIT + 1) {
+            return Math.log(FACTORIALS[(int) x - 1]);
+        } else if (x < 2.5) {
+            return logGammaNearRoots(x);
         } else {
-            double a = LANCZOS_APPROXIMATION_P[0];
             final double t = x + LANCZOS_APPROXIMATION_G - .5;
-            
-            for (int k = 1; k < LANCZOS_APPROXIMATION_N; k++) {
-		a += LANCZOS_APPROXIMATION_P[k] / (x + k - 1.);
+            return (x - .5) * Math.log(t) - t + LOG_SQRT_TWO_PI + Math.log(lanczosSum(x));
+        }
+    }
+    
+    /**
+     * The logarithm of the gamma function between 1/2 and 5/2, around its roots 1 and 2, where the Lanczos form
+     * subtracts nearly equal terms. It is the Taylor series at 2 of e = x - 2 on [3/2, 5/2),
+     * and on [1/2, 3/2) the same series of e = x - 1 minus log1p(e), by the recurrence;
+     * both differences are exact, so the result keeps its relative accuracy up to the roots.
+     * @param x a real number between 1/2 and 5/2.
+     * @return the logarithm of the gamma function with parameter x.
+     */
+    private static double logGammaNearRoots(final double x) {
+        final double e = x < 1.5 ? x - 1 : x - 2;
+        double sum = 0.;
+        for (int k = LOG_GAMMA_SERIES.length - 1; k >= 0; k--) {
+            sum = sum * e + LOG_GAMMA_SERIES[k];
+        }
+        return x < 1.5 ? e * sum - Math.log1p(e) : e * sum;
+    }
+    
+    /**
+     * The method computes the natural logarithm of the absolute value of the gamma function of an array of real numbers.
+     * @param x the array of real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void logGamma(final double[] x, final double[] result) throws IllegalArgumentException {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final OperationEvent event = Metrics.begin(Operation.LOG_GAMMA_BATCH, x.length);
+            for (int i = 0; i < x.length; i++) {
+                result[i] = logGamma(x[i]);
             }
-            return Math.pow(t, x - .5) * Math.sqrt(Math.PI * 2.) * Math.exp(-t) * a;
-	}
+            Metrics.end(event);
+        }
+    }
+    
+    /**
+     * The remainder of the Stirling series of the logarithm of the gamma function,
+     * log gamma(x) - (x - 1/2) log x + x - log sqrt(2 pi), computed by its asymptotic series.
+     * @param x a real number not smaller than 10.
+     * @return the correction of the Stirling approximation of log gamma(x).
+     */
+    static double stirlingCorrection(final double x) {
+        final double inverse = 1 / x;
+        final double square = inverse * inverse;
+        return inverse * (1. / 12 + square * (-1. / 360 + square * (1. / 1260 + square * (-1. / 1680
+                + square * (1. / 1188 + square * (-691. / 360360 + square / 156))))));
+    }
+    
+    /**
+     * The factorial of an integer, looked up in a table of correctly rounded values.
+     * @param n a non-negative integer.
+     * @return n!, or infinity if n is greater than {@link #FACTORIAL_LIMIT}.
+     * @throws IllegalArgumentException if n is negative.
+     */
+    public static double factorial(final int n) throws IllegalArgumentException {
+        if (n < 0) {
+            throw new IllegalArgumentException();
+        } else {
+            return n <= FACTORIAL_LIMIT ? FACTORIALS[n] : Double.POSITIVE_INFINITY;
+        }
     }
     
+    /**
+     * The Lanczos approximation of the gamma function.
+     * @param x a real number not smaller than one half.
+     * @return the gamma function of x.
+     */
+    private static double lanczos(final double x) {
+        if (x > OVERFLOW) {
+            return Double.POSITIVE_INFINITY;
+        } else {
+            final double t = x + LANCZOS_APPROXIMATION_G - .5;
+            final double power = Math.pow(t, .5 * (x - .5));
+            return power * (power * Math.exp(-t)) * SQRT_TWO_PI * lanczosSum(x);
+        }
+    }
+    
+    /**
+     * The Lanczos sum as a rational function, evaluated in 1 / x so that its powers do not overflow.
+     * @param x a real number not smaller than one half.
+     * @return the Lanczos sum of x.
+     */
+    static double lanczosSum(final double x) {
+        final double inverse = 1 / x;
+        double numerator = 0.;
+        double denominator = 0.;
+        for (int k = 0; k < LANCZOS_DENOMINATOR.length; k++) {
+            numerator = numerator * inverse + LANCZOS_NUMERATOR[k];
+            denominator = denominator * inverse + LANCZOS_DENOMINATOR[k];
+        }
+        return numerator / denominator;
+    }
+    
+    /**
+     * The sine of pi times a real number, reduced exactly to [-1, 1] before the multiplication by pi.
+     * @param x a real number.
+     * @return sin(pi x).
+     */
+    static double sinPi(final double x) {
+        return Math.sin(Math.PI * (x - 2. * Math.rint(.5 * x)));
+    }
     
     /**
      * The method utilises the Lanczos Approximation to compute the gamma function of a complex number.
@@ -84,17 +385,298 @@ public class Gamma extends Object{
      * @return the result of the gamma function with parameter z.
      */
     public static Complex gamma(final Complex z) {
-	if (z.real() < .5) {
-            return Complex.PI.divide(z.multiply(Math.PI).sin()).divide(gamma(Complex.ONE.subtract(z)));
+        final double[] result = new double[2];
+        gamma(z.real(), z.imaginary(), result);
+        return new Complex(result[0], result[1]);
+    }
+    
+    /**
+     * The method computes the gamma function of a complex number in primitive arithmetic.
+     * The real numbers are delegated to the real function, the left half-plane is reflected.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the result at indices 0 and 1.
+     */
+    public static void gamma(final double real, final double imaginary, final double[] result) {
+        if (imaginary == 0.) {
+            result[0] = gamma(real);
+            result[1] = 0.;
+        } else if (real >= .5) {
+            lanczos(real, imaginary, result);
+        } else if (Math.abs(imaginary) <= REFLECTION_LIMIT) {
+            lanczos(1 - real, -imaginary, result);
+            final double sine = sinPi(real) * Math.cosh(Math.PI * imaginary);
+            final double cosine = cosPi(real) * Math.sinh(Math.PI * imaginary);
+            final double productReal = sine * result[0] - cosine * result[1];
+            final double productImaginary = sine * result[1] + cosine * result[0];
+            divide(Math.PI, 0., productReal, productImaginary, result);
+        } else {
+            logGamma(real, imaginary, result);
+            final double modulus = Math.exp(result[0]);
+            final double argument = result[1];
+            result[0] = modulus * Math.cos(argument);
+            result[1] = modulus * Math.sin(argument);
+        }
+    }
+    
+    /**
+     * The method computes the gamma function of arrays of complex numbers in primitive arithmetic.
+     * @param real the real parts of the complex numbers.
+     * @param imaginary the imaginary parts of the complex numbers.
+     * @param resultReal the array that receives the real parts of the results, which may be the array of the real parts.
+     * @param resultImaginary the array that receives the imaginary parts of the results, which may be the array of the imaginary parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void gamma(final double[] real, final double[] imaginary, final double[] resultReal,
+            final double[] resultImaginary) throws IllegalArgumentException {
+        if (imaginary.length != real.length || resultReal.length != real.length || resultImaginary.length != real.length) {
+            throw new IllegalArgumentException();
         } else {
-            Complex a = new Complex(LANCZOS_APPROXIMATION_P[0]);
-            final Complex t = z.add(LANCZOS_APPROXIMATION_G).subtract(.5);
-            
-            for (int k = 1; k < LANCZOS_APPROXIMATION_N; k++) {
-		a = a.add(new Complex(LANCZOS_APPROXIMATION_P[k]).divide(z.add(k - 1)));
+            final OperationEvent event = Metrics.begin(Operation.GAMMA_BATCH, real.length);
+            final double[] value = new double[2];
+            for (int i = 0; i < real.length; i++) {
+                gamma(real[i], imaginary[i], value);
+                resultReal[i] = value[0];
+                resultImaginary[i] = value[1];
             }
-            return t.exponentiate(z.subtract(.5)).multiply(Math.sqrt(Math.PI * 2)).multiply(t.negate().exponentiate()).multiply(a);
-	}
+            Metrics.end(event);
+        }
+    }
+    
+    /**
+     * The method computes the gamma function of an array of complex numbers.
+     * @param z the array of complex numbers.
+     * @return an array of the results of the gamma function.
+     */
+    public static ComplexArray gamma(final ComplexArray z) {
+        final ComplexArray result = new ComplexArray(z.length());
+        gamma(z.real(), z.imaginary(), result.real(), result.imaginary());
+        return result;
+    }
+    
+    /**
+     * The method computes the gamma function on a rectangular grid of the complex plane, in parallel over its rows.
+     * The point of a row r and a column c is realFrom + c realStep + i (imaginaryFrom + r imaginaryStep),
+     * its result is stored at the index r columns + c.
+     * @param realFrom the real part of the first column.
+     * @param realStep the step of the real parts between columns.
+     * @param columns the number of columns.
+     * @param imaginaryFrom the imaginary part of the first row.
+     * @param imaginaryStep the step of the imaginary parts between rows.
+     * @param rows the number of rows.
+     * @param resultReal the array that receives the real parts of the results.
+     * @param resultImaginary the array that receives the imaginary parts of the results.
+     * @throws IllegalArgumentException if a dimension is negative or an array does not have rows columns elements.
+     */
+    public static void gamma(final double realFrom, final double realStep, final int columns, final double imaginaryFrom,
+            final double imaginaryStep, final int rows, final double[] resultReal, final double[] resultImaginary)
+            throws IllegalArgumentException {
+        if (columns < 0 || rows < 0 || resultReal.length != (long) rows * columns || resultImaginary.length != resultReal.length) {
+            throw new IllegalArgumentException();
+        } else {
+            IntStream.range(0, rows).parallel().forEach(row -> {
+                final double[] value = new double[2];
+                final double imaginary = imaginaryFrom + row * imaginaryStep;
+                for (int column = 0, index = row * columns; column < columns; column++, index++) {
+                    gamma(realFrom + column * realStep, imaginary, value);
+                    resultReal[index] = value[0];
+                    resultImaginary[index] = value[1];
+                }
+            });
+        }
+    }
+    
+    /**
+     * The method computes a logarithm of the gamma function of a complex number, without computing the gamma function itself.
+     * In the right half-plane it is the analytic continuation of the real logarithm;
+     * in the left half-plane, where the function is reflected, its imaginary part may differ from it by a multiple of 2 pi.
+     * @param z a complex number.
+     * @return a logarithm of the gamma function with parameter z.
+     */
+    public static Complex logGamma(final Complex z) {
+        final double[] result = new double[2];
+        logGamma(z.real(), z.imaginary(), result);
+        return new Complex(result[0], result[1]);
+    }
+    
+    /**
+     * The method computes a logarithm of the gamma function of a complex number in primitive arithmetic.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the result at indices 0 and 1.
+     * @see #logGamma(Complex)
+     */
+    public static void logGamma(final double real, final double imaginary, final double[] result) {
+        if (imaginary == 0.) {
+            result[0] = logGamma(real);
+            result[1] = real < 0 && sinPi(real) < 0 ? Math.PI : 0.;
+        } else if (real >= .5) {
+            final double t = real + LANCZOS_APPROXIMATION_G - .5;
+            final double logModulus = logAbsolute(t, imaginary);
+            final double argument = Math.atan2(imaginary, t);
+            lanczosSum(real, imaginary, result);
+            final double sumLogModulus = logAbsolute(result[0], result[1]);
+            final double sumArgument = Math.atan2(result[1], result[0]);
+            result[0] = (real - .5) * logModulus - imaginary * argument - t + LOG_SQRT_TWO_PI + sumLogModulus;
+            result[1] = (real - .5) * argument + imaginary * logModulus - imaginary + sumArgument;
+        } else {
+            logGamma(1 - real, -imaginary, result);
+            final double gammaReal = result[0];
+            final double gammaImaginary = result[1];
+            logSinPi(real, imaginary, result);
+            result[0] = LOG_PI - result[0] - gammaReal;
+            result[1] = -result[1] - gammaImaginary;
+        }
+    }
+    
+    /**
+     * A logarithm of the sine of pi times a complex number that is not real, computed without overflow
+     * of the hyperbolic functions; far from the real axis, the sine is its dominant exponential.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number, not zero.
+     * @param result the array that receives the real and imaginary parts of the logarithm.
+     */
+    static void logSinPi(final double real, final double imaginary, final double[] result) {
+        final double y = Math.abs(imaginary);
+        double sineReal;
+        double sineImaginary;
+        if (y <= 1.) {
+            final double sine = sinPi(real) * Math.cosh(Math.PI * y);
+            final double cosine = cosPi(real) * Math.sinh(Math.PI * y);
+            sineReal = logAbsolute(sine, cosine);
+            sineImaginary = Math.atan2(cosine, sine);
+        } else {
+            final double x = real - 2. * Math.rint(.5 * real);
+            final double decay = Math.exp(-2. * Math.PI * y);
+            final double remainderReal = 1 - decay * Math.cos(2. * Math.PI * x);
+            final double remainderImaginary = -decay * Math.sin(2. * Math.PI * x);
+            sineReal = Math.PI * y - LOG_TWO + logAbsolute(remainderReal, remainderImaginary);
+            sineImaginary = Math.PI * (.5 - x) + Math.atan2(remainderImaginary, remainderReal);
+        }
+        if (imaginary < 0) {
+            sineImaginary = -sineImaginary;
+        }
+        result[0] = sineReal;
+        result[1] = sineImaginary;
+    }
+    
+    /**
+     * The method computes a logarithm of the gamma function of arrays of complex numbers in primitive arithmetic.
+     * @param real the real parts of the complex numbers.
+     * @param imaginary the imaginary parts of the complex numbers.
+     * @param resultReal the array that receives the real parts of the results, which may be the array of the real parts.
+     * @param resultImaginary the array that receives the imaginary parts of the results, which may be the array of the imaginary parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see #logGamma(Complex)
+     */
+    public static void logGamma(final double[] real, final double[] imaginary, final double[] resultReal,
+            final double[] resultImaginary) throws IllegalArgumentException {
+        if (imaginary.length != real.length || resultReal.length != real.length || resultImaginary.length != real.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final OperationEvent event = Metrics.begin(Operation.LOG_GAMMA_BATCH, real.length);
+            final double[] value = new double[2];
+            for (int i = 0; i < real.length; i++) {
+                logGamma(real[i], imaginary[i], value);
+                resultReal[i] = value[0];
+                resultImaginary[i] = value[1];
+            }
+            Metrics.end(event);
+        }
+    }
+    
+    /**
+     * The Lanczos approximation of the gamma function of a complex number.
+     * @param real the real part of the complex number, not smaller than one half.
+     * @param imaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the result.
+     */
+    private static void lanczos(final double real, final double imaginary, final double[] result) {
+        final double t = real + LANCZOS_APPROXIMATION_G - .5;
+        final double logModulus = logAbsolute(t, imaginary);
+        final double argument = Math.atan2(imaginary, t);
+        final double exponentReal = (real - .5) * logModulus - imaginary * argument - t;
+        final double exponentImaginary = (real - .5) * argument + imaginary * logModulus - imaginary;
+        lanczosSum(real, imaginary, result);
+        final double modulus = Math.exp(exponentReal) * SQRT_TWO_PI;
+        final double cosine = modulus * Math.cos(exponentImaginary);
+        final double sine = modulus * Math.sin(exponentImaginary);
+        final double sumReal = result[0];
+        final double sumImaginary = result[1];
+        result[0] = cosine * sumReal - sine * sumImaginary;
+        result[1] = cosine * sumImaginary + sine * sumReal;
+    }
+    
+    /**
+     * The Lanczos sum of a complex number as a rational function, evaluated in 1 / z.
+     * @param real the real part of the complex number, not smaller than one half.
+     * @param imaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the sum.
+     */
+    private static void lanczosSum(final double real, final double imaginary, final double[] result) {
+        final double norm = real * real + imaginary * imaginary;
+        final double inverseReal = Double.isInfinite(norm) ? 0. : real / norm;
+        final double inverseImaginary = Double.isInfinite(norm) ? 0. : -imaginary / norm;
+        double numeratorReal = 0.;
+        double numeratorImaginary = 0.;
+        double denominatorReal = 0.;
+        double denominatorImaginary = 0.;
+        for (int k = 0; k < LANCZOS_DENOMINATOR.length; k++) {
+            final double nr = numeratorReal * inverseReal - numeratorImaginary * inverseImaginary + LANCZOS_NUMERATOR[k];
+            numeratorImaginary = numeratorReal * inverseImaginary + numeratorImaginary * inverseReal;
+            numeratorReal = nr;
+            final double dr = denominatorReal * inverseReal - denominatorImaginary * inverseImaginary + LANCZOS_DENOMINATOR[k];
+            denominatorImaginary = denominatorReal * inverseImaginary + denominatorImaginary * inverseReal;
+            denominatorReal = dr;
+        }
+        divide(numeratorReal, numeratorImaginary, denominatorReal, denominatorImaginary, result);
+    }
+    
+    /**
+     * Divide two complex numbers by the method of Smith, which avoids the overflow of the squared modulus.
+     * @param dividendReal the real part of the dividend.
+     * @param dividendImaginary the imaginary part of the dividend.
+     * @param divisorReal the real part of the divisor.
+     * @param divisorImaginary the imaginary part of the divisor.
+     * @param result the array that receives the real and imaginary parts of the quotient.
+     */
+    static void divide(final double dividendReal, final double dividendImaginary, final double divisorReal,
+            final double divisorImaginary, final double[] result) {
+        if (Math.abs(divisorReal) >= Math.abs(divisorImaginary)) {
+            final double ratio = divisorImaginary / divisorReal;
+            final double denominator = divisorReal + divisorImaginary * ratio;
+            result[0] = (dividendReal + dividendImaginary * ratio) / denominator;
+            result[1] = (dividendImaginary - dividendReal * ratio) / denominator;
+        } else {
+            final double ratio = divisorReal / divisorImaginary;
+            final double denominator = divisorReal * ratio + divisorImaginary;
+            result[0] = (dividendReal * ratio + dividendImaginary) / denominator;
+            result[1] = (dividendImaginary * ratio - dividendReal) / denominator;
+        }
+    }
+    
+    /**
+     * The logarithm of the modulus of a complex number, without overflow of its square.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @return log |real + i imaginary|.
+     */
+    static double logAbsolute(final double real, final double imaginary) {
+        final double norm = real * real + imaginary * imaginary;
+        if (norm > Double.MIN_NORMAL && norm < Double.MAX_VALUE) {
+            return .5 * Math.log(norm);
+        } else {
+            return Math.log(Math.hypot(real, imaginary));
+        }
+    }
+    
+    /**
+     * The cosine of pi times a real number, reduced exactly to [-1, 1] before the multiplication by pi.
+     * @param x a real number.
+     * @return cos(pi x).
+     */
+    static double cosPi(final double x) {
+        return Math.cos(Math.PI * (x - 2. * Math.rint(.5 * x)));
     }
     
     private Gamma() {
@@ -0,0 +1,397 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import java.util.logging.Logger;
+
+/**
+ * The regularised incomplete gamma functions P(a, x) and Q(a, x) = 1 - P(a, x) and their inverses in x.
+ * Below x = a + 1 the series of P converges quickly, above it the continued fraction of Q;
+ * the other function is the complement, so that each tail is computed without cancellation.
+ * Their common prefactor x^a e^(-x) / gamma(a) shares the Lanczos approximation of {@link Gamma},
+ * which keeps it accurate when a and x are large and close.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public class IncompleteGamma extends Object {
+    /**
+     * The relative accuracy at which the series, the continued fraction and Newton's method stop.
+     */
+    private static final double EPSILON = 1E-15;
+    
+    /**
+     * The smallest number that stands for zero in the continued fraction.
+     */
+    private static final double TINY = 1E-300;
+    
+    /**
+     * The largest number of terms of the series and the continued fraction.
+     */
+    private static final int MAXIMUM_TERMS = 1 << 20;
+    
+    /**
+     * The largest number of steps of Newton's method.
+     */
+    private static final int MAXIMUM_STEPS = 128;
+    
+    private static final Logger LOG = Logger.getLogger(IncompleteGamma.class.getName());
+    
+    /**
+     * The method computes the lower regularised incomplete gamma function P(a, x).
+     * @param a a positive real number.
+     * @param x a non-negative real number.
+     * @return the result of the lower regularised incomplete gamma function with parameters a and x.
+     * @throws IllegalArgumentException if a is not positive or x is negative.
+     */
+    public static double lower(final double a, final double x) throws IllegalArgumentException {
+        checkParameters(a, x);
+        if (x == 0) {
+            return 0.;
+        } else if (x == Double.POSITIVE_INFINITY) {
+            return 1.;
+        } else if (x < a + 1) {
+            return series(a, x);
+        } else {
+            return 1 - continuedFraction(a, x);
+        }
+    }
+    
+    /**
+     * The method computes the upper regularised incomplete gamma function Q(a, x).
+     * @param a a positive real number.
+     * @param x a non-negative real number.
+     * @return the result of the upper regularised incomplete gamma function with parameters a and x.
+     * @throws IllegalArgumentException if a is not positive or x is negative.
+     */
+    public static double upper(final double a, final double x) throws IllegalArgumentException {
+        checkParameters(a, x);
+        if (x == 0) {
+            return 1.;
+        } else if (x == Double.POSITIVE_INFINITY) {
+            return 0.;
+        } else if (x < a + 1) {
+            return 1 - series(a, x);
+        } else {
+            return continuedFraction(a, x);
+        }
+    }
+    
+    /**
+     * The method computes the lower regularised incomplete gamma function of an array of real numbers.
+     * @param a a positive real number.
+     * @param x the array of non-negative real numbers.
+     * @param result the array that receives the results, which may be the array of the real numbers.
+     * @throws IllegalArgumentException if the arrays do not have the same length, a is not positive or a real number is negative.
+     */
+    public static void lower(final double a, final double[] x, final double[] result) throws IllegalArgumentException {
+        checkLengths(x.length, result.length);
+        for (int i = 0; i < x.length; i++) {
+            result[i] = lower(a, x[i]);
+        }
+    }
+    
+    /**
+     * The method computes the upper regularised incomplete gamma function of an array of real numbers.
+     * @param a a positive real number.
+     * @param x the array of non-negative real numbers.
+     * @param result the array that receives the results, which may be the array of the real numbers.
+     * @throws IllegalArgumentException if the arrays do not have the same length, a is not positive or a real number is negative.
+     */
+    public static void upper(final double a, final double[] x, final double[] result) throws IllegalArgumentException {
+        checkLengths(x.length, result.length);
+        for (int i = 0; i < x.length; i++) {
+            result[i] = upper(a, x[i]);
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the lower regularised incomplete gamma function in x,
+     * by the initial approximation of Wilson and Hilferty refined by Newton's method on the logarithm of the tail.
+     * @param a a positive real number.
+     * @param p a real number between 0 and 1.
+     * @return the non-negative real number x such that P(a, x) = p.
+     * @throws IllegalArgumentException if a is not positive or p is not between 0 and 1.
+     */
+    public static double inverseLower(final double a, final double p) throws IllegalArgumentException {
+        if (!(a > 0 && p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException();
+        } else {
+            return inverse(a, p, 1 - p);
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the upper regularised incomplete gamma function in x,
+     * which keeps the accuracy of small probabilities of the upper tail.
+     * @param a a positive real number.
+     * @param q a real number between 0 and 1.
+     * @return the non-negative real number x such that Q(a, x) = q.
+     * @throws IllegalArgumentException if a is not positive or q is not between 0 and 1.
+     */
+    public static double inverseUpper(final double a, final double q) throws IllegalArgumentException {
+        if (!(a > 0 && q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException();
+        } else {
+            return inverse(a, 1 - q, q);
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the lower regularised incomplete gamma function of an array of probabilities.
+     * @param a a positive real number.
+     * @param p the array of real numbers between 0 and 1.
+     * @param result the array that receives the results, which may be the array of the probabilities.
+     * @throws IllegalArgumentException if the arrays do not have the same length, a is not positive
+     * or a probability is not between 0 and 1.
+     */
+    public static void inverseLower(final double a, final double[] p, final double[] result) throws IllegalArgumentException {
+        checkLengths(p.length, result.length);
+        for (int i = 0; i < p.length; i++) {
+            result[i] = inverseLower(a, p[i]);
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the upper regularised incomplete gamma function of an array of probabilities.
+     * @param a a positive real number.
+     * @param q the array of real numbers between 0 and 1.
+     * @param result the array that receives the results, which may be the array of the probabilities.
+     * @throws IllegalArgumentException if the arrays do not have the same length, a is not positive
+     * or a probability is not between 0 and 1.
+     */
+    public static void inverseUpper(final double a, final double[] q, final double[] result) throws IllegalArgumentException {
+        checkLengths(q.length, result.length);
+        for (int i = 0; i < q.length; i++) {
+            result[i] = inverseUpper(a, q[i]);
+        }
+    }
+    
+    /**
+     * The prefactor x^a e^(-x) / gamma(a) of the incomplete gamma functions.
+     * Above one, the gamma function is expanded as its Lanczos approximation with t = a + g - 1/2,
+     * and the prefactor becomes exp(a (log(1 + d) - d) - (g - 1/2) d) sqrt(t) / (sqrt(2 pi) A(a)) with x = t (1 + d),
+     * whose exponent does not cancel when a and x are close.
+     * @param a a positive real number.
+     * @param x a positive real number.
+     * @return x^a e^(-x) / gamma(a).
+     */
+    static double prefactor(final double a, final double x) {
+        if (a < 1) {
+            return Math.exp(a * Math.log(x) - x - Gamma.logGamma(a));
+        } else {
+            final double shift = Gamma.LANCZOS_APPROXIMATION_G - .5;
+            final double t = a + shift;
+            final double d = (x - t) / t;
+            return Math.exp(a * log1pMinus(x, t, d) - shift * d) * Math.sqrt(t) / (Gamma.SQRT_TWO_PI * Gamma.lanczosSum(a));
+        }
+    }
+    
+    /**
+     * The function log(1 + d) - d with 1 + d = x / t, by its series for small d,
+     * and otherwise by the logarithm of the ratio, which is exact where 1 + d would round away the small x.
+     * @param x a positive real number.
+     * @param t a positive real number.
+     * @param d the real number (x - t) / t.
+     * @return log(1 + d) - d.
+     */
+    private static double log1pMinus(final double x, final double t, final double d) {
+        if (Math.abs(d) > .25) {
+            return Math.log(x / t) - d;
+        } else {
+            return log1pMinus(d);
+        }
+    }
+    
+    /**
+     * The function log(1 + d) - d by its series, which has no cancellation for small d.
+     * @param d a real number not larger than 1/4 in absolute value.
+     * @return log(1 + d) - d.
+     */
+    static double log1pMinus(final double d) {
+        double power = d * d;
+        double sum = -.5 * power;
+        for (int k = 3; k < 40; k++) {
+            power *= -d;
+            final double term = power / k;
+            sum -= term;
+            if (Math.abs(term) < EPSILON * Math.abs(sum)) {
+                break;
+            }
+        }
+        return sum;
+    }
+    
+    /**
+     * The series of the lower function, P(a, x) = prefactor sum x^n / (a (a + 1) ... (a + n)).
+     * @param a a positive real number.
+     * @param x a positive real number below a + 1.
+     * @return P(a, x).
+     */
+    private static double series(final double a, final double x) {
+        double denominator = a;
+        double term = 1 / a;
+        double sum = term;
+        for (int n = 1; n <= MAXIMUM_TERMS; n++) {
+            denominator++;
+            term *= x / denominator;
+            sum += term;
+            if (Math.abs(term) < EPSILON * Math.abs(sum)) {
+                return sum * prefactor(a, x);
+            }
+        }
+        LOG.warning("The series of the incomplete gamma function did not converge.");
+        return sum * prefactor(a, x);
+    }
+    
+    /**
+     * The continued fraction of the upper function, evaluated by the modified method of Lentz.
+     * @param a a positive real number.
+     * @param x a real number not smaller than a + 1.
+     * @return Q(a, x).
+     */
+    private static double continuedFraction(final double a, final double x) {
+        double b = x + 1 - a;
+        double c = 1 / TINY;
+        double d = 1 / b;
+        double fraction = d;
+        for (int n = 1; n <= MAXIMUM_TERMS; n++) {
+            final double coefficient = -n * (n - a);
+            b += 2;
+            d = coefficient * d + b;
+            if (Math.abs(d) < TINY) {
+                d = TINY;
+            }
+            c = b + coefficient / c;
+            if (Math.abs(c) < TINY) {
+                c = TINY;
+            }
+            d = 1 / d;
+            final double delta = d * c;
+            fraction *= delta;
+            if (Math.abs(delta - 1) < EPSILON) {
+                return fraction * prefactor(a, x);
+            }
+        }
+        LOG.warning("The continued fraction of the incomplete gamma function did not converge.");
+        return fraction * prefactor(a, x);
+    }
+    
+    /**
+     * The inverse of the incomplete gamma functions, on the tail of the smaller probability.
+     * Newton's method is applied to the logarithm of the tail as a function of log x, which is almost linear far in the tails,
+     * and falls back to bisection when its steps leave the bracket of the root or do not halve the error.
+     * @param a a positive real number.
+     * @param p the probability of the lower tail.
+     * @param q the probability of the upper tail, 1 - p.
+     * @return the non-negative real number x such that P(a, x) = p and Q(a, x) = q.
+     */
+    private static double inverse(final double a, final double p, final double q) {
+        if (p == 0) {
+            return 0.;
+        } else if (q == 0) {
+            return Double.POSITIVE_INFINITY;
+        } else {
+            final boolean lowerTail = p <= q;
+            double x;
+            if (a > 1) {
+                final double t = Math.sqrt(-2 * Math.log(lowerTail ? p : q));
+                double normal = (2.30753 + t * .27061) / (1 + t * (.99229 + t * .04481)) - t;
+                if (lowerTail) {
+                    normal = -normal;
+                }
+                final double cube = 1 - 1 / (9 * a) - normal / (3 * Math.sqrt(a));
+                x = Math.max(1E-3, a * cube * cube * cube);
+            } else {
+                final double t = 1 - a * (.253 + a * .12);
+                x = p < t ? Math.pow(p / t, 1 / a) : 1 - Math.log1p(-(p - t) / (1 - t));
+            }
+            if (!(x > 0 && x < Double.POSITIVE_INFINITY)) {
+                x = a;
+            }
+            final double logarithm = Math.log(lowerTail ? p : q);
+            double low = 0.;
+            double high = Double.POSITIVE_INFINITY;
+            double last = Double.POSITIVE_INFINITY;
+            for (int step = 0; step < MAXIMUM_STEPS; step++) {
+                final double value = lowerTail ? lower(a, x) : upper(a, x);
+                final double error = lowerTail ? Math.log(value) - logarithm : logarithm - Math.log(value);
+                if (error == 0) {
+                    break;
+                } else if (error > 0) {
+                    high = x;
+                } else {
+                    low = x;
+                }
+                final double previous = x;
+                if (Math.abs(error) <= .5 * last) {
+                    x *= Math.exp(-error * value / prefactor(a, x));
+                } else {
+                    x = Double.NaN;
+                }
+                last = Math.abs(error);
+                if (!(x >= low && x <= high)) {
+                    if (high == Double.POSITIVE_INFINITY) {
+                        x = 2 * low;
+                    } else if (low == 0) {
+                        x = high * high > 0 ? high * Math.min(high, .5) : Double.MIN_VALUE;
+                    } else if (high > 4 * low) {
+                        x = Math.sqrt(low * high);
+                    } else {
+                        x = .5 * (low + high);
+                    }
+                } else if (Math.abs(x - previous) <= EPSILON * previous) {
+                    break;
+                }
+            }
+            return x;
+        }
+    }
+    
+    /**
+     * Check the parameters of the incomplete gamma functions.
+     * @param a the first parameter.
+     * @param x the second parameter.
+     * @throws IllegalArgumentException if a is not positive or x is negative.
+     */
+    private static void checkParameters(final double a, final double x) throws IllegalArgumentException {
+        if (!(a > 0 && x >= 0)) {
+            throw new IllegalArgumentException();
+        }
+    }
+    
+    /**
+     * Check that two arrays have the same length.
+     * @param first the length of the first array.
+     * @param second the length of the second array.
+     * @throws IllegalArgumentException if the lengths differ.
+     */
+    private static void checkLengths(final int first, final int second) throws IllegalArgumentException {
+        if (first != second) {
+            throw new IllegalArgumentException();
+        }
+    }
+    
+    private IncompleteGamma() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import java.math.BigDecimal;
+import java.util.logging.Logger;
+
+/**
+ * The digamma function, the logarithmic derivative of the gamma function, its derivatives and their inverses.
+ * The functions are shifted by their recurrence above a threshold where their asymptotic series
+ * in the Bernoulli numbers converge to double precision; negative arguments are reflected.
+ * Near its positive root, the digamma function is the Taylor series of its derivatives at the root,
+ * so that it keeps its relative accuracy where the recurrence cancels.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public class Polygamma extends Object {
+    /**
+     * The Bernoulli numbers B_2, B_4, ..., B_20.
+     */
+    private static final double[] BERNOULLI = {
+        1. / 6, -1. / 30, 1. / 42, -1. / 30, 5. / 66, -691. / 2730, 7. / 6, -3617. / 510, 43867. / 798, -174611. / 330
+    };
+    
+    /**
+     * The arguments above which the digamma function is its asymptotic series.
+     */
+    private static final double ASYMPTOTIC = 10.;
+    
+    /**
+     * The positive root of the digamma function, split into its nearest double and the remainder.
+     */
+    private static final double ROOT = 1.4616321449683623;
+    private static final double ROOT_REMAINDER = new BigDecimal("1.46163214496836234126265954232572132846819620400644")
+            .subtract(new BigDecimal(ROOT)).doubleValue();
+    
+    /**
+     * The distance to the root within which the digamma function is its Taylor series.
+     */
+    private static final double ROOT_RADIUS = .25;
+    
+    /**
+     * The Taylor coefficients of the digamma function at its root, psi^(k)(root) / k!.
+     */
+    private static final double[] ROOT_SERIES = new double[24];
+    
+    /**
+     * The trigamma function at 1, zeta(2) = pi^2 / 6, the sum of the terms of its series beyond 1 / x^2 at 0.
+     */
+    private static final double ZETA_2 = Math.PI * Math.PI / 6;
+    
+    /**
+     * The arguments above which the inverse of the trigamma function is 1 / sqrt(y - zeta(2)),
+     * whose relative error zeta(3) x^3 is then below 10^-18.
+     */
+    private static final double TRIGAMMA_LARGE = 1E12;
+    
+    /**
+     * The arguments below which the inverse of the trigamma function is 1 / y + 1 / 2,
+     * whose relative error y^2 / 12 is then below 10^-17.
+     */
+    private static final double TRIGAMMA_SMALL = 1E-8;
+    
+    /**
+     * The relative accuracy at which Newton's method stops.
+     */
+    private static final double EPSILON = 1E-15;
+    
+    /**
+     * The largest number of steps of Newton's method.
+     */
+    private static final int MAXIMUM_STEPS = 64;
+    
+    private static final Logger LOG = Logger.getLogger(Polygamma.class.getName());
+    
+    static {
+        for (int k = 1; k < ROOT_SERIES.length; k++) {
+            ROOT_SERIES[k] = polygamma(k, ROOT) / Gamma.factorial(k);
+        }
+    }
+    
+    /**
+     * The method computes the digamma function, the derivative of the logarithm of the gamma function.
+     * @param x a real number.
+     * @return the result of the digamma function with parameter x, or NaN if x is a pole.
+     */
+    public static double digamma(final double x) {
+        if (x <= 0 && x == Math.rint(x)) {
+            return Double.NaN;
+        } else if (x < 0) {
+            return digamma(1 - x) - Math.PI * Gamma.cosPi(x) / Gamma.sinPi(x);
+        } else if (Math.abs(x - ROOT) < ROOT_RADIUS) {
+            final double d = (x - ROOT) - ROOT_REMAINDER;
+            double sum = 0.;
+            for (int k = ROOT_SERIES.length - 1; k > 0; k--) {
+                sum = (sum + ROOT_SERIES[k]) * d;
+            }
+            return sum;
+        } else {
+            double shift = 0.;
+            double y = x;
+            while (y < ASYMPTOTIC) {
+                shift -= 1 / y;
+                y++;
+            }
+            final double inverse = 1 / y;
+            final double square = inverse * inverse;
+            double series = 0.;
+            for (int k = BERNOULLI.length - 1; k >= 0; k--) {
+                series = (series + BERNOULLI[k] / (2 * k + 2)) * square;
+            }
+            return shift + Math.log(y) - .5 * inverse - series;
+        }
+    }
+    
+    /**
+     * The method computes the digamma function of an array of real numbers.
+     * @param x the array of real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void digamma(final double[] x, final double[] result) throws IllegalArgumentException {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            for (int i = 0; i < x.length; i++) {
+                result[i] = digamma(x[i]);
+            }
+        }
+    }
+    
+    /**
+     * The method computes the trigamma function, the derivative of the digamma function.
+     * @param x a real number.
+     * @return the result of the trigamma function with parameter x, or infinity if x is a pole.
+     */
+    public static double trigamma(final double x) {
+        if (x <= 0 && x == Math.rint(x)) {
+            return Double.POSITIVE_INFINITY;
+        } else if (x < 0) {
+            final double sine = Gamma.sinPi(x);
+            return Math.PI * Math.PI / (sine * sine) - trigamma(1 - x);
+        } else {
+            return polygamma(1, x);
+        }
+    }
+    
+    /**
+     * The method computes the trigamma function of an array of real numbers.
+     * @param x the array of real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void trigamma(final double[] x, final double[] result) throws IllegalArgumentException {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            for (int i = 0; i < x.length; i++) {
+                result[i] = trigamma(x[i]);
+            }
+        }
+    }
+    
+    /**
+     * The method computes the polygamma function, the nth derivative of the digamma function.
+     * The argument is shifted above n + 10 by the recurrence
+     * psi^(n)(x) = psi^(n)(x + 1) - (-1)^n n! / x^(n + 1), then the asymptotic series is summed.
+     * @param n a non-negative integer, the order of the derivative.
+     * @param x a positive real number, or any real number if n is 0 or 1.
+     * @return the result of the polygamma function of order n with parameter x.
+     * @throws IllegalArgumentException if n is negative, or if n is greater than one and x is not positive.
+     */
+    public static double polygamma(final int n, final double x) throws IllegalArgumentException {
+        if (n < 0) {
+            throw new IllegalArgumentException();
+        } else if (n == 0) {
+            return digamma(x);
+        } else if (n == 1 && x <= 0) {
+            return trigamma(x);
+        } else if (!(x > 0)) {
+            if (Double.isNaN(x)) {
+                return Double.NaN;
+            } else {
+                throw new IllegalArgumentException();
+            }
+        } else {
+            final double threshold = n + ASYMPTOTIC;
+            double shift = 0.;
+            double y = x;
+            while (y < threshold) {
+                shift += Math.pow(y, -(n + 1));
+                y++;
+            }
+            final double inverse = 1 / y;
+            final double square = inverse * inverse;
+            double ratio = 1.;
+            double series = 1. + .5 * n * inverse;
+            double power = 1.;
+            for (int k = 1; k <= BERNOULLI.length; k++) {
+                ratio *= (double) (2 * k + n - 2) * (2 * k + n - 1) / ((2 * k - 1) * (2 * k));
+                power *= square;
+                series += BERNOULLI[k - 1] * ratio * power;
+            }
+            final double value = Gamma.factorial(n) * shift + Gamma.factorial(n - 1) * Math.pow(y, -n) * series;
+            return n % 2 == 1 ? value : -value;
+        }
+    }
+    
+    /**
+     * The method computes the polygamma function of an array of real numbers.
+     * @param n a non-negative integer, the order of the derivative.
+     * @param x the array of real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length, if n is negative,
+     * or if n is greater than one and a real number is not positive.
+     */
+    public static void polygamma(final int n, final double[] x, final double[] result) throws IllegalArgumentException {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            for (int i = 0; i < x.length; i++) {
+                result[i] = polygamma(n, x[i]);
+            }
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the digamma function on the positive real numbers,
+     * by the initial approximation of Minka refined by Newton's method.
+     * @param y a real number.
+     * @return the positive real number x such that digamma(x) = y.
+     */
+    public static double inverseDigamma(final double y) {
+        if (Double.isNaN(y) || y == Double.POSITIVE_INFINITY) {
+            return y;
+        } else {
+            double x = y >= -2.22 ? Math.exp(y) + .5 : -1 / (y + Gamma.GAMMA);
+            for (int step = 0; step < MAXIMUM_STEPS; step++) {
+                final double correction = (digamma(x) - y) / trigamma(x);
+                final double next = x - correction;
+                x = next > 0 ? next : .5 * x;
+                if (Math.abs(correction) <= EPSILON * x) {
+                    break;
+                }
+            }
+            return x;
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the trigamma function on the positive real numbers,
+     * by Newton's method on the reciprocal of the trigamma function, which is almost linear.
+     * The reciprocal is convex and the method starts above the root, at the lesser of 1 / y + 1 / 2
+     * and 1 / sqrt(y - zeta(2)), so that it decreases to the root; beyond the range where Newton's method
+     * is needed, the inverse is the leading terms of the expansions of the trigamma function at 0 and at infinity.
+     * @param y a positive real number.
+     * @return the positive real number x such that trigamma(x) = y.
+     * @throws IllegalArgumentException if y is not positive.
+     */
+    public static double inverseTrigamma(final double y) throws IllegalArgumentException {
+        if (!(y > 0)) {
+            throw new IllegalArgumentException();
+        } else if (y > TRIGAMMA_LARGE) {
+            return 1 / Math.sqrt(y - ZETA_2);
+        } else if (y < TRIGAMMA_SMALL) {
+            return 1 / y + .5;
+        } else {
+            double x = y > ZETA_2 ? Math.min(.5 + 1 / y, 1 / Math.sqrt(y - ZETA_2)) : .5 + 1 / y;
+            for (int step = 0; step < MAXIMUM_STEPS; step++) {
+                final double trigamma = trigamma(x);
+                final double correction = trigamma * (1 - trigamma / y) / polygamma(2, x);
+                x += correction;
+                if (-correction <= EPSILON * x) {
+                    break;
+                }
+            }
+            return x;
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the digamma function of an array of real numbers.
+     * @param y the array of real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void inverseDigamma(final double[] y, final double[] result) throws IllegalArgumentException {
+        if (y.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            for (int i = 0; i < y.length; i++) {
+                result[i] = inverseDigamma(y[i]);
+            }
+        }
+    }
+    
+    /**
+     * The method computes the inverse of the trigamma function of an array of positive real numbers.
+     * @param y the array of positive real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length or a real number is not positive.
+     */
+    public static void inverseTrigamma(final double[] y, final double[] result) throws IllegalArgumentException {
+        if (y.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            for (int i = 0; i < y.length; i++) {
+                result[i] = inverseTrigamma(y[i]);
+            }
+        }
+    }
+    
+    private Polygamma() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,1044 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import org.miaplacidus.mathematics.metrics.Metrics;
+import org.miaplacidus.mathematics.metrics.Operation;
+import org.miaplacidus.mathematics.metrics.OperationEvent;
+import org.miaplacidus.mathematics.number.complex.Complex;
+import org.miaplacidus.mathematics.number.complex.ComplexArray;
+
+/**
+ * The Riemann zeta function, the Hurwitz zeta function and the polylogarithm, of real and complex arguments.
+ * The zeta functions are summed directly up to a cut-off proportional to the modulus of their argument,
+ * their remainder is the Euler–Maclaurin series, whose coefficients B_2j / (2j)! are computed once;
+ * the left half-plane is reflected by the functional equation.
+ * On vertical lines and grids, the points of a line share the powers k^-sigma of the direct sum,
+ * and the phases e^(-i t log k) advance from one point to the next by a rotation instead of a sine and a cosine.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public class Zeta extends Object {
+    /**
+     * The coefficients B_2j / (2j)! of the Euler–Maclaurin remainder, for j = 1, 2, ..., 32.
+     */
+    private static final double[] EULER_MACLAURIN = new double[32];
+    
+    /**
+     * The margin of the cut-off of the direct sum, in units of 1 / pi;
+     * near the real axis, the remainder of the Euler–Maclaurin series decreases like e^(-2 margin).
+     */
+    private static final double CUT_OFF_MARGIN = 24.;
+    
+    /**
+     * The relative size of the last term of a series.
+     */
+    private static final double EPSILON = 1E-17;
+    
+    /**
+     * The real parts above which the Riemann zeta function is summed directly.
+     */
+    private static final double DIRECT = 32.;
+    
+    /**
+     * The number of consecutive points of a vertical line that share the powers and rotations of the direct sum;
+     * the rounding errors of the rotations grow with it.
+     */
+    private static final int BLOCK = 64;
+    
+    /**
+     * The complex numbers whose imaginary part is larger than this limit in absolute value, or whose real part
+     * is smaller than its opposite, are reflected through logarithms, whose exponential does not overflow.
+     */
+    private static final double REFLECTION_LIMIT = 100.;
+    
+    /**
+     * The largest modulus of log z at which the polylogarithm is its expansion in powers of log z;
+     * its terms decrease at least by the ratio of this radius to 2 pi.
+     */
+    private static final double EXPANSION_RADIUS = 4.5;
+    
+    /**
+     * The largest number of terms of the power series of the polylogarithm.
+     */
+    private static final int MAXIMUM_TERMS = 1 << 12;
+    
+    private static final double TWO_PI = 2. * Math.PI;
+    private static final double LOG_TWO_PI = Math.log(TWO_PI);
+    private static final double LOG_TWO = Math.log(2.);
+    private static final Logger LOG = Logger.getLogger(Zeta.class.getName());
+    
+    static {
+        final MathContext context = new MathContext(120);
+        final int length = 2 * EULER_MACLAURIN.length + 2;
+        final BigDecimal[] inverseFactorials = new BigDecimal[length + 1];
+        inverseFactorials[0] = BigDecimal.ONE;
+        for (int m = 1; m <= length; m++) {
+            inverseFactorials[m] = inverseFactorials[m - 1].divide(BigDecimal.valueOf(m), context);
+        }
+        final BigDecimal[] bernoulli = new BigDecimal[length];
+        bernoulli[0] = BigDecimal.ONE;
+        for (int n = 1; n < length; n++) {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int k = 0; k < n; k++) {
+                sum = sum.add(bernoulli[k].multiply(inverseFactorials[n + 1 - k], context), context);
+            }
+            bernoulli[n] = sum.negate();
+        }
+        for (int j = 1; j <= EULER_MACLAURIN.length; j++) {
+            EULER_MACLAURIN[j - 1] = bernoulli[2 * j].doubleValue();
+        }
+    }
+    
+    /**
+     * The expansion of the polylogarithm of an order in powers of mu = log z,
+     * Li_s(e^mu) = gamma(1 - s) (-mu)^(s - 1) + sum zeta(s - k) mu^k / k!, which converges for |mu| &lt; 2 pi.
+     * At a positive integer order n, the term k = n - 1 of the sum and the first term are replaced by their limit
+     * mu^(n - 1) / (n - 1)! (H_(n - 1) - log(-mu)), where H is the harmonic number.
+     * Its coefficients only depend on the order, they are computed once for every argument of a batch,
+     * as many as the largest |mu| requires.
+     */
+    private static final class Expansion {
+        private final double real;
+        private final double imaginary;
+        private final int order;
+        private final double factorReal;
+        private final double factorImaginary;
+        private double[] coefficientReal = new double[0];
+        private double[] coefficientImaginary = new double[0];
+        private double inverseFactorial = 1.;
+        
+        /**
+         * Prepare the expansion of an order.
+         * @param real the real part of the order.
+         * @param imaginary the imaginary part of the order.
+         */
+        Expansion(final double real, final double imaginary) {
+            this.real = real;
+            this.imaginary = imaginary;
+            this.order = imaginary == 0. && real == Math.rint(real) && real >= 1 ? (int) real : 0;
+            if (this.order > 0) {
+                this.factorReal = 1. / Gamma.factorial(this.order - 1);
+                this.factorImaginary = 0.;
+            } else {
+                final double[] value = new double[2];
+                Gamma.gamma(1 - real, -imaginary, value);
+                this.factorReal = value[0];
+                this.factorImaginary = value[1];
+            }
+        }
+        
+        /**
+         * Compute the coefficients of the expansion up to a number of terms.
+         * @param terms the number of terms.
+         */
+        private void extend(final int terms) {
+            final int from = this.coefficientReal.length;
+            if (terms > from) {
+                this.coefficientReal = Arrays.copyOf(this.coefficientReal, terms);
+                this.coefficientImaginary = Arrays.copyOf(this.coefficientImaginary, terms);
+                final double[] value = new double[2];
+                for (int k = from; k < terms; k++) {
+                    if (k > 0) {
+                        this.inverseFactorial /= k;
+                    }
+                    if (this.order > 0 && k == this.order - 1) {
+                        double harmonic = 0.;
+                        for (int m = 1; m < this.order; m++) {
+                            harmonic += 1. / m;
+                        }
+                        this.coefficientReal[k] = harmonic * this.inverseFactorial;
+                    } else {
+                        zeta(this.real - k, this.imaginary, value);
+                        this.coefficientReal[k] = value[0] * this.inverseFactorial;
+                        this.coefficientImaginary[k] = value[1] * this.inverseFactorial;
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Evaluate the expansion.
+         * @param muReal the real part of log z.
+         * @param muImaginary the imaginary part of log z, of modulus not larger than the radius of the expansion.
+         * @param result the array that receives the real and imaginary parts of the polylogarithm.
+         */
+        void evaluate(final double muReal, final double muImaginary, final double[] result) {
+            final double logModulus = Gamma.logAbsolute(muReal, muImaginary);
+            final double ratio = Math.max(logModulus - LOG_TWO_PI, Math.log(EPSILON));
+            final int terms = (int) Math.min(Gamma.FACTORIAL_LIMIT + 1,
+                    Math.ceil(Math.log(EPSILON) / ratio) + Math.max(0., Math.ceil(this.real)) + 1);
+            extend(terms);
+            double sumReal = 0.;
+            double sumImaginary = 0.;
+            for (int k = terms - 1; k >= 0; k--) {
+                final double r = sumReal * muReal - sumImaginary * muImaginary + this.coefficientReal[k];
+                sumImaginary = sumReal * muImaginary + sumImaginary * muReal + this.coefficientImaginary[k];
+                sumReal = r;
+            }
+            final double argument = Math.atan2(-muImaginary, -muReal);
+            double powerReal;
+            double powerImaginary;
+            if (this.order > 0) {
+                powerReal = 1.;
+                powerImaginary = 0.;
+                for (int k = 1; k < this.order; k++) {
+                    final double r = powerReal * muReal - powerImaginary * muImaginary;
+                    powerImaginary = powerReal * muImaginary + powerImaginary * muReal;
+                    powerReal = r;
+                }
+                final double r = -(powerReal * logModulus - powerImaginary * argument);
+                powerImaginary = -(powerReal * argument + powerImaginary * logModulus);
+                powerReal = r;
+            } else {
+                final double modulus = Math.exp((this.real - 1) * logModulus - this.imaginary * argument);
+                final double phase = (this.real - 1) * argument + this.imaginary * logModulus;
+                powerReal = modulus * Math.cos(phase);
+                powerImaginary = modulus * Math.sin(phase);
+            }
+            result[0] = sumReal + this.factorReal * powerReal - this.factorImaginary * powerImaginary;
+            result[1] = sumImaginary + this.factorReal * powerImaginary + this.factorImaginary * powerReal;
+        }
+    }
+    
+    /**
+     * The method computes the Riemann zeta function of a real number.
+     * @param s a real number.
+     * @return the result of the zeta function with parameter s, or NaN if s is the pole 1.
+     */
+    public static double zeta(final double s) {
+        if (s == 1. || s == Double.NEGATIVE_INFINITY) {
+            return Double.NaN;
+        } else if (s >= DIRECT) {
+            return direct(s, 1.);
+        } else if (s >= 0.) {
+            return hurwitz(s, 1.);
+        } else if (s == 2. * Math.rint(.5 * s)) {
+            return 0.;
+        } else if (1 - s <= Gamma.FACTORIAL_LIMIT) {
+            return 2. * Math.pow(TWO_PI, s - 1) * Gamma.sinPi(.5 * s) * Gamma.gamma(1 - s) * zeta(1 - s);
+        } else {
+            return 2. * Gamma.sinPi(.5 * s) * zeta(1 - s) * Math.exp((s - 1) * LOG_TWO_PI + Gamma.logGamma(1 - s));
+        }
+    }
+    
+    /**
+     * The method computes the Riemann zeta function of an array of real numbers.
+     * @param s the array of real numbers.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void zeta(final double[] s, final double[] result) throws IllegalArgumentException {
+        if (s.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final OperationEvent event = Metrics.begin(Operation.ZETA_BATCH, s.length);
+            for (int i = 0; i < s.length; i++) {
+                result[i] = zeta(s[i]);
+            }
+            Metrics.end(event);
+        }
+    }
+    
+    /**
+     * The method computes the Riemann zeta function of a complex number.
+     * @param s a complex number.
+     * @return the result of the zeta function with parameter s.
+     */
+    public static Complex zeta(final Complex s) {
+        final double[] result = new double[2];
+        zeta(s.real(), s.imaginary(), result);
+        return new Complex(result[0], result[1]);
+    }
+    
+    /**
+     * The method computes the Riemann zeta function of a complex number in primitive arithmetic.
+     * The real numbers are delegated to the real function, the left half-plane is reflected by the functional equation
+     * zeta(s) = 2^s pi^(s - 1) sin(pi s / 2) gamma(1 - s) zeta(1 - s).
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the result at indices 0 and 1.
+     */
+    public static void zeta(final double real, final double imaginary, final double[] result) {
+        if (imaginary == 0.) {
+            result[0] = zeta(real);
+            result[1] = 0.;
+        } else if (real >= DIRECT) {
+            double sumReal = 1.;
+            double sumImaginary = 0.;
+            for (int k = 2; ; k++) {
+                final double logarithm = Math.log(k);
+                final double modulus = Math.exp(-real * logarithm);
+                sumReal += modulus * Math.cos(imaginary * logarithm);
+                sumImaginary -= modulus * Math.sin(imaginary * logarithm);
+                if (modulus <= EPSILON) {
+                    break;
+                }
+            }
+            result[0] = sumReal;
+            result[1] = sumImaginary;
+        } else if (real >= 0.) {
+            hurwitz(real, imaginary, 1., 0., result);
+        } else {
+            zeta(1 - real, -imaginary, result);
+            reflect(real, imaginary, result);
+        }
+    }
+    
+    /**
+     * The method computes the Riemann zeta function of arrays of complex numbers in primitive arithmetic.
+     * @param real the real parts of the complex numbers.
+     * @param imaginary the imaginary parts of the complex numbers.
+     * @param resultReal the array that receives the real parts of the results, which may be the array of the real parts.
+     * @param resultImaginary the array that receives the imaginary parts of the results, which may be the array of the imaginary parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void zeta(final double[] real, final double[] imaginary, final double[] resultReal,
+            final double[] resultImaginary) throws IllegalArgumentException {
+        if (imaginary.length != real.length || resultReal.length != real.length || resultImaginary.length != real.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final OperationEvent event = Metrics.begin(Operation.ZETA_BATCH, real.length);
+            final double[] value = new double[2];
+            for (int i = 0; i < real.length; i++) {
+                zeta(real[i], imaginary[i], value);
+                resultReal[i] = value[0];
+                resultImaginary[i] = value[1];
+            }
+            Metrics.end(event);
+        }
+    }
+    
+    /**
+     * The method computes the Riemann zeta function of an array of complex numbers.
+     * @param s the array of complex numbers.
+     * @return an array of the results of the zeta function.
+     */
+    public static ComplexArray zeta(final ComplexArray s) {
+        final ComplexArray result = new ComplexArray(s.length());
+        zeta(s.real(), s.imaginary(), result.real(), result.imaginary());
+        return result;
+    }
+    
+    /**
+     * The method computes the Riemann zeta function on a vertical line of the complex plane, in parallel over blocks of points.
+     * The point of index j is real + i (imaginaryFrom + j imaginaryStep).
+     * The powers k^-real of the direct sum are computed once for a block of points,
+     * and their phases are rotated from one point to the next.
+     * @param real the real part of the line.
+     * @param imaginaryFrom the imaginary part of the first point.
+     * @param imaginaryStep the step of the imaginary parts between points.
+     * @param count the number of points.
+     * @param resultReal the array that receives the real parts of the results.
+     * @param resultImaginary the array that receives the imaginary parts of the results.
+     * @throws IllegalArgumentException if the count is negative or an array does not have count elements.
+     */
+    public static void zeta(final double real, final double imaginaryFrom, final double imaginaryStep, final int count,
+            final double[] resultReal, final double[] resultImaginary) throws IllegalArgumentException {
+        if (count < 0 || resultReal.length != count || resultImaginary.length != count) {
+            throw new IllegalArgumentException();
+        } else {
+            IntStream.range(0, (count + BLOCK - 1) / BLOCK).parallel().forEach(block -> line(real, imaginaryFrom, imaginaryStep,
+                    block * BLOCK, Math.min(count, block * BLOCK + BLOCK), resultReal, resultImaginary, 0, 1));
+        }
+    }
+    
+    /**
+     * The method computes the Riemann zeta function on a rectangular grid of the complex plane,
+     * in parallel over blocks of points of its columns, which are vertical lines.
+     * The point of a row r and a column c is realFrom + c realStep + i (imaginaryFrom + r imaginaryStep),
+     * its result is stored at the index r columns + c.
+     * @param realFrom the real part of the first column.
+     * @param realStep the step of the real parts between columns.
+     * @param columns the number of columns.
+     * @param imaginaryFrom the imaginary part of the first row.
+     * @param imaginaryStep the step of the imaginary parts between rows.
+     * @param rows the number of rows.
+     * @param resultReal the array that receives the real parts of the results.
+     * @param resultImaginary the array that receives the imaginary parts of the results.
+     * @throws IllegalArgumentException if a dimension is negative or an array does not have rows columns elements.
+     * @see #zeta(double, double, double, int, double[], double[])
+     */
+    public static void zeta(final double realFrom, final double realStep, final int columns, final double imaginaryFrom,
+            final double imaginaryStep, final int rows, final double[] resultReal, final double[] resultImaginary)
+            throws IllegalArgumentException {
+        if (columns < 0 || rows < 0 || resultReal.length != (long) rows * columns || resultImaginary.length != resultReal.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final int blocks = (rows + BLOCK - 1) / BLOCK;
+            IntStream.range(0, blocks * columns).parallel().forEach(task -> {
+                final int column = task % columns;
+                final int block = task / columns;
+                line(realFrom + column * realStep, imaginaryFrom, imaginaryStep, block * BLOCK, Math.min(rows, block * BLOCK + BLOCK),
+                        resultReal, resultImaginary, column, columns);
+            });
+        }
+    }
+    
+    /**
+     * The method computes the Hurwitz zeta function zeta(s, a) = sum (k + a)^-s of real numbers.
+     * @param s a real number.
+     * @param a a positive real number.
+     * @return the result of the Hurwitz zeta function with parameters s and a, or NaN if s is the pole 1.
+     * @throws IllegalArgumentException if a is not a positive finite real number.
+     */
+    public static double hurwitzZeta(final double s, final double a) throws IllegalArgumentException {
+        checkParameter(a);
+        if (s == 1. || s == Double.NEGATIVE_INFINITY) {
+            return Double.NaN;
+        } else if (s >= DIRECT && a <= 1) {
+            return direct(s, a);
+        } else {
+            return hurwitz(s, a);
+        }
+    }
+    
+    /**
+     * The method computes the Hurwitz zeta function of an array of real numbers.
+     * @param s the array of real numbers.
+     * @param a a positive real number.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length or a is not a positive finite real number.
+     */
+    public static void hurwitzZeta(final double[] s, final double a, final double[] result) throws IllegalArgumentException {
+        checkParameter(a);
+        if (s.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            for (int i = 0; i < s.length; i++) {
+                result[i] = hurwitzZeta(s[i], a);
+            }
+        }
+    }
+    
+    /**
+     * The method computes the Hurwitz zeta function of a complex number.
+     * In the left half-plane the Euler–Maclaurin series cancels, and its accuracy decreases with the real part of s.
+     * @param s a complex number.
+     * @param a a positive real number.
+     * @return the result of the Hurwitz zeta function with parameters s and a.
+     * @throws IllegalArgumentException if a is not a positive finite real number.
+     */
+    public static Complex hurwitzZeta(final Complex s, final double a) throws IllegalArgumentException {
+        final double[] result = new double[2];
+        hurwitzZeta(s.real(), s.imaginary(), a, result);
+        return new Complex(result[0], result[1]);
+    }
+    
+    /**
+     * The method computes the Hurwitz zeta function of a complex number in primitive arithmetic.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @param a a positive real number.
+     * @param result the array that receives the real and imaginary parts of the result at indices 0 and 1.
+     * @throws IllegalArgumentException if a is not a positive finite real number.
+     * @see #hurwitzZeta(Complex, double)
+     */
+    public static void hurwitzZeta(final double real, final double imaginary, final double a, final double[] result)
+            throws IllegalArgumentException {
+        if (imaginary == 0.) {
+            result[0] = hurwitzZeta(real, a);
+            result[1] = 0.;
+        } else {
+            checkParameter(a);
+            hurwitz(real, imaginary, a, 0., result);
+        }
+    }
+    
+    /**
+     * The method computes the polylogarithm Li_s(x) = sum x^k / k^s of a real order and a real number.
+     * @param s a real number, the order.
+     * @param x a real number not greater than one.
+     * @return the result of the polylogarithm of order s with parameter x, or NaN if x is 1 and s is not greater than 1.
+     * @throws IllegalArgumentException if x is greater than one, where the polylogarithm is not real.
+     * @see #polylogarithm(Complex, Complex)
+     */
+    public static double polylogarithm(final double s, final double x) throws IllegalArgumentException {
+        if (x > 1) {
+            throw new IllegalArgumentException();
+        } else {
+            final double[] result = new double[2];
+            polylogarithm(s, 0., x, 0., result);
+            return result[0];
+        }
+    }
+    
+    /**
+     * The method computes the polylogarithm of a real order and an array of real numbers.
+     * The expansion near the unit circle is computed once for the array.
+     * @param s a real number, the order.
+     * @param x the array of real numbers not greater than one.
+     * @param result the array that receives the results, which may be the same array.
+     * @throws IllegalArgumentException if the arrays do not have the same length or a real number is greater than one.
+     */
+    public static void polylogarithm(final double s, final double[] x, final double[] result) throws IllegalArgumentException {
+        if (x.length != result.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final double[] value = new double[2];
+            Expansion expansion = null;
+            for (int i = 0; i < x.length; i++) {
+                if (x[i] > 1) {
+                    throw new IllegalArgumentException();
+                } else {
+                    expansion = polylogarithm(s, 0., x[i], 0., expansion, value);
+                    result[i] = value[0];
+                }
+            }
+        }
+    }
+    
+    /**
+     * The method computes the polylogarithm Li_s(z) of a complex order and a complex number.
+     * It is the power series for |z| &lt;= 1 / 2 and the expansion in powers of log z for 1 / 2 &lt; |z| &lt; 2.
+     * Beyond, it is the inversion formula of the Bernoulli polynomials at integer orders; at the other orders,
+     * it is Jonquière's formula if the real part of the order is at most 1, otherwise the expansion in powers of log z
+     * while |log z| &lt;= 4.5, reached by the duplication formula from farther numbers.
+     * On the branch cut (1, infinity) the result is the limit from the side of the sign of the imaginary part of z,
+     * which may be a signed zero. The accuracy decreases as the real part of the order decreases below zero,
+     * and, beyond |log z| = 4.5, as it increases above about 10, where the terms of the duplication formula cancel.
+     * @param s a complex number, the order.
+     * @param z a complex number.
+     * @return the result of the polylogarithm of order s with parameter z.
+     */
+    public static Complex polylogarithm(final Complex s, final Complex z) {
+        final double[] result = new double[2];
+        polylogarithm(s.real(), s.imaginary(), z.real(), z.imaginary(), result);
+        return new Complex(result[0], result[1]);
+    }
+    
+    /**
+     * The method computes the polylogarithm of a complex order and a complex number in primitive arithmetic.
+     * @param real the real part of the order.
+     * @param imaginary the imaginary part of the order.
+     * @param zReal the real part of the complex number.
+     * @param zImaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the result at indices 0 and 1.
+     * @see #polylogarithm(Complex, Complex)
+     */
+    public static void polylogarithm(final double real, final double imaginary, final double zReal, final double zImaginary,
+            final double[] result) {
+        polylogarithm(real, imaginary, zReal, zImaginary, null, result);
+    }
+    
+    /**
+     * The method computes the polylogarithm of a complex order and arrays of complex numbers in primitive arithmetic.
+     * The expansion near the unit circle is computed once for the arrays.
+     * @param real the real part of the order.
+     * @param imaginary the imaginary part of the order.
+     * @param zReal the real parts of the complex numbers.
+     * @param zImaginary the imaginary parts of the complex numbers.
+     * @param resultReal the array that receives the real parts of the results, which may be the array of the real parts.
+     * @param resultImaginary the array that receives the imaginary parts of the results, which may be the array of the imaginary parts.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see #polylogarithm(Complex, Complex)
+     */
+    public static void polylogarithm(final double real, final double imaginary, final double[] zReal, final double[] zImaginary,
+            final double[] resultReal, final double[] resultImaginary) throws IllegalArgumentException {
+        if (zImaginary.length != zReal.length || resultReal.length != zReal.length || resultImaginary.length != zReal.length) {
+            throw new IllegalArgumentException();
+        } else {
+            final double[] value = new double[2];
+            Expansion expansion = null;
+            for (int i = 0; i < zReal.length; i++) {
+                expansion = polylogarithm(real, imaginary, zReal[i], zImaginary[i], expansion, value);
+                resultReal[i] = value[0];
+                resultImaginary[i] = value[1];
+            }
+        }
+    }
+    
+    /**
+     * The method computes the polylogarithm of a complex order and an array of complex numbers.
+     * @param s a complex number, the order.
+     * @param z the array of complex numbers.
+     * @return an array of the results of the polylogarithm.
+     * @see #polylogarithm(Complex, Complex)
+     */
+    public static ComplexArray polylogarithm(final Complex s, final ComplexArray z) {
+        final ComplexArray result = new ComplexArray(z.length());
+        polylogarithm(s.real(), s.imaginary(), z.real(), z.imaginary(), result.real(), result.imaginary());
+        return result;
+    }
+    
+    /**
+     * Compute the polylogarithm, with the expansion of its order if it has already been computed.
+     * @param real the real part of the order.
+     * @param imaginary the imaginary part of the order.
+     * @param zReal the real part of the complex number.
+     * @param zImaginary the imaginary part of the complex number.
+     * @param expansion the expansion of the order, or null.
+     * @param result the array that receives the real and imaginary parts of the result.
+     * @return the expansion of the order if it has been computed, or the given expansion.
+     */
+    private static Expansion polylogarithm(final double real, final double imaginary, final double zReal, final double zImaginary,
+            final Expansion expansion, final double[] result) {
+        final double modulus = Math.hypot(zReal, zImaginary);
+        final boolean integer = imaginary == 0. && real == Math.rint(real);
+        if (zReal == 1. && zImaginary == 0.) {
+            if (real > 1) {
+                zeta(real, imaginary, result);
+            } else {
+                result[0] = Double.NaN;
+                result[1] = Double.NaN;
+            }
+            return expansion;
+        } else if (modulus <= .5) {
+            series(real, imaginary, zReal, zImaginary, result);
+            return expansion;
+        } else if (integer && modulus >= 2.) {
+            invert((int) real, zReal, zImaginary, result);
+            return expansion;
+        } else if (modulus < 2. || real > 1 && Math.hypot(Math.log(modulus), Math.atan2(zImaginary, zReal)) <= EXPANSION_RADIUS) {
+            final Expansion coefficients = expansion == null ? new Expansion(real, imaginary) : expansion;
+            coefficients.evaluate(Math.log(modulus), Math.atan2(zImaginary, zReal), result);
+            return coefficients;
+        } else if (real <= 1) {
+            jonquiere(real, imaginary, zReal, zImaginary, result);
+            return expansion;
+        } else {
+            return duplicate(real, imaginary, zReal, zImaginary, expansion, result);
+        }
+    }
+    
+    /**
+     * The duplication formula Li_s(z) = 2^(s - 1) (Li_s(w) + Li_s(-w)) with w^2 = z, which halves log z
+     * until the polylogarithm is its expansion; far from the unit circle, its two terms do not cancel.
+     * @param real the real part of the order.
+     * @param imaginary the imaginary part of the order.
+     * @param zReal the real part of the complex number.
+     * @param zImaginary the imaginary part of the complex number.
+     * @param expansion the expansion of the order, or null.
+     * @param result the array that receives the real and imaginary parts of the polylogarithm.
+     * @return the expansion of the order.
+     */
+    private static Expansion duplicate(final double real, final double imaginary, final double zReal, final double zImaginary,
+            final Expansion expansion, final double[] result) {
+        final double modulus = Math.hypot(zReal, zImaginary);
+        double wReal;
+        double wImaginary;
+        if (zReal >= 0) {
+            wReal = Math.sqrt(.5 * (modulus + zReal));
+            wImaginary = zImaginary / (2. * wReal);
+        } else {
+            wImaginary = Math.copySign(Math.sqrt(.5 * (modulus - zReal)), zImaginary);
+            wReal = zImaginary / (2. * wImaginary);
+        }
+        Expansion coefficients = polylogarithm(real, imaginary, wReal, wImaginary, expansion, result);
+        final double sumReal = result[0];
+        final double sumImaginary = result[1];
+        coefficients = polylogarithm(real, imaginary, -wReal, -wImaginary, coefficients, result);
+        final double factor = Math.exp((real - 1) * LOG_TWO);
+        final double cosine = factor * Math.cos(imaginary * LOG_TWO);
+        final double sine = factor * Math.sin(imaginary * LOG_TWO);
+        final double totalReal = sumReal + result[0];
+        final double totalImaginary = sumImaginary + result[1];
+        result[0] = cosine * totalReal - sine * totalImaginary;
+        result[1] = cosine * totalImaginary + sine * totalReal;
+        return coefficients;
+    }
+    
+    /**
+     * The power series of the polylogarithm, summed beyond the peak of its terms.
+     * @param real the real part of the order.
+     * @param imaginary the imaginary part of the order.
+     * @param zReal the real part of the complex number, of modulus smaller than one.
+     * @param zImaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the sum.
+     */
+    private static void series(final double real, final double imaginary, final double zReal, final double zImaginary,
+            final double[] result) {
+        final double peak = Math.max(0., -real) / -Math.log(Math.hypot(zReal, zImaginary));
+        double powerReal = zReal;
+        double powerImaginary = zImaginary;
+        double sumReal = 0.;
+        double sumImaginary = 0.;
+        for (int k = 1; k < MAXIMUM_TERMS; k++) {
+            final double logarithm = Math.log(k);
+            final double modulus = Math.exp(-real * logarithm);
+            final double cosine = modulus * Math.cos(imaginary * logarithm);
+            final double sine = -modulus * Math.sin(imaginary * logarithm);
+            final double termReal = powerReal * cosine - powerImaginary * sine;
+            final double termImaginary = powerReal * sine + powerImaginary * cosine;
+            sumReal += termReal;
+            sumImaginary += termImaginary;
+            if (k > peak && Math.abs(termReal) + Math.abs(termImaginary) <= EPSILON * (Math.abs(sumReal) + Math.abs(sumImaginary))) {
+                break;
+            }
+            final double r = powerReal * zReal - powerImaginary * zImaginary;
+            powerImaginary = powerReal * zImaginary + powerImaginary * zReal;
+            powerReal = r;
+        }
+        result[0] = sumReal;
+        result[1] = sumImaginary;
+    }
+    
+    /**
+     * The inversion formula of the polylogarithm of an integer order n, for |z| &gt;= 2:
+     * Li_n(z) = (-1)^(n - 1) Li_n(1 / z) - (2 pi i)^n / n! B_n(1 / 2 + log(-z) / 2 pi i), whose last term is
+     * u^n / n! - i pi u^(n - 1) / (n - 1)! - 2 sum zeta(2j) u^(n - 2j) / (n - 2j)! with u = log(-z) + i pi,
+     * and vanishes at the negative orders.
+     * @param n the order.
+     * @param zReal the real part of the complex number.
+     * @param zImaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the polylogarithm.
+     */
+    private static void invert(final int n, final double zReal, final double zImaginary, final double[] result) {
+        final double[] inverse = new double[2];
+        Gamma.divide(1., 0., zReal, zImaginary, inverse);
+        series(n, 0., inverse[0], inverse[1], result);
+        if (n % 2 == 0) {
+            result[0] = -result[0];
+            result[1] = -result[1];
+        }
+        if (n >= 0) {
+            final double uReal = Gamma.logAbsolute(zReal, zImaginary);
+            final double uImaginary = Math.atan2(-zImaginary, -zReal) + Math.PI;
+            double sumReal = 0.;
+            double sumImaginary = 0.;
+            double powerReal = 1.;
+            double powerImaginary = 0.;
+            for (int m = 0; m <= n; m++) {
+                if (m > 0) {
+                    final double r = (powerReal * uReal - powerImaginary * uImaginary) / m;
+                    powerImaginary = (powerReal * uImaginary + powerImaginary * uReal) / m;
+                    powerReal = r;
+                }
+                final int k = n - m;
+                if (k == 0) {
+                    sumReal += powerReal;
+                    sumImaginary += powerImaginary;
+                } else if (k == 1) {
+                    sumReal += Math.PI * powerImaginary;
+                    sumImaginary -= Math.PI * powerReal;
+                } else if (k % 2 == 0) {
+                    final double coefficient = 2. * zeta(k);
+                    sumReal -= coefficient * powerReal;
+                    sumImaginary -= coefficient * powerImaginary;
+                }
+            }
+            result[0] -= sumReal;
+            result[1] -= sumImaginary;
+        }
+    }
+    
+    /**
+     * Jonquière's formula of the polylogarithm of an order s that is not an integer, for |z| &gt;= 2:
+     * Li_s(z) = gamma(1 - s) (2 pi)^(s - 1) (i^(1 - s) zeta(1 - s, a) + i^(s - 1) zeta(1 - s, 1 - a))
+     * with a = 1 / 2 + log(-z) / 2 pi i.
+     * @param real the real part of the order.
+     * @param imaginary the imaginary part of the order.
+     * @param zReal the real part of the complex number.
+     * @param zImaginary the imaginary part of the complex number.
+     * @param result the array that receives the real and imaginary parts of the polylogarithm.
+     */
+    private static void jonquiere(final double real, final double imaginary, final double zReal, final double zImaginary,
+            final double[] result) {
+        final double aReal = .5 + Math.atan2(-zImaginary, -zReal) / TWO_PI;
+        final double aImaginary = -Gamma.logAbsolute(zReal, zImaginary) / TWO_PI;
+        hurwitz(1 - real, -imaginary, aReal, aImaginary, result);
+        final double firstReal = result[0];
+        final double firstImaginary = result[1];
+        hurwitz(1 - real, -imaginary, 1 - aReal, -aImaginary, result);
+        final double secondReal = result[0];
+        final double secondImaginary = result[1];
+        final double cosine = Gamma.cosPi(.5 * (1 - real));
+        final double sine = Gamma.sinPi(.5 * (1 - real));
+        final double growth = Math.exp(.5 * Math.PI * imaginary);
+        final double decay = Math.exp(-.5 * Math.PI * imaginary);
+        final double sumReal = growth * (cosine * firstReal - sine * firstImaginary) + decay * (cosine * secondReal + sine * secondImaginary);
+        final double sumImaginary = growth * (cosine * firstImaginary + sine * firstReal) + decay * (cosine * secondImaginary - sine * secondReal);
+        Gamma.gamma(1 - real, -imaginary, result);
+        final double modulus = Math.exp((real - 1) * LOG_TWO_PI);
+        final double factorReal = modulus * (result[0] * Math.cos(imaginary * LOG_TWO_PI) - result[1] * Math.sin(imaginary * LOG_TWO_PI));
+        final double factorImaginary = modulus * (result[0] * Math.sin(imaginary * LOG_TWO_PI) + result[1] * Math.cos(imaginary * LOG_TWO_PI));
+        result[0] = factorReal * sumReal - factorImaginary * sumImaginary;
+        result[1] = factorReal * sumImaginary + factorImaginary * sumReal;
+    }
+    
+    /**
+     * The Riemann zeta function on a block of points of a vertical line, whose direct sum shares its powers and rotations.
+     * The left half-plane is the reflection of the line 1 - real.
+     * @param real the real part of the line.
+     * @param imaginaryFrom the imaginary part of the point of index 0.
+     * @param imaginaryStep the step of the imaginary parts between points.
+     * @param from the index of the first point of the block.
+     * @param to the index after the last point of the block.
+     * @param resultReal the array that receives the real parts of the results.
+     * @param resultImaginary the array that receives the imaginary parts of the results.
+     * @param offset the index of the result of the point of index 0.
+     * @param stride the distance between the indices of the results of consecutive points.
+     */
+    private static void line(final double real, final double imaginaryFrom, final double imaginaryStep, final int from, final int to,
+            final double[] resultReal, final double[] resultImaginary, final int offset, final int stride) {
+        final boolean reflected = real < 0.;
+        final double sigma = reflected ? 1 - real : real;
+        final double first = imaginaryFrom + from * imaginaryStep;
+        final double last = imaginaryFrom + (to - 1) * imaginaryStep;
+        final double modulus = Math.hypot(sigma, Math.max(Math.abs(first), Math.abs(last)));
+        final int n = (int) Math.max(0., Math.ceil(cutOff(modulus) - 1));
+        final double[] weight = new double[n];
+        final double[] cosine = new double[n];
+        final double[] sine = new double[n];
+        final double[] rotationCosine = new double[n];
+        final double[] rotationSine = new double[n];
+        for (int k = 0; k < n; k++) {
+            final double logarithm = Math.log(k + 1);
+            weight[k] = Math.exp(-sigma * logarithm);
+            cosine[k] = Math.cos(first * logarithm);
+            sine[k] = Math.sin(first * logarithm);
+            rotationCosine[k] = Math.cos(imaginaryStep * logarithm);
+            rotationSine[k] = Math.sin(imaginaryStep * logarithm);
+        }
+        final double[] value = new double[2];
+        for (int j = from; j < to; j++) {
+            final double imaginary = imaginaryFrom + j * imaginaryStep;
+            final int index = offset + j * stride;
+            double sumReal = 0.;
+            double sumImaginary = 0.;
+            for (int k = 0; k < n; k++) {
+                final double c = cosine[k];
+                final double s = sine[k];
+                sumReal += weight[k] * c;
+                sumImaginary += weight[k] * s;
+                cosine[k] = c * rotationCosine[k] - s * rotationSine[k];
+                sine[k] = s * rotationCosine[k] + c * rotationSine[k];
+            }
+            if (imaginary == 0.) {
+                resultReal[index] = zeta(real);
+                resultImaginary[index] = 0.;
+            } else {
+                if (reflected) {
+                    value[0] = sumReal;
+                    value[1] = sumImaginary;
+                    tail(sigma, -imaginary, n + 1., 0., value);
+                    reflect(real, imaginary, value);
+                } else {
+                    value[0] = sumReal;
+                    value[1] = -sumImaginary;
+                    tail(sigma, imaginary, n + 1., 0., value);
+                }
+                resultReal[index] = value[0];
+                resultImaginary[index] = value[1];
+            }
+        }
+    }
+    
+    /**
+     * The Euler–Maclaurin sum of the Hurwitz zeta function of real numbers.
+     * @param s a real number.
+     * @param a a positive real number.
+     * @return zeta(s, a).
+     */
+    private static double hurwitz(final double s, final double a) {
+        final int n = (int) Math.max(0., Math.ceil(cutOff(Math.abs(s)) - a));
+        double sum = 0.;
+        for (int k = n - 1; k >= 0; k--) {
+            sum += Math.pow(k + a, -s);
+        }
+        return tail(s, n + a, sum);
+    }
+    
+    /**
+     * The Euler–Maclaurin remainder sum (k + w)^-s for k = 0, 1, ..., of real numbers, added to a sum.
+     * @param s a real number.
+     * @param w a real number larger than the cut-off of s.
+     * @param sum the sum of the first terms.
+     * @return the sum and the remainder.
+     */
+    private static double tail(final double s, final double w, final double sum) {
+        final double power = Math.pow(w, -s);
+        final double inverseSquare = 1 / (w * w);
+        double remainder = .5 * power + w * power / (s - 1);
+        double term = s * power / w;
+        for (int j = 0; j < EULER_MACLAURIN.length; j++) {
+            final double correction = EULER_MACLAURIN[j] * term;
+            remainder += correction;
+            if (Math.abs(correction) <= EPSILON * Math.abs(sum + remainder)) {
+                break;
+            }
+            term *= (s + 2 * j + 1) * (s + 2 * j + 2) * inverseSquare;
+        }
+        return sum + remainder;
+    }
+    
+    /**
+     * The direct sum of the Hurwitz zeta function of real numbers, for large s and small a.
+     * @param s a real number not smaller than the threshold of the direct sum.
+     * @param a a positive real number not larger than one.
+     * @return zeta(s, a).
+     */
+    private static double direct(final double s, final double a) {
+        double sum = 0.;
+        for (int k = 0; ; k++) {
+            final double term = Math.pow(k + a, -s);
+            sum += term;
+            if (term <= EPSILON * sum) {
+                return sum;
+            }
+        }
+    }
+    
+    /**
+     * The Euler–Maclaurin sum of the Hurwitz zeta function of a complex number and a complex parameter.
+     * @param real the real part of the complex number.
+     * @param imaginary the imaginary part of the complex number.
+     * @param aReal the real part of the parameter, not negative.
+     * @param aImaginary the imaginary part of the parameter, not zero if its real part is zero.
+     * @param result the array that receives the real and imaginary parts of the result.
+     */
+    private static void hurwitz(final double real, final double imaginary, final double aReal, final double aImaginary,
+            final double[] result) {
+        final int n = (int) Math.max(0., Math.ceil(cutOff(Math.hypot(real, imaginary)) - aReal));
+        double sumReal = 0.;
+        double sumImaginary = 0.;
+        for (int k = n - 1; k >= 0; k--) {
+            final double b = k + aReal;
+            final double logModulus = aImaginary == 0. ? Math.log(b) : Gamma.logAbsolute(b, aImaginary);
+            final double argument = Math.atan2(aImaginary, b);
+            final double modulus = Math.exp(imaginary * argument - real * logModulus);
+            final double phase = -(imaginary * logModulus + real * argument);
+            sumReal += modulus * Math.cos(phase);
+            sumImaginary += modulus * Math.sin(phase);
+        }
+        result[0] = sumReal;
+        result[1] = sumImaginary;
+        tail(real, imaginary, n + aReal, aImaginary, result);
+    }
+    
+    /**
+     * The Euler–Maclaurin remainder sum (k + w)^-s for k = 0, 1, ..., of complex numbers, added to a sum:
+     * w^(1 - s) / (s - 1) + w^-s / 2 + sum B_2j / (2j)! s (s + 1) ... (s + 2j - 2) w^(1 - s - 2j).
+     * @param real the real part of s.
+     * @param imaginary the imaginary part of s.
+     * @param wReal the real part of w, larger than the cut-off of s.
+     * @param wImaginary the imaginary part of w.
+     * @param result the array that holds the real and imaginary parts of the sum of the first terms, and receives the total.
+     */
+    private static void tail(final double real, final double imaginary, final double wReal, final double wImaginary,
+            final double[] result) {
+        final double sumReal = result[0];
+        final double sumImaginary = result[1];
+        final double logModulus = wImaginary == 0. ? Math.log(wReal) : Gamma.logAbsolute(wReal, wImaginary);
+        final double argument = Math.atan2(wImaginary, wReal);
+        final double modulus = Math.exp(imaginary * argument - real * logModulus);
+        final double phase = -(imaginary * logModulus + real * argument);
+        final double powerReal = modulus * Math.cos(phase);
+        final double powerImaginary = modulus * Math.sin(phase);
+        Gamma.divide(wReal * powerReal - wImaginary * powerImaginary, wReal * powerImaginary + wImaginary * powerReal,
+                real - 1, imaginary, result);
+        double remainderReal = .5 * powerReal + result[0];
+        double remainderImaginary = .5 * powerImaginary + result[1];
+        Gamma.divide(powerReal, powerImaginary, wReal, wImaginary, result);
+        double termReal = result[0] * real - result[1] * imaginary;
+        double termImaginary = result[0] * imaginary + result[1] * real;
+        Gamma.divide(1., 0., wReal, wImaginary, result);
+        final double inverseSquareReal = result[0] * result[0] - result[1] * result[1];
+        final double inverseSquareImaginary = 2. * result[0] * result[1];
+        for (int j = 0; j < EULER_MACLAURIN.length; j++) {
+            final double correctionReal = EULER_MACLAURIN[j] * termReal;
+            final double correctionImaginary = EULER_MACLAURIN[j] * termImaginary;
+            remainderReal += correctionReal;
+            remainderImaginary += correctionImaginary;
+            if (Math.abs(correctionReal) + Math.abs(correctionImaginary)
+                    <= EPSILON * (Math.abs(sumReal + remainderReal) + Math.abs(sumImaginary + remainderImaginary))) {
+                break;
+            }
+            final double factorReal = (real + 2 * j + 1) * (real + 2 * j + 2) - imaginary * imaginary;
+            final double factorImaginary = imaginary * (2. * real + 4 * j + 3);
+            final double productReal = factorReal * inverseSquareReal - factorImaginary * inverseSquareImaginary;
+            final double productImaginary = factorReal * inverseSquareImaginary + factorImaginary * inverseSquareReal;
+            final double r = termReal * productReal - termImaginary * productImaginary;
+            termImaginary = termReal * productImaginary + termImaginary * productReal;
+            termReal = r;
+        }
+        result[0] = sumReal + remainderReal;
+        result[1] = sumImaginary + remainderImaginary;
+    }
+    
+    /**
+     * Multiply the Riemann zeta function of 1 - s by the factor 2^s pi^(s - 1) sin(pi s / 2) gamma(1 - s)
+     * of the functional equation, through logarithms far from the real axis or deep in the left half-plane.
+     * @param real the real part of s, negative.
+     * @param imaginary the imaginary part of s, not zero.
+     * @param result the array that holds the real and imaginary parts of zeta(1 - s), and receives those of zeta(s).
+     */
+    private static void reflect(final double real, final double imaginary, final double[] result) {
+        final double zetaReal = result[0];
+        final double zetaImaginary = result[1];
+        double factorReal;
+        double factorImaginary;
+        if (Math.abs(imaginary) <= REFLECTION_LIMIT && real >= -REFLECTION_LIMIT) {
+            Gamma.gamma(1 - real, -imaginary, result);
+            final double sineReal = Gamma.sinPi(.5 * real) * Math.cosh(.5 * Math.PI * imaginary);
+            final double sineImaginary = Gamma.cosPi(.5 * real) * Math.sinh(.5 * Math.PI * imaginary);
+            final double productReal = sineReal * result[0] - sineImaginary * result[1];
+            final double productImaginary = sineReal * result[1] + sineImaginary * result[0];
+            final double modulus = Math.exp(real * LOG_TWO_PI - Gamma.LOG_PI);
+            final double cosine = modulus * Math.cos(imaginary * LOG_TWO_PI);
+            final double sine = modulus * Math.sin(imaginary * LOG_TWO_PI);
+            factorReal = cosine * productReal - sine * productImaginary;
+            factorImaginary = cosine * productImaginary + sine * productReal;
+        } else {
+            Gamma.logGamma(1 - real, -imaginary, result);
+            final double logReal = result[0] + real * LOG_TWO_PI - Gamma.LOG_PI;
+            final double logImaginary = result[1] + imaginary * LOG_TWO_PI;
+            Gamma.logSinPi(.5 * real, .5 * imaginary, result);
+            final double modulus = Math.exp(logReal + result[0]);
+            factorReal = modulus * Math.cos(logImaginary + result[1]);
+            factorImaginary = modulus * Math.sin(logImaginary + result[1]);
+        }
+        result[0] = factorReal * zetaReal - factorImaginary * zetaImaginary;
+        result[1] = factorReal * zetaImaginary + factorImaginary * zetaReal;
+    }
+    
+    /**
+     * The cut-off of the direct sum, beyond which the Euler–Maclaurin series of an argument converges to double precision.
+     * Its terms decrease by the ratio |s + 2j|^2 / (2 pi w)^2, which remains below 1 / 4 when w is above |s| / pi.
+     * @param modulus the modulus of the argument.
+     * @return the cut-off.
+     */
+    private static double cutOff(final double modulus) {
+        return (modulus + CUT_OFF_MARGIN) / Math.PI;
+    }
+    
+    /**
+     * Check the parameter of the Hurwitz zeta function.
+     * @param a a real number.
+     * @throws IllegalArgumentException if a is not a positive finite real number.
+     */
+    private static void checkParameter(final double a) throws IllegalArgumentException {
+        if (!(a > 0) || Double.isInfinite(a)) {
+            throw new IllegalArgumentException();
+        }
+    }
+    
+    private Zeta() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * The tests of {@link Beta#incompleteBeta(double, double, double)} against exact binomial tails,
+ * I_x(a, b) = P(X >= a) for X binomial of a + b - 1 trials of probability x, with integer parameters
+ * below and above the factorisation of the prefactor, near and far from its peak.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public class BetaTest extends Object {
+    /**
+     * The relative accuracy of the results; the exponent of the prefactor, up to about 80 here,
+     * multiplies the rounding error of the arguments.
+     */
+    private static final double EPSILON = 3E-14;
+
+    @Test
+    public void incompleteBetaOfSmallParameters() {
+        assertIncompleteBeta(6.1577344126974387084E-01, .05, 20, 400);
+        assertIncompleteBeta(7.9058362136059301406E-01, .6, 30, 25);
+    }
+
+    @Test
+    public void incompleteBetaOfLargeParameters() {
+        assertIncompleteBeta(3.8169373366484021792E-01, .45, 500, 600);
+        assertIncompleteBeta(5.1261250908918043478E-01, .5, 500, 501);
+        assertIncompleteBeta(6.6136465234392736307E-05, .42, 480, 520);
+        assertIncompleteBeta(7.8647008881664134949E-02, .495, 10000, 10000);
+        assertIncompleteBeta(2.3370593301101495569E-03, .49, 10000, 10000);
+        assertIncompleteBeta(7.6107391134265217474E-09, .48, 10000, 10000);
+        assertIncompleteBeta(1.1020551912741971545E-01, .33, 10000, 20000);
+        assertIncompleteBeta(5.2631142566145315874E-36, .3, 10000, 20000);
+    }
+
+    /**
+     * Assert that the incomplete beta function is within the relative accuracy of the expected value.
+     * @param expected the expected value.
+     * @param x a real number between 0 and 1.
+     * @param a a positive real number.
+     * @param b a positive real number.
+     */
+    private static void assertIncompleteBeta(final double expected, final double x, final double a, final double b) {
+        assertEquals(expected, Beta.incompleteBeta(x, a, b), EPSILON * expected);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import static org.miaplacidus.mathematics.special.PolygammaTest.assertRelative;
+import org.junit.Test;
+
+/**
+ * The tests of {@link Gamma#logGamma(double)} against its Taylor series at its roots 1 and 2,
+ * where the Lanczos form cancels, and against the closed forms at half-integers on both sides of the series.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public class GammaTest extends Object {
+    private static final double EULER = 0.57721566490153286061;
+    private static final double ZETA_2 = 1.6449340668482264365;
+    private static final double ZETA_3 = 1.2020569031595942854;
+    private static final double LOG_SQRT_PI = 0.57236494292470008707;
+
+    @Test
+    public void logGammaNearOne() {
+        for (final double d : new double[] {1E-13, -1E-13, 1E-10, -1E-6, 1E-6}) {
+            final double e = (1 + d) - 1;
+            assertRelative(-EULER * e + ZETA_2 / 2 * e * e - ZETA_3 / 3 * e * e * e, Gamma.logGamma(1 + d));
+        }
+    }
+
+    @Test
+    public void logGammaNearTwo() {
+        for (final double d : new double[] {5.7E-14, -1E-13, 1E-10, -1E-6, 1E-6}) {
+            final double e = (2 + d) - 2;
+            assertRelative((1 - EULER) * e + (ZETA_2 - 1) / 2 * e * e - (ZETA_3 - 1) / 3 * e * e * e,
+                    Gamma.logGamma(2 + d));
+        }
+    }
+
+    @Test
+    public void logGammaOfHalfIntegers() {
+        assertRelative(LOG_SQRT_PI + Math.log(2), Gamma.logGamma(-.5));
+        assertRelative(LOG_SQRT_PI, Gamma.logGamma(.5));
+        assertRelative(LOG_SQRT_PI - Math.log(2), Gamma.logGamma(1.5));
+        assertRelative(LOG_SQRT_PI + Math.log(.75), Gamma.logGamma(2.5));
+        assertRelative(LOG_SQRT_PI + Math.log(15. / 8), Gamma.logGamma(3.5));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import static org.junit.Assert.assertEquals;
+import static org.miaplacidus.mathematics.special.PolygammaTest.assertRelative;
+import org.junit.Test;
+
+/**
+ * The tests of {@link IncompleteGamma} against the closed forms of P and Q at integer and half-integer parameters,
+ * as finite sums of exponentials and as the error function, in both tails, and of their inverses.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public class IncompleteGammaTest extends Object {
+    /**
+     * erf(1).
+     */
+    private static final double ERF_1 = 0.84270079294971486934;
+
+    /**
+     * erfc(5).
+     */
+    private static final double ERFC_5 = 1.5374597944280348502E-12;
+
+    /**
+     * P(10, 10).
+     */
+    private static final double P_10_10 = 0.54207028552814779168;
+
+    @Test
+    public void lower() {
+        assertRelative(1 - Math.exp(-2), IncompleteGamma.lower(1, 2));
+        assertRelative(ERF_1, IncompleteGamma.lower(.5, 1));
+        assertRelative(P_10_10, IncompleteGamma.lower(10, 10));
+        assertRelative(1.6542165280748767627E-7, IncompleteGamma.lower(3, .01));
+        assertEquals(0., IncompleteGamma.lower(2, 0), 0.);
+    }
+
+    @Test
+    public void upper() {
+        assertRelative(Math.exp(-50), IncompleteGamma.upper(1, 50));
+        assertRelative(5 * Math.exp(-2), IncompleteGamma.upper(3, 2));
+        assertRelative(ERFC_5, IncompleteGamma.upper(.5, 25));
+        assertRelative(1 - P_10_10, IncompleteGamma.upper(10, 10));
+        assertEquals(1., IncompleteGamma.upper(2, 0), 0.);
+    }
+
+    @Test
+    public void inverseLower() {
+        assertRelative(2, IncompleteGamma.inverseLower(1, 1 - Math.exp(-2)));
+        assertRelative(1, IncompleteGamma.inverseLower(.5, ERF_1));
+        assertRelative(10, IncompleteGamma.inverseLower(10, P_10_10));
+    }
+
+    @Test
+    public void inverseUpper() {
+        assertRelative(2, IncompleteGamma.inverseUpper(3, 5 * Math.exp(-2)));
+        assertRelative(50, IncompleteGamma.inverseUpper(1, Math.exp(-50)));
+        assertRelative(25, IncompleteGamma.inverseUpper(.5, ERFC_5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lowerOfNegativeArgument() {
+        IncompleteGamma.lower(1, -1);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2020 Miaplacidus.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.miaplacidus.mathematics.special;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * The tests of {@link Polygamma} against the closed forms of the digamma function and its derivatives
+ * at rational arguments, in the Euler–Mascheroni constant, pi, log 2, Catalan's constant and the zeta function,
+ * and of the inverses at the same values and beyond the ranges of their asymptotic expansions.
+ * @author Miaplacidus d'Orléans <miaplacidus.d.orleans@gmail.com>
+ */
+public class PolygammaTest extends Object {
+    /**
+     * The relative accuracy of the results.
+     */
+    private static final double EPSILON = 1E-14;
+
+    private static final double EULER = 0.57721566490153286061;
+    private static final double CATALAN = 0.91596559417721901505;
+    private static final double ZETA_3 = 1.2020569031595942854;
+    private static final double ZETA_5 = 1.0369277551433699263;
+
+    @Test
+    public void digamma() {
+        assertRelative(-EULER, Polygamma.digamma(1));
+        assertRelative(-EULER - 2 * Math.log(2), Polygamma.digamma(.5));
+        assertRelative(-EULER - Math.PI / 2 - 3 * Math.log(2), Polygamma.digamma(.25));
+        assertRelative(7129. / 2520 - EULER, Polygamma.digamma(10));
+        assertRelative(2 - EULER - 2 * Math.log(2), Polygamma.digamma(-.5));
+        assertRelative(Math.log(1E6) - .5E-6 - 1 / 12E12, Polygamma.digamma(1E6));
+        assertEquals(Double.NaN, Polygamma.digamma(-2), 0.);
+    }
+
+    @Test
+    public void trigamma() {
+        assertRelative(Math.PI * Math.PI / 6, Polygamma.trigamma(1));
+        assertRelative(Math.PI * Math.PI / 6 - 1, Polygamma.trigamma(2));
+        assertRelative(Math.PI * Math.PI / 2, Polygamma.trigamma(.5));
+        assertRelative(Math.PI * Math.PI + 8 * CATALAN, Polygamma.trigamma(.25));
+        assertRelative(Math.PI * Math.PI / 2 + 4, Polygamma.trigamma(-.5));
+    }
+
+    @Test
+    public void polygamma() {
+        assertRelative(-EULER, Polygamma.polygamma(0, 1));
+        assertRelative(Math.PI * Math.PI / 6, Polygamma.polygamma(1, 1));
+        assertRelative(-2 * ZETA_3, Polygamma.polygamma(2, 1));
+        assertRelative(-14 * ZETA_3, Polygamma.polygamma(2, .5));
+        assertRelative(Math.pow(Math.PI, 4) / 15, Polygamma.polygamma(3, 1));
+        assertRelative(-24 * ZETA_5, Polygamma.polygamma(4, 1));
+        assertRelative(120 * Math.pow(Math.PI, 6) / 945, Polygamma.polygamma(5, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void polygammaOfNegativeOrder() {
+        Polygamma.polygamma(-1, 1);
+    }
+
+    @Test
+    public void inverseDigamma() {
+        assertRelative(1, Polygamma.inverseDigamma(-EULER));
+        assertRelative(.5, Polygamma.inverseDigamma(-EULER - 2 * Math.log(2)));
+        assertRelative(10, Polygamma.inverseDigamma(7129. / 2520 - EULER));
+        assertRelative(1.4616321449683622, Polygamma.inverseDigamma(0));
+        for (final double x : new double[] {1E-8, 1E-3, .3, 3., 1E3, 1E8}) {
+            assertRelative(x, Polygamma.inverseDigamma(Polygamma.digamma(x)));
+        }
+    }
+
+    @Test
+    public void inverseTrigamma() {
+        assertRelative(1, Polygamma.inverseTrigamma(Math.PI * Math.PI / 6));
+        assertRelative(.5, Polygamma.inverseTrigamma(Math.PI * Math.PI / 2));
+        assertRelative(2, Polygamma.inverseTrigamma(Math.PI * Math.PI / 6 - 1));
+        for (final double x : new double[] {1E-12, 1E-9, 1E-7, 3E-6, 1E-4, .3, 7.5, 1E4, 1E7, 1E9, 1E12}) {
+            assertRelative(x, Polygamma.inverseTrigamma(Polygamma.trigamma(x)));
+        }
+        assertEquals(0., Polygamma.inverseTrigamma(Double.POSITIVE_INFINITY), 0.);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void inverseTrigammaOfZero() {
+        Polygamma.inverseTrigamma(0);
+    }
+
+    /**
+     * Assert that a result is within the relative accuracy of the expected value.
+     * @param expected the expected value.
+     * @param actual the result.
+     */
+    static void assertRelative(final double expected, final double actual) {
+        assertEquals(expected, actual, EPSILON * Math.abs(expected));
+    }
+}